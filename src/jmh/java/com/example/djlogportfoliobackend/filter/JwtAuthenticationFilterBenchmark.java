@@ -0,0 +1,70 @@
+package com.example.djlogportfoliobackend.filter;
+
+import com.example.djlogportfoliobackend.service.TokenRevocationService;
+import com.example.djlogportfoliobackend.store.InMemoryRevocationStore;
+import com.example.djlogportfoliobackend.util.JwtUtil;
+import com.example.djlogportfoliobackend.util.RedisCircuitBreaker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 처리량 벤치마크
+ * 인증된 요청 하나가 인증 필터를 통과하는 비용(토큰 검증/파싱 + 블랙리스트 확인)을 측정합니다.
+ *
+ * - verifiedCacheSize=0: 요청마다 서명 검증과 JSON 파싱을 한 번 수행
+ * - verifiedCacheSize=10000: 같은 토큰의 반복 요청은 다이제스트 계산과 캐시 조회만 수행
+ *
+ * 블랙리스트 조회는 빈 메모리 폐기 저장소로 동기화된 노드 로컬 뷰(Bloom filter)에서 Redis 없이 판단합니다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-at-least-32-bytes-long";
+
+    @Param({"0", "10000"})
+    public long verifiedCacheSize;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        TokenRevocationService revocationService = new TokenRevocationService(new InMemoryRevocationStore(1000, null),
+                new RedisCircuitBreaker(5, 100, 5000), true, 100_000, 3_600_000L);
+        revocationService.synchronize();
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3_600_000L, verifiedCacheSize, revocationService);
+        filter = new JwtAuthenticationFilter(jwtUtil);
+        authorization = "Bearer " + jwtUtil.generateTokenWithId("admin@example.com");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/metrics");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
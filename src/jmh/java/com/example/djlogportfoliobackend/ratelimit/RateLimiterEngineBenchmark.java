@@ -0,0 +1,68 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import com.example.djlogportfoliobackend.config.RateLimitConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제한 엔진 처리량 벤치마크
+ * 여러 스레드가 동시에 판정을 요청할 때 초당 판정 수를 측정합니다.
+ *
+ * - hotKey: 모든 스레드가 같은 키를 갱신 (CAS 경합 최대)
+ * - spreadKeys: 스레드마다 다른 키 집합을 순회 (테이블 탐색 비용 위주)
+ *
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RateLimiterEngineBenchmark {
+
+    private static final int KEY_COUNT = 4096;
+
+    @Param({"token_bucket", "sliding_window", "sketch"})
+    public String algorithm;
+
+    private RateLimiterEngine engine;
+    private long[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 판정 자체의 비용을 측정하기 위해 거의 거부되지 않는 제한 값을 사용
+        engine = RateLimitConfig.createEngine(algorithm, 60_000, 0, 65536);
+        keys = new long[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = RateLimitKeys.hash("10.0." + (i >> 8) + "." + (i & 0xFF) + ":/api/projects");
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadCursor {
+        int index = ThreadLocalRandom.current().nextInt(KEY_COUNT);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long hotKey() {
+        return engine.tryAcquire(keys[0], System.nanoTime());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long spreadKeys(ThreadCursor cursor) {
+        int index = cursor.index;
+        cursor.index = (index + 1) & (KEY_COUNT - 1);
+        return engine.tryAcquire(keys[index], System.nanoTime());
+    }
+}
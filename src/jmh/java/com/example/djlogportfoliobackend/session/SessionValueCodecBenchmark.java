@@ -0,0 +1,92 @@
+package com.example.djlogportfoliobackend.session;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션 값 코덱 벤치마크
+ * 세션 하나를 저장/조회할 때의 인코딩/디코딩 비용을 측정하고, 처리한 값 크기를 JMH 보조 카운터로 보고합니다.
+ *
+ * - values: 인코딩/디코딩한 세션 값 수
+ * - valueBytes: 인코딩된 세션 값 바이트 합계 (값 하나의 크기 = valueBytes / values)
+ *
+ * 보조 카운터는 반복과 스레드에 걸쳐 합산되므로 크기는 두 카운터의 비율로 읽습니다.
+ * 세션 하나는 같은 값을 세션 해시 data 필드와 로그인 이력 항목 1개에 저장하므로 코덱 값 부분은 값 크기의 두 배로 추정할 수 있으나,
+ * 이는 값 크기로 계산한 추정치이며 Redis 메모리를 측정한 값이 아닙니다.
+ * 키, 나머지 해시 필드(username, lastAccessTime), Redis 항목/인코딩 오버헤드는 포함하지 않으므로 실제 메모리는
+ * 실제 Redis에서 MEMORY USAGE를 비교하는 RedisSessionMemoryUsageTest로 확인합니다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SessionValueCodecBenchmark {
+
+    private static final String USER_AGENT =
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) "
+                    + "Chrome/120.0.0.0 Safari/537.36";
+
+    @Param({"json", "binary"})
+    public String codecName;
+
+    private SessionValueCodec codec;
+    private SessionValue value;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        codec = switch (codecName) {
+            case "json" -> new JsonSessionValueCodec();
+            case "binary" -> new BinarySessionValueCodec(new InMemoryUserAgentDictionary(10_000), null);
+            default -> throw new IllegalArgumentException(codecName);
+        };
+        value = new SessionValue(System.currentTimeMillis(), "203.0.113.7", USER_AGENT);
+        encoded = codec.encode(value);
+    }
+
+    @Benchmark
+    public byte[] encode(SizeCounters sizes) {
+        byte[] bytes = codec.encode(value);
+        sizes.record(bytes.length);
+        return bytes;
+    }
+
+    @Benchmark
+    public SessionValue decode(SizeCounters sizes) {
+        sizes.record(encoded.length);
+        return codec.decode(encoded);
+    }
+
+    /**
+     * 값 크기 보조 카운터
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SizeCounters {
+
+        public long values;
+        public long valueBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            values = 0;
+            valueBytes = 0;
+        }
+
+        void record(int size) {
+            values++;
+            valueBytes += size;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.djlogportfoliobackend.audit;
+
+import com.example.djlogportfoliobackend.event.ChangeType;
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
+import com.example.djlogportfoliobackend.session.SessionValue;
+
+import java.util.UUID;
+
+/**
+ * 감사 이벤트 파이프라인이 처리하는 이벤트
+ *
+ * - {@link Login}: 로그인 이력 (세션 저장소에 배치로 기록)
+ * - {@link AdminChange}: 관리자 쓰기 (audit_log 테이블에 배치로 기록)
+ */
+public sealed interface AuditEvent permits AuditEvent.Login, AuditEvent.AdminChange {
+
+    /**
+     * @param username 사용자명
+     * @param value 로그인 시각, IP, User-Agent
+     */
+    record Login(String username, SessionValue value) implements AuditEvent {
+    }
+
+    /**
+     * @param actor 변경한 관리자 (인증 정보가 없으면 "unknown")
+     * @param entityType 변경된 엔티티 종류
+     * @param entityId 변경된 엔티티 ID (특정할 수 없으면 null)
+     * @param changeType 변경 유형
+     * @param traceId 요청 추적 ID (없으면 null)
+     * @param occurredAtMillis 커밋 시각 (epoch millis)
+     */
+    record AdminChange(String actor, PortfolioEntityType entityType, UUID entityId, ChangeType changeType,
+                       String traceId, long occurredAtMillis) implements AuditEvent {
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.djlogportfoliobackend.audit;
+
+import com.example.djlogportfoliobackend.entity.AuditLog;
+import com.example.djlogportfoliobackend.repository.AuditLogRepository;
+import com.example.djlogportfoliobackend.store.SessionStore;
+import com.example.djlogportfoliobackend.store.SessionStore.LoginRecord;
+import com.example.djlogportfoliobackend.util.RedisCircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 감사 이벤트 파이프라인
+ *
+ * 요청 스레드는 {@link #publish(AuditEvent)}로 링 버퍼에 넣기만 하고, 전용 작업자 스레드가 모아서 기록한다.
+ * - 로그인 이력: {@link SessionStore#appendLoginHistory(List)} 한 번 (Redis는 파이프라인 왕복 1회)
+ * - 관리자 쓰기: audit_log에 saveAll 한 번 (한 트랜잭션, JDBC 배치 INSERT)
+ *
+ * 버퍼가 가득 차면 이벤트를 버리고 집계만 하므로 감사 기록 때문에 요청이 기다리지 않는다.
+ * 작업자는 버퍼가 비어 있거나 한 배치보다 적게 꺼냈으면 flushIntervalMillis만큼 쉬며 이벤트를 모은다.
+ * Redis 차단 중이거나 기록에 실패한 배치는 다시 시도하지 않고 실패로 집계한다.
+ */
+@Slf4j
+public class AuditEventPipeline implements AutoCloseable {
+
+    private static final long SHUTDOWN_WAIT_MILLIS = 5000;
+
+    private final EventRingBuffer<AuditEvent> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final SessionStore sessionStore;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final AuditLogRepository auditLogRepository;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder loginsWritten = new LongAdder();
+    private final LongAdder adminChangesWritten = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    /**
+     * @param capacity 버퍼 크기 (2의 거듭제곱으로 올림)
+     * @param batchSize 한 번에 기록할 최대 이벤트 수
+     * @param flushIntervalMillis 이벤트가 적을 때 작업자가 쉬는 시간
+     * @param sessionStore 로그인 이력 저장소
+     * @param circuitBreaker Redis 회로 차단기
+     * @param auditLogRepository 관리자 쓰기 감사 기록 저장소
+     */
+    public AuditEventPipeline(int capacity, int batchSize, long flushIntervalMillis, SessionStore sessionStore,
+                              RedisCircuitBreaker circuitBreaker, AuditLogRepository auditLogRepository) {
+        this.buffer = new EventRingBuffer<>(capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMillis));
+        this.sessionStore = sessionStore;
+        this.circuitBreaker = circuitBreaker;
+        this.auditLogRepository = auditLogRepository;
+        this.worker = new Thread(this::run, "audit-pipeline");
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * 작업자 스레드 시작
+     */
+    public void start() {
+        worker.start();
+    }
+
+    /**
+     * 이벤트 추가 (대기하지 않음)
+     *
+     * @param event 감사 이벤트
+     * @return 버퍼가 가득 차서 버렸으면 false
+     */
+    public boolean publish(AuditEvent event) {
+        if (buffer.offer(event)) {
+            published.increment();
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * 버퍼에서 한 배치를 꺼내 기록
+     * 링 버퍼의 소비자는 하나여야 하므로 작업자 스레드(시작 전에는 호출한 스레드)에서만 호출한다.
+     *
+     * @return 꺼낸 이벤트 수
+     */
+    public int flush() {
+        List<LoginRecord> logins = new ArrayList<>();
+        List<AuditLog> adminChanges = new ArrayList<>();
+        int drained = buffer.drain(event -> {
+            if (event instanceof AuditEvent.Login login) {
+                logins.add(new LoginRecord(login.username(), login.value()));
+            } else if (event instanceof AuditEvent.AdminChange change) {
+                adminChanges.add(new AuditLog(change.actor(), change.entityType(), change.entityId(),
+                        change.changeType(), change.traceId(), Instant.ofEpochMilli(change.occurredAtMillis())));
+            }
+        }, batchSize);
+        if (drained == 0) {
+            return 0;
+        }
+        batches.increment();
+        writeLogins(logins);
+        writeAdminChanges(adminChanges);
+        return drained;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(SHUTDOWN_WAIT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    public int getCapacity() {
+        return buffer.capacity();
+    }
+
+    public long getPublished() {
+        return published.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getLoginsWritten() {
+        return loginsWritten.sum();
+    }
+
+    public long getAdminChangesWritten() {
+        return adminChangesWritten.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (flush() < batchSize) {
+                    LockSupport.parkNanos(this, flushIntervalNanos);
+                }
+            } catch (RuntimeException e) {
+                log.error("Audit pipeline flush failed: {}", e.getMessage());
+            }
+        }
+        // 종료 시 남은 이벤트 반영
+        while (flush() > 0) {
+            // 버퍼가 빌 때까지 반복
+        }
+    }
+
+    private void writeLogins(List<LoginRecord> logins) {
+        if (logins.isEmpty()) {
+            return;
+        }
+        circuitBreaker.run(() -> {
+            sessionStore.appendLoginHistory(logins);
+            loginsWritten.add(logins.size());
+        }, () -> {
+            failed.add(logins.size());
+            log.warn("Login history batch dropped: {} entries, Redis unavailable", logins.size());
+        });
+    }
+
+    private void writeAdminChanges(List<AuditLog> adminChanges) {
+        if (adminChanges.isEmpty()) {
+            return;
+        }
+        try {
+            auditLogRepository.saveAll(adminChanges);
+            adminChangesWritten.add(adminChanges.size());
+        } catch (RuntimeException e) {
+            failed.add(adminChanges.size());
+            log.error("Failed to write {} audit log entries: {}", adminChanges.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.djlogportfoliobackend.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 고정 크기 잠금 없는 링 버퍼 (다중 생산자 / 단일 소비자)
+ *
+ * 요청 스레드가 이벤트를 넣고 백그라운드 작업자 하나가 꺼내 간다.
+ * - 생산자: 다음 위치를 CAS로 예약한 뒤 항목을 쓰고 슬롯 순번을 올려 공개한다. 가득 차면 기다리지 않고 false
+ * - 소비자: 슬롯 순번으로 공개된 항목만 순서대로 꺼내고, 슬롯 순번을 한 바퀴 뒤로 옮겨 다시 쓸 수 있게 한다
+ *
+ * 슬롯마다 순번을 두므로 예약만 하고 아직 쓰지 않은 슬롯을 소비자가 읽지 않는다.
+ * 용량은 2의 거듭제곱으로 올림한다.
+ *
+ * @param <E> 항목 타입
+ */
+public class EventRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * @param capacity 최대 항목 수 (2의 거듭제곱으로 올림)
+     */
+    public EventRingBuffer(int capacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 항목 추가 (대기하지 않음)
+     *
+     * @param item 항목
+     * @return 가득 차서 넣지 못했으면 false
+     */
+    public boolean offer(E item) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, item);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // 한 바퀴 전 항목을 소비자가 아직 꺼내지 않음
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 공개된 항목을 순서대로 꺼냄 (소비자 스레드 하나에서만 호출)
+     *
+     * @param consumer 꺼낸 항목 처리
+     * @param maxItems 최대 개수
+     * @return 꺼낸 항목 수
+     */
+    public int drain(Consumer<? super E> consumer, int maxItems) {
+        long position = head;
+        int drained = 0;
+        while (drained < maxItems) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            E item = slots.get(index);
+            slots.lazySet(index, null);
+            sequences.set(index, position + capacity);
+            position++;
+            drained++;
+            consumer.accept(item);
+        }
+        head = position;
+        return drained;
+    }
+
+    /**
+     * 대기 중인 항목 수 (예약 후 아직 공개되지 않은 항목 포함, 근사값)
+     */
+    public int size() {
+        return (int) Math.min(capacity, Math.max(0, tail.get() - head));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.djlogportfoliobackend.config;
+
+import com.example.djlogportfoliobackend.audit.AuditEventPipeline;
+import com.example.djlogportfoliobackend.repository.AuditLogRepository;
+import com.example.djlogportfoliobackend.store.SessionStore;
+import com.example.djlogportfoliobackend.util.RedisCircuitBreaker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 감사 이벤트 파이프라인 설정
+ * 로그인 이력과 관리자 쓰기 감사 기록을 요청 경로 밖에서 모아 기록하는 버퍼와 작업자 스레드를 구성합니다.
+ */
+@Configuration
+public class AuditConfig {
+
+    /**
+     * 감사 이벤트 파이프라인 빈 생성 (작업자 스레드 시작, 종료 시 남은 이벤트 반영)
+     *
+     * @param sessionStore 로그인 이력 저장소
+     * @param redisCircuitBreaker Redis 회로 차단기
+     * @param auditLogRepository 관리자 쓰기 감사 기록 저장소
+     * @param capacity 버퍼 크기 (가득 차면 이벤트를 버림)
+     * @param batchSize 한 번에 기록할 최대 이벤트 수
+     * @param flushIntervalMillis 이벤트가 적을 때 모으는 시간
+     * @return 감사 이벤트 파이프라인
+     */
+    @Bean
+    public AuditEventPipeline auditEventPipeline(
+            SessionStore sessionStore,
+            RedisCircuitBreaker redisCircuitBreaker,
+            AuditLogRepository auditLogRepository,
+            @Value("${audit.pipeline.capacity:8192}") int capacity,
+            @Value("${audit.pipeline.batch-size:256}") int batchSize,
+            @Value("${audit.pipeline.flush-interval-ms:200}") long flushIntervalMillis) {
+        AuditEventPipeline pipeline = new AuditEventPipeline(capacity, batchSize, flushIntervalMillis,
+                sessionStore, redisCircuitBreaker, auditLogRepository);
+        pipeline.start();
+        return pipeline;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.djlogportfoliobackend.config;
+
+import com.example.djlogportfoliobackend.ratelimit.BandwidthThrottle;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 대역폭 제한 설정
+ * 파일 업로드(수신)와 업로드 파일 제공(송신)에 각각 클라이언트별/전체 바이트 속도 제한을 구성합니다.
+ */
+@Configuration
+public class BandwidthConfig {
+
+    @Value("${bandwidth.burst-seconds:1.0}")
+    private double burstSeconds;
+
+    @Value("${bandwidth.table-capacity:4096}")
+    private int tableCapacity;
+
+    /**
+     * 업로드 대역폭 제한 빈 생성
+     * 기본값: 클라이언트당 1MB/s, 전체 10MB/s
+     *
+     * @return 업로드용 대역폭 제한
+     */
+    @Bean
+    public BandwidthThrottle uploadBandwidthThrottle(
+            @Value("${bandwidth.upload.client-bytes-per-second:1048576}") long clientBytesPerSecond,
+            @Value("${bandwidth.upload.global-bytes-per-second:10485760}") long globalBytesPerSecond) {
+        return new BandwidthThrottle(clientBytesPerSecond, globalBytesPerSecond, burstSeconds, tableCapacity);
+    }
+
+    /**
+     * 다운로드 대역폭 제한 빈 생성
+     * 기본값: 클라이언트당 2MB/s, 전체 20MB/s
+     *
+     * @return 다운로드용 대역폭 제한
+     */
+    @Bean
+    public BandwidthThrottle downloadBandwidthThrottle(
+            @Value("${bandwidth.download.client-bytes-per-second:2097152}") long clientBytesPerSecond,
+            @Value("${bandwidth.download.global-bytes-per-second:20971520}") long globalBytesPerSecond) {
+        return new BandwidthThrottle(clientBytesPerSecond, globalBytesPerSecond, burstSeconds, tableCapacity);
+    }
+}
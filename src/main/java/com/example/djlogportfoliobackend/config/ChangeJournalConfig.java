@@ -0,0 +1,35 @@
+package com.example.djlogportfoliobackend.config;
+
+import com.example.djlogportfoliobackend.service.ChangeJournalService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 변경 저널 노드 간 전파 설정
+ * 다른 노드에서 커밋된 변경을 이 노드의 저널에도 기록하도록 pub/sub 구독을 구성합니다.
+ */
+@Configuration
+public class ChangeJournalConfig {
+
+    /**
+     * 다른 노드가 발행한 변경 메시지 구독
+     * 전파를 사용하지 않는 환경(테스트 등)과 Redis 없이 동작하는 메모리 저장소(store.type=memory)에서는 생성하지 않습니다.
+     *
+     * @param connectionFactory Redis 연결 팩토리
+     * @param changeJournalService 변경 메시지 수신자
+     * @return 메시지 리스너 컨테이너
+     */
+    @Bean
+    @ConditionalOnExpression("${change-journal.replication-enabled:true} and '${store.type:redis}'.equals('redis')")
+    public RedisMessageListenerContainer changeJournalListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                        ChangeJournalService changeJournalService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(changeJournalService, new ChannelTopic(ChangeJournalService.CHANGE_CHANNEL));
+        return container;
+    }
+}
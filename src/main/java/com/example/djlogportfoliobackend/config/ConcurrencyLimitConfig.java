@@ -0,0 +1,39 @@
+package com.example.djlogportfoliobackend.config;
+
+import com.example.djlogportfoliobackend.ratelimit.AdaptiveConcurrencyLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 적응형 동시 처리 제한 설정
+ * 응답 시간에 따라 동시 처리 상한을 조정하는 제한기를 구성합니다.
+ */
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    /**
+     * 적응형 동시 처리 제한기 빈 생성
+     *
+     * 설정:
+     * - 상한: 초기 100, 최소 10, 최대 200 (Tomcat 기본 스레드 수 기준)
+     * - 허용 배수: 기준 응답 시간의 2배까지 정상으로 간주
+     * - 공개 조회 비율: 상한의 80%까지만 공개 조회에 할당하여 관리자 요청 여유를 남김
+     * - 기준 응답 시간: 10분 시간 상수의 지수 이동 평균 (수 분간 이어지는 지연 증가도 과부하로 판정)
+     *
+     * @return 동시 처리 제한기
+     */
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(
+            @Value("${security.concurrency-limit.initial-limit:100}") int initialLimit,
+            @Value("${security.concurrency-limit.min-limit:10}") int minLimit,
+            @Value("${security.concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${security.concurrency-limit.tolerance:2.0}") double tolerance,
+            @Value("${security.concurrency-limit.smoothing:0.2}") double smoothing,
+            @Value("${security.concurrency-limit.public-share:0.8}") double publicShare,
+            @Value("${security.concurrency-limit.sample-window-ms:100}") long sampleWindowMillis,
+            @Value("${security.concurrency-limit.baseline-window-ms:600000}") long baselineWindowMillis) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, tolerance,
+                smoothing, publicShare, sampleWindowMillis, baselineWindowMillis);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.djlogportfoliobackend.config;
+
+import com.example.djlogportfoliobackend.util.LoginFailureTracker;
+import com.example.djlogportfoliobackend.util.PasswordVerifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 로그인 보호 설정
+ * 비밀번호 검증을 요청 스레드와 분리하는 전용 실행기와, 로그인 실패 누적에 따른 재시도 대기를 구성합니다.
+ */
+@Configuration
+public class LoginProtectionConfig {
+
+    /**
+     * 비밀번호 검증기 빈 생성
+     *
+     * 설정:
+     * - 스레드 수: 동시에 계산하는 BCrypt 해시 수 (CPU 코어 수 이하 권장)
+     * - 대기열: 초과하면 해시 계산 없이 429로 거부
+     * - 제한 시간: 대기열 대기를 포함한 최대 검증 시간
+     *
+     * @return 비밀번호 검증기
+     */
+    @Bean
+    public PasswordVerifier passwordVerifier(
+            PasswordEncoder passwordEncoder,
+            @Value("${auth.password-verification.threads:2}") int threads,
+            @Value("${auth.password-verification.queue-capacity:16}") int queueCapacity,
+            @Value("${auth.password-verification.timeout-ms:2000}") long timeoutMillis) {
+        return new PasswordVerifier(passwordEncoder, threads, queueCapacity, timeoutMillis);
+    }
+
+    /**
+     * 로그인 실패 추적기 빈 생성
+     *
+     * 설정:
+     * - 같은 IP의 계정별 5회, IP별 20회 실패부터 대기 (IP는 여러 계정을 추측하는 경우를 막기 위해 여유 있게)
+     * - 대기 시간: 1초부터 실패마다 두 배, 최대 15분
+     * - 마지막 실패 후 1시간이 지나면 실패 횟수 초기화
+     *
+     * @return 로그인 실패 추적기
+     */
+    @Bean
+    public LoginFailureTracker loginFailureTracker(
+            @Value("${auth.login-backoff.account-threshold:5}") int accountThreshold,
+            @Value("${auth.login-backoff.ip-threshold:20}") int addressThreshold,
+            @Value("${auth.login-backoff.base-ms:1000}") long baseBackoffMillis,
+            @Value("${auth.login-backoff.max-ms:900000}") long maxBackoffMillis,
+            @Value("${auth.login-backoff.reset-ms:3600000}") long resetMillis,
+            @Value("${auth.login-backoff.max-tracked-keys:100000}") int maxTrackedKeys) {
+        return new LoginFailureTracker(accountThreshold, addressThreshold, baseBackoffMillis,
+                maxBackoffMillis, resetMillis, maxTrackedKeys);
+    }
+}
@@ -1,38 +1,229 @@
 package com.example.djlogportfoliobackend.config;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
+import com.example.djlogportfoliobackend.ratelimit.RateLimitKeyStrategy;
+import com.example.djlogportfoliobackend.ratelimit.RateLimitPolicy;
+import com.example.djlogportfoliobackend.ratelimit.RateLimitPolicyMatcher;
+import com.example.djlogportfoliobackend.ratelimit.RateLimiterEngine;
+import com.example.djlogportfoliobackend.ratelimit.RedisLeasingRateLimiter;
+import com.example.djlogportfoliobackend.ratelimit.RedisTokenLeaseStore;
+import com.example.djlogportfoliobackend.ratelimit.SketchRateLimiter;
+import com.example.djlogportfoliobackend.ratelimit.SlidingWindowRateLimiter;
+import com.example.djlogportfoliobackend.ratelimit.TokenBucketRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 import java.time.Duration;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Rate Limiting 캐시 설정
- * 다양한 전략(IP, IP+URI, 글로벌)의 요청 빈도 제한을 위한 Caffeine 캐시를 구성합니다.
- * AtomicInteger를 사용하여 thread-safe한 카운터를 제공하고, 1분 만료 정책을 적용합니다.
+ * Rate Limiting 엔진 설정
+ * 설정된 알고리즘(토큰 버킷, 슬라이딩 윈도우 카운터, sketch)에 따라 요청 빈도 제한 엔진을 구성합니다.
+ *
+ * 이전 Caffeine 캐시 방식은 expireAfterWrite 고정 윈도우여서 윈도우 경계에서 제한의 2배가 통과하고
+ * 키마다 엔트리 객체를 할당했습니다. 엔진은 키별 상태를 원시 배열의 long 하나로 관리합니다.
+ *
+ * security.rate-limit.mode=redis이면 노드별 엔진을 Redis 공유 토큰 버킷의 임대 엔진으로 감싸
+ * 클러스터 전체에 하나의 제한을 적용합니다. 로컬 엔진은 임대 대기 중이거나 Redis 장애 시 fallback으로 사용되며,
+ * 모든 노드가 동시에 fallback으로 판정해도 클러스터 제한을 넘지 않도록 제한을 예상 노드 수로 나눠 만듭니다.
+ * 임대 크기는 정책 제한의 일부로 제한하여, 분당 10회 같은 작은 정책을 한 노드가 한 번에 가져가지 않게 합니다.
+ *
+ * security.rate-limit.policies로 선언한 라우트별 정책은 정책마다 독립된 엔진을 갖고 trie 매처로 컴파일됩니다.
  */
+@Slf4j
 @Configuration
+@EnableConfigurationProperties(RateLimitPolicyProperties.class)
 public class RateLimitConfig {
 
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+    private static final int GLOBAL_TABLE_CAPACITY = 16;
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_HEAVY_HITTERS = 256;
+    /** 한 번의 임대는 제한의 1/10을 넘지 않음 */
+    private static final int MAX_LEASE_FRACTION = 10;
+
+    @Value("${security.rate-limit.mode:local}")
+    private String mode;
+
+    @Value("${security.rate-limit.redis.lease-size:10}")
+    private int leaseSize;
+
+    @Value("${security.rate-limit.redis.lease-ttl-ms:2000}")
+    private long leaseTtlMillis;
+
+    @Value("${security.rate-limit.redis.slow-threshold-ms:50}")
+    private long slowThresholdMillis;
+
+    @Value("${security.rate-limit.redis.backoff-ms:5000}")
+    private long backoffMillis;
+
+    @Value("${security.rate-limit.redis.expected-nodes:2}")
+    private int expectedNodes;
+
+    /** 임대 엔진들이 공유하는 임대 요청 스레드 풀 (클러스터 모드에서 처음 필요할 때 생성) */
+    private ThreadPoolExecutor refillExecutor;
+
+    /**
+     * 클라이언트별 Rate Limiting 엔진 빈 생성
+     *
+     * 엔진 설정:
+     * - 알고리즘: token_bucket(기본), sliding_window 또는 sketch
+     * - 제한: 분당 요청 수, 토큰 버킷은 burst만큼 한 번에 허용
+     * - 상태 테이블: 기본 65,536 슬롯 (슬롯당 16바이트), sketch는 행당 카운터 수 (4행 × 2윈도우 × 4바이트)
+     *
+     * @return 클라이언트 키 기준 제한 엔진
+     */
+    @Bean
+    public RateLimiterEngine rateLimiterEngine(
+            @Value("${security.rate-limit.algorithm:token_bucket}") String algorithm,
+            @Value("${security.rate-limit.requests-per-minute:100}") int requestsPerMinute,
+            @Value("${security.rate-limit.burst:0}") int burst,
+            @Value("${security.rate-limit.table-capacity:65536}") int tableCapacity,
+            StringRedisTemplate redisTemplate) {
+        return engineFor(algorithm, requestsPerMinute, burst, tableCapacity, redisTemplate,
+                "rate_limit:bucket:client:");
+    }
+
     /**
-     * Rate Limiting을 위한 Caffeine 캐시 빈 생성
-     * 다양한 키 전략(IP, IP+URI, 글로벌)에 따른 AtomicInteger 카운터를 저장하고 관리합니다.
+     * 전체 요청 Rate Limiting 엔진 빈 생성
+     * 키가 하나뿐이므로 최소 크기의 상태 테이블을 사용합니다.
      *
-     * 캐시 설정:
-     * - 최대 크기: 50,000개 엔트리 (더 많은 IP+URI 조합 지원)
-     * - 만료 시간: 1분 (쓰기 기준, Fixed Window)
-     * - AtomicInteger: Thread-safe한 카운트 연산 보장
+     * @return 글로벌 제한 엔진
+     */
+    @Bean
+    public RateLimiterEngine globalRateLimiterEngine(
+            @Value("${security.rate-limit.algorithm:token_bucket}") String algorithm,
+            @Value("${security.rate-limit.global-requests-per-minute:1000}") int globalRequestsPerMinute,
+            StringRedisTemplate redisTemplate) {
+        return engineFor(algorithm, globalRequestsPerMinute, 0, GLOBAL_TABLE_CAPACITY, redisTemplate,
+                "rate_limit:bucket:global:");
+    }
+
+    /**
+     * 라우트별 Rate Limiting 정책 매처 빈 생성
+     * 정책마다 설정된 알고리즘으로 엔진을 만들고, 메서드별 경로 패턴 trie로 컴파일합니다.
      *
-     * @return 요청 카운터를 저장하는 캐시
+     * @return 정책 매처 (선언된 정책이 없으면 빈 매처)
      */
     @Bean
-    public Cache<String, AtomicInteger> rateLimitCache() {
-        return Caffeine.newBuilder()
-                .maximumSize(50000) // IP+URI 조합을 위해 증가
-                .expireAfterWrite(Duration.ofMinutes(1)) // Fixed Window: 1분
-                .recordStats() // 모니터링을 위한 통계 수집
-                .build();
-    }
-}
\ No newline at end of file
+    public RateLimitPolicyMatcher rateLimitPolicyMatcher(
+            RateLimitPolicyProperties properties,
+            @Value("${security.rate-limit.algorithm:token_bucket}") String algorithm,
+            @Value("${security.rate-limit.table-capacity:65536}") int tableCapacity,
+            StringRedisTemplate redisTemplate) {
+        List<RateLimitPolicyMatcher.Entry> entries = new ArrayList<>();
+        for (RateLimitPolicyProperties.Policy policy : properties.getPolicies()) {
+            if (policy.getName() == null || policy.getPattern() == null || policy.getPattern().isBlank()) {
+                log.warn("[RATE_LIMIT] Skipping rate limit policy without name or pattern: {}", policy.getName());
+                continue;
+            }
+
+            RateLimiterEngine engine = engineFor(algorithm, policy.getLimit(), policy.getBurst(), tableCapacity,
+                    redisTemplate, "rate_limit:bucket:policy:" + policy.getName() + ":");
+            RateLimitPolicy compiled = new RateLimitPolicy(policy.getName(), policy.getPattern().trim(),
+                    RateLimitKeyStrategy.from(policy.getKey()), engine);
+            entries.add(new RateLimitPolicyMatcher.Entry(compiled, parseMethods(policy.getMethod())));
+
+            log.info("[RATE_LIMIT] Policy '{}': {} {} key={} limit={}/min burst={}",
+                    policy.getName(), policy.getMethod() != null ? policy.getMethod() : "*", policy.getPattern(),
+                    compiled.getKeyStrategy(), policy.getLimit(), policy.getBurst());
+        }
+        return entries.isEmpty() ? RateLimitPolicyMatcher.empty() : new RateLimitPolicyMatcher(entries);
+    }
+
+    private static List<String> parseMethods(String methods) {
+        if (methods == null || methods.isBlank() || "*".equals(methods.trim())) {
+            return List.of();
+        }
+        return Arrays.stream(methods.split(","))
+                .map(String::trim)
+                .filter(method -> !method.isEmpty())
+                .map(method -> method.toUpperCase(Locale.ROOT))
+                .toList();
+    }
+
+    /**
+     * 모드에 따라 엔진 생성
+     * 클러스터 모드이면 노드 몫으로 줄인 로컬 엔진을 Redis 토큰 임대 엔진으로 감쌉니다.
+     * 임대 요청은 작은 전용 스레드 풀에서 실행되며, 큐가 가득 차면 해당 요청은 로컬 제한으로 처리됩니다.
+     */
+    private RateLimiterEngine engineFor(String algorithm, int requestsPerMinute, int burst, int tableCapacity,
+                                        StringRedisTemplate redisTemplate, String keyPrefix) {
+        if (!"redis".equalsIgnoreCase(mode)) {
+            return createEngine(algorithm, requestsPerMinute, burst, tableCapacity);
+        }
+
+        RateLimiterEngine fallback = createEngine(algorithm, perNodeLimit(requestsPerMinute, expectedNodes),
+                burst > 0 ? perNodeLimit(burst, expectedNodes) : 0, tableCapacity);
+        RedisTokenLeaseStore leaseStore = new RedisTokenLeaseStore(redisTemplate, requestsPerMinute,
+                burst > 0 ? burst : requestsPerMinute, WINDOW);
+        return new RedisLeasingRateLimiter(leaseStore, fallback, requestsPerMinute, refillExecutor(), keyPrefix,
+                leaseSizeFor(leaseSize, requestsPerMinute), leaseTtlMillis, slowThresholdMillis, backoffMillis,
+                tableCapacity);
+    }
+
+    /**
+     * 노드별 fallback 제한
+     * 예상 노드 수만큼의 노드가 모두 로컬로 판정해도 합계가 클러스터 제한을 넘지 않도록 내림으로 나눕니다.
+     *
+     * @param limit 클러스터 전체 제한
+     * @param expectedNodes 예상 노드 수
+     * @return 노드 하나의 제한 (최소 1)
+     */
+    public static int perNodeLimit(int limit, int expectedNodes) {
+        return Math.max(1, limit / Math.max(1, expectedNodes));
+    }
+
+    /**
+     * 정책별 임대 크기
+     * 한 노드가 임대해 두고 쓰지 않는 토큰이 다른 노드의 몫을 가져가지 않도록 제한의 1/10 이하로 줄입니다.
+     *
+     * @param leaseSize 설정된 임대 크기
+     * @param limit 정책 제한
+     * @return 실제 임대 크기 (최소 1)
+     */
+    public static int leaseSizeFor(int leaseSize, int limit) {
+        return Math.max(1, Math.min(leaseSize, limit / MAX_LEASE_FRACTION));
+    }
+
+    private synchronized ThreadPoolExecutor refillExecutor() {
+        if (refillExecutor == null) {
+            refillExecutor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(1024), r -> {
+                        Thread thread = new Thread(r, "rate-limit-lease");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+        return refillExecutor;
+    }
+
+    /**
+     * 알고리즘 이름으로 엔진 생성
+     *
+     * @param algorithm token_bucket, sliding_window 또는 sketch
+     * @param requestsPerMinute 분당 허용 요청 수
+     * @param burst 토큰 버킷 용량 (0 이하이면 분당 요청 수와 동일)
+     * @param tableCapacity 상태 테이블 슬롯 수 (sketch는 행당 카운터 수)
+     * @return 제한 엔진
+     */
+    public static RateLimiterEngine createEngine(String algorithm, int requestsPerMinute, int burst, int tableCapacity) {
+        return switch (algorithm.toLowerCase()) {
+            case "sliding_window" -> new SlidingWindowRateLimiter(requestsPerMinute, WINDOW, tableCapacity);
+            case "token_bucket" -> new TokenBucketRateLimiter(
+                    requestsPerMinute, burst > 0 ? burst : requestsPerMinute, WINDOW, tableCapacity);
+            case "sketch" -> new SketchRateLimiter(
+                    requestsPerMinute, WINDOW, tableCapacity, SKETCH_DEPTH, SKETCH_HEAVY_HITTERS);
+            default -> throw new IllegalArgumentException("Unknown rate limit algorithm: " + algorithm);
+        };
+    }
+}
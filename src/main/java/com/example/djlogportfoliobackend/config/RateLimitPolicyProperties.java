@@ -0,0 +1,54 @@
+package com.example.djlogportfoliobackend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 라우트별 Rate Limiting 정책 설정
+ *
+ * 예시:
+ * <pre>
+ * security.rate-limit.policies[0].name=login
+ * security.rate-limit.policies[0].method=POST
+ * security.rate-limit.policies[0].pattern=/api/auth/login
+ * security.rate-limit.policies[0].key=ip
+ * security.rate-limit.policies[0].limit=10
+ * </pre>
+ *
+ * 어떤 정책에도 해당하지 않는 요청은 security.rate-limit.requests-per-minute 기본 제한을 따릅니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitPolicyProperties {
+
+    /** 라우트별 정책 목록 (선언 순서가 같은 경로 패턴의 우선순위) */
+    private List<Policy> policies = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        /** 정책 이름 (로그, 지표, 키 구분에 사용) */
+        private String name;
+
+        /** HTTP 메서드 (쉼표로 여러 개 지정, 비우면 모든 메서드) */
+        private String method;
+
+        /** 경로 패턴 ({var}, *, ** 지원) */
+        private String pattern;
+
+        /** 키 전략: ip, ip_uri, subject (JWT subject, 비인증 요청은 IP), global */
+        private String key = "ip_uri";
+
+        /** 분당 허용 요청 수 */
+        private int limit = 60;
+
+        /** 토큰 버킷 용량 (0이면 limit과 동일) */
+        private int burst = 0;
+    }
+}
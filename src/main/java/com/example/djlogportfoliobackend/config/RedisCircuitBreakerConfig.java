@@ -0,0 +1,30 @@
+package com.example.djlogportfoliobackend.config;
+
+import com.example.djlogportfoliobackend.util.RedisCircuitBreaker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Redis 회로 차단기 설정
+ * 토큰 폐기, 세션, 세션 통계의 Redis 호출이 하나의 차단기를 공유하여 Redis 장애를 함께 감지합니다.
+ */
+@Configuration
+public class RedisCircuitBreakerConfig {
+
+    /**
+     * Redis 회로 차단기 빈 생성
+     *
+     * @param failureThreshold 차단으로 전환할 연속 실패/지연 횟수
+     * @param slowCallMillis 느린 호출 기준
+     * @param openMillis 차단 유지 시간
+     * @return 회로 차단기
+     */
+    @Bean
+    public RedisCircuitBreaker redisCircuitBreaker(
+            @Value("${redis.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${redis.circuit-breaker.slow-call-ms:100}") long slowCallMillis,
+            @Value("${redis.circuit-breaker.open-ms:5000}") long openMillis) {
+        return new RedisCircuitBreaker(failureThreshold, slowCallMillis, openMillis);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.djlogportfoliobackend.config;
+
+import com.example.djlogportfoliobackend.service.ResponseCacheService.CachedResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+
+/**
+ * 공개 응답 2단계 캐시 설정
+ * 노드별 Caffeine L1 캐시와 노드 간 공유되는 Redis L2 저장소를 구성합니다. 다른 노드의 L1 무효화는 변경 저널 전파가 담당합니다.
+ */
+@Configuration
+public class ResponseCacheConfig {
+
+    /**
+     * 노드 로컬 L1 응답 캐시
+     *
+     * 캐시 설정:
+     * - 최대 가중치: 압축된 응답 바이트 합계 기준 (기본 32MB)
+     * - 만료 시간: 쓰기 기준 (기본 10분, 무효화 누락 시 상한)
+     *
+     * @param maxBytes L1 최대 바이트
+     * @param ttl 항목 유지 시간
+     * @return 압축된 응답을 저장하는 캐시
+     */
+    @Bean
+    public Cache<String, CachedResponse> responseL1Cache(
+            @Value("${response-cache.l1.max-bytes:33554432}") long maxBytes,
+            @Value("${response-cache.ttl:10m}") Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedResponse value) -> key.length() + value.weight())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * L2 응답 저장용 바이트 RedisTemplate
+     * 값은 이미 gzip으로 압축된 바이트이므로 추가 직렬화 없이 그대로 저장합니다.
+     *
+     * @param connectionFactory Redis 연결 팩토리
+     * @return 문자열 키, 바이트 값 템플릿
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(RedisSerializer.string());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.djlogportfoliobackend.config;
 
+import com.example.djlogportfoliobackend.filter.AdaptiveConcurrencyLimitFilter;
+import com.example.djlogportfoliobackend.filter.BandwidthLimitFilter;
+import com.example.djlogportfoliobackend.filter.ConditionalGetFilter;
 import com.example.djlogportfoliobackend.filter.JwtAuthenticationFilter;
+import com.example.djlogportfoliobackend.filter.PublicResponseCacheFilter;
 import com.example.djlogportfoliobackend.filter.RateLimitFilter;
 import com.example.djlogportfoliobackend.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
@@ -35,7 +39,7 @@ import java.util.stream.Collectors;
  *   <li><strong>JWT 인증</strong>: 무상태(Stateless) JWT 토큰 기반 인증</li>
  *   <li><strong>CORS 설정</strong>: 프론트엔드와의 크로스 도메인 통신 허용</li>
  *   <li><strong>API 접근 제어</strong>: 공개/비공개 엔드포인트 구분</li>
- *   <li><strong>보안 필터 체인</strong>: 보안 헤더, 속도 제한, JWT 검증 순차 적용</li>
+ *   <li><strong>보안 필터 체인</strong>: 보안 헤더, 속도 제한, 조건부 GET, 응답 캐시, 동시 처리 제한, JWT 검증 순차 적용</li>
  * </ul>
  *
  * <h3>보안 정책</h3>
@@ -44,6 +48,7 @@ import java.util.stream.Collectors;
  *   <li>관리자 기능: JWT 토큰 인증 필수 (생성, 수정, 삭제)</li>
  *   <li>로그인: 인증 없이 접근 가능</li>
  *   <li>파일 업로드: 업로드된 파일 public 접근 허용</li>
+ *   <li>정적 공개 API: 사전 렌더링된 스냅샷 public 접근 허용</li>
  * </ul>
  *
  * @author djlog
@@ -58,6 +63,10 @@ public class SecurityConfig {
     private final JwtUtil jwtUtil;
     private final SecurityHeadersConfig securityHeadersConfig;
     private final RateLimitFilter rateLimitFilter;
+    private final ConditionalGetFilter conditionalGetFilter;
+    private final PublicResponseCacheFilter publicResponseCacheFilter;
+    private final AdaptiveConcurrencyLimitFilter adaptiveConcurrencyLimitFilter;
+    private final BandwidthLimitFilter bandwidthLimitFilter;
 
     @Value("${security.cors.allowed-origins:https://djloghub.com,https://www.djloghub.com}")
     private String allowedOrigins;
@@ -77,12 +86,22 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/educations/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/certificates/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/skills/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/events").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/changes").permitAll()
                         .requestMatchers("/uploads/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/static-api/**").permitAll()
                         // 그 외 모든 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(securityHeadersConfig.securityHeadersFilter(), UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(conditionalGetFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(publicResponseCacheFilter, UsernamePasswordAuthenticationFilter.class)
+                // 304와 캐시 적중은 DB를 거치지 않으므로, 컨트롤러까지 가는 요청만 동시 처리 제한 대상
+                .addFilterBefore(adaptiveConcurrencyLimitFilter, UsernamePasswordAuthenticationFilter.class)
+                // 대역폭 제한 대상(업로드, /uploads/**)은 동시 처리 제한에서 빠지고 이 필터만 적용됨
+                // (늦춘 전송이 동시 처리 허가를 붙잡아 공개 조회를 밀어내지 않도록)
+                .addFilterBefore(bandwidthLimitFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(new JwtAuthenticationFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -110,7 +129,11 @@ public class SecurityConfig {
         ));
         configuration.setExposedHeaders(Arrays.asList(
                 "Access-Control-Allow-Origin",
-                "Access-Control-Allow-Credentials"
+                "Access-Control-Allow-Credentials",
+                "RateLimit-Limit",
+                "RateLimit-Remaining",
+                "RateLimit-Reset",
+                "Retry-After"
         ));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
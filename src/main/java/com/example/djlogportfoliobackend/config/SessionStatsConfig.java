@@ -0,0 +1,70 @@
+package com.example.djlogportfoliobackend.config;
+
+import com.example.djlogportfoliobackend.service.SessionStatsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Properties;
+
+/**
+ * 세션 통계 만료 이벤트 설정
+ * 세션 키의 TTL 만료를 카운터에 반영하기 위해 keyspace 만료 이벤트를 구독합니다.
+ */
+@Slf4j
+@Configuration
+public class SessionStatsConfig {
+
+    private static final String NOTIFY_KEYSPACE_EVENTS = "notify-keyspace-events";
+
+    /**
+     * keyspace 만료 이벤트 구독
+     * notify-keyspace-events는 Redis 서버 전체 설정이므로 애플리케이션이 기본으로 바꾸지 않습니다.
+     * session.stats.configure-keyspace-events=true로 켠 경우에만 만료 이벤트(Ex)가 없을 때 추가를 시도하며,
+     * 꺼져 있거나 CONFIG 명령이 막힌 관리형 Redis에서는 만료 이벤트가 오지 않아 카운터는 주기적 재집계로 보정됩니다.
+     * 메모리 저장소(store.type=memory)에서는 생성하지 않습니다.
+     *
+     * @param connectionFactory Redis 연결 팩토리
+     * @param sessionStatsService 만료 이벤트 수신자
+     * @param configureKeyspaceEvents 시작 시 notify-keyspace-events 설정 여부 (기본 false, 명시적으로 허용한 경우만)
+     * @return 메시지 리스너 컨테이너
+     */
+    @Bean
+    @ConditionalOnExpression("${session.stats.keyspace-events-enabled:true} and '${store.type:redis}'.equals('redis')")
+    public RedisMessageListenerContainer sessionExpiryListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            SessionStatsService sessionStatsService,
+            @Value("${session.stats.configure-keyspace-events:false}") boolean configureKeyspaceEvents) {
+        if (configureKeyspaceEvents) {
+            enableExpiredEvents(connectionFactory);
+        }
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(sessionStatsService, new PatternTopic(SessionStatsService.EXPIRED_EVENT_PATTERN));
+        return container;
+    }
+
+    private void enableExpiredEvents(RedisConnectionFactory connectionFactory) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            Properties config = connection.serverCommands().getConfig(NOTIFY_KEYSPACE_EVENTS);
+            String current = config != null ? config.getProperty(NOTIFY_KEYSPACE_EVENTS, "") : "";
+            // E: keyevent 채널, x: 만료 이벤트 (A는 x를 포함)
+            boolean hasExpired = current.contains("x") || current.contains("A");
+            if (current.contains("E") && hasExpired) {
+                return;
+            }
+            String updated = current + (current.contains("E") ? "" : "E") + (hasExpired ? "" : "x");
+            connection.serverCommands().setConfig(NOTIFY_KEYSPACE_EVENTS, updated);
+            log.info("Enabled Redis keyspace expired events: '{}' -> '{}'", current, updated);
+        } catch (Exception e) {
+            log.warn("Could not configure Redis keyspace events (session stats rely on reconciliation): {}",
+                    e.getMessage());
+        }
+    }
+}
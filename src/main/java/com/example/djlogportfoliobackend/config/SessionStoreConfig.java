@@ -0,0 +1,110 @@
+package com.example.djlogportfoliobackend.config;
+
+import com.example.djlogportfoliobackend.service.SessionStatsService;
+import com.example.djlogportfoliobackend.session.BinarySessionValueCodec;
+import com.example.djlogportfoliobackend.session.JsonSessionValueCodec;
+import com.example.djlogportfoliobackend.session.RedisUserAgentDictionary;
+import com.example.djlogportfoliobackend.session.SessionFallbackStore;
+import com.example.djlogportfoliobackend.session.SessionValueCodec;
+import com.example.djlogportfoliobackend.store.AppendOnlyLog;
+import com.example.djlogportfoliobackend.store.InMemorySessionStore;
+import com.example.djlogportfoliobackend.store.RedisSessionStore;
+import com.example.djlogportfoliobackend.store.SessionStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 세션 저장소 설정
+ * 세션 저장소, 세션 값과 로그인 이력 항목을 Redis에 저장할 코덱, Redis 장애 시 사용할 로컬 저장소를 구성합니다.
+ */
+@Configuration
+public class SessionStoreConfig {
+
+    /**
+     * 세션 저장소 빈 생성
+     *
+     * - redis(기본): 세션 해시 + 사용자별 세션 정렬 집합, 통계는 {@link SessionStatsService} 카운터
+     * - memory: 단일 노드 배포용. store.aof.enabled=true이면 추가 전용 로그로 재시작 시 복원
+     *
+     * @param binaryRedisTemplate 바이너리 값 Redis 템플릿 (redis 저장소)
+     * @param sessionStatsService 세션 통계 카운터 (redis 저장소에서만 생성됨)
+     * @param sessionValueCodec 세션 값 코덱 (redis 저장소)
+     * @param storeType 저장소 종류
+     * @param maxLoginHistory 사용자별 최대 로그인 이력 수
+     * @param aofEnabled 추가 전용 로그 사용 여부 (memory 저장소)
+     * @param aofDirectory 추가 전용 로그 디렉터리
+     * @param tickMillis 만료 처리 간격
+     * @return 세션 저장소
+     */
+    @Bean
+    public SessionStore sessionStore(
+            RedisTemplate<String, byte[]> binaryRedisTemplate,
+            ObjectProvider<SessionStatsService> sessionStatsService,
+            SessionValueCodec sessionValueCodec,
+            @Value("${store.type:redis}") String storeType,
+            @Value("${session.login-history.max-entries:100}") int maxLoginHistory,
+            @Value("${store.aof.enabled:false}") boolean aofEnabled,
+            @Value("${store.aof.directory:./data}") String aofDirectory,
+            @Value("${store.timing-wheel.tick-ms:1000}") long tickMillis) {
+        return switch (storeType.toLowerCase()) {
+            case "redis" -> new RedisSessionStore(binaryRedisTemplate, sessionStatsService.getObject(),
+                    sessionValueCodec, maxLoginHistory);
+            case "memory" -> {
+                try {
+                    yield new InMemorySessionStore(maxLoginHistory, tickMillis,
+                            aofEnabled ? new AppendOnlyLog(Path.of(aofDirectory, "sessions.aof")) : null);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to open session store log in " + aofDirectory, e);
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown store type: " + storeType);
+        };
+    }
+
+    /**
+     * 세션 값 코덱 빈 생성
+     *
+     * - json(기본): 기존 로그인 이력과 같은 Jackson JSON
+     * - binary: varint 시각 + IPv4 4바이트 + User-Agent 사전 ID. JSON으로 저장된 기존 값도 읽을 수 있음
+     *
+     * @return 세션 값 코덱
+     */
+    @Bean
+    public SessionValueCodec sessionValueCodec(
+            StringRedisTemplate redisTemplate,
+            @Value("${session.value-codec:json}") String codec,
+            @Value("${session.user-agent-dictionary.max-entries:10000}") int dictionaryMaxEntries,
+            @Value("${session.user-agent-dictionary.max-length:512}") int dictionaryMaxLength) {
+        return switch (codec.toLowerCase()) {
+            case "json" -> new JsonSessionValueCodec();
+            case "binary" -> new BinarySessionValueCodec(
+                    new RedisUserAgentDictionary(redisTemplate, dictionaryMaxEntries, dictionaryMaxLength),
+                    new JsonSessionValueCodec());
+            default -> throw new IllegalArgumentException("Unknown session value codec: " + codec);
+        };
+    }
+
+    /**
+     * Redis 장애 대비 로컬 세션 저장소 빈 생성
+     *
+     * @param maxSessions 로컬에 유지할 최대 세션 수
+     * @param maxPendingOperations Redis 복구 후 반영할 최대 대기 작업 수
+     * @param sessionTtlMillis 로컬 세션 유효 시간 (Redis 세션 TTL과 동일하게 24시간)
+     * @return 로컬 세션 저장소
+     */
+    @Bean
+    public SessionFallbackStore sessionFallbackStore(
+            @Value("${session.fallback.max-sessions:10000}") int maxSessions,
+            @Value("${session.fallback.max-pending-operations:10000}") int maxPendingOperations,
+            @Value("${session.fallback.ttl-ms:86400000}") long sessionTtlMillis) {
+        return new SessionFallbackStore(maxSessions, maxPendingOperations, Duration.ofMillis(sessionTtlMillis));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.djlogportfoliobackend.config;
+
+import com.example.djlogportfoliobackend.store.AppendOnlyLog;
+import com.example.djlogportfoliobackend.store.InMemoryRevocationStore;
+import com.example.djlogportfoliobackend.store.RedisRevocationStore;
+import com.example.djlogportfoliobackend.store.RevocationStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * JWT 폐기 목록 동기화 설정
+ * 폐기 저장소와, 노드 로컬 폐기 뷰를 최신으로 유지하기 위한 pub/sub 구독과 주기적 재동기화 스케줄링을 구성합니다.
+ */
+@Configuration
+@EnableScheduling
+public class TokenRevocationConfig {
+
+    /**
+     * 토큰 폐기 저장소 빈 생성
+     *
+     * - redis(기본): 여러 노드가 공유하고 pub/sub으로 전파
+     * - memory: 단일 노드 배포용. store.aof.enabled=true이면 추가 전용 로그로 재시작 시 복원
+     *
+     * @param redisTemplate Redis 템플릿 (redis 저장소)
+     * @param storeType 저장소 종류
+     * @param nearCacheEnabled 노드 로컬 뷰 사용 여부 (사용하지 않으면 전파하지 않음)
+     * @param aofEnabled 추가 전용 로그 사용 여부 (memory 저장소)
+     * @param aofDirectory 추가 전용 로그 디렉터리
+     * @param tickMillis 만료 처리 간격
+     * @return 토큰 폐기 저장소
+     */
+    @Bean
+    public RevocationStore revocationStore(
+            StringRedisTemplate redisTemplate,
+            @Value("${store.type:redis}") String storeType,
+            @Value("${jwt.revocation.near-cache-enabled:true}") boolean nearCacheEnabled,
+            @Value("${store.aof.enabled:false}") boolean aofEnabled,
+            @Value("${store.aof.directory:./data}") String aofDirectory,
+            @Value("${store.timing-wheel.tick-ms:1000}") long tickMillis) {
+        return switch (storeType.toLowerCase()) {
+            case "redis" -> new RedisRevocationStore(redisTemplate, nearCacheEnabled);
+            case "memory" -> {
+                try {
+                    yield new InMemoryRevocationStore(tickMillis,
+                            aofEnabled ? new AppendOnlyLog(Path.of(aofDirectory, "revocations.aof")) : null);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to open revocation store log in " + aofDirectory, e);
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown store type: " + storeType);
+        };
+    }
+
+    /**
+     * 다른 노드가 발행한 토큰 폐기 / 사용자 전체 폐기 메시지 구독
+     * near-cache를 사용하지 않는 환경(테스트 등)이나 메모리 저장소에서는 생성하지 않습니다.
+     *
+     * @param connectionFactory Redis 연결 팩토리
+     * @param revocationStore 폐기 메시지 수신자 (Redis 저장소)
+     * @return 메시지 리스너 컨테이너
+     */
+    @Bean
+    @ConditionalOnExpression("${jwt.revocation.near-cache-enabled:true} and '${store.type:redis}'.equals('redis')")
+    public RedisMessageListenerContainer tokenRevocationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                          RevocationStore revocationStore) {
+        RedisRevocationStore redisRevocationStore = (RedisRevocationStore) revocationStore;
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(redisRevocationStore,
+                new ChannelTopic(RedisRevocationStore.REVOCATION_CHANNEL));
+        container.addMessageListener(redisRevocationStore,
+                new ChannelTopic(RedisRevocationStore.NOT_BEFORE_CHANNEL));
+        return container;
+    }
+}
@@ -4,13 +4,15 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.PathResourceResolver;
 
 import java.nio.file.Paths;
 
 /**
  * 웹 MVC 설정
  * Spring MVC 설정을 커스터마이징하는 설정 클래스입니다.
- * 현재 업로드된 파일에 대한 정적 리소스 핸들러를 구성합니다.
+ * 업로드된 파일과 사전 렌더링된 공개 API 스냅샷에 대한 정적 리소스 핸들러를 구성합니다.
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -19,6 +21,14 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${file.upload.dir}")
     private String uploadDir;
 
+    /** 공개 API 정적 내보내기 활성화 여부 */
+    @Value("${static-export.enabled:false}")
+    private boolean staticExportEnabled;
+
+    /** 공개 API 정적 내보내기 디렉토리 경로 */
+    @Value("${static-export.dir:static-api}")
+    private String staticExportDir;
+
     /**
      * 정적 리소스 핸들러 설정
      * 업로드된 파일에 대한 웹 액세스를 제공하기 위한 리소스 핸들러를 추가합니다.
@@ -26,6 +36,12 @@ public class WebConfig implements WebMvcConfigurer {
      *
      * 예시: GET /uploads/image.jpg -> {uploadDir}/image.jpg 파일 제공
      *
+     * 정적 내보내기가 활성화되면 '/static-api/**' 경로를 현재 릴리스 디렉토리와 매핑합니다.
+     * current 심볼릭 링크는 요청마다 다시 해석되므로 릴리스 교체가 즉시 반영되며,
+     * Accept-Encoding에 gzip이 포함되면 미리 압축된 .gz 파일을 그대로 제공합니다.
+     *
+     * 예시: GET /static-api/projects.json -> {staticExportDir}/current/api/projects.json(.gz)
+     *
      * @param registry 리소스 핸들러 레지스트리
      */
     @Override
@@ -34,5 +50,15 @@ public class WebConfig implements WebMvcConfigurer {
 
         registry.addResourceHandler("/uploads/**")
                 .addResourceLocations("file:" + uploadPath + "/");
+
+        if (staticExportEnabled) {
+            String exportPath = Paths.get(staticExportDir).toAbsolutePath().normalize().toString();
+
+            registry.addResourceHandler("/static-api/**")
+                    .addResourceLocations("file:" + exportPath + "/current/api/")
+                    .resourceChain(false)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new PathResourceResolver());
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.example.djlogportfoliobackend.controller;
+
+import com.example.djlogportfoliobackend.dto.AuditPipelineResponse;
+import com.example.djlogportfoliobackend.dto.ConcurrencyLimitResponse;
+import com.example.djlogportfoliobackend.dto.RateLimitMetricsResponse;
+import com.example.djlogportfoliobackend.dto.RateLimitTopOffendersResponse;
+import com.example.djlogportfoliobackend.service.AuditService;
+import com.example.djlogportfoliobackend.service.RateLimitMetricsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 운영 지표 REST API 컨트롤러
+ * 요청 제한, 감사 기록 등 운영 상태를 조회하는 엔드포인트를 제공합니다. 모든 엔드포인트는 인증이 필요합니다.
+ */
+@RestController
+@RequestMapping("/api/admin/metrics")
+@RequiredArgsConstructor
+public class AdminMetricsController {
+
+    private final RateLimitMetricsService rateLimitMetricsService;
+    private final AuditService auditService;
+
+    /**
+     * 정책별 빈도 제한 지표를 조회합니다.
+     * 허용/거부 수, 활성 키 수, 상태 테이블 적중/재사용 수, 키별 사용률 분포를 반환합니다.
+     *
+     * @return 정책별 지표
+     */
+    @GetMapping("/rate-limit")
+    public ResponseEntity<RateLimitMetricsResponse> getRateLimitMetrics() {
+        return ResponseEntity.ok(rateLimitMetricsService.getRateLimitMetrics());
+    }
+
+    /**
+     * 요청 수가 가장 많은 제한 키를 조회합니다.
+     * security.rate-limit.algorithm=sketch일 때만 집계되며, 그 외에는 빈 목록을 반환합니다.
+     *
+     * @param limit 최대 항목 수 (기본 20, 최대 100)
+     * @return 상위 요청 키 목록
+     */
+    @GetMapping("/rate-limit/top-offenders")
+    public ResponseEntity<RateLimitTopOffendersResponse> getTopOffenders(
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(rateLimitMetricsService.getTopOffenders(limit));
+    }
+
+    /**
+     * 적응형 동시 처리 제한 현황을 조회합니다.
+     *
+     * @return 현재 상한, 처리 중인 요청 수, 기준 응답 시간, 거부 수
+     */
+    @GetMapping("/concurrency")
+    public ResponseEntity<ConcurrencyLimitResponse> getConcurrencyLimit() {
+        return ResponseEntity.ok(rateLimitMetricsService.getConcurrencyLimit());
+    }
+
+    /**
+     * 감사 이벤트 파이프라인 현황을 조회합니다.
+     * 버퍼에 쌓인 이벤트 수와 버퍼 초과로 버린 수, 기록/실패 수를 반환합니다.
+     *
+     * @return 감사 이벤트 파이프라인 지표
+     */
+    @GetMapping("/audit")
+    public ResponseEntity<AuditPipelineResponse> getAuditPipeline() {
+        return ResponseEntity.ok(auditService.getPipelineMetrics());
+    }
+}
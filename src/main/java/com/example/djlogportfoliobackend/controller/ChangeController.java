@@ -0,0 +1,36 @@
+package com.example.djlogportfoliobackend.controller;
+
+import com.example.djlogportfoliobackend.dto.ChangeSetResponse;
+import com.example.djlogportfoliobackend.service.DeltaSyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 델타 동기화 REST API 컨트롤러
+ * 클라이언트가 마지막으로 받은 버전 이후의 변경만 조회할 수 있는 엔드포인트를 제공합니다.
+ */
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+public class ChangeController {
+
+    private final DeltaSyncService deltaSyncService;
+
+    /**
+     * 지정한 버전 이후의 변경을 조회합니다.
+     * since가 없거나, 다른 저널이 발급했거나, 저널에서 더 이상 복원할 수 없는 버전이면 전체 스냅샷을 반환합니다.
+     *
+     * @param since 클라이언트가 마지막으로 동기화한 버전
+     * @param journal since를 발급한 저널 ID
+     * @return 변경 목록 또는 전체 스냅샷과 새 기준 버전
+     */
+    @GetMapping
+    public ResponseEntity<ChangeSetResponse> getChanges(@RequestParam(required = false) Long since,
+                                                        @RequestParam(required = false) String journal) {
+        return ResponseEntity.ok(deltaSyncService.getChangesSince(since, journal));
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.djlogportfoliobackend.controller;
+
+import com.example.djlogportfoliobackend.service.ContentChangeBroadcaster;
+import com.example.djlogportfoliobackend.service.ContentChangeBroadcaster.Rejection;
+import com.example.djlogportfoliobackend.service.ContentChangeBroadcaster.Subscription;
+import com.example.djlogportfoliobackend.util.NetworkUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 콘텐츠 변경 스트림 REST API 컨트롤러
+ * 클라이언트와 엣지 캐시가 폴링 대신 구독할 수 있는 Server-Sent Events 엔드포인트를 제공합니다.
+ */
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class ContentEventController {
+
+    private final ContentChangeBroadcaster contentChangeBroadcaster;
+
+    /**
+     * 콘텐츠 변경 이벤트 스트림을 구독합니다.
+     * 연결 직후 현재 버전을 담은 hello 이벤트가 전송되고, 이후 쓰기가 커밋될 때마다
+     * content-change 이벤트가 전송됩니다.
+     *
+     * @param request HTTP 요청 (클라이언트별 구독 수 제한용)
+     * @return SSE 스트림, 같은 클라이언트의 구독 한도 초과 시 429, 전체 구독자 한도 초과 시 503
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(HttpServletRequest request) {
+        Subscription subscription = contentChangeBroadcaster.subscribe(NetworkUtil.getClientKey(request));
+        if (subscription.emitter() == null) {
+            HttpStatus status = subscription.rejection() == Rejection.CLIENT_LIMIT
+                    ? HttpStatus.TOO_MANY_REQUESTS
+                    : HttpStatus.SERVICE_UNAVAILABLE;
+            return ResponseEntity.status(status)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .header("X-Accel-Buffering", "no")
+                .body(subscription.emitter());
+    }
+}
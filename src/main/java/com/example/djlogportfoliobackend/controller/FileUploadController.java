@@ -1,6 +1,7 @@
 package com.example.djlogportfoliobackend.controller;
 
 import com.example.djlogportfoliobackend.service.FileUploadService;
+import com.example.djlogportfoliobackend.util.NetworkUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
@@ -58,7 +59,7 @@ public class FileUploadController {
 
         try {
             // 요청 로깅
-            String clientIp = getClientIpAddress(request);
+            String clientIp = NetworkUtil.getClientIpAddress(request);
             log.info("File upload request from IP: {}, filename: {}, size: {} bytes",
                     clientIp, file.getOriginalFilename(), file.getSize());
 
@@ -76,40 +77,18 @@ public class FileUploadController {
             return ResponseEntity.ok().headers(headers).body(response);
 
         } catch (IllegalArgumentException e) {
-            log.warn("Invalid file upload attempt from IP {}: {}", getClientIpAddress(request), e.getMessage());
+            log.warn("Invalid file upload attempt from IP {}: {}", NetworkUtil.getClientIpAddress(request), e.getMessage());
             response.put("error", e.getMessage());
             return ResponseEntity.badRequest().body(response);
 
         } catch (IOException e) {
-            log.error("File upload failed from IP {}: {}", getClientIpAddress(request), e.getMessage(), e);
+            log.error("File upload failed from IP {}: {}", NetworkUtil.getClientIpAddress(request), e.getMessage(), e);
             response.put("error", "파일 업로드 중 오류가 발생했습니다.");
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         } catch (Exception e) {
-            log.error("Unexpected error during file upload from IP {}: {}", getClientIpAddress(request), e.getMessage(), e);
+            log.error("Unexpected error during file upload from IP {}: {}", NetworkUtil.getClientIpAddress(request), e.getMessage(), e);
             response.put("error", "예상치 못한 오류가 발생했습니다.");
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
-
-    /**
-     * 클라이언트 IP 주소 추출
-     * 프록시나 로드밸런서를 고려하여 실제 클라이언트 IP를 가져옵니다.
-     * X-Forwarded-For 헤더를 우선적으로 확인하고, X-Real-IP 헤더, 최종적으로 RemoteAddr을 확인합니다.
-     *
-     * @param request HTTP 요청 객체
-     * @return 클라이언트의 실제 IP 주소
-     */
-    private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty() && !"unknown".equalsIgnoreCase(xForwardedFor)) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty() && !"unknown".equalsIgnoreCase(xRealIp)) {
-            return xRealIp;
-        }
-
-        return request.getRemoteAddr();
-    }
 }
@@ -0,0 +1,36 @@
+package com.example.djlogportfoliobackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 감사 이벤트 파이프라인 현황 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class AuditPipelineResponse {
+
+    /** 버퍼에서 기록을 기다리는 이벤트 수 */
+    private int queueDepth;
+
+    /** 버퍼 크기 */
+    private int capacity;
+
+    /** 누적 접수된 이벤트 수 */
+    private long published;
+
+    /** 버퍼가 가득 차서 버린 이벤트 수 */
+    private long dropped;
+
+    /** 기록된 로그인 이력 수 */
+    private long loginsWritten;
+
+    /** 기록된 관리자 쓰기 감사 기록 수 */
+    private long adminChangesWritten;
+
+    /** Redis 차단/기록 실패로 반영하지 못한 이벤트 수 */
+    private long failed;
+
+    /** 기록한 배치 수 */
+    private long batches;
+}
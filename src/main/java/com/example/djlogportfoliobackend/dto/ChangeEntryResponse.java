@@ -0,0 +1,32 @@
+package com.example.djlogportfoliobackend.dto;
+
+import com.example.djlogportfoliobackend.event.ChangeType;
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 델타 동기화 변경 항목 응답 DTO
+ * 생성/수정된 엔티티는 현재 공개 표현을 data로 포함하고, 삭제된 엔티티는 data 없이 전달됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ChangeEntryResponse {
+
+    /** 변경이 기록된 콘텐츠 버전 */
+    private long version;
+
+    /** 엔티티 종류 */
+    private PortfolioEntityType entityType;
+
+    /** 엔티티 ID */
+    private UUID entityId;
+
+    /** 변경 유형 (공개 대상에서 제외된 프로젝트는 DELETED로 전달) */
+    private ChangeType changeType;
+
+    /** 엔티티의 현재 공개 표현 (삭제 시 null) */
+    private Object data;
+}
@@ -0,0 +1,46 @@
+package com.example.djlogportfoliobackend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 델타 동기화 응답 DTO
+ *
+ * 요청한 버전 이후의 변경을 저널로 복원할 수 있으면 changes만 포함하고,
+ * 클라이언트가 너무 뒤처졌거나 다른 서버 인스턴스의 버전을 보낸 경우, 또는 그 사이 프로필이 수정되어
+ * 하위 목록(기술 스택/학력/자격증)이 교체된 경우 fullSnapshot=true와 함께 전체 공개 데이터를 포함합니다.
+ * 클라이언트는 다음 요청의 since 값으로 version을, journal 값으로 journal을 사용합니다.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeSetResponse {
+
+    /** 이 응답이 반영하는 콘텐츠 버전 */
+    private long version;
+
+    /** version을 발급한 저널 ID (노드마다 버전 공간이 다름) */
+    private String journal;
+
+    /** 전체 스냅샷 여부 */
+    private boolean fullSnapshot;
+
+    /** 변경 목록 (델타 응답) */
+    private List<ChangeEntryResponse> changes;
+
+    /** 프로필 (스냅샷 응답) */
+    private ProfileResponse profile;
+
+    /** 공개 프로젝트 목록 (스냅샷 응답) */
+    private List<ProjectResponse> projects;
+
+    /** 기술 스택 목록 (스냅샷 응답) */
+    private List<SkillResponse> skills;
+
+    /** 학력 목록 (스냅샷 응답) */
+    private List<EducationResponse> educations;
+
+    /** 자격증 목록 (스냅샷 응답) */
+    private List<CertificateResponse> certificates;
+}
@@ -0,0 +1,33 @@
+package com.example.djlogportfoliobackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 동시 처리 제한 현황 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class ConcurrencyLimitResponse {
+
+    /** 현재 동시 처리 상한 (중요 요청 기준) */
+    private int limit;
+
+    /** 공개 조회에 허용된 동시 처리 상한 */
+    private int publicLimit;
+
+    /** 현재 처리 중인 요청 수 */
+    private int inFlight;
+
+    /** 장기 기준 응답 시간 (밀리초) */
+    private double baselineRttMillis;
+
+    /** 누적 허용 요청 수 */
+    private long accepted;
+
+    /** 누적 거부된 공개 조회 수 */
+    private long rejectedPublic;
+
+    /** 누적 거부된 중요 요청 수 */
+    private long rejectedCritical;
+}
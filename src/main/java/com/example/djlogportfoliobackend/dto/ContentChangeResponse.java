@@ -0,0 +1,29 @@
+package com.example.djlogportfoliobackend.dto;
+
+import com.example.djlogportfoliobackend.event.ChangeType;
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 콘텐츠 변경 알림 응답 DTO
+ * SSE 변경 스트림으로 클라이언트와 엣지 캐시에 전달되는 무효화 메시지입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ContentChangeResponse {
+
+    /** 변경 이후의 전역 콘텐츠 버전 (단조 증가) */
+    private long version;
+
+    /** 변경된 엔티티 종류 */
+    private PortfolioEntityType entityType;
+
+    /** 변경된 엔티티 ID (특정할 수 없으면 null) */
+    private UUID entityId;
+
+    /** 변경 유형 */
+    private ChangeType changeType;
+}
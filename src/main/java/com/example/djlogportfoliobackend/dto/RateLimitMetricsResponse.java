@@ -0,0 +1,23 @@
+package com.example.djlogportfoliobackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Rate limit 지표 조회 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class RateLimitMetricsResponse {
+
+    /** 기본 키 전략 */
+    private String defaultStrategy;
+
+    /** 글로벌 제한 사용 여부 */
+    private boolean globalLimitEnabled;
+
+    /** 정책별 지표 (default, 선언된 정책, global 순) */
+    private List<RateLimitPolicyMetricsResponse> policies;
+}
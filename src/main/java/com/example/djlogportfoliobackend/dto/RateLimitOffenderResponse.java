@@ -0,0 +1,28 @@
+package com.example.djlogportfoliobackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Rate limit 상위 요청 키 응답 DTO
+ * Space-Saving 집계 결과이므로 requestCount는 실제 값 이상이며, 실제 값은 requestCount - error 이상입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class RateLimitOffenderResponse {
+
+    /** 제한 키 (64비트 해시, 16진수) */
+    private String key;
+
+    /** 표시용 이름 (거부된 적이 있는 키만 "IP 라우트" 형식으로 기록) */
+    private String label;
+
+    /** 추정 요청 수 */
+    private long requestCount;
+
+    /** 추정 오차 */
+    private long error;
+
+    /** 거부된 요청 수 */
+    private long deniedCount;
+}
@@ -0,0 +1,57 @@
+package com.example.djlogportfoliobackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Rate limit 정책별 지표 응답 DTO
+ * 기본 제한은 "default", 글로벌 제한은 "global" 이름으로 함께 제공됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class RateLimitPolicyMetricsResponse {
+
+    /** 정책 이름 */
+    private String name;
+
+    /** 경로 패턴 (기본/글로벌 제한은 null) */
+    private String pattern;
+
+    /** 키 전략 */
+    private String keyStrategy;
+
+    /** 제한 알고리즘 */
+    private String algorithm;
+
+    /** 윈도우당 제한 값 */
+    private int limit;
+
+    /** 누적 허용 요청 수 */
+    private long allowed;
+
+    /** 누적 거부 요청 수 */
+    private long rejected;
+
+    /** 현재 활성 키 수 (키 카디널리티) */
+    private int activeKeys;
+
+    /** 상태 테이블 슬롯 수 */
+    private int capacity;
+
+    /** 기존 키 슬롯 조회 적중 수 */
+    private long slotHits;
+
+    /** 새 키 슬롯 할당 수 */
+    private long slotInserts;
+
+    /** 유휴 슬롯 재사용 수 (eviction) */
+    private long slotReclaims;
+
+    /** 슬롯 부족으로 추적 없이 허용한 수 */
+    private long slotOverflows;
+
+    /** 키별 제한 사용률 분포 (구간 → 키 수) */
+    private Map<String, Long> utilization;
+}
@@ -0,0 +1,30 @@
+package com.example.djlogportfoliobackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Rate limit 상위 요청 키 조회 응답 DTO
+ * sketch 알고리즘이 아니면 offenders는 빈 목록입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class RateLimitTopOffendersResponse {
+
+    /** 사용 중인 제한 알고리즘 */
+    private String algorithm;
+
+    /** 윈도우당 제한 값 */
+    private int limit;
+
+    /** 근사 카운터(sketch) 메모리 (바이트) */
+    private long sketchBytes;
+
+    /** 정확한 카운터가 할당된 키 수 */
+    private int exactTrackedKeys;
+
+    /** 추정 요청 수 내림차순 상위 키 목록 */
+    private List<RateLimitOffenderResponse> offenders;
+}
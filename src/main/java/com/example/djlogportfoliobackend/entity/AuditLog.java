@@ -0,0 +1,62 @@
+package com.example.djlogportfoliobackend.entity;
+
+import com.example.djlogportfoliobackend.event.ChangeType;
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 관리자 쓰기 감사 기록을 저장하는 엔티티
+ * 커밋된 포트폴리오 변경마다 한 행을 남기며, 감사 이벤트 파이프라인이 모아서 일괄 저장한다.
+ * 식별자를 애플리케이션에서 생성(UUID)하므로 JDBC 배치 INSERT가 가능하다.
+ */
+@Entity
+@Table(name = "audit_log", indexes = @Index(name = "idx_audit_log_occurred_at", columnList = "occurred_at"))
+@Getter
+@NoArgsConstructor
+public class AuditLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    /** 변경한 관리자 */
+    @Column(nullable = false)
+    private String actor;
+
+    /** 변경된 엔티티 종류 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private PortfolioEntityType entityType;
+
+    /** 변경된 엔티티 ID (프로필 일괄 수정처럼 특정할 수 없으면 null) */
+    @Column(name = "entity_id")
+    private UUID entityId;
+
+    /** 변경 유형 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 10)
+    private ChangeType changeType;
+
+    /** 요청 추적 ID */
+    @Column(name = "trace_id", length = 64)
+    private String traceId;
+
+    /** 변경 커밋 시각 */
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    public AuditLog(String actor, PortfolioEntityType entityType, UUID entityId, ChangeType changeType,
+                    String traceId, Instant occurredAt) {
+        this.actor = actor;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.changeType = changeType;
+        this.traceId = traceId;
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.djlogportfoliobackend.event;
+
+/**
+ * 포트폴리오 데이터 변경 유형
+ */
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,27 @@
+package com.example.djlogportfoliobackend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * 포트폴리오 데이터 변경 이벤트
+ * 관리자 쓰기 작업이 수행되면 서비스 계층에서 발행되며,
+ * 리스너는 {@code @TransactionalEventListener(phase = AFTER_COMMIT)}로 커밋 이후에만 처리합니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class PortfolioChangeEvent {
+
+    /** 변경된 엔티티 종류 */
+    private final PortfolioEntityType entityType;
+
+    /** 변경된 엔티티 ID (프로필 일괄 수정처럼 특정할 수 없으면 null) */
+    private final UUID entityId;
+
+    /** 변경 유형 */
+    private final ChangeType changeType;
+}
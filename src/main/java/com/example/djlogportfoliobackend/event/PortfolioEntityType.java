@@ -0,0 +1,13 @@
+package com.example.djlogportfoliobackend.event;
+
+/**
+ * 변경 이벤트의 대상이 되는 포트폴리오 엔티티 종류
+ * 공개 API의 집계(aggregate) 단위와 1:1로 대응합니다.
+ */
+public enum PortfolioEntityType {
+    PROFILE,
+    PROJECT,
+    SKILL,
+    EDUCATION,
+    CERTIFICATE
+}
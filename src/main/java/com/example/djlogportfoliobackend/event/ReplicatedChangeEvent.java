@@ -0,0 +1,27 @@
+package com.example.djlogportfoliobackend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * 다른 노드에서 커밋된 포트폴리오 변경 이벤트
+ * 변경 저널이 pub/sub으로 다른 노드의 변경을 받으면 이 노드 안에 발행합니다.
+ * 이미 커밋된 변경이므로 리스너는 트랜잭션과 무관하게 {@code @EventListener}로 바로 처리합니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ReplicatedChangeEvent {
+
+    /** 변경된 엔티티 종류 */
+    private final PortfolioEntityType entityType;
+
+    /** 변경된 엔티티 ID (특정할 수 없으면 null) */
+    private final UUID entityId;
+
+    /** 변경 유형 */
+    private final ChangeType changeType;
+}
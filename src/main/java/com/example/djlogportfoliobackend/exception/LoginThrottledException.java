@@ -0,0 +1,45 @@
+package com.example.djlogportfoliobackend.exception;
+
+/**
+ * 로그인 시도 제한 예외 클래스
+ *
+ * <p>비밀번호 검증(BCrypt)을 수행하지 않고 로그인 요청을 거부할 때 발생하는 커스텀 예외입니다.
+ * 클라이언트는 {@link #getRetryAfterSeconds()}만큼 기다린 뒤 다시 시도해야 하며,
+ * 응답은 429 Too Many Requests와 Retry-After 헤더로 전달됩니다.</p>
+ *
+ * <p>주요 발생 상황:
+ * <ul>
+ *   <li>같은 계정 또는 같은 IP의 로그인 실패가 누적되어 대기 시간이 남아 있는 경우</li>
+ *   <li>비밀번호 검증 실행기의 대기열이 가득 찬 경우</li>
+ *   <li>비밀번호 검증이 제한 시간 안에 끝나지 않은 경우</li>
+ * </ul>
+ * </p>
+ *
+ * @author DJ
+ * @version 1.0
+ * @since 2024
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * 메시지와 재시도 대기 시간을 포함한 로그인 시도 제한 예외 생성
+     *
+     * @param message 예외 상세 메시지
+     * @param retryAfterSeconds 재시도까지 대기할 시간 (초, 최소 1초)
+     */
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+    }
+
+    /**
+     * Retry-After 헤더용 재시도 대기 시간
+     *
+     * @return 대기 시간 (초)
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.djlogportfoliobackend.filter;
+
+import com.example.djlogportfoliobackend.ratelimit.AdaptiveConcurrencyLimiter;
+import com.example.djlogportfoliobackend.util.JwtPrincipal;
+import com.example.djlogportfoliobackend.util.JwtUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 적응형 동시 처리 제한 필터 (Load Shedding)
+ *
+ * DB가 느려지면 요청이 Tomcat 스레드를 붙잡고 쌓여 모든 요청의 응답 시간이 함께 늘어난다.
+ * 이 필터는 {@link AdaptiveConcurrencyLimiter}의 상한을 넘는 요청을 컨트롤러에 도달하기 전에
+ * 503과 Retry-After로 즉시 거부하여, 이미 처리 중인 요청이 정상 시간 안에 끝나도록 한다.
+ *
+ * - 비인증 GET/HEAD(공개 조회)는 상한의 일부만 사용하므로 과부하 시 먼저 거부됨
+ * - 유효한 토큰으로 인증된 요청과 쓰기 요청은 상한 전체를 사용
+ * - 이 필터는 JWT 인증 필터보다 먼저 실행되므로 Authorization 헤더의 존재가 아니라 토큰 검증 결과로 판단
+ *   (아무 헤더나 붙인 공개 조회가 중요 요청 몫을 쓰지 못하게 함, 검증 결과는 요청 속성으로 인증 필터와 공유)
+ * - SSE 스트림(/api/events)은 연결이 오래 유지되므로 대상에서 제외
+ * - 대역폭 제한 대상(업로드, /uploads/** 파일 제공)도 대상에서 제외하고 {@link BandwidthLimitFilter}만 적용
+ *   (의도적으로 늦춘 전송이 허가를 오래 붙잡아 공개 조회 몫을 채우거나 기준 응답 시간을 부풀리지 않도록,
+ *   대역폭 제한을 끈 경우에는 다른 요청과 같이 제한)
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String EVENT_STREAM_PATH = "/api/events";
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final JwtUtil jwtUtil;
+
+    @Value("${security.concurrency-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${bandwidth.enabled:true}")
+    private boolean bandwidthEnabled;
+
+    public AdaptiveConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, JwtUtil jwtUtil) {
+        this.limiter = limiter;
+        this.jwtUtil = jwtUtil;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith(EVENT_STREAM_PATH)
+                || (bandwidthEnabled && BandwidthLimitFilter.isThrottledRoute(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        boolean critical = isCritical(request);
+        if (!limiter.tryAcquire(critical)) {
+            log.warn("[CONCURRENCY_LIMIT] Request shed - {} {} - in-flight: {} - limit: {} (public: {})",
+                    request.getMethod(), request.getRequestURI(), limiter.getInFlight(),
+                    limiter.getLimit(), limiter.getPublicLimit());
+
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            response.setContentType("application/json");
+            response.getWriter().write(
+                "{\"error\":\"Service overloaded\",\"message\":\"Server is busy. Please try again shortly.\"}");
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean error = true;
+        try {
+            filterChain.doFilter(request, response);
+            error = response.getStatus() >= 500;
+        } finally {
+            limiter.release(start, System.nanoTime(), error);
+        }
+    }
+
+    /**
+     * 상한 전체를 사용할 수 있는 요청인지 판단
+     * 공개 조회(유효한 토큰이 없는 GET/HEAD)만 우선순위가 낮습니다.
+     */
+    private boolean isCritical(HttpServletRequest request) {
+        String method = request.getMethod();
+        boolean read = "GET".equals(method) || "HEAD".equals(method);
+        return !read || isAuthenticated(request);
+    }
+
+    private boolean isAuthenticated(HttpServletRequest request) {
+        try {
+            JwtPrincipal principal = jwtUtil.resolvePrincipal(request);
+            return principal != null && jwtUtil.isValid(principal);
+        } catch (Exception e) {
+            log.debug("[CONCURRENCY_LIMIT] Treating request with invalid bearer token as public: {}", e.getMessage());
+            return false;
+        }
+    }
+}
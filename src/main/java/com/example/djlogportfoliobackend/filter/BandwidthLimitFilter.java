@@ -0,0 +1,243 @@
+package com.example.djlogportfoliobackend.filter;
+
+import com.example.djlogportfoliobackend.ratelimit.BandwidthThrottle;
+import com.example.djlogportfoliobackend.ratelimit.RateLimitKeys;
+import com.example.djlogportfoliobackend.util.JwtPrincipal;
+import com.example.djlogportfoliobackend.util.JwtUtil;
+import com.example.djlogportfoliobackend.util.NetworkUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 대역폭 제한 필터
+ *
+ * 요청 수 제한은 요청 크기를 구분하지 않으므로, 큰 파일을 반복해서 받거나 올리는 클라이언트 하나가
+ * 서버 회선을 차지할 수 있다. 이 필터는 바이트 단위 토큰 버킷으로 전송 속도를 제한한다.
+ *
+ * - 업로드 파일 제공(GET/HEAD /uploads/**): 응답 스트림을 감싸 약 8KB 단위로 전송 속도 조절
+ * - 파일 업로드(multipart 본문의 POST/PUT, /api/upload와 /api/projects/image 등 모든 업로드 경로): Content-Length만큼 미리 예약하고 필요한 시간만큼 본문을 읽기 전에 대기.
+ *   multipart 본문은 컨트롤러 이전에 컨테이너가 한 번에 읽으므로, 읽기 전에 대기하여 TCP 흐름 제어로 속도를 늦춘다.
+ *   대기 시간이 max-wait를 넘으면 429와 Retry-After로 거부
+ * - Content-Length가 없는 multipart 업로드(chunked)는 미리 예약할 크기를 알 수 없고, 컨테이너가 원본 스트림을 직접 읽어
+ *   요청 스트림을 감싸도 속도를 늦출 수 없으므로 411(Length Required)로 거부
+ * - 업로드는 토큰 검증을 통과한 요청만 예약하여, 인증 실패할 요청이 대역폭을 소비하지 않음
+ *   (이 필터는 JWT 인증 필터보다 먼저 실행되므로 헤더 존재가 아니라 {@link JwtUtil} 검증 결과로 판단,
+ *   인증되지 않은 업로드는 본문을 읽기 전에 인증 단계에서 거부됨)
+ * - 이 필터가 다루는 요청은 {@link AdaptiveConcurrencyLimitFilter} 대상에서 제외되므로, 대역폭 제한이 유일한 제한이다
+ * - 업로드 경로를 URI로 나열하지 않고 multipart Content-Type으로 판단한다.
+ *   컨테이너는 경로와 무관하게 multipart 본문을 읽으므로, 새 업로드 엔드포인트도 자동으로 제한 대상이 된다.
+ */
+@Slf4j
+@Component
+public class BandwidthLimitFilter extends OncePerRequestFilter {
+
+    private static final String MULTIPART_PREFIX = "multipart/";
+    private static final String DOWNLOAD_PATH_PREFIX = "/uploads/";
+    private static final long UPLOAD_KEY = RateLimitKeys.hash("bandwidth:upload");
+    private static final long DOWNLOAD_KEY = RateLimitKeys.hash("bandwidth:download");
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private static final ThreadLocal<long[]> IP_BUFFER = ThreadLocal.withInitial(() -> new long[2]);
+
+    private final BandwidthThrottle uploadThrottle;
+    private final BandwidthThrottle downloadThrottle;
+    private final JwtUtil jwtUtil;
+
+    @Value("${bandwidth.enabled:true}")
+    private boolean enabled;
+
+    @Value("${bandwidth.max-wait:10s}")
+    private Duration maxWait;
+
+    public BandwidthLimitFilter(@Qualifier("uploadBandwidthThrottle") BandwidthThrottle uploadThrottle,
+                                @Qualifier("downloadBandwidthThrottle") BandwidthThrottle downloadThrottle,
+                                JwtUtil jwtUtil) {
+        this.uploadThrottle = uploadThrottle;
+        this.downloadThrottle = downloadThrottle;
+        this.jwtUtil = jwtUtil;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !isThrottledRoute(request);
+    }
+
+    /**
+     * 이 필터가 전송 속도를 조절하는 요청인지 확인
+     * 의도적으로 늦춘 전송이 동시 처리 허가를 오래 붙잡지 않도록 {@link AdaptiveConcurrencyLimitFilter}는 이 요청을 제외한다.
+     */
+    static boolean isThrottledRoute(HttpServletRequest request) {
+        return isUpload(request) || isDownload(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        long clientKey = clientKey(request, isUpload(request) ? UPLOAD_KEY : DOWNLOAD_KEY);
+
+        if (isDownload(request)) {
+            filterChain.doFilter(request, new ThrottledResponse(response, downloadThrottle, clientKey));
+            return;
+        }
+
+        if (!isAuthenticated(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long contentLength = request.getContentLengthLong();
+        if (contentLength < 0) {
+            log.warn("[BANDWIDTH_LIMIT] Upload without Content-Length rejected - IP: {}",
+                    NetworkUtil.getClientIpAddress(request));
+
+            response.setStatus(HttpServletResponse.SC_LENGTH_REQUIRED);
+            response.setContentType("application/json");
+            response.getWriter().write(
+                "{\"error\":\"Length required\",\"message\":\"Uploads must declare Content-Length.\"}");
+            return;
+        }
+        if (contentLength > 0) {
+            long delay = uploadThrottle.reserve(clientKey, contentLength, System.nanoTime(), maxWait.toNanos());
+            if (delay < 0) {
+                long retryAfterSeconds = (-delay + 999_999_999L) / 1_000_000_000L;
+                log.warn("[BANDWIDTH_LIMIT] Upload rejected - IP: {} - Size: {} bytes - Retry after: {}s",
+                        NetworkUtil.getClientIpAddress(request), contentLength, retryAfterSeconds);
+
+                response.setStatus(429);
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+                response.setContentType("application/json");
+                response.getWriter().write(String.format(
+                    "{\"error\":\"Bandwidth limit exceeded\",\"message\":\"Upload bandwidth exhausted. Please try again later.\",\"retryAfter\":%d}",
+                    retryAfterSeconds));
+                return;
+            }
+            if (delay > 0) {
+                log.debug("[BANDWIDTH_LIMIT] Upload delayed {}ms - Size: {} bytes", delay / 1_000_000L, contentLength);
+                BandwidthThrottle.pause(delay);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean isAuthenticated(HttpServletRequest request) {
+        try {
+            JwtPrincipal principal = jwtUtil.resolvePrincipal(request);
+            return principal != null && jwtUtil.isValid(principal);
+        } catch (Exception e) {
+            log.debug("[BANDWIDTH_LIMIT] Skipping upload reservation for invalid bearer token: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean isUpload(HttpServletRequest request) {
+        String method = request.getMethod();
+        return ("POST".equals(method) || "PUT".equals(method))
+                && StringUtils.startsWithIgnoreCase(request.getContentType(), MULTIPART_PREFIX);
+    }
+
+    private static boolean isDownload(HttpServletRequest request) {
+        String method = request.getMethod();
+        return ("GET".equals(method) || "HEAD".equals(method))
+                && request.getRequestURI().startsWith(DOWNLOAD_PATH_PREFIX);
+    }
+
+    private static long clientKey(HttpServletRequest request, long directionKey) {
+        long[] ip = IP_BUFFER.get();
+        NetworkUtil.parseClientIp(request, ip);
+        return RateLimitKeys.compose(directionKey, ip[0], ip[1]);
+    }
+
+    /**
+     * 출력 스트림만 대역폭 제한 스트림으로 교체한 응답
+     */
+    private static final class ThrottledResponse extends HttpServletResponseWrapper {
+
+        private final BandwidthThrottle throttle;
+        private final long clientKey;
+        private ThrottledOutputStream outputStream;
+
+        private ThrottledResponse(HttpServletResponse response, BandwidthThrottle throttle, long clientKey) {
+            super(response);
+            this.throttle = throttle;
+            this.clientKey = clientKey;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new ThrottledOutputStream(super.getOutputStream(), throttle, clientKey);
+            }
+            return outputStream;
+        }
+    }
+
+    /**
+     * 쓰기 전에 전송량을 예약하고 대기하는 출력 스트림
+     * 큰 버퍼도 CHUNK_SIZE 단위로 나누어 전송하므로 전송 속도가 고르게 유지된다.
+     */
+    private static final class ThrottledOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final BandwidthThrottle throttle;
+        private final long clientKey;
+
+        private ThrottledOutputStream(ServletOutputStream delegate, BandwidthThrottle throttle, long clientKey) {
+            this.delegate = delegate;
+            this.throttle = throttle;
+            this.clientKey = clientKey;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            throttle.acquire(clientKey, 1L);
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                int chunk = Math.min(len, CHUNK_SIZE);
+                throttle.acquire(clientKey, chunk);
+                delegate.write(b, off, chunk);
+                off += chunk;
+                len -= chunk;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.djlogportfoliobackend.filter;
+
+import com.example.djlogportfoliobackend.util.ClientIpResolver;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 클라이언트 IP 결정 필터
+ * 모든 필터보다 먼저 실행되어 신뢰 프록시 설정으로 클라이언트 주소를 한 번 결정하고 요청 속성에 저장합니다.
+ * 이후 로그 필터, 빈도 제한, 컨트롤러는 {@link com.example.djlogportfoliobackend.util.NetworkUtil}로 같은 값을 조회합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ClientIpResolutionFilter extends OncePerRequestFilter {
+
+    private final ClientIpResolver clientIpResolver;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        clientIpResolver.resolve(request);
+        filterChain.doFilter(request, response);
+    }
+}
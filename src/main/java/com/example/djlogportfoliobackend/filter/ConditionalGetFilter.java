@@ -0,0 +1,181 @@
+package com.example.djlogportfoliobackend.filter;
+
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
+import com.example.djlogportfoliobackend.service.ContentVersionService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * 버전 기반 조건부 GET 필터
+ *
+ * 공개 GET 응답에 집계 버전으로 만든 ETag를 부여하고, 클라이언트가 보낸 If-None-Match가
+ * 현재 버전과 같으면 컨트롤러, 서비스, DB를 거치지 않고 필터 체인에서 바로 304를 반환한다.
+ *
+ * 동작 방식:
+ * - 경로별로 응답이 의존하는 집계를 결정 (프로필은 스킬/학력/자격증을 포함하므로 함께 의존)
+ * - 프로필 수정은 스킬/학력/자격증을 통째로 교체하면서 PROFILE 변경만 발행하므로, 각 목록도 프로필에 의존
+ * - ETag 값은 의존 집계 버전의 최댓값 (버전은 전역 단조 증가이므로 하나라도 바뀌면 값이 바뀜)
+ * - 버전은 체인 진입 전에 읽으므로, 처리 도중 커밋된 변경은 다음 요청에서 200으로 다시 전달됨
+ * - 버전은 노드 로컬 값이며, 다른 노드의 쓰기는 변경 저널 전파로 이 노드의 버전을 올려 ETag를 무효화
+ *   (응답 캐시 L2와 무관, 전파를 끄면 여러 노드에서 오래된 304를 줄 수 있으므로 단일 노드에서만 사용)
+ * - 인증된 요청은 초안 등 공개되지 않은 데이터를 볼 수 있으므로 대상에서 제외
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetFilter extends OncePerRequestFilter {
+
+    private static final PortfolioEntityType[] PROFILE_DEPENDENCIES = {
+            PortfolioEntityType.PROFILE,
+            PortfolioEntityType.SKILL,
+            PortfolioEntityType.EDUCATION,
+            PortfolioEntityType.CERTIFICATE
+    };
+    private static final PortfolioEntityType[] PROJECT_DEPENDENCIES = {PortfolioEntityType.PROJECT};
+    private static final PortfolioEntityType[] SKILL_DEPENDENCIES = {
+            PortfolioEntityType.SKILL,
+            PortfolioEntityType.PROFILE
+    };
+    private static final PortfolioEntityType[] EDUCATION_DEPENDENCIES = {
+            PortfolioEntityType.EDUCATION,
+            PortfolioEntityType.PROFILE
+    };
+    private static final PortfolioEntityType[] CERTIFICATE_DEPENDENCIES = {
+            PortfolioEntityType.CERTIFICATE,
+            PortfolioEntityType.PROFILE
+    };
+
+    private final ContentVersionService contentVersionService;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return true;
+        }
+        return request.getHeader(HttpHeaders.AUTHORIZATION) != null
+                || resolveDependencies(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        PortfolioEntityType[] dependencies = resolveDependencies(request.getRequestURI());
+        String etag = toEtag(contentVersionService.currentVersion(dependencies));
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            log.debug("[CONDITIONAL_GET] Not modified: {} - ETag: {}", request.getRequestURI(), etag);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+            return;
+        }
+
+        filterChain.doFilter(request, new EtagResponseWrapper(response, etag));
+    }
+
+    /**
+     * 요청 경로가 의존하는 집계 결정
+     *
+     * @param uri 요청 URI
+     * @return 의존 집계 목록, 조건부 GET 대상이 아니면 null
+     */
+    static PortfolioEntityType[] resolveDependencies(String uri) {
+        if (uri.equals("/api/profile")) {
+            return PROFILE_DEPENDENCIES;
+        }
+        if (uri.equals("/api/projects") || uri.startsWith("/api/projects/")) {
+            return PROJECT_DEPENDENCIES;
+        }
+        if (uri.equals("/api/skills") || uri.startsWith("/api/skills/")) {
+            return SKILL_DEPENDENCIES;
+        }
+        if (uri.equals("/api/educations") || uri.startsWith("/api/educations/")) {
+            return EDUCATION_DEPENDENCIES;
+        }
+        if (uri.equals("/api/certificates") || uri.startsWith("/api/certificates/")) {
+            return CERTIFICATE_DEPENDENCIES;
+        }
+        return null;
+    }
+
+    private static String toEtag(long version) {
+        return "W/\"" + Long.toHexString(version) + "\"";
+    }
+
+    /**
+     * If-None-Match 비교 (약한 비교)
+     * 여러 값이 쉼표로 나열되거나 W/ 접두사가 빠진 경우도 허용한다.
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+        String opaque = etag.substring(2);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag) || value.equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 응답 본문을 쓰기 시작할 때 상태가 2xx인 경우에만 ETag를 부여하는 래퍼
+     * 에러 응답에 ETag가 붙으면 이후 조건부 요청이 에러 응답을 304로 재사용할 수 있기 때문이다.
+     */
+    private static class EtagResponseWrapper extends HttpServletResponseWrapper {
+
+        private final String etag;
+        private boolean applied;
+
+        EtagResponseWrapper(HttpServletResponse response, String etag) {
+            super(response);
+            this.etag = etag;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            applyEtag();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            applyEtag();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            applyEtag();
+            super.flushBuffer();
+        }
+
+        private void applyEtag() {
+            if (applied) {
+                return;
+            }
+            applied = true;
+            int status = getStatus();
+            if (status >= 200 && status < 300 && !isCommitted() && !containsHeader(HttpHeaders.ETAG)) {
+                setHeader(HttpHeaders.ETAG, etag);
+                setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.djlogportfoliobackend.filter;
 
+import com.example.djlogportfoliobackend.util.NetworkUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -43,7 +44,7 @@ public class CustomRequestLoggingFilter extends OncePerRequestFilter {
             MDC.put("method", request.getMethod());
             MDC.put("uri", request.getRequestURI());
             MDC.put("queryString", request.getQueryString());
-            MDC.put("remoteAddr", getClientIpAddress(request));
+            MDC.put("remoteAddr", NetworkUtil.getClientIpAddress(request));
             MDC.put("userAgent", request.getHeader("User-Agent"));
 
             log.info("HTTP Request Started - {} {}", request.getMethod(), request.getRequestURI());
@@ -69,26 +70,4 @@ public class CustomRequestLoggingFilter extends OncePerRequestFilter {
             MDC.clear();
         }
     }
-
-    /**
-     * 클라이언트 IP 주소 추출
-     * 프록시나 로드밸런서를 고려하여 실제 클라이언트 IP를 가져옵니다.
-     * X-Forwarded-For > X-Real-IP > Remote Address 순으로 확인합니다.
-     *
-     * @param request HTTP 요청
-     * @return 클라이언트 IP 주소
-     */
-    private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
-        }
-
-        return request.getRemoteAddr();
-    }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.example.djlogportfoliobackend.filter;
 
+import com.example.djlogportfoliobackend.util.JwtPrincipal;
 import com.example.djlogportfoliobackend.util.JwtUtil;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
@@ -9,12 +10,9 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
-import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
-import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -24,6 +22,7 @@ import java.util.Collections;
  * JWT 인증 필터
  * HTTP 요청에서 JWT 토큰을 추출하고 유효성을 검증하여 Spring Security 컨텍스트에 인증 정보를 설정합니다.
  * Authorization 헤더의 Bearer 토큰을 처리합니다.
+ * 토큰은 요청당 한 번만 검증/파싱되며, 앞선 필터(빈도 제한)가 이미 검증한 결과가 있으면 재사용합니다.
  */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
@@ -54,34 +53,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        final String authorizationHeader = request.getHeader("Authorization");
-
-        String username = null;
-        String jwt = null;
-
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
-            try {
-                username = jwtUtil.extractUsername(jwt);
-            } catch (ExpiredJwtException e) {
-                logger.debug("JWT token expired: " + e.getMessage());
-            } catch (MalformedJwtException e) {
-                logger.debug("JWT token malformed: " + e.getMessage());
-            } catch (UnsupportedJwtException e) {
-                logger.debug("JWT token unsupported: " + e.getMessage());
-            } catch (SignatureException e) {
-                logger.debug("JWT signature invalid: " + e.getMessage());
-            } catch (IllegalArgumentException e) {
-                logger.debug("JWT token argument invalid: " + e.getMessage());
-            } catch (Exception e) {
-                logger.warn("Unexpected JWT token processing error: " + e.getMessage());
-            }
+        JwtPrincipal principal = null;
+        try {
+            principal = jwtUtil.resolvePrincipal(request);
+        } catch (ExpiredJwtException e) {
+            logger.debug("JWT token expired: " + e.getMessage());
+        } catch (MalformedJwtException e) {
+            logger.debug("JWT token malformed: " + e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            logger.debug("JWT token unsupported: " + e.getMessage());
+        } catch (SignatureException e) {
+            logger.debug("JWT signature invalid: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.debug("JWT token argument invalid: " + e.getMessage());
+        } catch (Exception e) {
+            logger.warn("Unexpected JWT token processing error: " + e.getMessage());
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtUtil.validateToken(jwt, username)) {
+        if (principal != null && principal.subject() != null
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            if (jwtUtil.isValid(principal)) {
                 UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(username, null, Collections.emptyList());
+                        new UsernamePasswordAuthenticationToken(principal.subject(), null, Collections.emptyList());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
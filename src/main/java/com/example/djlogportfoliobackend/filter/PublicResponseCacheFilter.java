@@ -0,0 +1,94 @@
+package com.example.djlogportfoliobackend.filter;
+
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
+import com.example.djlogportfoliobackend.service.ResponseCacheService;
+import com.example.djlogportfoliobackend.service.ResponseCacheService.CachedResponse;
+import com.example.djlogportfoliobackend.service.ResponseCacheService.Lookup;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * 공개 응답 캐시 필터
+ *
+ * 비인증 공개 GET 요청의 렌더링된 JSON 응답을 {@link ResponseCacheService}에서 찾아 바로 반환한다.
+ * 캐시에 없으면 요청을 처리한 뒤 200 JSON 응답만 캐시에 저장한다.
+ * gzip을 지원하는 클라이언트에는 저장된 압축 본문을 그대로 전송한다.
+ */
+@Slf4j
+@Component
+public class PublicResponseCacheFilter extends OncePerRequestFilter {
+
+    private final ResponseCacheService responseCacheService;
+    private final boolean enabled;
+
+    public PublicResponseCacheFilter(ResponseCacheService responseCacheService,
+                                     @Value("${response-cache.enabled:true}") boolean enabled) {
+        this.responseCacheService = responseCacheService;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !"GET".equals(request.getMethod())
+                || request.getHeader(HttpHeaders.AUTHORIZATION) != null
+                || ConditionalGetFilter.resolveDependencies(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        PortfolioEntityType[] dependencies = ConditionalGetFilter.resolveDependencies(request.getRequestURI());
+        String cacheKey = request.getQueryString() == null
+                ? request.getRequestURI()
+                : request.getRequestURI() + "?" + request.getQueryString();
+
+        Lookup lookup = responseCacheService.get(cacheKey, dependencies);
+        if (lookup.hit()) {
+            writeCached(request, response, lookup.response());
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        responseWrapper.setHeader("X-Cache", "MISS");
+        filterChain.doFilter(request, responseWrapper);
+
+        String contentType = responseWrapper.getContentType();
+        if (responseWrapper.getStatus() == HttpServletResponse.SC_OK
+                && contentType != null && contentType.contains("json")) {
+            responseCacheService.put(cacheKey, lookup, contentType,
+                    responseWrapper.getContentAsByteArray(), dependencies);
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private void writeCached(HttpServletRequest request, HttpServletResponse response,
+                             CachedResponse cached) throws IOException {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean acceptsGzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        byte[] body = acceptsGzip ? cached.gzipBody() : cached.decompressedBody();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader("X-Cache", "HIT");
+        if (acceptsGzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+
+        log.debug("[RESPONSE_CACHE] Hit: {} - Gzip: {}", request.getRequestURI(), acceptsGzip);
+    }
+}
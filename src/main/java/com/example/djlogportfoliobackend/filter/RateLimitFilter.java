@@ -1,42 +1,76 @@
 package com.example.djlogportfoliobackend.filter;
 
+import com.example.djlogportfoliobackend.ratelimit.RateLimitCounter;
+import com.example.djlogportfoliobackend.ratelimit.RateLimitDecision;
+import com.example.djlogportfoliobackend.ratelimit.RateLimitKeyStrategy;
+import com.example.djlogportfoliobackend.ratelimit.RateLimitKeys;
+import com.example.djlogportfoliobackend.ratelimit.RateLimitPolicy;
+import com.example.djlogportfoliobackend.ratelimit.RateLimitPolicyMatcher;
+import com.example.djlogportfoliobackend.ratelimit.RateLimiterEngine;
+import com.example.djlogportfoliobackend.ratelimit.RouteTemplateMatcher;
+import com.example.djlogportfoliobackend.ratelimit.SketchRateLimiter;
+import com.example.djlogportfoliobackend.util.JwtPrincipal;
+import com.example.djlogportfoliobackend.util.JwtUtil;
 import com.example.djlogportfoliobackend.util.NetworkUtil;
-import com.github.benmanes.caffeine.cache.Cache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 요청 빈도 제한 필터 (Rate Limiting)
- * IP+URI 조합별로 분당 요청 수를 제한하여 API 남용을 방지합니다.
- * Caffeine 캐시와 AtomicInteger를 사용하여 thread-safe하게 카운터를 관리합니다.
+ * IP+라우트 조합별로 분당 요청 수를 제한하여 API 남용을 방지합니다.
+ * 제한 판정은 {@link RateLimiterEngine}(토큰 버킷 또는 슬라이딩 윈도우 카운터)에 위임합니다.
+ * security.rate-limit.policies에 선언된 라우트별 정책이 있으면 해당 정책의 엔진과 키 전략을 사용하고,
+ * 없으면 기본 제한(security.rate-limit.requests-per-minute, strategy)을 적용합니다.
  *
  * 개선 사항:
- * - IP+URI 기준으로 세밀한 제어
- * - AtomicInteger를 통한 thread-safe한 카운트 연산
+ * - IP+라우트 템플릿 기준으로 세밀한 제어 (경로 변수별로 키가 늘어나지 않음)
+ * - IP를 128비트 정수로, 라우트를 템플릿 ID로 변환해 키를 만들므로 요청당 키 문자열을 만들지 않음
+ * - 키별 상태를 long 하나로 관리하는 lock-free 엔진 (요청당 박싱/엔트리 할당 없음)
+ * - 고정 윈도우 경계에서 제한의 2배가 통과하던 문제 제거
  * - TraceId 자동 생성으로 요청 추적 가능
  * - 더 상세한 로깅 정보 제공
+ * - RateLimit-Limit / RateLimit-Remaining / RateLimit-Reset 응답 헤더와 거부 시 Retry-After로 클라이언트 백오프 유도
+ * - 정책별(기본/글로벌 포함) 허용/거부 수 집계 (관리자 지표 조회용)
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RateLimitFilter extends OncePerRequestFilter {
 
-    private final Cache<String, AtomicInteger> rateLimitCache;
+    private static final long GLOBAL_KEY = RateLimitKeys.hash("rate_limit:global:all");
+    private static final long IP_ROUTE_KEY = RateLimitKeys.hash("rate_limit:ip");
+    private static final long SUBJECT_KEY = RateLimitKeys.hash("rate_limit:subject");
 
-    @Value("${security.rate-limit.requests-per-minute:100}")
-    private int maxRequestsPerMinute;
+    private static final String HEADER_LIMIT = "RateLimit-Limit";
+    private static final String HEADER_REMAINING = "RateLimit-Remaining";
+    private static final String HEADER_RESET = "RateLimit-Reset";
+    private static final String HEADER_RETRY_AFTER = "Retry-After";
+
+    /** 요청 스레드별 IP 변환 버퍼 (요청마다 배열을 할당하지 않도록 재사용) */
+    private static final ThreadLocal<long[]> IP_BUFFER = ThreadLocal.withInitial(() -> new long[2]);
+
+    private final RateLimiterEngine rateLimiterEngine;
+    private final RateLimiterEngine globalRateLimiterEngine;
+    private final RouteTemplateMatcher routeTemplateMatcher;
+    private final RateLimitPolicyMatcher policyMatcher;
+    private final JwtUtil jwtUtil;
+
+    /** sketch 엔진 사용 시 상위 요청 키에 IP/라우트 이름을 붙이기 위한 참조 (그 외에는 null) */
+    private final SketchRateLimiter heavyHitterTracker;
+
+    /** 정책이 없는 요청(기본 제한)과 글로벌 제한의 허용/거부 수 */
+    private final RateLimitCounter defaultCounter = new RateLimitCounter();
+    private final RateLimitCounter globalCounter = new RateLimitCounter();
 
     @Value("${security.rate-limit.strategy:ip_uri}")
     private String rateLimitStrategy;
@@ -44,12 +78,25 @@ public class RateLimitFilter extends OncePerRequestFilter {
     @Value("${security.rate-limit.enable-global-limit:false}")
     private boolean enableGlobalLimit;
 
-    @Value("${security.rate-limit.global-requests-per-minute:1000}")
-    private int maxGlobalRequestsPerMinute;
+    @Value("${security.rate-limit.headers-enabled:true}")
+    private boolean headersEnabled;
+
+    public RateLimitFilter(@Qualifier("rateLimiterEngine") RateLimiterEngine rateLimiterEngine,
+                           @Qualifier("globalRateLimiterEngine") RateLimiterEngine globalRateLimiterEngine,
+                           RouteTemplateMatcher routeTemplateMatcher,
+                           RateLimitPolicyMatcher policyMatcher,
+                           JwtUtil jwtUtil) {
+        this.rateLimiterEngine = rateLimiterEngine;
+        this.globalRateLimiterEngine = globalRateLimiterEngine;
+        this.routeTemplateMatcher = routeTemplateMatcher;
+        this.policyMatcher = policyMatcher;
+        this.jwtUtil = jwtUtil;
+        this.heavyHitterTracker = SketchRateLimiter.unwrap(rateLimiterEngine);
+    }
 
     /**
      * 요청 빈도 제한 처리
-     * 설정된 전략(IP, IP+URI, 글로벌)에 따라 요청 수를 검증하고 한계를 초과하면 429 에러를 반환합니다.
+     * 요청에 해당하는 정책(없으면 기본 설정)의 전략(IP, IP+URI, JWT subject, 글로벌)에 따라 요청 수를 검증하고 한계를 초과하면 429 에러를 반환합니다.
      *
      * @param request HTTP 요청
      * @param response HTTP 응답
@@ -68,39 +115,55 @@ public class RateLimitFilter extends OncePerRequestFilter {
             MDC.put("traceId", traceId);
         }
 
-        String clientIp = NetworkUtil.getClientIpAddress(request);
         String requestUri = request.getRequestURI();
         String method = request.getMethod();
-        String requestInfo = String.format("%s %s", method, requestUri);
 
-        // Rate limit 키 생성 전략
-        String rateLimitKey = generateRateLimitKey(clientIp, requestUri, rateLimitStrategy);
+        // 라우트별 정책 조회 (없으면 기본 엔진과 전략)
+        RateLimitPolicy policy = policyMatcher.match(method, requestUri);
+        RateLimiterEngine engine = policy != null ? policy.getEngine() : rateLimiterEngine;
+        RateLimitKeyStrategy strategy = policy != null
+                ? policy.getKeyStrategy() : RateLimitKeyStrategy.from(rateLimitStrategy);
+        long keyBase = policy != null ? policy.getKeyBase() : 0L;
 
-        log.debug("[RATE_LIMIT] Processing request: {} from IP: {} - TraceId: {} - Key: {}",
-                requestInfo, clientIp, traceId, rateLimitKey);
+        // Rate limit 키 생성: 클라이언트 IP(128비트)와 라우트 템플릿 ID를 정수 연산으로 결합
+        long[] ip = IP_BUFFER.get();
+        NetworkUtil.parseClientIp(request, ip);
+        long rateLimitKey = generateRateLimitKey(strategy, keyBase, ip[0], ip[1], request, requestUri);
 
-        // Atomic한 카운트 증가 및 체크
-        AtomicInteger counter = rateLimitCache.get(rateLimitKey, k -> new AtomicInteger(0));
-        int currentCount = counter.incrementAndGet();
+        long decision = engine.tryAcquire(rateLimitKey, System.nanoTime());
+        (policy != null ? policy.getCounter() : defaultCounter).record(decision);
 
-        log.debug("[RATE_LIMIT] Updated count for key {}: {} (max: {}) - TraceId: {}",
-                rateLimitKey, currentCount, maxRequestsPerMinute, traceId);
+        if (log.isDebugEnabled()) {
+            log.debug("[RATE_LIMIT] Decision for {} {}: remaining {} (max: {}) - Policy: {} - TraceId: {} - Key: {}",
+                    method, requestUri, RateLimitDecision.remaining(decision), engine.getLimit(),
+                    policy != null ? policy.getName() : "default", traceId, Long.toHexString(rateLimitKey));
+        }
 
-        if (currentCount > maxRequestsPerMinute) {
-            log.warn("[RATE_LIMIT] Rate limit exceeded - TraceId: {} - IP: {} - Count: {} - Request: {} - Strategy: {} - Key: {}",
-                    traceId, clientIp, currentCount, requestInfo, rateLimitStrategy, rateLimitKey);
+        if (!RateLimitDecision.isAllowed(decision)) {
+            String clientIp = NetworkUtil.getClientIpAddress(request);
+            String route = describeRoute(requestUri);
+            String policyName = policy != null ? policy.getName() : "default";
+            log.warn("[RATE_LIMIT] Rate limit exceeded - TraceId: {} - IP: {} - Retry after: {}ms - Request: {} {} - Policy: {} - Strategy: {} - Route: {}",
+                    traceId, clientIp, RateLimitDecision.retryAfterMillis(decision),
+                    method, requestUri, policyName, strategy, route);
+            if (heavyHitterTracker != null && engine == rateLimiterEngine) {
+                heavyHitterTracker.describe(rateLimitKey, clientIp + " " + route);
+            }
 
             response.setStatus(429);
+            writeRejectionHeaders(response, engine, decision);
             response.setContentType("application/json");
             response.getWriter().write(String.format(
-                "{\"error\":\"Rate limit exceeded\",\"message\":\"Too many requests. Please try again later.\",\"traceId\":\"%s\",\"strategy\":\"%s\"}",
-                traceId, rateLimitStrategy));
+                "{\"error\":\"Rate limit exceeded\",\"message\":\"Too many requests. Please try again later.\",\"traceId\":\"%s\",\"policy\":\"%s\",\"strategy\":\"%s\"}",
+                traceId, policyName, strategy.name().toLowerCase()));
             return;
         }
 
         // 글로벌 제한도 체크 (설정된 경우)
-        if (enableGlobalLimit && !checkGlobalLimit(traceId)) {
+        long globalDecision = enableGlobalLimit ? checkGlobalLimit(traceId) : RateLimitDecision.allow(0L);
+        if (!RateLimitDecision.isAllowed(globalDecision)) {
             response.setStatus(429);
+            writeRejectionHeaders(response, globalRateLimiterEngine, globalDecision);
             response.setContentType("application/json");
             response.getWriter().write(String.format(
                 "{\"error\":\"Global rate limit exceeded\",\"message\":\"Server overloaded. Please try again later.\",\"traceId\":\"%s\"}",
@@ -108,48 +171,112 @@ public class RateLimitFilter extends OncePerRequestFilter {
             return;
         }
 
-        log.debug("[RATE_LIMIT] Allowing request: {} from IP: {} - TraceId: {}", requestInfo, clientIp, traceId);
+        if (headersEnabled) {
+            long remaining = RateLimitDecision.remaining(decision);
+            response.setHeader(HEADER_LIMIT, String.valueOf(engine.getLimit()));
+            response.setHeader(HEADER_REMAINING, String.valueOf(remaining));
+            response.setHeader(HEADER_RESET, String.valueOf((engine.getResetMillis(remaining) + 999L) / 1000L));
+        }
         filterChain.doFilter(request, response);
-        log.debug("[RATE_LIMIT] Completed request: {} from IP: {} - TraceId: {}", requestInfo, clientIp, traceId);
+    }
+
+    /**
+     * 거부 응답 헤더 설정
+     * Retry-After는 항상 보내며, RateLimit-* 헤더는 설정에 따라 함께 보냅니다.
+     */
+    private void writeRejectionHeaders(HttpServletResponse response, RateLimiterEngine engine, long decision) {
+        String retryAfter = String.valueOf(RateLimitDecision.retryAfterSeconds(decision));
+        response.setHeader(HEADER_RETRY_AFTER, retryAfter);
+        if (headersEnabled) {
+            response.setHeader(HEADER_LIMIT, String.valueOf(engine.getLimit()));
+            response.setHeader(HEADER_REMAINING, "0");
+            response.setHeader(HEADER_RESET, retryAfter);
+        }
     }
 
     /**
      * Rate limit 키 생성 전략
+     * ip_uri 전략은 요청 경로 대신 라우트 템플릿을 사용하므로 /api/projects/{id}의 모든 ID가 하나의 키를 공유합니다.
+     * subject 전략은 유효한 JWT가 있으면 subject 기준으로, 없으면 IP 기준으로 제한합니다.
      *
-     * @param clientIp 클라이언트 IP
+     * @param strategy 키 전략
+     * @param keyBase 정책 식별 값 (기본 설정이면 0)
+     * @param ipHigh 클라이언트 IP 상위 64비트
+     * @param ipLow 클라이언트 IP 하위 64비트
+     * @param request HTTP 요청
      * @param requestUri 요청 URI
-     * @param strategy 키 생성 전략 (ip, ip_uri, global)
      * @return 생성된 키
      */
-    private String generateRateLimitKey(String clientIp, String requestUri, String strategy) {
-        return switch (strategy.toLowerCase()) {
-            case "ip" -> "rate_limit:ip:" + clientIp;
-            case "ip_uri" -> "rate_limit:ip_uri:" + clientIp + ":" + requestUri;
-            case "global" -> "rate_limit:global:all";
-            default -> "rate_limit:ip_uri:" + clientIp + ":" + requestUri; // 기본값
+    private long generateRateLimitKey(RateLimitKeyStrategy strategy, long keyBase, long ipHigh, long ipLow,
+                                      HttpServletRequest request, String requestUri) {
+        return switch (strategy) {
+            case GLOBAL -> keyBase ^ GLOBAL_KEY;
+            case IP -> RateLimitKeys.compose(keyBase ^ IP_ROUTE_KEY, ipHigh, ipLow);
+            case SUBJECT -> {
+                String subject = resolveSubject(request);
+                yield subject != null
+                        ? RateLimitKeys.compose(keyBase ^ SUBJECT_KEY, RateLimitKeys.hash(subject), 0L)
+                        : RateLimitKeys.compose(keyBase ^ IP_ROUTE_KEY, ipHigh, ipLow);
+            }
+            case IP_URI -> RateLimitKeys.compose(keyBase ^ routeTemplateMatcher.routeKey(requestUri), ipHigh, ipLow);
         };
     }
 
+    /**
+     * Authorization 헤더의 JWT에서 서명이 검증된 subject 추출
+     * 인증 필터보다 먼저 실행되므로 SecurityContext 대신 토큰을 직접 확인합니다.
+     * 검증 결과는 요청 속성에 저장되어 인증 필터가 다시 파싱하지 않습니다.
+     *
+     * @param request HTTP 요청
+     * @return subject, 토큰이 없거나 유효하지 않으면 null
+     */
+    private String resolveSubject(HttpServletRequest request) {
+        try {
+            JwtPrincipal principal = jwtUtil.resolvePrincipal(request);
+            return principal != null ? principal.subject() : null;
+        } catch (Exception e) {
+            log.debug("[RATE_LIMIT] Ignoring invalid bearer token for subject key: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 로그용 라우트 템플릿 표시 (거부 시에만 호출)
+     */
+    private String describeRoute(String requestUri) {
+        String template = routeTemplateMatcher.template(routeTemplateMatcher.match(requestUri));
+        return template != null ? template : "(unmatched)";
+    }
+
     /**
      * 글로벌 요청 제한 체크
      *
      * @param traceId 추적 ID
-     * @return 제한 통과 여부
+     * @return {@link RateLimitDecision}으로 인코딩된 판정 결과
      */
-    private boolean checkGlobalLimit(String traceId) {
-        String globalKey = "rate_limit:global:all";
-        AtomicInteger globalCounter = rateLimitCache.get(globalKey, k -> new AtomicInteger(0));
-        int globalCount = globalCounter.incrementAndGet();
-
-        if (globalCount > maxGlobalRequestsPerMinute) {
-            log.warn("[RATE_LIMIT] Global rate limit exceeded - TraceId: {} - Global count: {} (max: {})",
-                    traceId, globalCount, maxGlobalRequestsPerMinute);
-            return false;
+    private long checkGlobalLimit(String traceId) {
+        long decision = globalRateLimiterEngine.tryAcquire(GLOBAL_KEY, System.nanoTime());
+        globalCounter.record(decision);
+
+        if (!RateLimitDecision.isAllowed(decision)) {
+            log.warn("[RATE_LIMIT] Global rate limit exceeded - TraceId: {} - Retry after: {}ms (max: {})",
+                    traceId, RateLimitDecision.retryAfterMillis(decision), globalRateLimiterEngine.getLimit());
+            return decision;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("[RATE_LIMIT] Global remaining: {} (max: {}) - TraceId: {}",
+                    RateLimitDecision.remaining(decision), globalRateLimiterEngine.getLimit(), traceId);
         }
+        return decision;
+    }
+
+    public RateLimitCounter getDefaultCounter() {
+        return defaultCounter;
+    }
 
-        log.debug("[RATE_LIMIT] Global count: {} (max: {}) - TraceId: {}",
-                globalCount, maxGlobalRequestsPerMinute, traceId);
-        return true;
+    public RateLimitCounter getGlobalCounter() {
+        return globalCounter;
     }
 
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.djlogportfoliobackend.filter;
 
+import com.example.djlogportfoliobackend.util.NetworkUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -79,7 +80,7 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
         String method = request.getMethod();
         String uri = request.getRequestURI();
         String queryString = request.getQueryString();
-        String clientIp = getClientIP(request);
+        String clientIp = NetworkUtil.getClientIpAddress(request);
 
         log.info("[REQ] {} {} {} | IP: {} | RequestId: {}",
                 method, uri, queryString != null ? "?" + queryString : "", clientIp, requestId);
@@ -155,27 +156,6 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
         return false; // 보안상 응답 바디는 기본적으로 로그하지 않음
     }
 
-    /**
-     * 클라이언트 IP 주소 추출
-     * 프록시나 로드밸런서 환경에서의 실제 IP 주소를 가져옵니다.
-     *
-     * @param request HTTP 요청
-     * @return 클라이언트 IP 주소
-     */
-    private String getClientIP(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-
-        String xRealIP = request.getHeader("X-Real-IP");
-        if (xRealIP != null && !xRealIP.isEmpty()) {
-            return xRealIP;
-        }
-
-        return request.getRemoteAddr();
-    }
-
     /**
      * 필터 제외 경로 판단
      * 특정 경로(정적 리소스, 관리 콘솔 등)에 대해서는 필터를 적용하지 않습니다.
@@ -188,6 +168,7 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
         String path = request.getRequestURI();
         return path.startsWith("/h2-console") ||
                path.startsWith("/actuator") ||
+               path.startsWith("/api/events") || // SSE 스트림은 응답 바디를 캐시하면 전송이 지연됨
                path.endsWith(".css") ||
                path.endsWith(".js") ||
                path.endsWith(".png") ||
@@ -0,0 +1,204 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 기반 적응형 동시 처리 제한기
+ *
+ * 분당 요청 수 제한은 DB가 느려져 요청당 처리 시간이 늘어나는 상황을 막지 못한다.
+ * 이 제한기는 동시에 처리 중인 요청 수(in-flight)의 상한을 측정된 응답 시간에 따라 조정한다.
+ *
+ * 조정 방식 (gradient):
+ * - 측정 구간(기본 100ms)마다 평균 응답 시간(short RTT)을 구하고, 장기 기준 응답 시간(long RTT)은 지수 이동 평균으로 유지
+ * - long RTT의 시간 상수는 분 단위(기본 10분)이므로 수 초~수 분 이어지는 지연 증가를 정상으로 받아들이지 않음
+ * - 기준이 short RTT의 2배를 넘으면(기동 직후 느린 구간이 기준이 된 경우 등) 기준만 빠르게 낮춤
+ * - gradient = clamp(tolerance × longRtt / shortRtt, 0.5, 1.0): 응답 시간이 기준의 tolerance배를 넘으면 상한을 줄임
+ * - 새 상한 = 상한 × gradient + √상한 (응답 시간이 정상이면 조금씩 증가), smoothing으로 급격한 변화 완화
+ * - 서버 오류(5xx)가 있던 구간은 상한을 10% 감소 (AIMD의 multiplicative decrease)
+ * - 실제 동시 요청이 상한의 절반도 안 되면 상한을 늘리지 않음 (부하 없이 상한만 커지는 것 방지)
+ *
+ * 우선순위:
+ * - 중요 요청(관리자 쓰기 등)은 상한 전체를 사용
+ * - 공개 조회는 상한의 일부(publicShare)까지만 사용하므로, 과부하 시 공개 조회가 먼저 거부됨
+ *
+ * 요청 경로에서는 CAS와 LongAdder만 사용하며, 상한 재계산은 구간이 끝난 뒤 처음 완료된 요청 하나가 수행한다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double BASELINE_DRAIN_RATIO = 2.0;
+    private static final double BASELINE_DRAIN = 0.95;
+    private static final double ERROR_BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final double publicShare;
+    private final long sampleWindowNanos;
+    private final double longRttDecay;
+
+    private volatile double limit;
+    private volatile double longRttNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong nextUpdateNanos;
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private final LongAdder windowRttSum = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final LongAdder windowErrors = new LongAdder();
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejectedPublic = new LongAdder();
+    private final LongAdder rejectedCritical = new LongAdder();
+
+    /**
+     * @param initialLimit 초기 동시 처리 상한
+     * @param minLimit 최소 상한
+     * @param maxLimit 최대 상한
+     * @param tolerance 기준 응답 시간 대비 허용 배수 (예: 2.0이면 두 배까지 정상으로 간주)
+     * @param smoothing 상한 변경 반영 비율 (0~1)
+     * @param publicShare 공개 조회가 사용할 수 있는 상한 비율 (0~1)
+     * @param sampleWindowMillis 상한 재계산 주기
+     * @param baselineWindowMillis 기준 응답 시간 지수 이동 평균의 시간 상수
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance,
+                                      double smoothing, double publicShare, long sampleWindowMillis,
+                                      long baselineWindowMillis) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        this.tolerance = Math.max(1.0, tolerance);
+        this.smoothing = Math.min(1.0, Math.max(0.01, smoothing));
+        this.publicShare = Math.min(1.0, Math.max(0.1, publicShare));
+        this.sampleWindowNanos = Math.max(1L, sampleWindowMillis) * 1_000_000L;
+        // 측정 구간마다 반영할 비율: 시간 상수 동안 약 63%가 새 값으로 바뀜
+        this.longRttDecay = Math.min(1.0, (double) Math.max(1L, sampleWindowMillis) / Math.max(1L, baselineWindowMillis));
+        this.nextUpdateNanos = new AtomicLong(System.nanoTime() + sampleWindowNanos);
+    }
+
+    /**
+     * 동시 처리 허가 획득
+     *
+     * @param critical 중요 요청이면 true (상한 전체 사용), 공개 조회면 false
+     * @return 허가되면 true, 상한을 넘으면 false (이 경우 {@link #release}를 호출하지 않음)
+     */
+    public boolean tryAcquire(boolean critical) {
+        int threshold = critical ? (int) limit : Math.max(1, (int) (limit * publicShare));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= threshold) {
+                if (critical) {
+                    rejectedCritical.increment();
+                } else {
+                    rejectedPublic.increment();
+                }
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                int max = windowMaxInFlight.get();
+                while (current + 1 > max && !windowMaxInFlight.compareAndSet(max, current + 1)) {
+                    max = windowMaxInFlight.get();
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 동시 처리 허가 반환 및 응답 시간 기록
+     *
+     * @param startNanos 허가 획득 시각 ({@link System#nanoTime()})
+     * @param nowNanos 완료 시각
+     * @param error 서버 오류(5xx)로 끝났으면 true
+     */
+    public void release(long startNanos, long nowNanos, boolean error) {
+        inFlight.decrementAndGet();
+        windowRttSum.add(Math.max(0L, nowNanos - startNanos));
+        windowSamples.increment();
+        if (error) {
+            windowErrors.increment();
+        }
+
+        long next = nextUpdateNanos.get();
+        if (nowNanos - next >= 0 && nextUpdateNanos.compareAndSet(next, nowNanos + sampleWindowNanos)) {
+            updateLimit();
+        }
+    }
+
+    /**
+     * 측정 구간 통계로 상한 재계산 (한 번에 한 스레드만 실행)
+     */
+    private void updateLimit() {
+        long samples = windowSamples.sumThenReset();
+        long rttSum = windowRttSum.sumThenReset();
+        long errors = windowErrors.sumThenReset();
+        int maxInFlight = windowMaxInFlight.getAndSet(inFlight.get());
+        if (samples == 0) {
+            return;
+        }
+
+        double shortRtt = Math.max((double) rttSum / samples, 1.0);
+        double longRtt = longRttNanos;
+        if (longRtt == 0.0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt = longRtt * (1 - longRttDecay) + shortRtt * longRttDecay;
+            // 기준이 현재보다 크게 느리면 기준만 빠르게 낮춤 (느린 기준이 고착되지 않도록, 느려지는 쪽은 따라가지 않음)
+            if (longRtt > shortRtt * BASELINE_DRAIN_RATIO) {
+                longRtt *= BASELINE_DRAIN;
+            }
+        }
+        longRttNanos = longRtt;
+
+        double current = limit;
+        double newLimit;
+        if (errors > 0) {
+            newLimit = current * ERROR_BACKOFF;
+        } else {
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / shortRtt));
+            newLimit = current * gradient + Math.sqrt(current);
+            if (newLimit > current && maxInFlight < current / 2) {
+                newLimit = current;
+            }
+        }
+        newLimit = current * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.min(maxLimit, Math.max(minLimit, newLimit));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getPublicLimit() {
+        return Math.max(1, (int) (limit * publicShare));
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 장기 기준 응답 시간
+     *
+     * @return 밀리초 단위 기준 응답 시간
+     */
+    public double getBaselineRttMillis() {
+        return longRttNanos / 1_000_000.0;
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getRejectedPublic() {
+        return rejectedPublic.sum();
+    }
+
+    public long getRejectedCritical() {
+        return rejectedCritical.sum();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 클라이언트별 + 전체 대역폭 제한
+ *
+ * 두 개의 {@link ByteRateLimiter}를 묶어, 한 클라이언트가 자기 몫 이상을 쓰지 못하게 하면서
+ * 서버 전체의 전송량도 상한 이하로 유지한다. 두 버킷 모두에 예약하고 더 긴 대기 시간만큼 기다린다.
+ * 전체 버킷은 키가 하나뿐이므로 작은 상태 테이블을 사용한다.
+ */
+public class BandwidthThrottle {
+
+    private static final long GLOBAL_KEY = RateLimitKeys.hash("bandwidth:global");
+    private static final int GLOBAL_CAPACITY = 16;
+
+    private final ByteRateLimiter clientLimiter;
+    private final ByteRateLimiter globalLimiter;
+
+    /**
+     * @param clientBytesPerSecond 클라이언트별 초당 바이트 수
+     * @param globalBytesPerSecond 전체 초당 바이트 수
+     * @param burstSeconds 대기 없이 보낼 수 있는 양 (초 단위 전송량)
+     * @param capacity 클라이언트 상태 테이블 슬롯 수
+     */
+    public BandwidthThrottle(long clientBytesPerSecond, long globalBytesPerSecond, double burstSeconds, int capacity) {
+        double burst = Math.max(0.01, burstSeconds);
+        this.clientLimiter = new ByteRateLimiter(clientBytesPerSecond, (long) (clientBytesPerSecond * burst), capacity);
+        this.globalLimiter = new ByteRateLimiter(globalBytesPerSecond, (long) (globalBytesPerSecond * burst),
+                GLOBAL_CAPACITY);
+    }
+
+    /**
+     * 전송량 예약 (대기하지 않음)
+     *
+     * @param clientKey 클라이언트 키
+     * @param bytes 전송할 바이트 수
+     * @param nowNanos 현재 시각 ({@link System#nanoTime()})
+     * @param maxDelayNanos 허용할 최대 대기 시간
+     * @return 예약되었으면 대기해야 할 나노초 (0 이상), 대기 시간이 최대값을 넘으면 -(필요한 대기 나노초)
+     */
+    public long reserve(long clientKey, long bytes, long nowNanos, long maxDelayNanos) {
+        long clientDelay = clientLimiter.reserve(clientKey, bytes, nowNanos, maxDelayNanos);
+        if (clientDelay < 0) {
+            return clientDelay;
+        }
+        long globalDelay = globalLimiter.reserve(GLOBAL_KEY, bytes, nowNanos, maxDelayNanos);
+        if (globalDelay < 0) {
+            clientLimiter.cancel(clientKey, bytes, nowNanos);
+            return globalDelay;
+        }
+        return Math.max(clientDelay, globalDelay);
+    }
+
+    /**
+     * 전송량을 예약하고 필요한 시간만큼 현재 스레드를 대기
+     *
+     * @param clientKey 클라이언트 키
+     * @param bytes 전송할 바이트 수
+     * @throws InterruptedIOException 대기 중 인터럽트된 경우
+     */
+    public void acquire(long clientKey, long bytes) throws InterruptedIOException {
+        long delay = reserve(clientKey, bytes, System.nanoTime(), Long.MAX_VALUE);
+        if (delay > 0) {
+            pause(delay);
+        }
+    }
+
+    /**
+     * 지정한 시간 동안 대기 (park는 조기 반환될 수 있으므로 남은 시간만큼 반복)
+     *
+     * @param nanos 대기 시간
+     * @throws InterruptedIOException 대기 중 인터럽트된 경우
+     */
+    public static void pause(long nanos) throws InterruptedIOException {
+        long deadline = System.nanoTime() + nanos;
+        long remaining = nanos;
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Bandwidth throttle interrupted");
+            }
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    public long getClientBytesPerSecond() {
+        return clientLimiter.getBytesPerSecond();
+    }
+
+    public long getGlobalBytesPerSecond() {
+        return globalLimiter.getBytesPerSecond();
+    }
+
+    public int getTrackedClients() {
+        return clientLimiter.getTrackedKeys();
+    }
+}
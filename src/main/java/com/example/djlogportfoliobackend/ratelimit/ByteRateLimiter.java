@@ -0,0 +1,138 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+/**
+ * 바이트 단위 토큰 버킷 대역폭 제한 엔진 (GCRA)
+ *
+ * {@link TokenBucketRateLimiter}와 같은 TAT 상태를 사용하지만 비용이 요청 1건이 아니라 바이트 수이며,
+ * 거부 대신 "예약"을 기본 동작으로 한다. 예약하면 TAT를 바이트 수만큼 뒤로 미루고,
+ * 버킷 용량을 넘는 만큼의 대기 시간을 반환하여 호출자가 그만큼 늦게 전송하도록 한다.
+ * 여러 스레드가 동시에 예약해도 각자 자기 차례의 시각을 받으므로 전체 전송 속도가 설정 값으로 수렴한다.
+ */
+public class ByteRateLimiter extends StateTableRateLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long bytesPerSecond;
+    private final long burstNanos;
+
+    /**
+     * @param bytesPerSecond 초당 허용 바이트 수
+     * @param burstBytes 한 번에 대기 없이 보낼 수 있는 바이트 수
+     * @param capacity 상태 테이블 슬롯 수
+     */
+    public ByteRateLimiter(long bytesPerSecond, long burstBytes, int capacity) {
+        super(capacity);
+        this.bytesPerSecond = Math.max(1L, bytesPerSecond);
+        this.burstNanos = costNanos(Math.max(1L, burstBytes));
+    }
+
+    /**
+     * 바이트 전송 예약
+     *
+     * @param key 제한 대상 키
+     * @param bytes 전송할 바이트 수
+     * @param nowNanos 현재 시각 ({@link System#nanoTime()})
+     * @param maxDelayNanos 허용할 최대 대기 시간
+     * @return 예약되었으면 대기해야 할 나노초 (0 이상), 대기 시간이 최대값을 넘어 예약하지 않았으면 -(필요한 대기 나노초)
+     */
+    public long reserve(long key, long bytes, long nowNanos, long maxDelayNanos) {
+        long now = elapsed(nowNanos);
+        int slot = slotFor(key, now);
+        if (slot < 0) {
+            return 0L;
+        }
+
+        long cost = costNanos(bytes);
+        while (true) {
+            long tat = states.get(slot);
+            long newTat = Math.max(tat, now) + cost;
+            long delay = Math.max(0L, newTat - now - burstNanos);
+            if (delay > maxDelayNanos) {
+                return -delay;
+            }
+            if (states.compareAndSet(slot, tat, newTat)) {
+                return delay;
+            }
+        }
+    }
+
+    /**
+     * 예약 취소 (다른 버킷에서 거부되어 전송하지 않게 된 경우)
+     *
+     * @param key 제한 대상 키
+     * @param bytes 취소할 바이트 수
+     * @param nowNanos 현재 시각
+     */
+    public void cancel(long key, long bytes, long nowNanos) {
+        long now = elapsed(nowNanos);
+        int slot = slotFor(key, now);
+        if (slot < 0) {
+            return;
+        }
+
+        long cost = costNanos(bytes);
+        while (true) {
+            long tat = states.get(slot);
+            long restored = Math.max(now, tat - cost);
+            if (tat <= now || states.compareAndSet(slot, tat, restored)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public long tryAcquire(long key, long nowNanos) {
+        long delay = reserve(key, 1L, nowNanos, 0L);
+        return delay >= 0 ? RateLimitDecision.allow(0L) : RateLimitDecision.deny(-delay / 1_000_000L + 1L);
+    }
+
+    /**
+     * 바이트 수를 버킷 시간(나노초)으로 변환, 매우 큰 Content-Length에서도 넘치지 않도록 포화 처리
+     */
+    private long costNanos(long bytes) {
+        if (bytes <= 0) {
+            return 0L;
+        }
+        if (bytes > Long.MAX_VALUE / NANOS_PER_SECOND) {
+            return Long.MAX_VALUE / 4;
+        }
+        return bytes * NANOS_PER_SECOND / bytesPerSecond;
+    }
+
+    @Override
+    protected boolean isIdle(long state, long elapsedNanos) {
+        return state <= elapsedNanos;
+    }
+
+    @Override
+    protected double utilization(long state, long elapsedNanos) {
+        return (double) (state - elapsedNanos) / burstNanos;
+    }
+
+    /**
+     * 바이트 버킷은 요청 수 할당량이 없으므로 빈 버킷이 가득 찰 때까지의 시간(상한)을 반환한다.
+     */
+    @Override
+    public long getResetMillis(long remaining) {
+        return (burstNanos + 999_999L) / 1_000_000L;
+    }
+
+    /**
+     * 초당 허용 바이트 수 (int 범위로 제한)
+     *
+     * @return 초당 바이트 수
+     */
+    @Override
+    public int getLimit() {
+        return (int) Math.min(Integer.MAX_VALUE, bytesPerSecond);
+    }
+
+    public long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return "byte_rate";
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 정책별 허용/거부 누적 카운터
+ * 요청 경로에서는 {@link LongAdder} 증가만 수행하므로 스레드 간 경합이 거의 없다.
+ */
+public class RateLimitCounter {
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * 판정 결과 1건 집계
+     *
+     * @param decision {@link RateLimitDecision}으로 인코딩된 판정 결과
+     */
+    public void record(long decision) {
+        if (RateLimitDecision.isAllowed(decision)) {
+            allowed.increment();
+        } else {
+            rejected.increment();
+        }
+    }
+
+    public long getAllowed() {
+        return allowed.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+/**
+ * 빈도 제한 판정 결과 인코딩
+ *
+ * 판정 결과를 객체 대신 long 하나로 표현한다.
+ * - 0 이상: 허용, 값은 남은 요청 수
+ * - 음수: 거부, {@code -(재시도 대기 밀리초 + 1)}
+ */
+public final class RateLimitDecision {
+
+    private RateLimitDecision() {
+    }
+
+    /**
+     * 허용 판정 생성
+     *
+     * @param remaining 남은 요청 수
+     * @return 인코딩된 판정
+     */
+    public static long allow(long remaining) {
+        return Math.max(0L, remaining);
+    }
+
+    /**
+     * 거부 판정 생성
+     *
+     * @param retryAfterMillis 재시도까지 대기 시간 (밀리초)
+     * @return 인코딩된 판정
+     */
+    public static long deny(long retryAfterMillis) {
+        return -(Math.max(0L, retryAfterMillis) + 1L);
+    }
+
+    public static boolean isAllowed(long decision) {
+        return decision >= 0L;
+    }
+
+    public static long remaining(long decision) {
+        return decision >= 0L ? decision : 0L;
+    }
+
+    public static long retryAfterMillis(long decision) {
+        return decision >= 0L ? 0L : -decision - 1L;
+    }
+
+    /**
+     * Retry-After 헤더용 초 단위 대기 시간 (올림, 최소 1초)
+     *
+     * @param decision 인코딩된 판정
+     * @return 재시도까지 대기 시간 (초)
+     */
+    public static long retryAfterSeconds(long decision) {
+        return Math.max(1L, (retryAfterMillis(decision) + 999L) / 1000L);
+    }
+}
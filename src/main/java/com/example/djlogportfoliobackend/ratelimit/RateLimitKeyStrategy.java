@@ -0,0 +1,36 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+/**
+ * 빈도 제한 키 전략
+ */
+public enum RateLimitKeyStrategy {
+
+    /** 클라이언트 IP */
+    IP,
+
+    /** 클라이언트 IP + 라우트 템플릿 */
+    IP_URI,
+
+    /** 인증된 요청은 JWT subject, 비인증 요청은 클라이언트 IP */
+    SUBJECT,
+
+    /** 모든 요청이 하나의 키를 공유 */
+    GLOBAL;
+
+    /**
+     * 설정 값으로 전략 조회 (대소문자 무시, 문자열을 새로 만들지 않음)
+     *
+     * @param value 설정 값 (ip, ip_uri, subject, global)
+     * @return 키 전략, 알 수 없는 값이면 IP_URI
+     */
+    public static RateLimitKeyStrategy from(String value) {
+        if (value != null) {
+            for (RateLimitKeyStrategy strategy : values()) {
+                if (strategy.name().equalsIgnoreCase(value)) {
+                    return strategy;
+                }
+            }
+        }
+        return IP_URI;
+    }
+}
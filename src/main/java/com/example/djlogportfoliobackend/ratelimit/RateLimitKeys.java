@@ -0,0 +1,45 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+/**
+ * 빈도 제한 키 해시 유틸리티
+ * 제한 대상 식별자를 상태 테이블용 64비트 키로 변환한다.
+ */
+public final class RateLimitKeys {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private RateLimitKeys() {
+    }
+
+    /**
+     * 문자열 키의 64비트 해시 (FNV-1a + 혼합)
+     * 문자를 직접 순회하므로 바이트 배열 등 중간 객체를 만들지 않는다.
+     *
+     * @param value 키 문자열
+     * @return 64비트 해시
+     */
+    public static long hash(CharSequence value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return StateTableRateLimiter.mix(hash);
+    }
+
+    /**
+     * route key와 128비트 클라이언트 IP를 하나의 64비트 키로 결합
+     * 문자열 연결 없이 정수 연산만 사용하므로 요청마다 키 문자열을 만들지 않는다.
+     *
+     * @param routeKey 라우트 식별 값 (템플릿 ID 등)
+     * @param ipHigh IP 상위 64비트
+     * @param ipLow IP 하위 64비트
+     * @return 64비트 키
+     */
+    public static long compose(long routeKey, long ipHigh, long ipLow) {
+        long hash = StateTableRateLimiter.mix(routeKey ^ FNV_OFFSET_BASIS);
+        hash = StateTableRateLimiter.mix(hash ^ ipHigh);
+        return StateTableRateLimiter.mix(hash ^ ipLow);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import lombok.Getter;
+
+/**
+ * 컴파일된 라우트별 빈도 제한 정책
+ * 정책마다 독립된 제한 엔진을 가지며, 키에는 정책 식별 값이 섞여 다른 정책과 카운터를 공유하지 않는다.
+ */
+@Getter
+public class RateLimitPolicy {
+
+    private final String name;
+    private final String pattern;
+    private final RateLimitKeyStrategy keyStrategy;
+    private final RateLimiterEngine engine;
+
+    /** 키 결합에 사용하는 정책 식별 값 */
+    private final long keyBase;
+
+    /** 정책별 허용/거부 수 */
+    private final RateLimitCounter counter = new RateLimitCounter();
+
+    public RateLimitPolicy(String name, String pattern, RateLimitKeyStrategy keyStrategy, RateLimiterEngine engine) {
+        this.name = name;
+        this.pattern = pattern;
+        this.keyStrategy = keyStrategy;
+        this.engine = engine;
+        this.keyBase = RateLimitKeys.hash("rate_limit:policy:" + name);
+    }
+}
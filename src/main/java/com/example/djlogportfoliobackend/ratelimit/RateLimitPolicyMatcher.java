@@ -0,0 +1,121 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 라우트별 빈도 제한 정책 매처
+ *
+ * 정책의 경로 패턴을 HTTP 메서드별 {@link RouteTemplateMatcher} trie로 컴파일한다.
+ * 요청마다 메서드 문자열 비교 몇 번과 trie 탐색 한 번으로 정책을 찾으며 객체를 할당하지 않는다.
+ *
+ * 우선순위:
+ * - 메서드를 지정한 정책이 메서드를 지정하지 않은 정책보다 우선
+ * - 같은 trie 안에서는 리터럴 세그먼트가 많은 패턴이 우선 ({@link RouteTemplateMatcher} 규칙)
+ * - 메서드와 패턴이 모두 같은 정책은 먼저 선언된 것만 사용
+ */
+public class RateLimitPolicyMatcher {
+
+    static final String[] METHODS = {"GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"};
+
+    private static final RateLimitPolicyMatcher EMPTY = new RateLimitPolicyMatcher(Collections.emptyList());
+
+    /** METHODS 순서의 메서드별 trie, 마지막 칸은 모든 메서드 */
+    private final RouteTemplateMatcher[] matchers = new RouteTemplateMatcher[METHODS.length + 1];
+    private final RateLimitPolicy[][] policies = new RateLimitPolicy[METHODS.length + 1][];
+    private final List<RateLimitPolicy> allPolicies;
+
+    /**
+     * @param entries 정책과 적용 메서드 목록 (메서드가 비어 있으면 모든 메서드)
+     */
+    public RateLimitPolicyMatcher(List<Entry> entries) {
+        List<RateLimitPolicy> compiled = new ArrayList<>();
+        for (int index = 0; index <= METHODS.length; index++) {
+            Map<String, RateLimitPolicy> byPattern = new LinkedHashMap<>();
+            for (Entry entry : entries) {
+                boolean applies = index == METHODS.length
+                        ? entry.methods().isEmpty()
+                        : entry.methods().contains(METHODS[index]);
+                if (applies) {
+                    byPattern.putIfAbsent(entry.policy().getPattern(), entry.policy());
+                }
+            }
+            RouteTemplateMatcher matcher = new RouteTemplateMatcher();
+            matcher.compile(byPattern.keySet());
+            matchers[index] = matcher;
+            policies[index] = byPattern.values().toArray(new RateLimitPolicy[0]);
+        }
+        for (Entry entry : entries) {
+            if (!compiled.contains(entry.policy())) {
+                compiled.add(entry.policy());
+            }
+        }
+        this.allPolicies = List.copyOf(compiled);
+    }
+
+    /**
+     * 정책이 없는 매처
+     *
+     * @return 항상 null을 반환하는 매처
+     */
+    public static RateLimitPolicyMatcher empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 요청에 적용할 정책 조회
+     *
+     * @param method HTTP 메서드
+     * @param path 요청 경로
+     * @return 정책, 해당하는 정책이 없으면 null
+     */
+    public RateLimitPolicy match(String method, String path) {
+        int methodIndex = methodIndex(method);
+        if (methodIndex >= 0) {
+            RateLimitPolicy policy = match(methodIndex, path);
+            if (policy != null) {
+                return policy;
+            }
+        }
+        return match(METHODS.length, path);
+    }
+
+    /**
+     * 컴파일된 모든 정책
+     *
+     * @return 선언 순서의 정책 목록
+     */
+    public List<RateLimitPolicy> getPolicies() {
+        return allPolicies;
+    }
+
+    private RateLimitPolicy match(int index, String path) {
+        RateLimitPolicy[] candidates = policies[index];
+        if (candidates.length == 0) {
+            return null;
+        }
+        int id = matchers[index].match(path);
+        return id == RouteTemplateMatcher.NO_MATCH ? null : candidates[id];
+    }
+
+    private static int methodIndex(String method) {
+        for (int i = 0; i < METHODS.length; i++) {
+            if (METHODS[i].equals(method)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 정책과 적용 메서드
+     *
+     * @param policy 컴파일된 정책
+     * @param methods 대문자 HTTP 메서드 목록 (비어 있으면 모든 메서드)
+     */
+    public record Entry(RateLimitPolicy policy, List<String> methods) {
+    }
+}
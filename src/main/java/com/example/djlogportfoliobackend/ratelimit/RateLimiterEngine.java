@@ -0,0 +1,49 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+/**
+ * 요청 빈도 제한 엔진
+ *
+ * 키는 호출자가 미리 계산한 64비트 해시이며, 판정 결과는 {@link RateLimitDecision}으로 인코딩된 long으로 반환한다.
+ * 구현체는 요청당 객체를 할당하지 않아야 하며 여러 스레드에서 동시에 호출될 수 있어야 한다.
+ */
+public interface RateLimiterEngine {
+
+    /**
+     * 요청 1건 허용 여부 판정
+     * 허용된 경우에만 상태에 반영된다.
+     *
+     * @param key 제한 대상 키 (64비트 해시)
+     * @param nowNanos 현재 시각 ({@link System#nanoTime()})
+     * @return {@link RateLimitDecision}으로 인코딩된 판정 결과
+     */
+    long tryAcquire(long key, long nowNanos);
+
+    /**
+     * 설정된 제한 값 (윈도우당 요청 수)
+     *
+     * @return 제한 값
+     */
+    int getLimit();
+
+    /**
+     * 허용된 요청 이후 할당량이 모두 회복될 때까지의 예상 시간 (RateLimit-Reset 헤더 용도)
+     *
+     * @param remaining 판정 결과의 남은 요청 수
+     * @return 회복까지 남은 밀리초
+     */
+    long getResetMillis(long remaining);
+
+    /**
+     * 엔진 알고리즘 이름 (로그 및 모니터링 용도)
+     *
+     * @return 알고리즘 이름
+     */
+    String getAlgorithm();
+
+    /**
+     * 현재 추적 중인 키 수
+     *
+     * @return 상태 테이블에서 사용 중인 슬롯 수
+     */
+    int getTrackedKeys();
+}
@@ -0,0 +1,249 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 클러스터 공유 토큰 임대 제한 엔진
+ *
+ * 노드마다 독립적으로 제한하면 N개 노드가 제한의 N배를 허용하므로, 토큰은 공유 저장소(Redis)의 버킷에서 꺼낸다.
+ * 요청마다 Redis를 호출하지 않도록 키별로 토큰을 묶음(lease) 단위로 미리 받아 로컬에서 소비하고,
+ * 남은 토큰이 기준 이하로 떨어지면 백그라운드에서 다음 묶음을 요청한다.
+ *
+ * 키별 로컬 상태 (long 하나):
+ * <pre>
+ * [시각 ms 42비트][DENIED 1비트][REFILLING 1비트][남은 토큰 20비트]
+ * </pre>
+ * - 토큰이 남아 있으면 시각은 임대 만료 시각 (사용하지 않은 토큰이 오래 묶여 있지 않도록 짧게 유지)
+ * - 공유 버킷이 비어 있으면 DENIED와 재시도 가능 시각을 기록하여 Redis 재호출 없이 거부
+ * - 임대 응답을 기다리는 동안이나 Redis가 느리거나 실패하면 로컬 제한 엔진으로 판정 (fallback)
+ *
+ * fallback 엔진은 노드 몫(제한 / 예상 노드 수)으로 만들어 Redis 장애 중에도 클러스터 합계가 제한을 넘지 않게 하고,
+ * 임대 크기는 제한의 작은 일부로 유지한다. 정상 상태의 초과 허용은 임대 응답을 기다리는 동안의 fallback 판정분뿐이다.
+ */
+@Slf4j
+public class RedisLeasingRateLimiter extends StateTableRateLimiter implements AutoCloseable {
+
+    private static final int TOKEN_BITS = 20;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long REFILLING = 1L << TOKEN_BITS;
+    private static final long DENIED = 1L << (TOKEN_BITS + 1);
+    private static final int TIME_SHIFT = TOKEN_BITS + 2;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final TokenLeaseStore leaseStore;
+    private final RateLimiterEngine fallback;
+    private final int limit;
+    private final Executor refillExecutor;
+    private final String keyPrefix;
+    private final int leaseSize;
+    private final int lowWatermark;
+    private final long leaseTtlMillis;
+    private final long slowThresholdNanos;
+    private final long backoffNanos;
+
+    /** 이 시각(엔진 기준 경과 나노초)까지는 Redis를 호출하지 않고 로컬 제한만 사용 */
+    private volatile long backoffUntil;
+
+    private final LongAdder leaseRequests = new LongAdder();
+    private final LongAdder leaseFailures = new LongAdder();
+    private final LongAdder fallbackDecisions = new LongAdder();
+
+    /**
+     * @param leaseStore 공유 토큰 저장소
+     * @param fallback 임대 대기 중이거나 저장소 장애 시 사용할 로컬 엔진 (노드 몫으로 줄인 제한)
+     * @param limit 클러스터 전체 제한 (응답 헤더와 지표용)
+     * @param refillExecutor 임대 요청을 실행할 백그라운드 실행기
+     * @param keyPrefix 공유 버킷 키 접두사
+     * @param leaseSize 한 번에 임대할 토큰 수
+     * @param leaseTtlMillis 임대한 토큰의 로컬 유효 시간
+     * @param slowThresholdMillis 이 시간보다 오래 걸린 임대 요청은 저장소 지연으로 간주
+     * @param backoffMillis 저장소 지연/실패 후 로컬 제한만 사용할 시간
+     * @param capacity 로컬 상태 테이블 슬롯 수
+     */
+    public RedisLeasingRateLimiter(TokenLeaseStore leaseStore, RateLimiterEngine fallback, int limit,
+                                   Executor refillExecutor, String keyPrefix, int leaseSize, long leaseTtlMillis,
+                                   long slowThresholdMillis, long backoffMillis, int capacity) {
+        super(capacity);
+        this.leaseStore = leaseStore;
+        this.fallback = fallback;
+        this.limit = limit;
+        this.refillExecutor = refillExecutor;
+        this.keyPrefix = keyPrefix;
+        this.leaseSize = (int) Math.min(TOKEN_MASK, Math.max(1, leaseSize));
+        this.lowWatermark = this.leaseSize / 4;
+        this.leaseTtlMillis = Math.max(1L, leaseTtlMillis);
+        this.slowThresholdNanos = slowThresholdMillis * NANOS_PER_MILLI;
+        this.backoffNanos = backoffMillis * NANOS_PER_MILLI;
+    }
+
+    @Override
+    public long tryAcquire(long key, long nowNanos) {
+        long now = elapsed(nowNanos);
+        int slot = slotFor(key, now);
+        if (slot < 0) {
+            fallbackDecisions.increment();
+            return fallback.tryAcquire(key, nowNanos);
+        }
+
+        long nowMillis = now / NANOS_PER_MILLI;
+        while (true) {
+            long state = states.get(slot);
+            long tokens = state & TOKEN_MASK;
+            long time = state >>> TIME_SHIFT;
+            boolean refilling = (state & REFILLING) != 0;
+            boolean expired = time <= nowMillis;
+
+            if (tokens > 0 && !expired) {
+                boolean prefetch = tokens - 1 <= lowWatermark && !refilling && isStoreAvailable(now);
+                long updated = (state - 1) | (prefetch ? REFILLING : 0L);
+                if (states.compareAndSet(slot, state, updated)) {
+                    if (prefetch) {
+                        scheduleRefill(key, slot);
+                    }
+                    return RateLimitDecision.allow(tokens - 1);
+                }
+                continue;
+            }
+
+            if ((state & DENIED) != 0 && !expired) {
+                return RateLimitDecision.deny(time - nowMillis);
+            }
+
+            // 유효한 임대가 없음: 만료된 토큰은 버리고 새 임대를 요청한 뒤, 응답 전까지는 로컬 제한으로 판정
+            if (!refilling && isStoreAvailable(now)) {
+                if (!states.compareAndSet(slot, state, REFILLING)) {
+                    continue;
+                }
+                scheduleRefill(key, slot);
+            }
+            fallbackDecisions.increment();
+            return fallback.tryAcquire(key, nowNanos);
+        }
+    }
+
+    private boolean isStoreAvailable(long now) {
+        return now >= backoffUntil;
+    }
+
+    private void scheduleRefill(long key, int slot) {
+        try {
+            refillExecutor.execute(() -> refill(key, slot));
+        } catch (RejectedExecutionException e) {
+            clearRefilling(key, slot);
+        }
+    }
+
+    /**
+     * 공유 저장소에서 토큰을 임대하여 로컬 상태에 반영
+     */
+    private void refill(long key, int slot) {
+        leaseRequests.increment();
+        long start = System.nanoTime();
+        long result;
+        try {
+            result = leaseStore.lease(keyPrefix + Long.toHexString(key), leaseSize);
+        } catch (Exception e) {
+            leaseFailures.increment();
+            enterBackoff(start);
+            clearRefilling(key, slot);
+            log.warn("[RATE_LIMIT] Token lease failed, using local limits for {}ms: {}",
+                    backoffNanos / NANOS_PER_MILLI, e.getMessage());
+            return;
+        }
+
+        long finished = System.nanoTime();
+        if (finished - start > slowThresholdNanos) {
+            enterBackoff(finished);
+            log.warn("[RATE_LIMIT] Token lease slow ({}ms), using local limits for {}ms",
+                    (finished - start) / NANOS_PER_MILLI, backoffNanos / NANOS_PER_MILLI);
+        }
+
+        long nowMillis = elapsed(finished) / NANOS_PER_MILLI;
+        while (isSlotOwnedBy(slot, key)) {
+            long state = states.get(slot);
+            long tokens = state & TOKEN_MASK;
+            long updated;
+            if (RateLimitDecision.isAllowed(result)) {
+                long total = Math.min(TOKEN_MASK, tokens + RateLimitDecision.remaining(result));
+                updated = total | ((nowMillis + leaseTtlMillis) << TIME_SHIFT);
+            } else if (tokens > 0) {
+                // 공유 버킷은 비었지만 이전 임대분이 남아 있으면 그대로 사용
+                updated = state & ~REFILLING;
+            } else {
+                updated = DENIED | ((nowMillis + RateLimitDecision.retryAfterMillis(result)) << TIME_SHIFT);
+            }
+            if (states.compareAndSet(slot, state, updated)) {
+                return;
+            }
+        }
+    }
+
+    private void clearRefilling(long key, int slot) {
+        while (isSlotOwnedBy(slot, key)) {
+            long state = states.get(slot);
+            if ((state & REFILLING) == 0 || states.compareAndSet(slot, state, state & ~REFILLING)) {
+                return;
+            }
+        }
+    }
+
+    private void enterBackoff(long nowNanos) {
+        backoffUntil = elapsed(nowNanos) + backoffNanos;
+    }
+
+    @Override
+    protected boolean isIdle(long state, long elapsedNanos) {
+        return (state & REFILLING) == 0 && (state >>> TIME_SHIFT) <= elapsedNanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * 로컬 테이블은 임대한 토큰만 보관하므로, 현재 임대분 중 사용한 비율을 반환한다.
+     */
+    @Override
+    protected double utilization(long state, long elapsedNanos) {
+        return 1.0 - (double) (state & TOKEN_MASK) / leaseSize;
+    }
+
+    @Override
+    public long getResetMillis(long remaining) {
+        return fallback.getResetMillis(remaining);
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return "redis_lease";
+    }
+
+    public RateLimiterEngine getFallback() {
+        return fallback;
+    }
+
+    public long getLeaseRequests() {
+        return leaseRequests.sum();
+    }
+
+    public long getLeaseFailures() {
+        return leaseFailures.sum();
+    }
+
+    public long getFallbackDecisions() {
+        return fallbackDecisions.sum();
+    }
+
+    @Override
+    public void close() {
+        if (refillExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Redis 기반 공유 토큰 버킷
+ *
+ * 토큰 보충과 임대를 하나의 Lua 스크립트로 원자적으로 처리한다.
+ * 시각은 Redis 서버의 TIME을 사용하므로 노드 간 시계 차이의 영향을 받지 않는다.
+ */
+public class RedisTokenLeaseStore implements TokenLeaseStore {
+
+    private static final String LEASE_SCRIPT = """
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local requested = tonumber(ARGV[3])
+            local ttl = tonumber(ARGV[4])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1])
+            local ts = tonumber(bucket[2])
+            if tokens == nil or ts == nil then
+              tokens = capacity
+              ts = now
+            end
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+            local granted = math.min(requested, math.floor(tokens))
+            tokens = tokens - granted
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], ttl)
+            local retry = 0
+            if granted == 0 then
+              retry = math.ceil((1 - tokens) / rate)
+            end
+            return {granted, retry}
+            """;
+
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> SCRIPT = new DefaultRedisScript<>(LEASE_SCRIPT, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String capacity;
+    private final String tokensPerMillis;
+    private final String ttlMillis;
+
+    /**
+     * @param redisTemplate Redis 템플릿
+     * @param limit 윈도우당 보충되는 토큰 수
+     * @param burst 버킷 용량
+     * @param window 보충 기준 윈도우
+     */
+    public RedisTokenLeaseStore(StringRedisTemplate redisTemplate, int limit, int burst, Duration window) {
+        this.redisTemplate = redisTemplate;
+        this.capacity = String.valueOf(Math.max(1, burst));
+        this.tokensPerMillis = String.valueOf((double) Math.max(1, limit) / Math.max(1L, window.toMillis()));
+        this.ttlMillis = String.valueOf(window.toMillis() * 2);
+    }
+
+    @Override
+    public long lease(String bucketKey, int requested) {
+        List<?> result = redisTemplate.execute(SCRIPT, Collections.singletonList(bucketKey),
+                capacity, tokensPerMillis, String.valueOf(requested), ttlMillis);
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("Unexpected lease script result: " + result);
+        }
+
+        long granted = ((Number) result.get(0)).longValue();
+        long retryAfterMillis = ((Number) result.get(1)).longValue();
+        return granted > 0 ? RateLimitDecision.allow(granted) : RateLimitDecision.deny(retryAfterMillis);
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 라우트 템플릿 매처
+ *
+ * 컨트롤러 매핑 패턴(예: {@code /api/projects/{id}})을 시작 시 세그먼트 trie로 컴파일하고,
+ * 요청 경로를 해당 템플릿의 정수 ID로 변환한다. 경로 세그먼트를 부분 문자열로 만들지 않고
+ * 원본 문자열의 구간을 직접 비교하므로 매칭 과정에서 객체를 할당하지 않는다.
+ *
+ * 매칭 규칙:
+ * - 리터럴 세그먼트가 변수 세그먼트({@code {id}}, {@code *})보다 우선하며, 실패하면 변수 분기로 되돌아감
+ * - {@code **}, {@code {*path}}는 나머지 경로 전체와 일치
+ * - 어떤 템플릿과도 일치하지 않는 경로(정적 리소스 등)는 첫 번째 세그먼트 단위로 묶음
+ *
+ * 프로젝트 UUID처럼 경로 변수마다 다른 키가 만들어지지 않으므로, 크롤러가 빈도 제한 상태를 가득 채울 수 없다.
+ */
+@Slf4j
+@Component
+public class RouteTemplateMatcher {
+
+    /** 일치하는 템플릿이 없음 */
+    public static final int NO_MATCH = -1;
+
+    /** 템플릿에 일치하지 않는 경로의 route key 표시 비트 */
+    private static final long UNMATCHED_FLAG = 1L << 62;
+
+    private volatile Node root = new Node();
+    private volatile List<String> templates = Collections.emptyList();
+
+    /**
+     * 애플리케이션 컨텍스트 초기화 후 모든 컨트롤러 매핑 패턴을 컴파일
+     *
+     * @param event 컨텍스트 갱신 이벤트
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void onContextRefreshed(ContextRefreshedEvent event) {
+        Collection<RequestMappingHandlerMapping> mappings = event.getApplicationContext()
+                .getBeansOfType(RequestMappingHandlerMapping.class).values();
+
+        TreeSet<String> patterns = new TreeSet<>();
+        for (RequestMappingHandlerMapping mapping : mappings) {
+            for (RequestMappingInfo info : mapping.getHandlerMethods().keySet()) {
+                patterns.addAll(info.getPatternValues());
+            }
+        }
+        compile(patterns);
+        log.info("[RATE_LIMIT] Compiled {} route templates", patterns.size());
+    }
+
+    /**
+     * 라우트 템플릿 목록을 trie로 컴파일
+     * 컴파일된 trie는 불변이며 volatile 참조 교체로 적용된다.
+     *
+     * @param patterns 경로 패턴 목록
+     */
+    public void compile(Collection<String> patterns) {
+        Builder rootBuilder = new Builder();
+        List<String> compiled = new ArrayList<>();
+        for (String pattern : patterns) {
+            if (pattern == null || pattern.isEmpty()) {
+                continue;
+            }
+            int id = compiled.size();
+            compiled.add(pattern);
+            rootBuilder.insert(pattern, id);
+        }
+        this.root = rootBuilder.build();
+        this.templates = List.copyOf(compiled);
+    }
+
+    /**
+     * 요청 경로와 일치하는 라우트 템플릿 ID 조회
+     *
+     * @param path 요청 경로
+     * @return 템플릿 ID, 일치하는 템플릿이 없으면 {@link #NO_MATCH}
+     */
+    public int match(String path) {
+        return match(root, path, skipSlashes(path, 0));
+    }
+
+    /**
+     * 빈도 제한 키용 route key 계산
+     * 일치하는 템플릿이 있으면 템플릿 ID, 없으면 첫 번째 세그먼트의 해시를 사용한다.
+     *
+     * @param path 요청 경로
+     * @return route key
+     */
+    public long routeKey(String path) {
+        int id = match(path);
+        if (id != NO_MATCH) {
+            return id;
+        }
+
+        int start = skipSlashes(path, 0);
+        int end = segmentEnd(path, start);
+        long hash = 0xcbf29ce484222325L;
+        for (int i = start; i < end; i++) {
+            hash ^= path.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return UNMATCHED_FLAG | (hash & (UNMATCHED_FLAG - 1));
+    }
+
+    /**
+     * 템플릿 ID에 해당하는 경로 패턴
+     *
+     * @param id 템플릿 ID
+     * @return 경로 패턴, 없으면 null
+     */
+    public String template(int id) {
+        List<String> current = templates;
+        return id >= 0 && id < current.size() ? current.get(id) : null;
+    }
+
+    /**
+     * 컴파일된 템플릿 수
+     *
+     * @return 템플릿 수
+     */
+    public int size() {
+        return templates.size();
+    }
+
+    private static int match(Node node, String path, int position) {
+        if (position >= path.length()) {
+            if (node.routeId != NO_MATCH) {
+                return node.routeId;
+            }
+            return node.catchAllRouteId;
+        }
+
+        int end = segmentEnd(path, position);
+        int length = end - position;
+        int next = skipSlashes(path, end);
+
+        String[] literals = node.literals;
+        for (int i = 0; i < literals.length; i++) {
+            String literal = literals[i];
+            if (literal.length() == length && path.regionMatches(position, literal, 0, length)) {
+                int result = match(node.literalChildren[i], path, next);
+                if (result != NO_MATCH) {
+                    return result;
+                }
+                break;
+            }
+        }
+
+        if (node.variableChild != null) {
+            int result = match(node.variableChild, path, next);
+            if (result != NO_MATCH) {
+                return result;
+            }
+        }
+        return node.catchAllRouteId;
+    }
+
+    private static int segmentEnd(String path, int start) {
+        int end = path.indexOf('/', start);
+        return end < 0 ? path.length() : end;
+    }
+
+    private static int skipSlashes(String path, int position) {
+        while (position < path.length() && path.charAt(position) == '/') {
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isVariable(String segment) {
+        return segment.indexOf('{') >= 0 || segment.indexOf('*') >= 0;
+    }
+
+    private static boolean isCatchAll(String segment) {
+        return segment.equals("**") || segment.startsWith("{*");
+    }
+
+    /**
+     * 컴파일된 trie 노드 (불변)
+     */
+    private static final class Node {
+        private final String[] literals;
+        private final Node[] literalChildren;
+        private final Node variableChild;
+        private final int routeId;
+        private final int catchAllRouteId;
+
+        private Node() {
+            this(new String[0], new Node[0], null, NO_MATCH, NO_MATCH);
+        }
+
+        private Node(String[] literals, Node[] literalChildren, Node variableChild, int routeId, int catchAllRouteId) {
+            this.literals = literals;
+            this.literalChildren = literalChildren;
+            this.variableChild = variableChild;
+            this.routeId = routeId;
+            this.catchAllRouteId = catchAllRouteId;
+        }
+    }
+
+    /**
+     * 컴파일 단계에서만 사용하는 가변 노드
+     */
+    private static final class Builder {
+        private final Map<String, Builder> literalChildren = new LinkedHashMap<>();
+        private Builder variableChild;
+        private int routeId = NO_MATCH;
+        private int catchAllRouteId = NO_MATCH;
+
+        private void insert(String pattern, int id) {
+            Builder node = this;
+            for (String segment : pattern.split("/")) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (isCatchAll(segment)) {
+                    if (node.catchAllRouteId == NO_MATCH) {
+                        node.catchAllRouteId = id;
+                    }
+                    return;
+                }
+                if (isVariable(segment)) {
+                    if (node.variableChild == null) {
+                        node.variableChild = new Builder();
+                    }
+                    node = node.variableChild;
+                } else {
+                    node = node.literalChildren.computeIfAbsent(segment, key -> new Builder());
+                }
+            }
+            if (node.routeId == NO_MATCH) {
+                node.routeId = id;
+            }
+        }
+
+        private Node build() {
+            String[] literals = literalChildren.keySet().toArray(new String[0]);
+            Node[] children = new Node[literals.length];
+            for (int i = 0; i < literals.length; i++) {
+                children[i] = literalChildren.get(literals[i]).build();
+            }
+            return new Node(literals, children,
+                    variableChild != null ? variableChild.build() : null, routeId, catchAllRouteId);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min Sketch 기반 고정 메모리 제한 엔진
+ *
+ * 상태 테이블 엔진은 슬롯 수보다 많은 키가 몰리면 추적하지 못한 요청을 허용하므로,
+ * 수많은 IP로 분산된 요청은 테이블을 채워 모든 키의 제한을 무력화할 수 있다.
+ * 이 엔진은 키 수와 무관한 고정 크기의 근사 카운터로 모든 키를 집계하고,
+ * 제한에 가까워진 키(heavy hitter)에만 정확한 카운터를 할당한다.
+ *
+ * 구성:
+ * - Count-Min Sketch (depth × width int 카운터, 현재/직전 윈도우 2벌): 모든 키의 윈도우별 요청 수 추정.
+ *   conservative update로 최솟값 행만 올려 과대 추정을 줄인다. 추정값은 실제 값 이상이다.
+ * - 정확한 카운터 (상위 클래스의 슬라이딩 윈도우 상태 테이블): 추정값이 제한의 절반을 넘은 키만 할당.
+ *   추정값으로 초기화하되 가중 합계가 승격 임계값(제한의 절반)을 넘지 않도록 비율을 줄여 넣는다.
+ *   sketch 충돌로 부풀려진 추정값을 그대로 넘기지 않으므로, 승격된 키도 제한의 절반만큼은 실제 요청을 더 허용받는다.
+ * - Space-Saving 상위 K개 집계: 승격된 키의 요청/거부 수를 기록하여 관리자 조회에 사용.
+ *
+ * 따라서 정확한 카운터를 할당받는 한, 실제 요청 수가 제한의 절반 미만인 키는 sketch 충돌로 거부되지 않는다.
+ * 공격 키는 승격 시점까지의 요청(최대 추정값)에 제한의 절반을 더한 만큼까지 허용될 수 있다.
+ * 정확한 카운터 테이블마저 가득 차면 sketch 추정값으로 판정한다 (fail-open 대신 근사 판정).
+ * 이 경우에는 충돌로 추정값이 부풀려진 정상 사용자도 거부될 수 있다.
+ * 윈도우가 바뀌는 순간 sketch를 비우는 짧은 동안(수백 마이크로초)은 해당 윈도우 카운트를 0으로 본다.
+ */
+public class SketchRateLimiter extends SlidingWindowRateLimiter {
+
+    private static final long ROTATING = -1L;
+
+    private final int depth;
+    private final int width;
+    private final int widthMask;
+    private final int promotionThreshold;
+    private final AtomicIntegerArray[] sketches;
+    private final AtomicLongArray sketchWindows;
+    private final SpaceSavingTopK topK;
+
+    /**
+     * @param limit 윈도우당 허용 요청 수
+     * @param window 윈도우 길이
+     * @param width sketch 행당 카운터 수 (2의 거듭제곱으로 올림)
+     * @param depth sketch 행 수
+     * @param heavyHitters 정확한 카운터와 상위 키 집계에 사용할 키 수
+     */
+    public SketchRateLimiter(int limit, Duration window, int width, int depth, int heavyHitters) {
+        super(limit, window, heavyHitters * 4);
+        this.depth = Math.max(1, depth);
+        this.width = Integer.highestOneBit(Math.max(2, width) - 1) << 1;
+        this.widthMask = this.width - 1;
+        this.promotionThreshold = Math.max(1, getLimit() / 2);
+        this.sketches = new AtomicIntegerArray[] {
+                new AtomicIntegerArray(this.depth * this.width),
+                new AtomicIntegerArray(this.depth * this.width)
+        };
+        this.sketchWindows = new AtomicLongArray(2);
+        this.topK = new SpaceSavingTopK(heavyHitters);
+    }
+
+    @Override
+    public long tryAcquire(long key, long nowNanos) {
+        long now = elapsed(nowNanos);
+        long windowNanos = getWindowNanos();
+        long window = now / windowNanos;
+        long elapsedInWindow = now - window * windowNanos;
+
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+
+        AtomicIntegerArray current = currentSketch(window);
+        int previousParity = (int) ((window - 1) & 1);
+        AtomicIntegerArray previous = sketchWindows.get(previousParity) == window - 1
+                ? sketches[previousParity] : null;
+
+        long currentEstimate = estimate(current, h1, h2);
+        long previousEstimate = estimate(previous, h1, h2);
+        long weighted = previousEstimate * (windowNanos - elapsedInWindow) / windowNanos + currentEstimate;
+
+        if (weighted < promotionThreshold) {
+            increment(current, h1, h2, currentEstimate);
+            return RateLimitDecision.allow(getLimit() - weighted - 1);
+        }
+
+        // heavy hitter 후보: 정확한 카운터로 판정
+        long decision;
+        int slot = slotFor(key, now);
+        if (slot >= 0) {
+            // 충돌로 부풀려졌을 수 있는 추정값은 가중 합계가 임계값이 되도록 줄여서 이어받음
+            long seedPrevious = previousEstimate;
+            long seedCurrent = currentEstimate;
+            if (weighted > promotionThreshold) {
+                seedPrevious = previousEstimate * promotionThreshold / weighted;
+                seedCurrent = currentEstimate * promotionThreshold / weighted;
+            }
+            seed(slot, now, seedPrevious, seedCurrent);
+            decision = acquire(slot, now);
+        } else if (weighted >= getLimit()) {
+            decision = RateLimitDecision.deny((windowNanos - elapsedInWindow) / 1_000_000L + 1L);
+        } else {
+            decision = RateLimitDecision.allow(getLimit() - weighted - 1);
+        }
+
+        boolean allowed = RateLimitDecision.isAllowed(decision);
+        if (allowed) {
+            increment(current, h1, h2, currentEstimate);
+        }
+        topK.offer(key, !allowed);
+        return decision;
+    }
+
+    /**
+     * 현재 윈도우의 sketch 조회, 윈도우가 바뀌었으면 오래된 sketch를 비우고 재사용
+     *
+     * @return 현재 윈도우 sketch, 다른 스레드가 비우는 중이면 null
+     */
+    private AtomicIntegerArray currentSketch(long window) {
+        int parity = (int) (window & 1);
+        long sketchWindow = sketchWindows.get(parity);
+        if (sketchWindow == window) {
+            return sketches[parity];
+        }
+        if (sketchWindow < window && sketchWindow != ROTATING
+                && sketchWindows.compareAndSet(parity, sketchWindow, ROTATING)) {
+            AtomicIntegerArray sketch = sketches[parity];
+            for (int i = 0, length = sketch.length(); i < length; i++) {
+                sketch.lazySet(i, 0);
+            }
+            sketchWindows.set(parity, window);
+            topK.decay();
+            return sketch;
+        }
+        return sketchWindows.get(parity) == window ? sketches[parity] : null;
+    }
+
+    private long estimate(AtomicIntegerArray sketch, int h1, int h2) {
+        if (sketch == null) {
+            return 0L;
+        }
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, sketch.get(row * width + ((h1 + row * h2) & widthMask)));
+        }
+        return min;
+    }
+
+    /**
+     * conservative update: 모든 행을 (최솟값 + 1) 이상으로만 올림
+     */
+    private void increment(AtomicIntegerArray sketch, int h1, int h2, long estimate) {
+        if (sketch == null) {
+            return;
+        }
+        int target = (int) Math.min(Integer.MAX_VALUE, estimate + 1);
+        for (int row = 0; row < depth; row++) {
+            int index = row * width + ((h1 + row * h2) & widthMask);
+            int value = sketch.get(index);
+            while (value < target && !sketch.compareAndSet(index, value, target)) {
+                value = sketch.get(index);
+            }
+        }
+    }
+
+    /**
+     * 상위 요청 키 목록
+     *
+     * @param limit 최대 항목 수
+     * @return 추정 요청 수 내림차순 목록
+     */
+    public List<SpaceSavingTopK.HeavyHitter> getTopOffenders(int limit) {
+        return topK.snapshot(limit);
+    }
+
+    /**
+     * 상위 키 목록에 표시할 이름 지정
+     * 키는 해시이므로 거부 응답을 만들 때 호출자가 IP/라우트 정보를 전달한다.
+     *
+     * @param key 제한 대상 키
+     * @param label 표시용 이름
+     */
+    public void describe(long key, String label) {
+        topK.label(key, label);
+    }
+
+    /**
+     * sketch가 사용하는 메모리 (바이트)
+     *
+     * @return 카운터 배열 크기 합계
+     */
+    public long getSketchBytes() {
+        return 2L * depth * width * Integer.BYTES;
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return "sketch";
+    }
+
+    /**
+     * 엔진 구성에서 sketch 엔진 탐색 (클러스터 모드에서는 로컬 fallback 엔진)
+     *
+     * @param engine 제한 엔진
+     * @return sketch 엔진, 사용하지 않으면 null
+     */
+    public static SketchRateLimiter unwrap(RateLimiterEngine engine) {
+        if (engine instanceof RedisLeasingRateLimiter leasing) {
+            engine = leasing.getFallback();
+        }
+        return engine instanceof SketchRateLimiter sketch ? sketch : null;
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 슬라이딩 윈도우 카운터 제한 엔진
+ *
+ * 현재 윈도우와 직전 윈도우의 카운트를 두고, 직전 윈도우 카운트를 남은 비율만큼 가중하여 합산한다.
+ * 키별 상태는 long 하나에 압축된다.
+ * <pre>
+ * [윈도우 번호 32비트][직전 윈도우 카운트 16비트][현재 윈도우 카운트 16비트]
+ * </pre>
+ * 따라서 윈도우당 제한은 최대 65,535로 제한된다.
+ *
+ * 요청마다 타임스탬프를 저장하는 sliding window log는 키당 O(limit) 메모리가 필요하므로 제공하지 않으며,
+ * 이 근사 방식은 카운트가 윈도우 안에서 균등하게 분포한다고 가정한다.
+ */
+public class SlidingWindowRateLimiter extends StateTableRateLimiter {
+
+    private static final int MAX_COUNT = 0xFFFF;
+
+    private final int limit;
+    private final long windowNanos;
+
+    /**
+     * @param limit 윈도우당 허용 요청 수 (최대 65,535)
+     * @param window 윈도우 길이
+     * @param capacity 상태 테이블 슬롯 수
+     */
+    public SlidingWindowRateLimiter(int limit, Duration window, int capacity) {
+        super(capacity);
+        this.limit = Math.min(MAX_COUNT, Math.max(1, limit));
+        this.windowNanos = Math.max(1L, window.toNanos());
+    }
+
+    @Override
+    public long tryAcquire(long key, long nowNanos) {
+        long now = elapsed(nowNanos);
+        int slot = slotFor(key, now);
+        if (slot < 0) {
+            return RateLimitDecision.allow(limit - 1L);
+        }
+        return acquire(slot, now);
+    }
+
+    /**
+     * 할당된 슬롯에서 요청 1건 판정
+     *
+     * @param slot 슬롯 인덱스
+     * @param now 엔진 기준 경과 시각
+     * @return {@link RateLimitDecision}으로 인코딩된 판정 결과
+     */
+    protected final long acquire(int slot, long now) {
+        long currentWindow = now / windowNanos;
+        long elapsedInWindow = now - currentWindow * windowNanos;
+
+        while (true) {
+            long state = states.get(slot);
+            long stateWindow = state >>> 32;
+            long previous;
+            long current;
+            if (stateWindow == currentWindow) {
+                previous = (state >>> 16) & MAX_COUNT;
+                current = state & MAX_COUNT;
+            } else if (stateWindow == currentWindow - 1) {
+                previous = state & MAX_COUNT;
+                current = 0;
+            } else {
+                previous = 0;
+                current = 0;
+            }
+
+            long weighted = previous * (windowNanos - elapsedInWindow) / windowNanos + current;
+            if (weighted >= limit) {
+                return RateLimitDecision.deny(retryAfterNanos(previous, current, elapsedInWindow) / 1_000_000L + 1L);
+            }
+
+            long updated = (currentWindow << 32) | (previous << 16) | (current + 1);
+            if (states.compareAndSet(slot, state, updated)) {
+                return RateLimitDecision.allow(limit - weighted - 1);
+            }
+        }
+    }
+
+    /**
+     * 유휴 슬롯의 카운트를 외부 추정값으로 초기화
+     * 다른 구조(근사 카운터 등)에서 추적하던 키를 정확한 카운터로 옮길 때 사용한다.
+     * 슬롯에 이미 유효한 카운트가 있으면 변경하지 않는다.
+     *
+     * @param slot 슬롯 인덱스
+     * @param now 엔진 기준 경과 시각
+     * @param previous 직전 윈도우 카운트
+     * @param current 현재 윈도우 카운트
+     */
+    protected final void seed(int slot, long now, long previous, long current) {
+        long state = states.get(slot);
+        if (state != 0L && !isIdle(state, now)) {
+            return;
+        }
+        long currentWindow = now / windowNanos;
+        long updated = (currentWindow << 32)
+                | (Math.min(MAX_COUNT, previous) << 16) | Math.min(MAX_COUNT, current);
+        states.compareAndSet(slot, state, updated);
+    }
+
+    /**
+     * 윈도우 길이
+     *
+     * @return 윈도우 길이 (나노초)
+     */
+    protected final long getWindowNanos() {
+        return windowNanos;
+    }
+
+    /**
+     * 가중 합계가 제한 아래로 내려갈 때까지의 대기 시간 추정
+     */
+    private long retryAfterNanos(long previous, long current, long elapsedInWindow) {
+        long untilNextWindow = windowNanos - elapsedInWindow;
+        if (current >= limit || previous == 0) {
+            return untilNextWindow;
+        }
+        // previous * (window - e) / window + current < limit 를 만족하는 가장 이른 e
+        long target = windowNanos - (limit - 1 - current) * windowNanos / previous;
+        return Math.max(0L, Math.min(untilNextWindow, target - elapsedInWindow));
+    }
+
+    @Override
+    protected boolean isIdle(long state, long elapsedNanos) {
+        return (state >>> 32) < elapsedNanos / windowNanos - 1;
+    }
+
+    @Override
+    protected double utilization(long state, long elapsedNanos) {
+        long currentWindow = elapsedNanos / windowNanos;
+        long elapsedInWindow = elapsedNanos - currentWindow * windowNanos;
+        long stateWindow = state >>> 32;
+        long previous = stateWindow == currentWindow ? (state >>> 16) & MAX_COUNT
+                : stateWindow == currentWindow - 1 ? state & MAX_COUNT : 0;
+        long current = stateWindow == currentWindow ? state & MAX_COUNT : 0;
+        double weighted = (double) previous * (windowNanos - elapsedInWindow) / windowNanos + current;
+        return weighted / limit;
+    }
+
+    /**
+     * 가중 합계가 윈도우 안에서 균등하게 빠져나간다고 보고 사용한 만큼의 윈도우 비율을 반환한다.
+     */
+    @Override
+    public long getResetMillis(long remaining) {
+        long used = Math.max(0L, limit - remaining);
+        return (windowNanos / limit * used + 999_999L) / 1_000_000L;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return "sliding_window";
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Space-Saving 상위 K개 키 집계
+ *
+ * 고정된 K개의 칸만 사용하여 요청 수가 많은 키를 추적한다. 칸이 가득 찬 상태에서 새 키가 들어오면
+ * 카운트가 가장 작은 칸을 새 키에 넘겨주고, 넘겨받은 카운트를 오차(error)로 기록한다.
+ * 따라서 보고되는 카운트는 실제 값 이상이며 실제 값은 (count - error) 이상이다.
+ *
+ * 제한의 절반을 넘은 키는 거부되는 요청까지 모두 전달되므로 공격 중에는 호출 빈도가 높다.
+ * 키 위치는 개방 주소 해시 인덱스로 찾고(O(1)), 집계는 {@link ReentrantLock#tryLock()}으로 락을 얻은 경우에만 한다.
+ * 다른 스레드가 집계 중이면 해당 요청은 기다리지 않고 건너뛰므로, 경합 중에는 카운트가 실제보다 적게 보고될 수 있다.
+ * 윈도우가 바뀔 때마다 {@link #decay()}로 카운트를 절반으로 줄여 최근 상위 키가 드러나도록 한다.
+ */
+public class SpaceSavingTopK {
+
+    private final long[] keys;
+    private final long[] counts;
+    private final long[] errors;
+    private final long[] denied;
+    private final String[] labels;
+    private final int[] index;
+    private final int indexMask;
+    private final ReentrantLock lock = new ReentrantLock();
+    private int size;
+
+    /**
+     * @param capacity 추적할 키 수 (K)
+     */
+    public SpaceSavingTopK(int capacity) {
+        int k = Math.max(1, capacity);
+        this.keys = new long[k];
+        this.counts = new long[k];
+        this.errors = new long[k];
+        this.denied = new long[k];
+        this.labels = new String[k];
+        this.index = new int[Integer.highestOneBit(Math.max(2, k * 2) - 1) << 1];
+        this.indexMask = this.index.length - 1;
+    }
+
+    /**
+     * 키의 요청 1건 집계 (다른 스레드가 집계 중이면 건너뜀)
+     *
+     * @param key 제한 대상 키
+     * @param rejected 요청이 거부되었으면 true
+     */
+    public void offer(long key, boolean rejected) {
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            int slot = indexOf(key);
+            if (slot < 0) {
+                if (size < keys.length) {
+                    slot = size++;
+                    errors[slot] = 0L;
+                    counts[slot] = 0L;
+                } else {
+                    slot = minIndex();
+                    unindex(keys[slot]);
+                    errors[slot] = counts[slot];
+                }
+                keys[slot] = key;
+                denied[slot] = 0L;
+                labels[slot] = null;
+                index[probe(key)] = slot + 1;
+            }
+            counts[slot]++;
+            if (rejected) {
+                denied[slot]++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 추적 중인 키에 표시용 이름 지정 (추적하지 않는 키는 무시)
+     *
+     * @param key 제한 대상 키
+     * @param label 표시용 이름 (IP, 라우트 등)
+     */
+    public void label(long key, String label) {
+        lock.lock();
+        try {
+            int slot = indexOf(key);
+            if (slot >= 0 && labels[slot] == null) {
+                labels[slot] = label;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 모든 카운트를 절반으로 감소하고 0이 된 칸을 비움
+     */
+    public void decay() {
+        lock.lock();
+        try {
+            int write = 0;
+            for (int read = 0; read < size; read++) {
+                long count = counts[read] >>> 1;
+                if (count == 0) {
+                    continue;
+                }
+                keys[write] = keys[read];
+                counts[write] = count;
+                errors[write] = errors[read] >>> 1;
+                denied[write] = denied[read] >>> 1;
+                labels[write] = labels[read];
+                write++;
+            }
+            for (int i = write; i < size; i++) {
+                labels[i] = null;
+            }
+            size = write;
+            // 칸 위치가 바뀌었으므로 인덱스 재구성
+            Arrays.fill(index, 0);
+            for (int i = 0; i < size; i++) {
+                index[probe(keys[i])] = i + 1;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 카운트 내림차순 상위 키 목록
+     *
+     * @param limit 최대 항목 수
+     * @return 상위 키 목록
+     */
+    public List<HeavyHitter> snapshot(int limit) {
+        List<HeavyHitter> result;
+        lock.lock();
+        try {
+            result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(new HeavyHitter(keys[i], labels[i], counts[i], errors[i], denied[i]));
+            }
+        } finally {
+            lock.unlock();
+        }
+        result.sort(Comparator.comparingLong(HeavyHitter::count).reversed());
+        return result.size() > limit ? new ArrayList<>(result.subList(0, Math.max(0, limit))) : result;
+    }
+
+    private int indexOf(long key) {
+        int entry = index[probe(key)];
+        return entry - 1;
+    }
+
+    /**
+     * 선형 탐사로 키가 있는 인덱스 위치 또는 키가 들어갈 빈 위치 탐색
+     * 인덱스 크기는 칸 수의 2배 이상이므로 항상 빈 위치가 있다.
+     */
+    private int probe(long key) {
+        int position = (int) StateTableRateLimiter.mix(key) & indexMask;
+        while (true) {
+            int entry = index[position];
+            if (entry == 0 || keys[entry - 1] == key) {
+                return position;
+            }
+            position = (position + 1) & indexMask;
+        }
+    }
+
+    /**
+     * 인덱스에서 키 제거 (뒤따르는 항목을 당겨 탐사 경로 유지)
+     */
+    private void unindex(long key) {
+        int hole = probe(key);
+        if (index[hole] == 0) {
+            return;
+        }
+        index[hole] = 0;
+        int position = (hole + 1) & indexMask;
+        while (index[position] != 0) {
+            int home = (int) StateTableRateLimiter.mix(keys[index[position] - 1]) & indexMask;
+            // home이 (hole, position] 구간 밖이면 hole로 옮겨도 탐색 경로가 유지됨
+            if (((position - home) & indexMask) >= ((position - hole) & indexMask)) {
+                index[hole] = index[position];
+                index[position] = 0;
+                hole = position;
+            }
+            position = (position + 1) & indexMask;
+        }
+    }
+
+    private int minIndex() {
+        int min = 0;
+        for (int i = 1; i < size; i++) {
+            if (counts[i] < counts[min]) {
+                min = i;
+            }
+        }
+        return min;
+    }
+
+    /**
+     * 상위 키 항목
+     *
+     * @param key 제한 대상 키 (64비트 해시)
+     * @param label 표시용 이름 (거부된 적이 없으면 null)
+     * @param count 추정 요청 수 (실제 값 이상)
+     * @param error 추정 오차 (실제 값은 count - error 이상)
+     * @param denied 거부된 요청 수
+     */
+    public record HeavyHitter(long key, String label, long count, long error, long denied) {
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 원시 배열 상태 테이블 기반 제한 엔진의 공통 구현
+ *
+ * 키별 상태를 long 하나로 압축하여 open addressing 해시 테이블({@link AtomicLongArray} 2개)에 저장한다.
+ * 요청 처리 경로에서는 객체를 할당하지 않고 CAS만으로 상태를 갱신한다.
+ *
+ * 슬롯 관리:
+ * - 슬롯은 제한된 거리(MAX_PROBE)까지만 선형 탐색
+ * - 빈 슬롯이 없으면 유휴 상태(버킷이 가득 찬 상태와 동일)인 슬롯을 새 키에 재사용
+ * - 상태 0과 유휴 상태는 모두 "새 키"와 같은 의미이므로 재사용 시 상태를 초기화할 필요가 없음
+ * - 탐색 범위에 재사용 가능한 슬롯도 없으면 추적하지 않고 허용 (fail-open, 오버플로 카운트 증가)
+ *
+ * 동시에 같은 키가 서로 다른 슬롯에 삽입되거나, 재사용 직전 슬롯에 대한 갱신이 새 키에 반영되는 경쟁은
+ * 드물게 발생할 수 있으며 제한 값을 약간 느슨하게 만들 뿐 정합성 문제를 일으키지 않는다.
+ */
+public abstract class StateTableRateLimiter implements RateLimiterEngine {
+
+    private static final long EMPTY = 0L;
+    private static final int MAX_PROBE = 16;
+
+    /** 사용률 히스토그램 구간 경계 (마지막 구간은 1.0 이상, 즉 제한에 도달한 키) */
+    public static final double[] UTILIZATION_BOUNDS = {0.1, 0.25, 0.5, 0.75, 0.9, 1.0};
+
+    protected final AtomicLongArray states;
+    private final AtomicLongArray keys;
+    private final int mask;
+    private final AtomicInteger trackedKeys = new AtomicInteger();
+    private final LongAdder overflowCount = new LongAdder();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder insertCount = new LongAdder();
+    private final LongAdder reclaimCount = new LongAdder();
+
+    /** 상태의 시간 기준점. nanoTime은 음수일 수 있으므로 엔진 생성 시각을 기준으로 1 이상의 값으로 변환 */
+    private final long baseNanos;
+
+    protected StateTableRateLimiter(int capacity) {
+        int size = Integer.highestOneBit(Math.max(MAX_PROBE, capacity) - 1) << 1;
+        this.keys = new AtomicLongArray(size);
+        this.states = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.baseNanos = System.nanoTime() - 1L;
+    }
+
+    /**
+     * 엔진 기준 경과 시각 변환
+     *
+     * @param nowNanos {@link System#nanoTime()} 값
+     * @return 엔진 생성 이후 경과 나노초 (1 이상)
+     */
+    protected final long elapsed(long nowNanos) {
+        return Math.max(1L, nowNanos - baseNanos);
+    }
+
+    /**
+     * 키에 해당하는 슬롯 조회 또는 할당
+     *
+     * @param key 제한 대상 키
+     * @param elapsedNanos 엔진 기준 경과 시각
+     * @return 슬롯 인덱스, 할당할 수 없으면 -1
+     */
+    protected final int slotFor(long key, long elapsedNanos) {
+        long storedKey = storedKey(key);
+        int start = (int) mix(storedKey) & mask;
+        int reclaimable = -1;
+
+        for (int probe = 0; probe < MAX_PROBE; probe++) {
+            int index = (start + probe) & mask;
+            long current = keys.get(index);
+            if (current == storedKey) {
+                hitCount.increment();
+                return index;
+            }
+            if (current == EMPTY) {
+                if (keys.compareAndSet(index, EMPTY, storedKey)) {
+                    trackedKeys.incrementAndGet();
+                    insertCount.increment();
+                    return index;
+                }
+                if (keys.get(index) == storedKey) {
+                    hitCount.increment();
+                    return index;
+                }
+                continue;
+            }
+            if (reclaimable < 0 && isIdle(states.get(index), elapsedNanos)) {
+                reclaimable = index;
+            }
+        }
+
+        if (reclaimable >= 0) {
+            long previous = keys.get(reclaimable);
+            if (previous != storedKey && isIdle(states.get(reclaimable), elapsedNanos)
+                    && keys.compareAndSet(reclaimable, previous, storedKey)) {
+                reclaimCount.increment();
+                return reclaimable;
+            }
+            if (keys.get(reclaimable) == storedKey) {
+                hitCount.increment();
+                return reclaimable;
+            }
+        }
+
+        overflowCount.increment();
+        return -1;
+    }
+
+    /**
+     * 슬롯이 아직 해당 키에 할당되어 있는지 확인
+     * 비동기 작업이 결과를 반영하기 전에 슬롯이 다른 키에 재사용되지 않았는지 검사하는 용도이다.
+     *
+     * @param index 슬롯 인덱스
+     * @param key 제한 대상 키
+     * @return 슬롯이 해당 키의 것이면 true
+     */
+    protected final boolean isSlotOwnedBy(int index, long key) {
+        return keys.get(index) == storedKey(key);
+    }
+
+    /**
+     * 상태가 유휴(새 키와 동일한 의미)인지 판단
+     *
+     * @param state 압축된 상태
+     * @param elapsedNanos 엔진 기준 경과 시각
+     * @return 다른 키가 슬롯을 재사용해도 되면 true
+     */
+    protected abstract boolean isIdle(long state, long elapsedNanos);
+
+    /**
+     * 키가 현재 사용 중인 할당량 비율
+     *
+     * @param state 압축된 상태 (유휴가 아닌 슬롯)
+     * @param elapsedNanos 엔진 기준 경과 시각
+     * @return 제한 대비 사용 비율 (1 이상이면 제한에 도달)
+     */
+    protected abstract double utilization(long state, long elapsedNanos);
+
+    /**
+     * 상태 테이블 통계 스냅샷
+     * 테이블 전체를 순회하므로 관리자 조회처럼 드물게 호출되는 경로에서만 사용한다.
+     * 사용률 분포는 각 엔진의 윈도우(버킷 보충 주기) 기준이므로 시간이 지나면 자연히 갱신된다.
+     *
+     * @param nowNanos 현재 시각 ({@link System#nanoTime()})
+     * @return 활성 키 수, 슬롯 조회 적중/할당/재사용/오버플로 수, 키별 사용률 히스토그램
+     */
+    public final TableStats stats(long nowNanos) {
+        long now = elapsed(nowNanos);
+        long[] histogram = new long[UTILIZATION_BOUNDS.length + 1];
+        int active = 0;
+        for (int index = 0; index <= mask; index++) {
+            if (keys.get(index) == EMPTY) {
+                continue;
+            }
+            long state = states.get(index);
+            if (state == 0L || isIdle(state, now)) {
+                continue;
+            }
+            active++;
+            double usage = utilization(state, now);
+            int bucket = 0;
+            while (bucket < UTILIZATION_BOUNDS.length && usage >= UTILIZATION_BOUNDS[bucket]) {
+                bucket++;
+            }
+            histogram[bucket]++;
+        }
+        return new TableStats(getCapacity(), active, trackedKeys.get(), hitCount.sum(), insertCount.sum(),
+                reclaimCount.sum(), overflowCount.sum(), histogram);
+    }
+
+    @Override
+    public int getTrackedKeys() {
+        return trackedKeys.get();
+    }
+
+    /**
+     * 슬롯을 할당하지 못해 추적 없이 허용한 요청 수
+     *
+     * @return 누적 오버플로 횟수
+     */
+    public long getOverflowCount() {
+        return overflowCount.sum();
+    }
+
+    /**
+     * 상태 테이블 슬롯 수
+     *
+     * @return 테이블 용량
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    private static long storedKey(long key) {
+        return key == EMPTY ? 1L : key;
+    }
+
+    /**
+     * 64비트 해시 혼합 (MurmurHash3 fmix64)
+     */
+    static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    /**
+     * 상태 테이블 통계
+     *
+     * @param capacity 슬롯 수
+     * @param activeKeys 유휴가 아닌 키 수 (현재 키 카디널리티)
+     * @param allocatedSlots 한 번이라도 할당된 슬롯 수
+     * @param hits 기존 슬롯을 찾은 조회 수
+     * @param inserts 빈 슬롯에 새 키를 할당한 수
+     * @param reclaims 유휴 슬롯을 다른 키에 재사용한 수 (eviction)
+     * @param overflows 슬롯을 할당하지 못해 추적 없이 허용한 수
+     * @param utilization {@link #UTILIZATION_BOUNDS} 구간별 키 수
+     */
+    public record TableStats(int capacity, int activeKeys, int allocatedSlots, long hits, long inserts,
+                             long reclaims, long overflows, long[] utilization) {
+    }
+}
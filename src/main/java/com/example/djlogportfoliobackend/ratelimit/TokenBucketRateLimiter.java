@@ -0,0 +1,91 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 토큰 버킷 제한 엔진 (GCRA)
+ *
+ * 토큰 버킷을 GCRA(Generic Cell Rate Algorithm)로 구현하여 키별 상태를 "이론적 도착 시각"(TAT) long 하나로 표현한다.
+ * - 윈도우당 limit개의 토큰이 균등하게 채워지며, 최대 burst개까지 한 번에 사용할 수 있음
+ * - 요청이 허용되면 TAT를 토큰 1개 간격만큼 뒤로 미룸
+ * - TAT가 현재 시각보다 과거이면 버킷이 가득 찬 상태 (유휴 슬롯)
+ *
+ * 고정 윈도우와 달리 윈도우 경계에서 제한의 2배가 통과하는 문제가 없다.
+ */
+public class TokenBucketRateLimiter extends StateTableRateLimiter {
+
+    private final int limit;
+    private final int burst;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    /**
+     * @param limit 윈도우당 보충되는 토큰 수
+     * @param burst 버킷 용량 (한 번에 허용되는 최대 요청 수)
+     * @param window 보충 기준 윈도우
+     * @param capacity 상태 테이블 슬롯 수
+     */
+    public TokenBucketRateLimiter(int limit, int burst, Duration window, int capacity) {
+        super(capacity);
+        this.limit = Math.max(1, limit);
+        this.burst = Math.max(1, burst);
+        this.emissionIntervalNanos = Math.max(1L, window.toNanos() / this.limit);
+        this.burstToleranceNanos = this.emissionIntervalNanos * this.burst;
+    }
+
+    @Override
+    public long tryAcquire(long key, long nowNanos) {
+        long now = elapsed(nowNanos);
+        int slot = slotFor(key, now);
+        if (slot < 0) {
+            return RateLimitDecision.allow(burst - 1L);
+        }
+
+        while (true) {
+            long tat = states.get(slot);
+            long newTat = Math.max(tat, now) + emissionIntervalNanos;
+            long ahead = newTat - now;
+            if (ahead > burstToleranceNanos) {
+                return RateLimitDecision.deny((ahead - burstToleranceNanos + 999_999L) / 1_000_000L);
+            }
+            if (states.compareAndSet(slot, tat, newTat)) {
+                return RateLimitDecision.allow((burstToleranceNanos - ahead) / emissionIntervalNanos);
+            }
+        }
+    }
+
+    @Override
+    protected boolean isIdle(long state, long elapsedNanos) {
+        return state <= elapsedNanos;
+    }
+
+    @Override
+    protected double utilization(long state, long elapsedNanos) {
+        return (double) (state - elapsedNanos) / burstToleranceNanos;
+    }
+
+    @Override
+    public long getResetMillis(long remaining) {
+        long used = Math.max(0L, burst - remaining);
+        return (used * emissionIntervalNanos + 999_999L) / 1_000_000L;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * 버킷 용량
+     *
+     * @return 한 번에 허용되는 최대 요청 수
+     */
+    public int getBurst() {
+        return burst;
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return "token_bucket";
+    }
+}
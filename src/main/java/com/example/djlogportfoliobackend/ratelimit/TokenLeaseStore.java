@@ -0,0 +1,17 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+/**
+ * 클러스터 공유 토큰 저장소
+ * 여러 노드가 같은 토큰 버킷에서 토큰을 묶음 단위로 임대(lease)한다.
+ */
+public interface TokenLeaseStore {
+
+    /**
+     * 공유 버킷에서 토큰 임대
+     *
+     * @param bucketKey 버킷 키
+     * @param requested 요청 토큰 수
+     * @return {@link RateLimitDecision} 형식의 결과 - 허용이면 값은 임대된 토큰 수(1 이상), 거부면 재시도 대기 시간
+     */
+    long lease(String bucketKey, int requested);
+}
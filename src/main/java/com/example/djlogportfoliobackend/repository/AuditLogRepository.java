@@ -0,0 +1,21 @@
+package com.example.djlogportfoliobackend.repository;
+
+import com.example.djlogportfoliobackend.entity.AuditLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * 관리자 쓰기 감사 기록 데이터 접근을 위한 Repository 인터페이스
+ *
+ * <p>감사 이벤트 파이프라인이 모아 둔 기록을 {@code saveAll}로 한 트랜잭션에 저장합니다.
+ * 요청 처리 중에는 호출되지 않습니다.</p>
+ *
+ * @author DJ
+ * @version 1.0
+ * @since 2024
+ */
+@Repository
+public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
+}
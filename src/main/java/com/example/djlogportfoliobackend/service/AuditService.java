@@ -0,0 +1,70 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.audit.AuditEvent;
+import com.example.djlogportfoliobackend.audit.AuditEventPipeline;
+import com.example.djlogportfoliobackend.dto.AuditPipelineResponse;
+import com.example.djlogportfoliobackend.event.PortfolioChangeEvent;
+import com.example.djlogportfoliobackend.session.SessionValue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 감사 기록 서비스
+ * 로그인 이력과 관리자 쓰기를 {@link AuditEventPipeline}에 넘겨 요청 처리와 분리하여 기록합니다.
+ * 요청 스레드에서는 버퍼에 넣기만 하며, 버퍼가 가득 차면 기록을 버리고 요청은 그대로 진행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditService {
+
+    private static final String UNKNOWN_ACTOR = "unknown";
+
+    private final AuditEventPipeline auditEventPipeline;
+    private final SecurityService securityService;
+
+    /**
+     * 로그인 이력 기록 요청
+     *
+     * @param username 사용자명
+     * @param value 로그인 시각, IP, User-Agent
+     */
+    public void recordLogin(String username, SessionValue value) {
+        if (!auditEventPipeline.publish(new AuditEvent.Login(username, value))) {
+            log.debug("[AUDIT] Buffer full, login history dropped: user={}", username);
+        }
+    }
+
+    /**
+     * 포트폴리오 변경 커밋 후 관리자 쓰기 감사 기록 요청
+     * 커밋 직후 같은 요청 스레드에서 호출되므로 인증 정보와 추적 ID를 그대로 사용합니다.
+     *
+     * @param event 포트폴리오 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPortfolioChanged(PortfolioChangeEvent event) {
+        String actor = securityService.getCurrentUsername();
+        AuditEvent.AdminChange change = new AuditEvent.AdminChange(actor != null ? actor : UNKNOWN_ACTOR,
+                event.getEntityType(), event.getEntityId(), event.getChangeType(), MDC.get("traceId"),
+                System.currentTimeMillis());
+        if (!auditEventPipeline.publish(change)) {
+            log.debug("[AUDIT] Buffer full, admin change dropped: {}", event);
+        }
+    }
+
+    /**
+     * 파이프라인 현황
+     *
+     * @return 버퍼 사용량, 버림/실패 수, 기록 수
+     */
+    public AuditPipelineResponse getPipelineMetrics() {
+        return new AuditPipelineResponse(auditEventPipeline.getQueueDepth(), auditEventPipeline.getCapacity(),
+                auditEventPipeline.getPublished(), auditEventPipeline.getDropped(),
+                auditEventPipeline.getLoginsWritten(), auditEventPipeline.getAdminChangesWritten(),
+                auditEventPipeline.getFailed(), auditEventPipeline.getBatches());
+    }
+}
@@ -4,10 +4,13 @@ import com.example.djlogportfoliobackend.dto.LoginRequest;
 import com.example.djlogportfoliobackend.dto.LoginResponse;
 import com.example.djlogportfoliobackend.entity.Admin;
 import com.example.djlogportfoliobackend.exception.AuthenticationException;
+import com.example.djlogportfoliobackend.exception.LoginThrottledException;
 import com.example.djlogportfoliobackend.repository.AdminRepository;
 import com.example.djlogportfoliobackend.service.SessionManagementService.SessionInfo;
 import com.example.djlogportfoliobackend.util.JwtUtil;
+import com.example.djlogportfoliobackend.util.LoginFailureTracker;
 import com.example.djlogportfoliobackend.util.NetworkUtil;
+import com.example.djlogportfoliobackend.util.PasswordVerifier;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +33,8 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final SessionManagementService sessionManagementService;
+    private final PasswordVerifier passwordVerifier;
+    private final LoginFailureTracker loginFailureTracker;
 
     // 타이밍 공격 방지를 위한 유효한 BCrypt 해시 (더미 비밀번호: "dummyPasswordForTimingAttackPrevention")
     private static final String DUMMY_PASSWORD_HASH = "$2a$10$N9qo8uLOickgx2ZMRZoMye1mIWdO6aDIg8XrqkZWJbv6WQ8kJjX0G";
@@ -38,27 +43,50 @@ public class AuthService {
      * 관리자 로그인 처리
      * 이메일과 비밀번호를 검증하고 JWT 토큰을 생성합니다.
      * 타이밍 공격 방지를 위해 사용자 존재 여부와 관계없이 동일한 처리 시간을 보장합니다.
+     * 같은 IP에서 계정의 실패가, 또는 IP의 실패가 누적되어 대기 중이면 DB 조회와 비밀번호 검증 없이 거부합니다.
+     * 다른 IP의 실패로는 거부되지 않으므로, 공개된 관리자 이메일로 실패를 반복해도 소유자의 로그인은 막히지 않습니다.
      *
      * @param loginRequest 로그인 요청 정보 (이메일, 비밀번호)
      * @return 로그인 응답 (JWT 토큰)
-     * @throws RuntimeException 인증 실패 시
+     * @throws AuthenticationException 인증 실패 시
+     * @throws LoginThrottledException 재시도 대기 중이거나 비밀번호 검증 실행기가 포화된 경우
      */
     public LoginResponse login(LoginRequest loginRequest) {
         String traceId = MDC.get("traceId");
         log.info("[AUTH] Login attempt - TraceId: {} - Email: {}", traceId, loginRequest.getEmail());
 
+        SessionInfo clientInfo = getClientInfo();
+        String clientIp = "unknown".equals(clientInfo.getClientIp()) ? null : clientInfo.getClientIp();
+        rejectIfBackingOff(loginRequest.getEmail(), clientIp, traceId);
+
         Admin admin = findAdminByEmail(loginRequest.getEmail());
         boolean isValidCredentials = authenticateUser(admin, loginRequest.getPassword());
         String token = null;
 
         if (isValidCredentials) {
-            token = generateTokenAndCreateSession(admin, traceId);
+            loginFailureTracker.recordSuccess(loginRequest.getEmail(), clientIp);
+            token = generateTokenAndCreateSession(admin, traceId, clientInfo);
+        } else {
+            loginFailureTracker.recordFailure(loginRequest.getEmail(), clientIp);
         }
 
         validateCredentialsOrThrow(isValidCredentials, traceId, loginRequest.getEmail());
         return new LoginResponse(token);
     }
 
+    /**
+     * 로그인 실패 누적으로 대기 중이면 거부
+     */
+    private void rejectIfBackingOff(String email, String clientIp, String traceId) {
+        long retryAfterMillis = loginFailureTracker.retryAfterMillis(email, clientIp);
+        if (retryAfterMillis > 0) {
+            log.warn("[AUTH] Login refused - TraceId: {} - Too many failures for: {} from {} (retry after {}ms)",
+                    traceId, email, clientIp, retryAfterMillis);
+            throw new LoginThrottledException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.",
+                    (retryAfterMillis + 999) / 1000);
+        }
+    }
+
     /**
      * 이메일로 관리자 조회
      */
@@ -68,14 +96,15 @@ public class AuthService {
 
     /**
      * 사용자 인증 처리 (타이밍 공격 방지 포함)
+     * 비밀번호 검증은 요청 스레드가 아닌 전용 실행기에서 수행합니다.
      */
     private boolean authenticateUser(Admin admin, String password) {
         if (admin != null) {
-            return passwordEncoder.matches(password, admin.getPassword());
+            return passwordVerifier.matches(password, admin.getPassword());
         } else {
             // 사용자가 존재하지 않는 경우: 동일한 시간 소모를 위한 더미 검증
             // 타이밍 공격 방지 목적 (유효한 BCrypt 해시 사용)
-            passwordEncoder.matches(password, DUMMY_PASSWORD_HASH);
+            passwordVerifier.matches(password, DUMMY_PASSWORD_HASH);
             return false;
         }
     }
@@ -83,13 +112,12 @@ public class AuthService {
     /**
      * 토큰 생성 및 세션 생성
      */
-    private String generateTokenAndCreateSession(Admin admin, String traceId) {
+    private String generateTokenAndCreateSession(Admin admin, String traceId, SessionInfo clientInfo) {
         String token = jwtUtil.generateTokenWithId(admin.getEmail());
 
-        // 세션 관리 - 클라이언트 정보 수집 및 세션 생성
+        // 세션 관리 - 수집한 클라이언트 정보로 세션 생성
         try {
             String tokenId = jwtUtil.extractTokenId(token);
-            SessionInfo clientInfo = getClientInfo();
             sessionManagementService.createSession(admin.getEmail(), tokenId, clientInfo);
         } catch (Exception e) {
             log.warn("[AUTH] Failed to create session for user {}: {}", admin.getEmail(), e.getMessage());
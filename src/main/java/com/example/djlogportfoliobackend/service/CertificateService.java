@@ -4,10 +4,14 @@ import com.example.djlogportfoliobackend.dto.CertificateRequest;
 import com.example.djlogportfoliobackend.dto.CertificateResponse;
 import com.example.djlogportfoliobackend.entity.Certificate;
 import com.example.djlogportfoliobackend.entity.Profile;
+import com.example.djlogportfoliobackend.event.ChangeType;
+import com.example.djlogportfoliobackend.event.PortfolioChangeEvent;
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
 import com.example.djlogportfoliobackend.exception.ResourceNotFoundException;
 import com.example.djlogportfoliobackend.repository.CertificateRepository;
 import com.example.djlogportfoliobackend.repository.ProfileRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +30,7 @@ public class CertificateService {
 
     private final CertificateRepository certificateRepository;
     private final ProfileRepository profileRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모든 자격증 목록 조회
@@ -60,6 +65,7 @@ public class CertificateService {
         );
 
         Certificate savedCertificate = certificateRepository.save(certificate);
+        publishChange(savedCertificate.getId(), ChangeType.CREATED);
         return toResponse(savedCertificate);
     }
 
@@ -81,6 +87,7 @@ public class CertificateService {
         certificate.setIssueDate(request.parseIssueDate());
         certificate.setCredentialId(request.getCredentialId());
 
+        publishChange(id, ChangeType.UPDATED);
         return toResponse(certificate);
     }
 
@@ -96,6 +103,18 @@ public class CertificateService {
             throw new ResourceNotFoundException("자격증 정보를 찾을 수 없습니다.");
         }
         certificateRepository.deleteById(id);
+        publishChange(id, ChangeType.DELETED);
+    }
+
+    /**
+     * 자격증 변경 이벤트 발행
+     * 리스너는 트랜잭션 커밋 이후에만 이벤트를 처리합니다.
+     *
+     * @param id 변경된 자격증 ID
+     * @param changeType 변경 유형
+     */
+    private void publishChange(UUID id, ChangeType changeType) {
+        eventPublisher.publishEvent(new PortfolioChangeEvent(PortfolioEntityType.CERTIFICATE, id, changeType));
     }
 
     /**
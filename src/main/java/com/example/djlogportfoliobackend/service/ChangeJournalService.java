@@ -0,0 +1,283 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.dto.ContentChangeResponse;
+import com.example.djlogportfoliobackend.event.ChangeType;
+import com.example.djlogportfoliobackend.event.PortfolioChangeEvent;
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
+import com.example.djlogportfoliobackend.event.ReplicatedChangeEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 엔티티 변경 저널 서비스
+ *
+ * 서비스가 커밋 후 발행하는 {@link PortfolioChangeEvent}를 메모리 내 append-only 저널에 기록한다.
+ * 엔티티 단위 Hibernate 이벤트가 아니므로 @ElementCollection만 바뀐 수정(프로젝트 태그 등)도 빠지지 않는다.
+ * 클라이언트는 마지막으로 받은 버전 이후의 변경만 조회하여 델타 동기화를 수행할 수 있다.
+ *
+ * 다중 노드:
+ * - 로컬 변경은 pub/sub으로 다른 노드에 전파되고, 수신 노드는 자신의 버전 공간에서 새 버전으로 기록
+ * - 수신한 변경은 {@link ReplicatedChangeEvent}로 노드 안에 다시 발행하여 SSE 구독자 등 로컬 리스너도 받도록 함
+ * - 버전은 노드마다 독립적이므로 응답에 저널 ID를 포함하고, 다른 저널의 버전으로 요청하면 전체 스냅샷으로 대체
+ *
+ * 저장 구조:
+ * - 항목당 버전(long), 엔티티 ID(long 2개), 엔티티/변경 유형(byte 1개)만 병렬 원시 배열에 저장
+ * - 저널이 가득 차면 엔티티별 최신 항목만 남기도록 compaction 수행
+ * - compaction 후에도 공간이 부족하면 가장 오래된 항목을 잘라내고 floor 버전을 올림
+ *
+ * floor 버전보다 오래된 버전을 요청한 클라이언트는 변경 이력을 복원할 수 없으므로
+ * 전체 스냅샷으로 대체해야 한다.
+ */
+@Slf4j
+@Service
+public class ChangeJournalService implements MessageListener {
+
+    public static final String CHANGE_CHANNEL = "change-journal:changes";
+
+    private static final PortfolioEntityType[] ENTITY_TYPES = PortfolioEntityType.values();
+    private static final ChangeType[] CHANGE_TYPES = ChangeType.values();
+
+    private final ContentVersionService contentVersionService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean replicationEnabled;
+    private final int capacity;
+
+    /** 이 저널(노드 + 기동 시점)의 버전 공간 식별자 */
+    private final String journalId = UUID.randomUUID().toString().substring(0, 8);
+
+    private final long[] versions;
+    private final long[] idMostBits;
+    private final long[] idLeastBits;
+    private final byte[] kinds;
+    private int size;
+
+    /** 이 버전 이하의 변경은 저널에서 복원할 수 없음 */
+    private long floorVersion;
+
+    public ChangeJournalService(ContentVersionService contentVersionService,
+                                StringRedisTemplate stringRedisTemplate,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${change-journal.capacity:4096}") int capacity,
+                                @Value("#{${change-journal.replication-enabled:true} and '${store.type:redis}'.equals('redis')}")
+                                boolean replicationEnabled) {
+        this.contentVersionService = contentVersionService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.replicationEnabled = replicationEnabled;
+        this.capacity = Math.max(16, capacity);
+        this.versions = new long[this.capacity];
+        this.idMostBits = new long[this.capacity];
+        this.idLeastBits = new long[this.capacity];
+        this.kinds = new byte[this.capacity];
+        this.floorVersion = contentVersionService.currentVersion();
+    }
+
+    /**
+     * 포트폴리오 변경 커밋 후 저널에 기록하고 다른 노드에 전파
+     *
+     * @param event 포트폴리오 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPortfolioChanged(PortfolioChangeEvent event) {
+        append(event.getEntityType(), event.getEntityId(), event.getChangeType());
+
+        if (!replicationEnabled) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(CHANGE_CHANNEL, journalId + ":" + event.getEntityType().name() + ":"
+                    + event.getChangeType().name() + ":" + (event.getEntityId() != null ? event.getEntityId() : ""));
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드의 델타 응답에서 이 변경이 빠지므로 경고로 남김
+            log.warn("[CHANGE_JOURNAL] Failed to replicate {} {}: {}",
+                    event.getEntityType(), event.getEntityId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드가 전파한 변경 수신
+     * 원본 노드의 버전은 이 노드와 비교할 수 없으므로 로컬 버전으로 새로 기록한 뒤,
+     * 이 노드의 SSE 구독자에게도 전달되도록 {@link ReplicatedChangeEvent}를 발행한다.
+     * 형식: {저널 ID}:{엔티티 종류}:{변경 유형}:{엔티티 ID 또는 빈 문자열}
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = payload.split(":", 4);
+        if (parts.length != 4 || parts[0].equals(journalId)) {
+            return;
+        }
+
+        ReplicatedChangeEvent event;
+        try {
+            event = new ReplicatedChangeEvent(PortfolioEntityType.valueOf(parts[1]),
+                    parts[3].isEmpty() ? null : UUID.fromString(parts[3]), ChangeType.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) {
+            log.warn("[CHANGE_JOURNAL] Unknown change message: {}", payload);
+            return;
+        }
+        append(event.getEntityType(), event.getEntityId(), event.getChangeType());
+        eventPublisher.publishEvent(event);
+    }
+
+    /**
+     * 저널 ID 조회
+     * 클라이언트는 델타 요청 시 since와 함께 이 값을 보내야 하며, 다르면 전체 스냅샷을 받는다.
+     *
+     * @return 이 저널의 버전 공간 식별자
+     */
+    public String getJournalId() {
+        return journalId;
+    }
+
+    /**
+     * 변경 항목 추가
+     * 버전은 잠금 안에서 할당되므로 저널 내 항목은 항상 버전 오름차순으로 정렬된다.
+     *
+     * @param entityType 엔티티 종류
+     * @param entityId 엔티티 ID
+     * @param changeType 변경 유형
+     * @return 할당된 버전
+     */
+    public synchronized long append(PortfolioEntityType entityType, UUID entityId, ChangeType changeType) {
+        if (size == capacity) {
+            compact();
+        }
+
+        long version = contentVersionService.nextVersion();
+        versions[size] = version;
+        idMostBits[size] = entityId != null ? entityId.getMostSignificantBits() : 0L;
+        idLeastBits[size] = entityId != null ? entityId.getLeastSignificantBits() : 0L;
+        kinds[size] = encodeKind(entityType, changeType);
+        size++;
+        return version;
+    }
+
+    /**
+     * 지정한 버전 이후의 변경 목록 조회
+     * 같은 엔티티에 대한 여러 변경은 가장 최신 항목 하나로 합쳐진다.
+     *
+     * @param since 클라이언트가 마지막으로 동기화한 버전
+     * @return 버전 오름차순 변경 목록, 저널로 복원할 수 없으면 empty (전체 스냅샷 필요)
+     */
+    public synchronized Optional<List<ContentChangeResponse>> changesSince(long since) {
+        if (since < floorVersion || since > contentVersionService.currentVersion()) {
+            return Optional.empty();
+        }
+
+        int start = firstIndexAfter(since);
+        if (start == size) {
+            return Optional.of(Collections.emptyList());
+        }
+
+        List<ContentChangeResponse> changes = new ArrayList<>();
+        Set<EntityKey> seen = new HashSet<>();
+        for (int i = size - 1; i >= start; i--) {
+            if (seen.add(keyAt(i))) {
+                changes.add(toResponse(i));
+            }
+        }
+        Collections.reverse(changes);
+        return Optional.of(changes);
+    }
+
+    /**
+     * 저널 상태 조회 (모니터링 용도)
+     *
+     * @return 현재 항목 수
+     */
+    public synchronized int getSize() {
+        return size;
+    }
+
+    /**
+     * 저널 compaction
+     * 엔티티별 최신 항목만 남기고, 그래도 용량의 3/4를 넘으면 오래된 항목을 절반까지 잘라낸다.
+     */
+    private void compact() {
+        int before = size;
+        Set<EntityKey> seen = new HashSet<>();
+        boolean[] keep = new boolean[size];
+        for (int i = size - 1; i >= 0; i--) {
+            keep[i] = seen.add(keyAt(i));
+        }
+
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            if (!keep[read]) {
+                // 같은 엔티티의 더 최신 항목이 남아 있으므로 어떤 since 값에 대해서도 델타 결과는 동일함
+                continue;
+            }
+            moveEntry(read, write++);
+        }
+        size = write;
+
+        if (size > capacity * 3 / 4) {
+            int drop = size - capacity / 2;
+            floorVersion = versions[drop - 1];
+            System.arraycopy(versions, drop, versions, 0, size - drop);
+            System.arraycopy(idMostBits, drop, idMostBits, 0, size - drop);
+            System.arraycopy(idLeastBits, drop, idLeastBits, 0, size - drop);
+            System.arraycopy(kinds, drop, kinds, 0, size - drop);
+            size -= drop;
+        }
+
+        log.info("[CHANGE_JOURNAL] Compacted journal - Before: {} - After: {} - Floor version: {}",
+                before, size, floorVersion);
+    }
+
+    private void moveEntry(int from, int to) {
+        if (from == to) {
+            return;
+        }
+        versions[to] = versions[from];
+        idMostBits[to] = idMostBits[from];
+        idLeastBits[to] = idLeastBits[from];
+        kinds[to] = kinds[from];
+    }
+
+    private int firstIndexAfter(long since) {
+        int index = Arrays.binarySearch(versions, 0, size, since);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private EntityKey keyAt(int index) {
+        return new EntityKey(kinds[index] >> 2, idMostBits[index], idLeastBits[index]);
+    }
+
+    private ContentChangeResponse toResponse(int index) {
+        UUID entityId = (idMostBits[index] == 0L && idLeastBits[index] == 0L)
+                ? null
+                : new UUID(idMostBits[index], idLeastBits[index]);
+        return new ContentChangeResponse(
+                versions[index],
+                ENTITY_TYPES[kinds[index] >> 2],
+                entityId,
+                CHANGE_TYPES[kinds[index] & 0x3]);
+    }
+
+    private static byte encodeKind(PortfolioEntityType entityType, ChangeType changeType) {
+        return (byte) ((entityType.ordinal() << 2) | changeType.ordinal());
+    }
+
+    private record EntityKey(int entityType, long mostBits, long leastBits) {
+    }
+}
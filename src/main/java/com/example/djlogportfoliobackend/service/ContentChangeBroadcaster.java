@@ -0,0 +1,382 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.dto.ContentChangeResponse;
+import com.example.djlogportfoliobackend.event.ChangeType;
+import com.example.djlogportfoliobackend.event.PortfolioChangeEvent;
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
+import com.example.djlogportfoliobackend.event.ReplicatedChangeEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 콘텐츠 변경 SSE 브로드캐스터
+ *
+ * 포트폴리오 쓰기가 커밋되면 전역 콘텐츠 버전을 올리고 연결된 모든 SSE 구독자에게 변경 사항을 전송한다.
+ * 다른 노드에서 커밋된 쓰기도 변경 저널의 전파({@link ReplicatedChangeEvent})를 받아 같은 방식으로 전송한다.
+ *
+ * 동작 방식:
+ * - 구독 요청은 {@link SseEmitter}를 반환하는 즉시 서블릿 비동기 모드로 전환되어
+ *   대기 중인 연결이 Tomcat 워커 스레드를 점유하지 않음 (NIO 커넥터가 소켓만 유지)
+ * - 전체 구독자 수와 클라이언트(IP, IPv6는 /64)별 구독자 수를 각각 제한하여 한 클라이언트가 슬롯을 독점하지 못함
+ * - 브로드캐스트 스레드는 구독자별 전송 대기열에 프레임을 넣기만 하고, 실제 전송은 전송 스레드 풀이 구독자 단위로 수행
+ *   (이벤트 프레임은 변경당 한 번만 직렬화)
+ * - 느린 구독자는 대기열이 가득 차거나 한 번의 전송이 send-timeout-ms를 넘으면 연결을 끊어 다른 구독자 전달을 막지 않음
+ * - 주기적인 heartbeat 주석으로 끊어진 연결을 정리하고 프록시의 유휴 타임아웃을 방지
+ */
+@Slf4j
+@Service
+public class ContentChangeBroadcaster {
+
+    private static final String EVENT_NAME = "content-change";
+
+    /**
+     * 구독 거절 사유
+     */
+    public enum Rejection {
+        /** 같은 클라이언트의 구독 수 초과 */
+        CLIENT_LIMIT,
+        /** 전체 구독 수 초과 */
+        SUBSCRIBER_LIMIT
+    }
+
+    /**
+     * 구독 결과
+     *
+     * @param emitter 등록된 SSE emitter (거절되면 null)
+     * @param rejection 거절 사유 (등록되면 null)
+     */
+    public record Subscription(SseEmitter emitter, Rejection rejection) {
+    }
+
+    private final ContentVersionService contentVersionService;
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMillis;
+    private final int maxConnections;
+    private final int maxConnectionsPerClient;
+    private final int sendQueueSize;
+    private final long sendTimeoutNanos;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<String, Integer> connectionsPerClient = new ConcurrentHashMap<>();
+    private final LongAdder slowSubscribersDropped = new LongAdder();
+    private final ScheduledExecutorService broadcastExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "content-broadcast");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService senderExecutor;
+
+    public ContentChangeBroadcaster(ContentVersionService contentVersionService,
+                                    ObjectMapper objectMapper,
+                                    @Value("${content-events.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+                                    @Value("${content-events.max-connections:5000}") int maxConnections,
+                                    @Value("${content-events.max-connections-per-client:10}") int maxConnectionsPerClient,
+                                    @Value("${content-events.heartbeat-seconds:25}") long heartbeatSeconds,
+                                    @Value("${content-events.sender-threads:4}") int senderThreads,
+                                    @Value("${content-events.send-queue-size:32}") int sendQueueSize,
+                                    @Value("${content-events.send-timeout-ms:10000}") long sendTimeoutMillis) {
+        this.contentVersionService = contentVersionService;
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerClient = Math.max(1, maxConnectionsPerClient);
+        this.sendQueueSize = Math.max(1, sendQueueSize);
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        AtomicInteger senderIndex = new AtomicInteger();
+        this.senderExecutor = Executors.newFixedThreadPool(Math.max(1, senderThreads), r -> {
+            Thread thread = new Thread(r, "content-sender-" + senderIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        broadcastExecutor.scheduleAtFixedRate(this::sendHeartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 새 구독자 등록
+     * 연결 직후 현재 콘텐츠 버전을 담은 hello 이벤트를 보내 클라이언트가 기준 버전을 알 수 있게 한다.
+     *
+     * @param clientKey 구독 수를 제한할 클라이언트 키 ({@code NetworkUtil.getClientKey})
+     * @return 등록된 emitter 또는 거절 사유
+     */
+    public Subscription subscribe(String clientKey) {
+        if (subscribers.size() >= maxConnections) {
+            log.warn("[CONTENT_EVENTS] Subscriber limit reached: {}", maxConnections);
+            return new Subscription(null, Rejection.SUBSCRIBER_LIMIT);
+        }
+        if (!reserveClientSlot(clientKey)) {
+            log.warn("[CONTENT_EVENTS] Per-client subscriber limit reached: {} - Limit: {}",
+                    clientKey, maxConnectionsPerClient);
+            return new Subscription(null, Rejection.CLIENT_LIMIT);
+        }
+
+        SseEmitter emitter = newEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, clientKey);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscribers.add(subscriber);
+
+        try {
+            // 응답이 시작되기 전이므로 버퍼에 쌓이기만 하고 소켓 쓰기를 기다리지 않음
+            long version = contentVersionService.currentVersion();
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(version))
+                    .name("hello")
+                    .data("{\"version\":" + version + "}", MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            remove(subscriber);
+            emitter.completeWithError(e);
+        }
+
+        log.debug("[CONTENT_EVENTS] Subscriber added - Active: {}", subscribers.size());
+        return new Subscription(emitter, null);
+    }
+
+    /**
+     * 포트폴리오 변경 커밋 후 전역/집계 버전 증가 및 브로드캐스트
+     *
+     * @param event 포트폴리오 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPortfolioChanged(PortfolioChangeEvent event) {
+        publishChange(event.getEntityType(), event.getEntityId(), event.getChangeType());
+    }
+
+    /**
+     * 다른 노드에서 커밋된 변경의 전역/집계 버전 증가 및 브로드캐스트
+     * 변경 저널이 pub/sub으로 받은 변경이므로, 구독자가 어느 노드에 연결되어 있어도 같은 변경을 받는다.
+     *
+     * @param event 다른 노드의 변경 이벤트
+     */
+    @EventListener
+    public void onReplicatedChange(ReplicatedChangeEvent event) {
+        publishChange(event.getEntityType(), event.getEntityId(), event.getChangeType());
+    }
+
+    private void publishChange(PortfolioEntityType entityType, UUID entityId, ChangeType changeType) {
+        long version = contentVersionService.recordChange(entityType);
+        ContentChangeResponse message = new ContentChangeResponse(version, entityType, entityId, changeType);
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            log.error("[CONTENT_EVENTS] Failed to serialize change event: {}", e.getMessage());
+            return;
+        }
+
+        Set<DataWithMediaType> frame = SseEmitter.event()
+                .id(String.valueOf(version))
+                .name(EVENT_NAME)
+                .data(payload, MediaType.APPLICATION_JSON)
+                .build();
+
+        broadcastExecutor.execute(() -> broadcast(frame));
+    }
+
+    /**
+     * 현재 구독자 수 조회
+     *
+     * @return 활성 SSE 연결 수
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * 느려서 연결을 끊은 구독자 수 조회
+     *
+     * @return 누적 수
+     */
+    public long getSlowSubscribersDropped() {
+        return slowSubscribersDropped.sum();
+    }
+
+    /**
+     * SSE emitter 생성 (테스트에서 전송 동작을 대체할 수 있도록 분리)
+     */
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * heartbeat 전송과 전송이 멈춘 구독자 정리
+     */
+    void sendHeartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long startedAt = subscriber.sendStartedNanos;
+            if (startedAt != 0 && now - startedAt > sendTimeoutNanos) {
+                dropSlow(subscriber, "send stalled");
+            } else {
+                enqueue(subscriber, heartbeat);
+            }
+        }
+    }
+
+    private void broadcast(Set<DataWithMediaType> frame) {
+        int queued = 0;
+        for (Subscriber subscriber : subscribers) {
+            if (enqueue(subscriber, frame)) {
+                queued++;
+            }
+        }
+        log.debug("[CONTENT_EVENTS] Change broadcast - Queued: {} - Active: {}", queued, subscribers.size());
+    }
+
+    private boolean reserveClientSlot(String clientKey) {
+        boolean[] reserved = {false};
+        connectionsPerClient.compute(clientKey, (key, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= maxConnectionsPerClient) {
+                return count;
+            }
+            reserved[0] = true;
+            return current + 1;
+        });
+        return reserved[0];
+    }
+
+    /**
+     * 구독자 전송 대기열에 프레임 추가 (대기하지 않음)
+     * 대기열이 가득 찼으면 따라오지 못하는 구독자로 보고 연결을 끊는다.
+     */
+    private boolean enqueue(Subscriber subscriber, Set<DataWithMediaType> frame) {
+        boolean overflow = false;
+        boolean startDrain = false;
+        synchronized (subscriber) {
+            if (subscriber.closed.get()) {
+                return false;
+            }
+            if (subscriber.pending.size() >= sendQueueSize) {
+                overflow = true;
+            } else {
+                subscriber.pending.add(frame);
+                startDrain = !subscriber.draining;
+                subscriber.draining = true;
+            }
+        }
+        if (overflow) {
+            dropSlow(subscriber, "send queue full");
+            return false;
+        }
+        if (startDrain) {
+            try {
+                senderExecutor.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                remove(subscriber);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 전송 스레드에서 구독자 대기열을 비움
+     * 한 구독자의 대기열은 한 번에 한 스레드만 비우므로 프레임 순서가 유지된다.
+     */
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            Set<DataWithMediaType> frame;
+            synchronized (subscriber) {
+                frame = subscriber.closed.get() ? null : subscriber.pending.poll();
+                if (frame == null) {
+                    subscriber.pending.clear();
+                    subscriber.draining = false;
+                }
+            }
+            if (frame == null) {
+                if (subscriber.closed.get()) {
+                    // 느린 구독자로 끊긴 경우: 진행 중이던 전송이 끝난 뒤 이 스레드에서 종료
+                    subscriber.emitter.complete();
+                }
+                return;
+            }
+            subscriber.sendStartedNanos = System.nanoTime();
+            try {
+                subscriber.emitter.send(frame);
+            } catch (IOException | IllegalStateException e) {
+                remove(subscriber);
+                subscriber.emitter.completeWithError(e);
+                return;
+            } finally {
+                subscriber.sendStartedNanos = 0;
+            }
+        }
+    }
+
+    /**
+     * 느린 구독자 제거
+     * 전송 중인 스레드를 기다리지 않도록 목록에서만 빼고, emitter 종료는 대기열을 비우던 전송 스레드가 맡는다.
+     */
+    private void dropSlow(Subscriber subscriber, String reason) {
+        if (remove(subscriber)) {
+            slowSubscribersDropped.increment();
+            log.info("[CONTENT_EVENTS] Slow subscriber dropped - Client: {} - Reason: {}", subscriber.clientKey, reason);
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscribers.remove(subscriber);
+        connectionsPerClient.computeIfPresent(subscriber.clientKey, (key, count) -> count > 1 ? count - 1 : null);
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        broadcastExecutor.shutdownNow();
+        senderExecutor.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            remove(subscriber);
+            subscriber.emitter.complete();
+        }
+    }
+
+    /**
+     * 구독자별 연결 상태와 전송 대기열
+     */
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final String clientKey;
+        private final ArrayDeque<Set<DataWithMediaType>> pending = new ArrayDeque<>();
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private boolean draining;
+        private volatile long sendStartedNanos;
+
+        private Subscriber(SseEmitter emitter, String clientKey) {
+            this.emitter = emitter;
+            this.clientKey = clientKey;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 콘텐츠 버전 관리 서비스
+ *
+ * 공개 데이터가 변경될 때마다 증가하는 전역 콘텐츠 버전을 메모리에 유지한다.
+ * 재시작 후에도 이전 버전보다 작아지지 않도록 시작 시각(epoch millis)을 초기값으로 사용한다.
+ *
+ * 집계(프로필, 프로젝트, 스킬, 학력, 자격증)별로 마지막으로 변경된 시점의 전역 버전도 함께 유지하여
+ * 조건부 GET이 DB를 조회하지 않고 응답의 최신 여부를 판단할 수 있게 한다.
+ *
+ * 버전은 노드마다 독립적인 카운터이므로, 다른 노드의 변경은 변경 저널 전파({@link ChangeJournalService})로
+ * 받은 변경을 {@link ContentChangeBroadcaster}가 로컬 변경과 같은 방식으로 기록하여 반영한다.
+ * 응답 캐시 L2 사용 여부와 무관하며, 전파를 끄면(change-journal.replication-enabled=false) 단일 노드에서만 올바르다.
+ */
+@Service
+public class ContentVersionService {
+
+    private static final PortfolioEntityType[] ENTITY_TYPES = PortfolioEntityType.values();
+
+    private final AtomicLong globalVersion = new AtomicLong(System.currentTimeMillis());
+    private final AtomicLongArray aggregateVersions = new AtomicLongArray(ENTITY_TYPES.length);
+
+    public ContentVersionService() {
+        long initialVersion = globalVersion.get();
+        for (int i = 0; i < ENTITY_TYPES.length; i++) {
+            aggregateVersions.set(i, initialVersion);
+        }
+    }
+
+    /**
+     * 현재 전역 콘텐츠 버전 조회
+     *
+     * @return 현재 버전
+     */
+    public long currentVersion() {
+        return globalVersion.get();
+    }
+
+    /**
+     * 전역 콘텐츠 버전을 증가시키고 새 버전을 반환
+     *
+     * @return 증가된 버전
+     */
+    public long nextVersion() {
+        return globalVersion.incrementAndGet();
+    }
+
+    /**
+     * 집계 변경 기록
+     * 전역 버전을 증가시키고 해당 집계의 버전을 새 전역 버전으로 갱신한다.
+     * 동시에 기록되더라도 집계 버전은 감소하지 않는다.
+     *
+     * @param entityType 변경된 집계 종류
+     * @return 증가된 전역 버전
+     */
+    public long recordChange(PortfolioEntityType entityType) {
+        long version = globalVersion.incrementAndGet();
+        aggregateVersions.accumulateAndGet(entityType.ordinal(), version, Math::max);
+        return version;
+    }
+
+    /**
+     * 집계별 콘텐츠 버전 조회
+     *
+     * @param entityType 집계 종류
+     * @return 해당 집계가 마지막으로 변경된 시점의 전역 버전
+     */
+    public long currentVersion(PortfolioEntityType entityType) {
+        return aggregateVersions.get(entityType.ordinal());
+    }
+
+    /**
+     * 여러 집계 중 가장 최근 버전 조회
+     * 버전은 전역적으로 단조 증가하므로 최댓값은 집계 중 하나라도 바뀌면 반드시 바뀐다.
+     *
+     * @param entityTypes 응답이 의존하는 집계 목록
+     * @return 가장 최근 집계 버전
+     */
+    public long currentVersion(PortfolioEntityType... entityTypes) {
+        long version = 0L;
+        for (PortfolioEntityType entityType : entityTypes) {
+            version = Math.max(version, aggregateVersions.get(entityType.ordinal()));
+        }
+        return version;
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.dto.CertificateResponse;
+import com.example.djlogportfoliobackend.dto.ChangeEntryResponse;
+import com.example.djlogportfoliobackend.dto.ChangeSetResponse;
+import com.example.djlogportfoliobackend.dto.ContentChangeResponse;
+import com.example.djlogportfoliobackend.dto.EducationResponse;
+import com.example.djlogportfoliobackend.dto.ProfileResponse;
+import com.example.djlogportfoliobackend.dto.ProjectResponse;
+import com.example.djlogportfoliobackend.dto.SkillResponse;
+import com.example.djlogportfoliobackend.entity.ProjectStatus;
+import com.example.djlogportfoliobackend.event.ChangeType;
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 델타 동기화 서비스
+ * 변경 저널을 기반으로 클라이언트가 마지막으로 동기화한 버전 이후의 변경만 조립하여 반환합니다.
+ *
+ * 프로필 수정은 기술 스택/학력/자격증을 모두 교체하지만 저널에는 PROFILE 변경 하나만 남으므로,
+ * 범위 안에 프로필 변경이 있으면 삭제/추가된 하위 항목을 델타로 표현할 수 없어 전체 스냅샷으로 대체합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeltaSyncService {
+
+    private final ChangeJournalService changeJournalService;
+    private final ContentVersionService contentVersionService;
+    private final ProfileService profileService;
+    private final ProjectService projectService;
+    private final SkillService skillService;
+    private final EducationService educationService;
+    private final CertificateService certificateService;
+
+    /**
+     * 지정한 버전 이후의 변경 조회
+     * 응답 버전은 데이터를 읽기 전에 확정하므로, 조회 도중 발생한 변경은 다음 요청에서 다시 전달됩니다.
+     * 프로필 변경이 포함되면 교체된 하위 항목을 전달하기 위해 전체 스냅샷을 반환합니다.
+     *
+     * @param since 클라이언트가 마지막으로 동기화한 버전 (null이면 전체 스냅샷)
+     * @param journalId since를 발급한 저널 ID (이 노드의 저널이 아니면 전체 스냅샷)
+     * @return 델타 또는 전체 스냅샷 응답
+     */
+    public ChangeSetResponse getChangesSince(Long since, String journalId) {
+        long version = contentVersionService.currentVersion();
+
+        if (since == null) {
+            return buildSnapshot(version);
+        }
+
+        if (!changeJournalService.getJournalId().equals(journalId)) {
+            // 다른 노드(또는 재시작 이전)의 버전 공간이므로 비교할 수 없음
+            log.debug("[DELTA_SYNC] Foreign journal={} since={}, falling back to snapshot", journalId, since);
+            return buildSnapshot(version);
+        }
+
+        Optional<List<ContentChangeResponse>> changes = changeJournalService.changesSince(since);
+        if (changes.isEmpty()) {
+            log.debug("[DELTA_SYNC] Journal cannot serve since={}, falling back to snapshot", since);
+            return buildSnapshot(version);
+        }
+
+        if (changes.get().stream().anyMatch(change -> change.getEntityType() == PortfolioEntityType.PROFILE)) {
+            log.debug("[DELTA_SYNC] Profile changed since={}, replaced children require snapshot", since);
+            return buildSnapshot(version);
+        }
+
+        ChangeSetResponse response = new ChangeSetResponse();
+        response.setVersion(version);
+        response.setJournal(changeJournalService.getJournalId());
+        response.setFullSnapshot(false);
+        response.setChanges(resolveEntries(changes.get()));
+        return response;
+    }
+
+    /**
+     * 변경 항목에 엔티티의 현재 공개 표현을 채움
+     * 종류별 목록은 필요한 경우에만 한 번씩 조회합니다.
+     */
+    private List<ChangeEntryResponse> resolveEntries(List<ContentChangeResponse> changes) {
+        List<ChangeEntryResponse> entries = new ArrayList<>(changes.size());
+        Map<UUID, SkillResponse> skills = null;
+        Map<UUID, EducationResponse> educations = null;
+        Map<UUID, CertificateResponse> certificates = null;
+
+        for (ContentChangeResponse change : changes) {
+            Object data = null;
+            if (change.getChangeType() != ChangeType.DELETED) {
+                switch (change.getEntityType()) {
+                    case PROFILE -> data = findProfile();
+                    case PROJECT -> data = findPublishedProject(change.getEntityId());
+                    case SKILL -> {
+                        if (skills == null) {
+                            skills = indexById(skillService.getAllSkills(), SkillResponse::getId);
+                        }
+                        data = skills.get(change.getEntityId());
+                    }
+                    case EDUCATION -> {
+                        if (educations == null) {
+                            educations = indexById(educationService.getAllEducations(), EducationResponse::getId);
+                        }
+                        data = educations.get(change.getEntityId());
+                    }
+                    case CERTIFICATE -> {
+                        if (certificates == null) {
+                            certificates = indexById(certificateService.getAllCertificates(), CertificateResponse::getId);
+                        }
+                        data = certificates.get(change.getEntityId());
+                    }
+                }
+            }
+
+            // 이후 삭제되었거나 비공개로 전환된 엔티티는 삭제로 전달
+            ChangeType changeType = data == null ? ChangeType.DELETED : change.getChangeType();
+            entries.add(new ChangeEntryResponse(
+                    change.getVersion(), change.getEntityType(), change.getEntityId(), changeType, data));
+        }
+        return entries;
+    }
+
+    private ProfileResponse findProfile() {
+        try {
+            return profileService.getProfile();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private ProjectResponse findPublishedProject(UUID projectId) {
+        if (projectId == null) {
+            return null;
+        }
+        return projectService.getProjectById(projectId)
+                .filter(project -> project.getStatus() == ProjectStatus.PUBLISHED)
+                .orElse(null);
+    }
+
+    private ChangeSetResponse buildSnapshot(long version) {
+        ChangeSetResponse response = new ChangeSetResponse();
+        response.setVersion(version);
+        response.setJournal(changeJournalService.getJournalId());
+        response.setFullSnapshot(true);
+        response.setProfile(findProfile());
+        response.setProjects(projectService.getPublishedProjects());
+        response.setSkills(skillService.getAllSkills());
+        response.setEducations(educationService.getAllEducations());
+        response.setCertificates(certificateService.getAllCertificates());
+        return response;
+    }
+
+    private static <T> Map<UUID, T> indexById(List<T> items, Function<T, UUID> idExtractor) {
+        return items.stream().collect(Collectors.toMap(idExtractor, Function.identity(), (a, b) -> a));
+    }
+}
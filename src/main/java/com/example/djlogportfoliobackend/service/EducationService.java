@@ -4,10 +4,14 @@ import com.example.djlogportfoliobackend.dto.EducationRequest;
 import com.example.djlogportfoliobackend.dto.EducationResponse;
 import com.example.djlogportfoliobackend.entity.Education;
 import com.example.djlogportfoliobackend.entity.Profile;
+import com.example.djlogportfoliobackend.event.ChangeType;
+import com.example.djlogportfoliobackend.event.PortfolioChangeEvent;
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
 import com.example.djlogportfoliobackend.exception.ResourceNotFoundException;
 import com.example.djlogportfoliobackend.repository.EducationRepository;
 import com.example.djlogportfoliobackend.repository.ProfileRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +30,7 @@ public class EducationService {
 
     private final EducationRepository educationRepository;
     private final ProfileRepository profileRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모든 학력 목록 조회
@@ -60,6 +65,7 @@ public class EducationService {
         );
 
         Education savedEducation = educationRepository.save(education);
+        publishChange(savedEducation.getId(), ChangeType.CREATED);
         return toResponse(savedEducation);
     }
 
@@ -81,6 +87,7 @@ public class EducationService {
         education.setPeriod(request.getPeriod());
         education.setDegree(request.getDegree());
 
+        publishChange(id, ChangeType.UPDATED);
         return toResponse(education);
     }
 
@@ -96,6 +103,18 @@ public class EducationService {
             throw new ResourceNotFoundException("학력 정보를 찾을 수 없습니다.");
         }
         educationRepository.deleteById(id);
+        publishChange(id, ChangeType.DELETED);
+    }
+
+    /**
+     * 학력 변경 이벤트 발행
+     * 리스너는 트랜잭션 커밋 이후에만 이벤트를 처리합니다.
+     *
+     * @param id 변경된 학력 ID
+     * @param changeType 변경 유형
+     */
+    private void publishChange(UUID id, ChangeType changeType) {
+        eventPublisher.publishEvent(new PortfolioChangeEvent(PortfolioEntityType.EDUCATION, id, changeType));
     }
 
     /**
@@ -15,8 +15,12 @@ import com.example.djlogportfoliobackend.entity.Certificate;
 import com.example.djlogportfoliobackend.entity.Education;
 import com.example.djlogportfoliobackend.entity.Profile;
 import com.example.djlogportfoliobackend.entity.Skill;
+import com.example.djlogportfoliobackend.event.ChangeType;
+import com.example.djlogportfoliobackend.event.PortfolioChangeEvent;
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
 import com.example.djlogportfoliobackend.repository.ProfileRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -46,6 +50,7 @@ public class ProfileService {
     private static final Pattern YEAR_PATTERN = Pattern.compile("(19|20)\\d{2}");
 
     private final ProfileRepository profileRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 현재 프로필 조회
@@ -94,6 +99,8 @@ public class ProfileService {
         replaceAchievements(profile, request);
 
         Profile savedProfile = profileRepository.save(profile);
+        eventPublisher.publishEvent(new PortfolioChangeEvent(
+                PortfolioEntityType.PROFILE, savedProfile.getId(), ChangeType.UPDATED));
         return convertToResponse(savedProfile);
     }
 
@@ -108,6 +115,8 @@ public class ProfileService {
     public ProfileResponse createProfile(ProfileRequest request) {
         Profile profile = convertToEntity(request);
         Profile savedProfile = profileRepository.save(profile);
+        eventPublisher.publishEvent(new PortfolioChangeEvent(
+                PortfolioEntityType.PROFILE, savedProfile.getId(), ChangeType.CREATED));
         return convertToResponse(savedProfile);
     }
 
@@ -12,6 +12,9 @@ import com.example.djlogportfoliobackend.entity.ProjectLink;
 import com.example.djlogportfoliobackend.entity.ProjectQnA;
 import com.example.djlogportfoliobackend.entity.ProjectSkill;
 import com.example.djlogportfoliobackend.entity.ProjectStatus;
+import com.example.djlogportfoliobackend.event.ChangeType;
+import com.example.djlogportfoliobackend.event.PortfolioChangeEvent;
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
 import com.example.djlogportfoliobackend.exception.ResourceNotFoundException;
 import com.example.djlogportfoliobackend.exception.ValidationException;
 import com.example.djlogportfoliobackend.repository.ProjectQnARepository;
@@ -19,6 +22,7 @@ import com.example.djlogportfoliobackend.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,6 +47,7 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final ProjectQnARepository projectQnARepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 전체 프로젝트 목록 조회
@@ -142,6 +147,7 @@ public class ProjectService {
             updateProjectRelations(project, request);
             
             Project savedProject = projectRepository.save(project);
+            publishChange(savedProject.getId(), ChangeType.CREATED);
             log.info("[PROJECT] Project created successfully - TraceId: {} - ID: {} - Title: {}",
                     traceId, savedProject.getId(), savedProject.getTitle());
             return convertToResponse(savedProject);
@@ -188,6 +194,7 @@ public class ProjectService {
         updateProjectRelationsEfficiently(project, request);
         
         Project savedProject = projectRepository.save(project);
+        publishChange(savedProject.getId(), ChangeType.UPDATED);
         log.info("[PROJECT] Project updated successfully - TraceId: {} - ID: {} - Title: {}",
                 traceId, savedProject.getId(), savedProject.getTitle());
         return convertToResponse(savedProject);
@@ -211,6 +218,7 @@ public class ProjectService {
         }
 
         projectRepository.deleteById(id);
+        publishChange(id, ChangeType.DELETED);
         log.info("[PROJECT] Project deleted successfully - TraceId: {} - ID: {}", traceId, id);
     }
 
@@ -242,6 +250,7 @@ public class ProjectService {
 
         updates.forEach(update -> qnaMap.get(update.getId()).setDisplayOrder(update.getDisplayOrder()));
         projectQnARepository.saveAll(qnas);
+        publishChange(projectId, ChangeType.UPDATED);
 
         return projectQnARepository.findByProjectIdOrderByDisplayOrderAscIdAsc(projectId).stream()
                 .map(this::convertToQnAResponse)
@@ -452,6 +461,17 @@ public class ProjectService {
         }
     }
 
+    /**
+     * 프로젝트 변경 이벤트 발행
+     * 리스너는 트랜잭션 커밋 이후에만 이벤트를 처리합니다.
+     *
+     * @param projectId 변경된 프로젝트 ID
+     * @param changeType 변경 유형
+     */
+    private void publishChange(UUID projectId, ChangeType changeType) {
+        eventPublisher.publishEvent(new PortfolioChangeEvent(PortfolioEntityType.PROJECT, projectId, changeType));
+    }
+
     private Integer resolveQnADisplayOrder(Integer displayOrder, int fallbackOrder) {
         return displayOrder != null ? displayOrder : fallbackOrder;
     }
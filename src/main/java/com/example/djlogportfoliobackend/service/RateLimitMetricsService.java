@@ -0,0 +1,151 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.dto.ConcurrencyLimitResponse;
+import com.example.djlogportfoliobackend.dto.RateLimitMetricsResponse;
+import com.example.djlogportfoliobackend.dto.RateLimitOffenderResponse;
+import com.example.djlogportfoliobackend.dto.RateLimitPolicyMetricsResponse;
+import com.example.djlogportfoliobackend.dto.RateLimitTopOffendersResponse;
+import com.example.djlogportfoliobackend.filter.RateLimitFilter;
+import com.example.djlogportfoliobackend.ratelimit.AdaptiveConcurrencyLimiter;
+import com.example.djlogportfoliobackend.ratelimit.RateLimitCounter;
+import com.example.djlogportfoliobackend.ratelimit.RateLimitPolicy;
+import com.example.djlogportfoliobackend.ratelimit.RateLimitPolicyMatcher;
+import com.example.djlogportfoliobackend.ratelimit.RateLimiterEngine;
+import com.example.djlogportfoliobackend.ratelimit.SketchRateLimiter;
+import com.example.djlogportfoliobackend.ratelimit.StateTableRateLimiter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 제한 운영 지표 서비스
+ * 빈도 제한 엔진과 동시 처리 제한기의 내부 집계 결과를 관리자 조회용 응답으로 변환합니다.
+ */
+@Service
+public class RateLimitMetricsService {
+
+    private static final int MAX_OFFENDERS = 100;
+
+    private static final List<String> UTILIZATION_LABELS = utilizationLabels();
+
+    private final RateLimiterEngine rateLimiterEngine;
+    private final RateLimiterEngine globalRateLimiterEngine;
+    private final RateLimitPolicyMatcher policyMatcher;
+    private final RateLimitFilter rateLimitFilter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @Value("${security.rate-limit.strategy:ip_uri}")
+    private String rateLimitStrategy;
+
+    @Value("${security.rate-limit.enable-global-limit:false}")
+    private boolean enableGlobalLimit;
+
+    public RateLimitMetricsService(@Qualifier("rateLimiterEngine") RateLimiterEngine rateLimiterEngine,
+                                   @Qualifier("globalRateLimiterEngine") RateLimiterEngine globalRateLimiterEngine,
+                                   RateLimitPolicyMatcher policyMatcher,
+                                   RateLimitFilter rateLimitFilter,
+                                   AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.rateLimiterEngine = rateLimiterEngine;
+        this.globalRateLimiterEngine = globalRateLimiterEngine;
+        this.policyMatcher = policyMatcher;
+        this.rateLimitFilter = rateLimitFilter;
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    /**
+     * 정책별 빈도 제한 지표 조회
+     * 각 엔진의 상태 테이블을 순회하여 현재 활성 키 수와 키별 사용률 분포를 계산합니다.
+     *
+     * @return 기본 제한, 선언된 정책, 글로벌 제한 순서의 지표
+     */
+    public RateLimitMetricsResponse getRateLimitMetrics() {
+        long now = System.nanoTime();
+        List<RateLimitPolicyMetricsResponse> policies = new ArrayList<>();
+        policies.add(toMetrics("default", null, rateLimitStrategy, rateLimiterEngine,
+                rateLimitFilter.getDefaultCounter(), now));
+        for (RateLimitPolicy policy : policyMatcher.getPolicies()) {
+            policies.add(toMetrics(policy.getName(), policy.getPattern(), policy.getKeyStrategy().name().toLowerCase(),
+                    policy.getEngine(), policy.getCounter(), now));
+        }
+        policies.add(toMetrics("global", null, "global", globalRateLimiterEngine,
+                rateLimitFilter.getGlobalCounter(), now));
+        return new RateLimitMetricsResponse(rateLimitStrategy, enableGlobalLimit, policies);
+    }
+
+    /**
+     * 동시 처리 제한 현황 조회
+     *
+     * @return 현재 상한, 처리 중인 요청 수, 거부 수
+     */
+    public ConcurrencyLimitResponse getConcurrencyLimit() {
+        return new ConcurrencyLimitResponse(concurrencyLimiter.getLimit(), concurrencyLimiter.getPublicLimit(),
+                concurrencyLimiter.getInFlight(), concurrencyLimiter.getBaselineRttMillis(),
+                concurrencyLimiter.getAccepted(), concurrencyLimiter.getRejectedPublic(),
+                concurrencyLimiter.getRejectedCritical());
+    }
+
+    /**
+     * 요청 수 상위 키 조회
+     *
+     * @param limit 최대 항목 수 (1~100)
+     * @return 상위 요청 키 목록과 엔진 정보
+     */
+    public RateLimitTopOffendersResponse getTopOffenders(int limit) {
+        SketchRateLimiter sketch = SketchRateLimiter.unwrap(rateLimiterEngine);
+        if (sketch == null) {
+            return new RateLimitTopOffendersResponse(rateLimiterEngine.getAlgorithm(), rateLimiterEngine.getLimit(),
+                    0L, rateLimiterEngine.getTrackedKeys(), Collections.emptyList());
+        }
+
+        int size = Math.max(1, Math.min(MAX_OFFENDERS, limit));
+        List<RateLimitOffenderResponse> offenders = sketch.getTopOffenders(size).stream()
+                .map(hitter -> new RateLimitOffenderResponse(Long.toHexString(hitter.key()), hitter.label(),
+                        hitter.count(), hitter.error(), hitter.denied()))
+                .toList();
+        return new RateLimitTopOffendersResponse(rateLimiterEngine.getAlgorithm(), sketch.getLimit(),
+                sketch.getSketchBytes(), sketch.getTrackedKeys(), offenders);
+    }
+
+    private static RateLimitPolicyMetricsResponse toMetrics(String name, String pattern, String keyStrategy,
+                                                            RateLimiterEngine engine, RateLimitCounter counter,
+                                                            long now) {
+        if (!(engine instanceof StateTableRateLimiter table)) {
+            return new RateLimitPolicyMetricsResponse(name, pattern, keyStrategy, engine.getAlgorithm(),
+                    engine.getLimit(), counter.getAllowed(), counter.getRejected(), engine.getTrackedKeys(),
+                    0, 0L, 0L, 0L, 0L, Collections.emptyMap());
+        }
+
+        StateTableRateLimiter.TableStats stats = table.stats(now);
+        Map<String, Long> utilization = new LinkedHashMap<>();
+        for (int i = 0; i < UTILIZATION_LABELS.size(); i++) {
+            utilization.put(UTILIZATION_LABELS.get(i), stats.utilization()[i]);
+        }
+        return new RateLimitPolicyMetricsResponse(name, pattern, keyStrategy, engine.getAlgorithm(),
+                engine.getLimit(), counter.getAllowed(), counter.getRejected(), stats.activeKeys(),
+                stats.capacity(), stats.hits(), stats.inserts(), stats.reclaims(), stats.overflows(), utilization);
+    }
+
+    /**
+     * 사용률 구간 이름 (예: "<10%", "10-25%", ..., ">=100%")
+     */
+    private static List<String> utilizationLabels() {
+        double[] bounds = StateTableRateLimiter.UTILIZATION_BOUNDS;
+        List<String> labels = new ArrayList<>(bounds.length + 1);
+        labels.add("<" + percent(bounds[0]) + "%");
+        for (int i = 1; i < bounds.length; i++) {
+            labels.add(percent(bounds[i - 1]) + "-" + percent(bounds[i]) + "%");
+        }
+        labels.add(">=" + percent(bounds[bounds.length - 1]) + "%");
+        return List.copyOf(labels);
+    }
+
+    private static long percent(double ratio) {
+        return Math.round(ratio * 100);
+    }
+}
@@ -0,0 +1,348 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.event.PortfolioChangeEvent;
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 공개 응답 2단계 캐시 서비스
+ *
+ * 렌더링된 공개 GET 응답(JSON)을 gzip으로 압축해 노드 로컬 L1(Caffeine)과 공유 L2(Redis)에 저장한다.
+ * 배포 직후처럼 L1이 비어 있는 노드는 DB 대신 L2에서 채워진다.
+ *
+ * 무효화 방식:
+ * - L1 키에는 응답이 의존하는 집계의 로컬 콘텐츠 버전이 포함되어, 버전이 바뀌면 이전 항목은 자연히 조회되지 않음
+ * - 로컬 버전은 노드마다 다르므로 L2는 Redis의 집계별 세대 카운터를 사용하며, 항목 값에 조회 시점의 세대를 함께 기록
+ * - 조회 스크립트는 세대가 다른 항목을 없는 것으로 취급하고, 저장 스크립트는 렌더링 시작 이후 세대가 바뀌었으면 저장하지 않음
+ * - 쓰기 커밋 후 무효화 스크립트가 세대 증가, 인덱스 조회, 항목/인덱스 삭제를 원자적으로 수행하므로 그 사이의 저장이 유실되지 않음
+ * - 다른 노드의 L1은 변경 저널 전파({@link ChangeJournalService})로 그 노드의 집계 버전이 올라가면서 무효화됨
+ *   (L2 사용 여부와 무관하게 버전을 복제하는 경로는 하나)
+ */
+@Slf4j
+@Service
+public class ResponseCacheService {
+
+    private static final String KEY_PREFIX = "resp-cache:entry:";
+    private static final String INDEX_PREFIX = "resp-cache:index:";
+    private static final String GENERATION_PREFIX = "resp-cache:gen:";
+
+    /**
+     * KEYS[1]: 항목, KEYS[2..]: 의존 집계 세대
+     * 반환: {현재 세대} 또는 {현재 세대, 인코딩된 응답}
+     */
+    private static final String GET_SCRIPT = """
+            local generation = {}
+            for i = 2, #KEYS do
+              generation[#generation + 1] = redis.call('GET', KEYS[i]) or '0'
+            end
+            generation = table.concat(generation, ',')
+            local entry = redis.call('GET', KEYS[1])
+            if entry then
+              local separator = string.find(entry, '|', 1, true)
+              if separator and string.sub(entry, 1, separator - 1) == generation then
+                return {generation, string.sub(entry, separator + 1)}
+              end
+            end
+            return {generation}
+            """;
+
+    /**
+     * KEYS[1]: 항목, KEYS[2..ARGV[1]+1]: 의존 집계 세대, 나머지: 의존 집계 인덱스
+     * ARGV: 세대 키 수, 조회 시점 세대, 인코딩된 응답, 항목 TTL(ms), 인덱스 TTL(ms), URI
+     * 반환: 저장하면 1, 세대가 바뀌었으면 0
+     */
+    private static final String PUT_SCRIPT = """
+            local count = tonumber(ARGV[1])
+            local generation = {}
+            for i = 2, count + 1 do
+              generation[#generation + 1] = redis.call('GET', KEYS[i]) or '0'
+            end
+            if table.concat(generation, ',') ~= ARGV[2] then
+              return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2] .. '|' .. ARGV[3], 'PX', ARGV[4])
+            for i = count + 2, #KEYS do
+              redis.call('SADD', KEYS[i], ARGV[6])
+              redis.call('PEXPIRE', KEYS[i], ARGV[5])
+            end
+            return 1
+            """;
+
+    /**
+     * KEYS[1]: 집계 세대, KEYS[2]: 집계 인덱스, ARGV[1]: 항목 키 접두사
+     * 반환: 삭제한 항목 수
+     */
+    private static final String INVALIDATE_SCRIPT = """
+            redis.call('INCR', KEYS[1])
+            local uris = redis.call('SMEMBERS', KEYS[2])
+            for _, uri in ipairs(uris) do
+              redis.call('DEL', ARGV[1] .. uri)
+            end
+            redis.call('DEL', KEYS[2])
+            return #uris
+            """;
+
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> GET = new DefaultRedisScript<>(GET_SCRIPT, List.class);
+    private static final DefaultRedisScript<Long> PUT = new DefaultRedisScript<>(PUT_SCRIPT, Long.class);
+    private static final DefaultRedisScript<Long> INVALIDATE = new DefaultRedisScript<>(INVALIDATE_SCRIPT, Long.class);
+
+    private final Cache<String, CachedResponse> responseL1Cache;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final ContentVersionService contentVersionService;
+    private final Duration ttl;
+    private final boolean l2Enabled;
+
+    public ResponseCacheService(Cache<String, CachedResponse> responseL1Cache,
+                                RedisTemplate<String, byte[]> binaryRedisTemplate,
+                                ContentVersionService contentVersionService,
+                                @Value("${response-cache.ttl:10m}") Duration ttl,
+                                @Value("${response-cache.l2-enabled:true}") boolean l2Enabled) {
+        this.responseL1Cache = responseL1Cache;
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.contentVersionService = contentVersionService;
+        this.ttl = ttl;
+        this.l2Enabled = l2Enabled;
+    }
+
+    /**
+     * 캐시된 응답 조회 (L1 → L2 순서)
+     * 없으면 이후 저장에 필요한 조회 시점의 로컬 버전과 L2 세대를 함께 반환한다.
+     *
+     * @param uri 요청 URI (쿼리 문자열 포함)
+     * @param dependencies 응답이 의존하는 집계 목록
+     * @return 조회 결과
+     */
+    public Lookup get(String uri, PortfolioEntityType... dependencies) {
+        long version = contentVersionService.currentVersion(dependencies);
+        String l1Key = l1Key(uri, version);
+        CachedResponse cached = responseL1Cache.getIfPresent(l1Key);
+        if (cached != null) {
+            return new Lookup(cached, version, null);
+        }
+
+        if (!l2Enabled) {
+            return new Lookup(null, version, null);
+        }
+
+        try {
+            List<?> result = binaryRedisTemplate.execute(GET, l2Keys(uri, dependencies, false));
+            if (result == null || result.isEmpty()) {
+                return new Lookup(null, version, null);
+            }
+            String generation = new String((byte[]) result.get(0), StandardCharsets.UTF_8);
+            if (result.size() < 2) {
+                return new Lookup(null, version, generation);
+            }
+            cached = CachedResponse.decode((byte[]) result.get(1));
+            responseL1Cache.put(l1Key, cached);
+            log.debug("[RESPONSE_CACHE] L2 hit: {}", uri);
+            return new Lookup(cached, version, generation);
+        } catch (Exception e) {
+            log.warn("[RESPONSE_CACHE] L2 lookup failed for {}: {}", uri, e.getMessage());
+            return new Lookup(null, version, null);
+        }
+    }
+
+    /**
+     * 렌더링된 응답 저장
+     * 조회 이후 의존 집계가 변경되었으면 오래된 데이터일 수 있으므로 저장하지 않는다.
+     * L2는 조회 시점의 세대가 그대로일 때만 원자적으로 저장된다.
+     *
+     * @param uri 요청 URI (쿼리 문자열 포함)
+     * @param lookup 요청 처리 시작 시점의 조회 결과
+     * @param contentType 응답 Content-Type
+     * @param body 압축되지 않은 응답 본문
+     * @param dependencies 응답이 의존하는 집계 목록
+     */
+    public void put(String uri, Lookup lookup, String contentType, byte[] body,
+                    PortfolioEntityType... dependencies) {
+        if (contentVersionService.currentVersion(dependencies) != lookup.version()) {
+            log.debug("[RESPONSE_CACHE] Skipped stale response: {}", uri);
+            return;
+        }
+
+        CachedResponse cached;
+        try {
+            cached = new CachedResponse(contentType, gzip(body));
+        } catch (IOException e) {
+            log.warn("[RESPONSE_CACHE] Failed to compress response for {}: {}", uri, e.getMessage());
+            return;
+        }
+        responseL1Cache.put(l1Key(uri, lookup.version()), cached);
+
+        // L2 조회에 실패해 세대를 모르면 저장하지 않음
+        if (l2Enabled && lookup.generation() != null) {
+            storeInL2(uri, lookup.generation(), cached, dependencies);
+        }
+    }
+
+    /**
+     * 포트폴리오 변경 커밋 후 L2 항목 삭제
+     * 로컬 L1은 콘텐츠 버전 증가로, 다른 노드의 L1은 변경 저널 전파로 인한 버전 증가로 무효화된다.
+     *
+     * @param event 포트폴리오 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPortfolioChanged(PortfolioChangeEvent event) {
+        if (!l2Enabled) {
+            return;
+        }
+
+        PortfolioEntityType entityType = event.getEntityType();
+        try {
+            Long removed = binaryRedisTemplate.execute(INVALIDATE,
+                    List.of(GENERATION_PREFIX + entityType.name(), INDEX_PREFIX + entityType.name()),
+                    (Object) bytes(KEY_PREFIX));
+            log.debug("[RESPONSE_CACHE] Invalidated {} - Entries: {}", entityType, removed);
+        } catch (Exception e) {
+            log.warn("[RESPONSE_CACHE] Failed to invalidate {}: {}", entityType, e.getMessage());
+        }
+    }
+
+    /**
+     * L2 저장
+     * 세대 확인, 값 저장, 집계별 인덱스 갱신을 하나의 스크립트로 수행한다.
+     */
+    private void storeInL2(String uri, String generation, CachedResponse cached,
+                           PortfolioEntityType... dependencies) {
+        try {
+            Long stored = binaryRedisTemplate.execute(PUT, l2Keys(uri, dependencies, true),
+                    bytes(String.valueOf(dependencies.length)),
+                    bytes(generation),
+                    cached.encode(),
+                    bytes(String.valueOf(ttl.toMillis())),
+                    bytes(String.valueOf(ttl.toMillis() * 2)),
+                    bytes(uri));
+            if (stored == null || stored == 0L) {
+                log.debug("[RESPONSE_CACHE] Skipped L2 store after invalidation: {}", uri);
+            }
+        } catch (Exception e) {
+            log.warn("[RESPONSE_CACHE] L2 store failed for {}: {}", uri, e.getMessage());
+        }
+    }
+
+    /**
+     * 스크립트 키 목록: 항목, 의존 집계 세대, (저장 시) 의존 집계 인덱스
+     */
+    private static List<String> l2Keys(String uri, PortfolioEntityType[] dependencies, boolean withIndexes) {
+        List<String> keys = new ArrayList<>(1 + dependencies.length * 2);
+        keys.add(KEY_PREFIX + uri);
+        for (PortfolioEntityType dependency : dependencies) {
+            keys.add(GENERATION_PREFIX + dependency.name());
+        }
+        if (withIndexes) {
+            for (PortfolioEntityType dependency : dependencies) {
+                keys.add(INDEX_PREFIX + dependency.name());
+            }
+        }
+        return keys;
+    }
+
+    private static String l1Key(String uri, long version) {
+        return version + ":" + uri;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(body);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * 캐시 조회 결과
+     *
+     * @param response 캐시된 응답, 없으면 null
+     * @param version 조회 시점의 의존 집계 로컬 버전
+     * @param generation 조회 시점의 L2 세대, L2를 사용하지 않거나 조회에 실패했으면 null
+     */
+    public record Lookup(CachedResponse response, long version, String generation) {
+
+        /**
+         * 캐시 적중 여부
+         *
+         * @return 캐시된 응답이 있으면 true
+         */
+        public boolean hit() {
+            return response != null;
+        }
+    }
+
+    /**
+     * 캐시된 응답
+     * 본문은 gzip으로 압축된 상태로 보관하며, gzip을 지원하지 않는 클라이언트에만 압축을 해제한다.
+     *
+     * @param contentType 응답 Content-Type
+     * @param gzipBody gzip 압축된 응답 본문
+     */
+    public record CachedResponse(String contentType, byte[] gzipBody) {
+
+        /**
+         * 캐시 가중치 (바이트)
+         *
+         * @return 대략적인 메모리 사용량
+         */
+        public int weight() {
+            return contentType.length() + gzipBody.length;
+        }
+
+        /**
+         * 압축 해제된 응답 본문
+         *
+         * @return 원본 응답 바이트
+         * @throws IOException 압축 해제 실패 시
+         */
+        public byte[] decompressedBody() throws IOException {
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipBody))) {
+                return in.readAllBytes();
+            }
+        }
+
+        /**
+         * L2 저장 형식으로 인코딩: [Content-Type 길이(2바이트)][Content-Type][gzip 본문]
+         */
+        byte[] encode() {
+            byte[] type = contentType.getBytes(StandardCharsets.UTF_8);
+            return ByteBuffer.allocate(2 + type.length + gzipBody.length)
+                    .putShort((short) type.length)
+                    .put(type)
+                    .put(gzipBody)
+                    .array();
+        }
+
+        static CachedResponse decode(byte[] stored) {
+            ByteBuffer buffer = ByteBuffer.wrap(stored);
+            byte[] type = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(type);
+            byte[] body = new byte[buffer.remaining()];
+            buffer.get(body);
+            return new CachedResponse(new String(type, StandardCharsets.UTF_8), body);
+        }
+    }
+}
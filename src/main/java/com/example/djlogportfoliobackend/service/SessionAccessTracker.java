@@ -0,0 +1,152 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.store.SessionStore;
+import com.example.djlogportfoliobackend.store.SessionStore.SessionAccess;
+import com.example.djlogportfoliobackend.util.RedisCircuitBreaker;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세션 마지막 접근 시각 write-behind 버퍼
+ *
+ * 세션 조회마다 저장소에 접근 시각을 쓰면 읽기 요청이 모두 쓰기를 동반한다. 이 서비스는
+ * 접근 시각을 노드 로컬 ConcurrentHashMap(버킷 단위로 잠금이 분산됨)에 세션별 최댓값으로
+ * 합쳐 두었다가 주기적으로 {@link SessionStore#touch} 배치 호출로 반영한다.
+ *
+ * - 한 주기 안의 같은 세션 접근은 하나로 합쳐지므로 세션당 주기마다 최대 한 번만 기록
+ * - 반영 시 세션이 없으면(로그아웃/만료) 건너뛰어 삭제된 세션을 되살리지 않음
+ * - 다른 노드가 더 최근 시각을 기록했다면 덮어쓰지 않음
+ * - 반영 실패 시 항목을 버퍼로 되돌려 다음 주기에 재시도 (Redis 회로 차단 중에는 반영을 미룸)
+ *
+ * 접근 시각과 세션 TTL 연장이 최대 한 주기만큼 늦게 반영되는 대신 조회는 읽기만 수행한다.
+ */
+@Slf4j
+@Service
+public class SessionAccessTracker {
+
+    private final SessionStore sessionStore;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final int batchSize;
+    private final Map<String, PendingAccess> pending = new ConcurrentHashMap<>();
+    private final AtomicLong recordedAccesses = new AtomicLong();
+    private final AtomicLong flushedSessions = new AtomicLong();
+
+    public SessionAccessTracker(SessionStore sessionStore,
+                                RedisCircuitBreaker redisCircuitBreaker,
+                                @Value("${session.last-access.flush-batch-size:500}") int batchSize) {
+        this.sessionStore = sessionStore;
+        this.circuitBreaker = redisCircuitBreaker;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 세션 접근 기록 (저장소에 쓰지 않고 버퍼에 합침)
+     *
+     * @param sessionId 세션 ID
+     * @param username 사용자명
+     * @param accessMillis 접근 시각 (epoch millis)
+     */
+    public void recordAccess(String sessionId, String username, long accessMillis) {
+        recordedAccesses.incrementAndGet();
+        pending.merge(sessionId, new PendingAccess(username, accessMillis), PendingAccess::latest);
+    }
+
+    /**
+     * 반영 대기 중인 접근 기록 제거 (세션 삭제 시)
+     *
+     * @param sessionId 세션 ID
+     */
+    public void discard(String sessionId) {
+        pending.remove(sessionId);
+    }
+
+    /**
+     * 버퍼의 접근 기록을 배치 단위로 저장소에 반영
+     */
+    @Scheduled(initialDelayString = "${session.last-access.flush-interval-ms:5000}",
+               fixedDelayString = "${session.last-access.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty() || circuitBreaker.isOpen()) {
+            return;
+        }
+        List<SessionAccess> accesses = new ArrayList<>();
+        Map<String, PendingAccess> batch = new LinkedHashMap<>();
+        // 실패한 배치가 버퍼로 되돌아와도 같은 주기에 다시 시도하지 않도록 키를 먼저 복사
+        for (String sessionId : new ArrayList<>(pending.keySet())) {
+            PendingAccess access = pending.remove(sessionId);
+            if (access == null) {
+                continue;
+            }
+            batch.put(sessionId, access);
+            if (batch.size() >= batchSize) {
+                writeBatch(batch, accesses);
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch, accesses);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 반영 대기 중인 세션 수
+     *
+     * @return 세션 수
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 기록된 접근 수 (합쳐지기 전)
+     *
+     * @return 접근 수
+     */
+    public long getRecordedAccesses() {
+        return recordedAccesses.get();
+    }
+
+    /**
+     * 저장소에 반영된 세션 갱신 수
+     *
+     * @return 갱신 수
+     */
+    public long getFlushedSessions() {
+        return flushedSessions.get();
+    }
+
+    private void writeBatch(Map<String, PendingAccess> batch, List<SessionAccess> accesses) {
+        accesses.clear();
+        batch.forEach((sessionId, access) ->
+                accesses.add(new SessionAccess(sessionId, access.username(), access.accessMillis())));
+        long updated = circuitBreaker.execute(() -> sessionStore.touch(List.copyOf(accesses)), () -> -1L);
+        if (updated < 0) {
+            log.warn("Failed to flush {} session access times, will retry", batch.size());
+            batch.forEach((sessionId, access) -> pending.merge(sessionId, access, PendingAccess::latest));
+        } else {
+            flushedSessions.addAndGet(updated);
+        }
+        batch.clear();
+    }
+
+    private record PendingAccess(String username, long accessMillis) {
+
+        static PendingAccess latest(PendingAccess a, PendingAccess b) {
+            return a.accessMillis >= b.accessMillis ? a : b;
+        }
+    }
+}
@@ -1,294 +1,259 @@
 package com.example.djlogportfoliobackend.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.djlogportfoliobackend.session.SessionFallbackStore;
+import com.example.djlogportfoliobackend.session.SessionFallbackStore.CreateSession;
+import com.example.djlogportfoliobackend.session.SessionFallbackStore.PendingOperation;
+import com.example.djlogportfoliobackend.session.SessionFallbackStore.RemoveSession;
+import com.example.djlogportfoliobackend.session.SessionFallbackStore.RemoveUserSessions;
+import com.example.djlogportfoliobackend.session.SessionValue;
+import com.example.djlogportfoliobackend.session.StoredSession;
+import com.example.djlogportfoliobackend.store.SessionStore;
+import com.example.djlogportfoliobackend.store.SessionStore.CreateResult;
+import com.example.djlogportfoliobackend.store.SessionStore.SessionCounts;
+import com.example.djlogportfoliobackend.util.RedisCircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneId;
 import java.util.*;
 
 /**
- * Redis 기반 세션 관리 서비스
- * 사용자 세션 정보를 Redis에 저장하고 관리합니다.
+ * 세션 관리 서비스
+ * 사용자 세션 정보를 {@link SessionStore}에 저장하고 관리합니다.
  *
  * 주요 기능:
  * - 활성 세션 추적 및 관리
- * - 사용자별 로그인 이력 저장
+ * - 사용자별 로그인 이력 저장 ({@link AuditService}가 요청 경로 밖에서 배치로 기록)
  * - 동시 로그인 제한
  * - 세션 만료 관리
+ * - 세션 통계는 저장소가 유지하는 카운터로 제공 (KEYS 미사용)
+ *
+ * 저장소는 store.type으로 선택합니다.
+ * - redis(기본): 세션 해시 + 사용자별 정렬 집합, 작업마다 Lua 스크립트 한 번 ({@link com.example.djlogportfoliobackend.store.RedisSessionStore})
+ * - memory: 단일 노드 배포용 메모리 저장소 ({@link com.example.djlogportfoliobackend.store.InMemorySessionStore})
+ * 조회는 저장소 읽기 한 번만 수행하고, 마지막 접근 시각은 {@link SessionAccessTracker}가 모아 두었다가
+ * 주기적으로 반영합니다.
+ *
+ * Redis 장애 시:
+ * - 모든 저장소 호출은 {@link RedisCircuitBreaker}를 거치며, 차단 중에는 Redis를 기다리지 않음
+ * - 최근 세션은 {@link SessionFallbackStore}에도 유지되어 장애 중 조회/목록에 응답
+ * - 장애 중 생성/삭제는 대기 작업으로 쌓였다가 Redis 복구 후 {@link #reconcilePending()}이 순서대로 반영
  */
 @Slf4j
 @Service
 public class SessionManagementService {
 
-    private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
-
-    public SessionManagementService(StringRedisTemplate redisTemplate) {
-        this.redisTemplate = redisTemplate;
-        this.objectMapper = new ObjectMapper();
-        // LocalDateTime 직렬화를 위한 설정
-        this.objectMapper.findAndRegisterModules();
+    private final SessionStore sessionStore;
+    private final TokenRevocationService tokenRevocationService;
+    private final SessionAccessTracker sessionAccessTracker;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final SessionFallbackStore fallbackStore;
+    private final AuditService auditService;
+
+    public SessionManagementService(SessionStore sessionStore,
+                                    TokenRevocationService tokenRevocationService,
+                                    SessionAccessTracker sessionAccessTracker,
+                                    RedisCircuitBreaker redisCircuitBreaker,
+                                    SessionFallbackStore sessionFallbackStore,
+                                    AuditService auditService) {
+        this.sessionStore = sessionStore;
+        this.tokenRevocationService = tokenRevocationService;
+        this.sessionAccessTracker = sessionAccessTracker;
+        this.circuitBreaker = redisCircuitBreaker;
+        this.fallbackStore = sessionFallbackStore;
+        this.auditService = auditService;
     }
 
-    private static final String SESSION_PREFIX = "session:";
-    private static final String USER_SESSIONS_PREFIX = "user_sessions:";
-    private static final String LOGIN_HISTORY_PREFIX = "login_history:";
-    private static final Duration DEFAULT_SESSION_TTL = Duration.ofHours(24);
-    private static final int MAX_SESSIONS_PER_USER = 3;
-
     /**
      * 사용자 세션 생성
+     * 세션 저장과 동시 로그인 제한(마지막 접근이 가장 오래된 세션부터 정리)을 저장소 호출 한 번으로 수행합니다.
+     * 로그인 이력은 감사 이벤트 버퍼에 넣기만 하고, 저장소에는 작업자 스레드가 모아서 기록합니다.
      *
      * @param username 사용자명
      * @param sessionId 세션 ID (JWT 토큰 ID)
      * @param clientInfo 클라이언트 정보 (IP, User-Agent 등)
      */
     public void createSession(String username, String sessionId, SessionInfo clientInfo) {
-        try {
-            // 1. 세션 정보 저장
-            String sessionKey = SESSION_PREFIX + sessionId;
-            SessionData sessionData = SessionData.builder()
-                    .username(username)
-                    .sessionId(sessionId)
-                    .clientIp(clientInfo.getClientIp())
-                    .userAgent(clientInfo.getUserAgent())
-                    .loginTime(LocalDateTime.now())
-                    .lastAccessTime(LocalDateTime.now())
-                    .build();
-
-            redisTemplate.opsForValue().set(sessionKey, toJson(sessionData), DEFAULT_SESSION_TTL);
-
-            // 2. 사용자별 활성 세션 목록 업데이트
-            String userSessionsKey = USER_SESSIONS_PREFIX + username;
-            redisTemplate.opsForSet().add(userSessionsKey, sessionId);
-            redisTemplate.expire(userSessionsKey, DEFAULT_SESSION_TTL);
-
-            // 3. 동시 로그인 제한 확인 및 처리
-            limitConcurrentSessions(username);
-
-            // 4. 로그인 이력 저장
-            recordLoginHistory(username, clientInfo);
-
-            log.info("Session created successfully: user={}, sessionId={}, clientIp={}",
-                    username, sessionId, clientInfo.getClientIp());
-
-        } catch (Exception e) {
-            log.error("Failed to create session for user {}: {}", username, e.getMessage(), e);
-        }
+        long now = System.currentTimeMillis();
+        SessionValue value = new SessionValue(now, clientInfo.getClientIp(), clientInfo.getUserAgent());
+        fallbackStore.put(new StoredSession(sessionId, username, value, now));
+        auditService.recordLogin(username, value);
+
+        circuitBreaker.run(() -> storeSession(sessionId, username, value), () -> {
+            log.warn("Redis unavailable, session kept locally until recovery: user={}, sessionId={}",
+                    username, sessionId);
+            fallbackStore.enqueue(new CreateSession(sessionId, username, value));
+        });
     }
 
     /**
      * 세션 정보 조회
+     * 저장소에는 읽기만 수행하며, 마지막 접근 시간은 write-behind 버퍼에 기록되어 주기적으로 반영됩니다.
      *
      * @param sessionId 세션 ID
-     * @return 세션 데이터
+     * @return 세션 데이터 (마지막 접근 시간은 이번 조회 시각)
      */
     public Optional<SessionData> getSession(String sessionId) {
-        try {
-            String sessionKey = SESSION_PREFIX + sessionId;
-            String sessionJson = redisTemplate.opsForValue().get(sessionKey);
-
-            if (sessionJson != null) {
-                SessionData sessionData = fromJson(sessionJson, SessionData.class);
-                // 마지막 접근 시간 업데이트
-                updateLastAccessTime(sessionId);
-                return Optional.of(sessionData);
-            }
-            return Optional.empty();
-
-        } catch (Exception e) {
-            log.error("Failed to get session {}: {}", sessionId, e.getMessage());
-            return Optional.empty();
+        Optional<SessionData> session = circuitBreaker.execute(
+                () -> readSession(sessionId),
+                () -> Optional.ofNullable(fallbackStore.get(sessionId)).map(SessionManagementService::toSessionData));
+        // 장애 중 생성된 세션은 복구 직후 반영 전까지 Redis에 없으므로 로컬 기록으로 응답
+        if (session.isEmpty() && fallbackStore.getPendingCount() > 0) {
+            session = Optional.ofNullable(fallbackStore.get(sessionId)).map(SessionManagementService::toSessionData);
         }
+
+        session.ifPresent(sessionData -> {
+            long now = System.currentTimeMillis();
+            sessionAccessTracker.recordAccess(sessionId, sessionData.getUsername(), now);
+            sessionData.setLastAccessTime(toLocalDateTime(now));
+        });
+        return session;
     }
 
     /**
      * 세션 삭제 (로그아웃)
+     * 이미 만료된 세션은 삭제할 것이 없으며, 통계는 만료 이벤트에서 반영됩니다.
      *
      * @param sessionId 세션 ID
      */
     public void removeSession(String sessionId) {
-        try {
-            String sessionKey = SESSION_PREFIX + sessionId;
-
-            // 세션 데이터 조회
-            Optional<SessionData> sessionOpt = getSession(sessionId);
-            if (sessionOpt.isPresent()) {
-                String username = sessionOpt.get().getUsername();
-
-                // 1. 세션 삭제
-                redisTemplate.delete(sessionKey);
-
-                // 2. 사용자 세션 목록에서 제거
-                String userSessionsKey = USER_SESSIONS_PREFIX + username;
-                redisTemplate.opsForSet().remove(userSessionsKey, sessionId);
-
-                log.info("Session removed successfully: user={}, sessionId={}", username, sessionId);
-            }
-
-        } catch (Exception e) {
-            log.error("Failed to remove session {}: {}", sessionId, e.getMessage());
-        }
+        sessionAccessTracker.discard(sessionId);
+        fallbackStore.remove(sessionId);
+        circuitBreaker.run(() -> deleteSession(sessionId), () -> fallbackStore.enqueue(new RemoveSession(sessionId)));
     }
 
     /**
      * 사용자의 모든 세션 삭제 (강제 로그아웃)
+     * 세션 기록 삭제와 별개로, 지금까지 발급된 사용자의 토큰을 모두 무효화합니다.
      *
      * @param username 사용자명
      */
     public void removeAllUserSessions(String username) {
-        try {
-            String userSessionsKey = USER_SESSIONS_PREFIX + username;
-            Set<String> sessionIds = redisTemplate.opsForSet().members(userSessionsKey);
-
-            if (sessionIds != null) {
-                for (String sessionId : sessionIds) {
-                    redisTemplate.delete(SESSION_PREFIX + sessionId);
-                }
-                redisTemplate.delete(userSessionsKey);
-
-                log.info("All sessions removed for user: {}, count: {}", username, sessionIds.size());
-            }
-
-        } catch (Exception e) {
-            log.error("Failed to remove all sessions for user {}: {}", username, e.getMessage());
-        }
+        tokenRevocationService.revokeAllForSubject(username);
+        fallbackStore.removeUser(username);
+        circuitBreaker.run(() -> deleteUserSessions(username),
+                () -> fallbackStore.enqueue(new RemoveUserSessions(username)));
     }
 
     /**
-     * 사용자의 활성 세션 목록 조회
+     * 사용자의 활성 세션 목록 조회 (최근 접근 순)
+     * 목록 조회는 접근 시간을 갱신하지 않으므로 동시 로그인 제한의 정리 순서에 영향을 주지 않습니다.
      *
      * @param username 사용자명
      * @return 활성 세션 목록
      */
     public List<SessionData> getUserActiveSessions(String username) {
-        try {
-            String userSessionsKey = USER_SESSIONS_PREFIX + username;
-            Set<String> sessionIds = redisTemplate.opsForSet().members(userSessionsKey);
-
-            if (sessionIds == null || sessionIds.isEmpty()) {
-                return Collections.emptyList();
-            }
-
-            List<SessionData> activeSessions = new ArrayList<>();
-            for (String sessionId : sessionIds) {
-                getSession(sessionId).ifPresent(activeSessions::add);
-            }
-
-            return activeSessions;
-
-        } catch (Exception e) {
-            log.error("Failed to get active sessions for user {}: {}", username, e.getMessage());
-            return Collections.emptyList();
-        }
+        List<StoredSession> sessions = circuitBreaker.execute(() -> sessionStore.list(username),
+                () -> fallbackStore.sessionsOf(username).stream()
+                        .sorted(Comparator.comparingLong(StoredSession::lastAccessMillis).reversed())
+                        .toList());
+        return sessions.stream().map(SessionManagementService::toSessionData).toList();
     }
 
     /**
-     * 동시 로그인 제한 처리
-     *
-     * @param username 사용자명
+     * Redis 장애 중 쌓인 세션 변경을 순서대로 반영
+     * 차단 중이거나 반영에 실패하면 멈추고 다음 주기에 같은 작업부터 다시 시도합니다.
      */
-    private void limitConcurrentSessions(String username) {
-        try {
-            List<SessionData> activeSessions = getUserActiveSessions(username);
-
-            if (activeSessions.size() > MAX_SESSIONS_PER_USER) {
-                // 가장 오래된 세션부터 제거
-                activeSessions.sort(Comparator.comparing(SessionData::getLastAccessTime));
-
-                int sessionsToRemove = activeSessions.size() - MAX_SESSIONS_PER_USER;
-                for (int i = 0; i < sessionsToRemove; i++) {
-                    removeSession(activeSessions.get(i).getSessionId());
-                }
-
-                log.info("Removed {} old sessions for user {} due to concurrent login limit",
-                        sessionsToRemove, username);
+    @Scheduled(fixedDelayString = "${redis.circuit-breaker.reconcile-interval-ms:1000}")
+    public void reconcilePending() {
+        int replayed = 0;
+        PendingOperation operation;
+        while (!circuitBreaker.isOpen() && (operation = fallbackStore.peekPending()) != null) {
+            PendingOperation current = operation;
+            boolean applied = circuitBreaker.execute(() -> {
+                apply(current);
+                return true;
+            }, () -> false);
+            if (!applied) {
+                break;
             }
-
-        } catch (Exception e) {
-            log.error("Failed to limit concurrent sessions for user {}: {}", username, e.getMessage());
+            fallbackStore.completePending(current);
+            replayed++;
         }
-    }
-
-    /**
-     * 로그인 이력 기록
-     *
-     * @param username 사용자명
-     * @param clientInfo 클라이언트 정보
-     */
-    private void recordLoginHistory(String username, SessionInfo clientInfo) {
-        try {
-            String historyKey = LOGIN_HISTORY_PREFIX + username;
-            LoginHistoryEntry entry = LoginHistoryEntry.builder()
-                    .timestamp(LocalDateTime.now())
-                    .clientIp(clientInfo.getClientIp())
-                    .userAgent(clientInfo.getUserAgent())
-                    .build();
-
-            redisTemplate.opsForList().leftPush(historyKey, toJson(entry));
-            redisTemplate.opsForList().trim(historyKey, 0, 99); // 최대 100개 유지
-            redisTemplate.expire(historyKey, Duration.ofDays(30));
-
-        } catch (Exception e) {
-            log.error("Failed to record login history for user {}: {}", username, e.getMessage());
+        if (replayed > 0) {
+            log.info("Replayed {} session operations recorded during Redis outage, {} remaining",
+                    replayed, fallbackStore.getPendingCount());
         }
     }
 
     /**
-     * 마지막 접근 시간 업데이트
+     * 세션 통계 조회
+     * 키 공간 전체를 훑는 KEYS 대신 유지되는 카운터를 읽으므로 O(1)입니다.
      *
-     * @param sessionId 세션 ID
+     * @return 세션 통계
      */
-    private void updateLastAccessTime(String sessionId) {
-        try {
-            String sessionKey = SESSION_PREFIX + sessionId;
-            String sessionJson = redisTemplate.opsForValue().get(sessionKey);
+    public SessionStats getSessionStats() {
+        SessionCounts counts = sessionStore.counts();
+        return SessionStats.builder()
+                .totalActiveSessions((int) Math.min(Integer.MAX_VALUE, counts.activeSessions()))
+                .totalActiveUsers((int) Math.min(Integer.MAX_VALUE, counts.activeUsers()))
+                .uniqueUsersToday(counts.uniqueUsersToday())
+                .build();
+    }
 
-            if (sessionJson != null) {
-                SessionData sessionData = fromJson(sessionJson, SessionData.class);
-                sessionData.setLastAccessTime(LocalDateTime.now());
+    private static SessionData toSessionData(StoredSession session) {
+        SessionValue value = session.value();
+        return SessionData.builder()
+                .username(session.username())
+                .sessionId(session.sessionId())
+                .clientIp(value != null ? value.clientIp() : null)
+                .userAgent(value != null ? value.userAgent() : null)
+                .loginTime(value != null ? toLocalDateTime(value.timestampMillis()) : null)
+                .lastAccessTime(session.lastAccessMillis() > 0 ? toLocalDateTime(session.lastAccessMillis()) : null)
+                .build();
+    }
 
-                redisTemplate.opsForValue().set(sessionKey, toJson(sessionData), DEFAULT_SESSION_TTL);
-            }
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to update last access time for session {}: {}", sessionId, e.getMessage());
+    private void apply(PendingOperation operation) {
+        if (operation instanceof CreateSession create) {
+            storeSession(create.sessionId(), create.username(), create.value());
+        } else if (operation instanceof RemoveSession remove) {
+            deleteSession(remove.sessionId());
+        } else if (operation instanceof RemoveUserSessions removeUser) {
+            deleteUserSessions(removeUser.username());
         }
     }
 
-    /**
-     * 세션 통계 조회
-     *
-     * @return 세션 통계
-     */
-    public SessionStats getSessionStats() {
-        try {
-            Set<String> allSessionKeys = redisTemplate.keys(SESSION_PREFIX + "*");
-            Set<String> allUserSessionKeys = redisTemplate.keys(USER_SESSIONS_PREFIX + "*");
+    private void storeSession(String sessionId, String username, SessionValue sessionValue) {
+        CreateResult result = sessionStore.create(sessionId, username, sessionValue, System.currentTimeMillis());
+        if (!result.evictedSessionIds().isEmpty()) {
+            result.evictedSessionIds().forEach(fallbackStore::remove);
+            log.info("Removed {} old sessions for user {} due to concurrent login limit: {}",
+                    result.evictedSessionIds().size(), username, result.evictedSessionIds());
+        }
 
-            return SessionStats.builder()
-                    .totalActiveSessions(allSessionKeys != null ? allSessionKeys.size() : 0)
-                    .totalActiveUsers(allUserSessionKeys != null ? allUserSessionKeys.size() : 0)
-                    .build();
+        log.info("Session created successfully: user={}, sessionId={}, clientIp={}",
+                username, sessionId, sessionValue.clientIp());
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to get session stats: {}", e.getMessage());
-            return SessionStats.builder().totalActiveSessions(0).totalActiveUsers(0).build();
+    private Optional<SessionData> readSession(String sessionId) {
+        StoredSession session = sessionStore.find(sessionId);
+        if (session == null) {
+            return Optional.empty();
+        }
+        if (session.value() != null) {
+            // Redis 장애 시 조회에 응답할 수 있도록 최근 조회한 세션을 로컬에도 유지
+            fallbackStore.put(new StoredSession(sessionId, session.username(), session.value(),
+                    System.currentTimeMillis()));
         }
+        return Optional.of(toSessionData(session));
     }
 
-    // JSON 직렬화/역직렬화 헬퍼 메서드
-    private String toJson(Object obj) throws JsonProcessingException {
-        return objectMapper.writeValueAsString(obj);
+    private void deleteSession(String sessionId) {
+        if (sessionStore.remove(sessionId)) {
+            log.info("Session removed successfully: sessionId={}", sessionId);
+        }
     }
 
-    private <T> T fromJson(String json, Class<T> clazz) throws JsonProcessingException {
-        return objectMapper.readValue(json, clazz);
+    private void deleteUserSessions(String username) {
+        long deletedSessions = sessionStore.removeUser(username);
+        log.info("All sessions removed for user: {}, count: {}", username, deletedSessions);
     }
 
     // 내부 데이터 클래스들
@@ -314,16 +279,6 @@ public class SessionManagementService {
         private String userAgent;
     }
 
-    @lombok.Data
-    @lombok.Builder
-    @lombok.NoArgsConstructor
-    @lombok.AllArgsConstructor
-    public static class LoginHistoryEntry {
-        private LocalDateTime timestamp;
-        private String clientIp;
-        private String userAgent;
-    }
-
     @lombok.Data
     @lombok.Builder
     @lombok.NoArgsConstructor
@@ -331,5 +286,6 @@ public class SessionManagementService {
     public static class SessionStats {
         private int totalActiveSessions;
         private int totalActiveUsers;
+        private long uniqueUsersToday;
     }
 }
\ No newline at end of file
@@ -0,0 +1,215 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.store.RedisSessionStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * 세션 통계 카운터 서비스
+ *
+ * 통계 조회마다 KEYS로 키 공간 전체를 훑으면 Redis 이벤트 루프가 O(키 수) 동안 멈춰
+ * 다른 요청의 세션/블랙리스트 조회까지 지연된다. 이 서비스는 세션 생성/삭제 시점에
+ * 카운터를 INCR/DECR하여 통계를 O(1)로 제공한다.
+ *
+ * - 활성 세션 수 / 활성 사용자 수: 명시적 삭제는 DEL 결과가 1일 때만 감소시켜 중복 감소 방지
+ * - TTL 만료: keyspace 만료 이벤트를 구독하여 감소. 모든 노드가 같은 이벤트를 받으므로
+ *   키별 SET NX 확인 키로 한 노드만 감소시킨다
+ * - 일별 로그인 사용자 수: HyperLogLog(PFADD/PFCOUNT)로 고정 크기 메모리에서 근사 집계
+ * - 주기적 재집계: 만료 이벤트 유실(구독 끊김, 알림 비활성화)로 생긴 오차를 SCAN으로 보정.
+ *   잠금 키로 클러스터에서 한 노드만 수행한다
+ *
+ * 메모리 저장소(store.type=memory)는 통계를 직접 계산하므로 Redis 저장소를 사용할 때만 생성한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "store.type", havingValue = "redis", matchIfMissing = true)
+public class SessionStatsService implements MessageListener {
+
+    public static final String EXPIRED_EVENT_PATTERN = "__keyevent@*__:expired";
+
+    private static final String STATS_PREFIX = "session-stats:";
+    private static final String ACTIVE_SESSIONS_KEY = STATS_PREFIX + "active-sessions";
+    private static final String ACTIVE_USERS_KEY = STATS_PREFIX + "active-users";
+    private static final String DAILY_USERS_PREFIX = STATS_PREFIX + "daily-users:";
+    private static final String EXPIRED_ACK_PREFIX = STATS_PREFIX + "expired:";
+    private static final String RECONCILE_LOCK_KEY = STATS_PREFIX + "reconcile-lock";
+    private static final Duration EXPIRED_ACK_TTL = Duration.ofMinutes(1);
+    private static final Duration DAILY_USERS_TTL = Duration.ofDays(2);
+    private static final int SCAN_COUNT = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final long reconcileIntervalMillis;
+
+    public SessionStatsService(StringRedisTemplate redisTemplate,
+                               @Value("${session.stats.reconcile-interval-ms:600000}") long reconcileIntervalMillis) {
+        this.redisTemplate = redisTemplate;
+        this.reconcileIntervalMillis = reconcileIntervalMillis;
+    }
+
+    /**
+     * 세션 생성 기록
+     *
+     * @param username 사용자명
+     * @param firstSessionOfUser 사용자의 첫 활성 세션이면 true (활성 사용자 수 증가)
+     */
+    public void sessionCreated(String username, boolean firstSessionOfUser) {
+        try {
+            redisTemplate.opsForValue().increment(ACTIVE_SESSIONS_KEY);
+            if (firstSessionOfUser) {
+                redisTemplate.opsForValue().increment(ACTIVE_USERS_KEY);
+            }
+            String dailyKey = DAILY_USERS_PREFIX + LocalDate.now(ZoneOffset.UTC);
+            redisTemplate.opsForHyperLogLog().add(dailyKey, username);
+            redisTemplate.expire(dailyKey, DAILY_USERS_TTL);
+        } catch (Exception e) {
+            log.warn("Failed to update session stats: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 세션 삭제 기록 (실제로 삭제된 키 수만큼 감소)
+     *
+     * @param deletedSessions 삭제된 세션 키 수
+     * @param deletedUsers 삭제된 사용자 세션 목록 키 수
+     */
+    public void sessionsRemoved(long deletedSessions, long deletedUsers) {
+        try {
+            if (deletedSessions > 0) {
+                redisTemplate.opsForValue().decrement(ACTIVE_SESSIONS_KEY, deletedSessions);
+            }
+            if (deletedUsers > 0) {
+                redisTemplate.opsForValue().decrement(ACTIVE_USERS_KEY, deletedUsers);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to update session stats: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * keyspace 만료 이벤트 수신 (메시지 본문은 만료된 키)
+     * 세션 키와 사용자 세션 목록 키만 처리하며, 먼저 확인 키를 만든 노드만 카운터를 감소시킨다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        String counterKey;
+        if (key.startsWith(RedisSessionStore.SESSION_PREFIX)) {
+            counterKey = ACTIVE_SESSIONS_KEY;
+        } else if (key.startsWith(RedisSessionStore.USER_SESSIONS_PREFIX)) {
+            counterKey = ACTIVE_USERS_KEY;
+        } else {
+            return;
+        }
+        try {
+            Boolean first = redisTemplate.opsForValue().setIfAbsent(EXPIRED_ACK_PREFIX + key, "1", EXPIRED_ACK_TTL);
+            if (Boolean.TRUE.equals(first)) {
+                redisTemplate.opsForValue().decrement(counterKey);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to handle expired key {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 활성 세션 수
+     *
+     * @return 활성 세션 수 (카운터 오차로 음수가 되면 0)
+     */
+    public long getActiveSessions() {
+        return readCounter(ACTIVE_SESSIONS_KEY);
+    }
+
+    /**
+     * 활성 사용자 수
+     *
+     * @return 활성 세션이 있는 사용자 수
+     */
+    public long getActiveUsers() {
+        return readCounter(ACTIVE_USERS_KEY);
+    }
+
+    /**
+     * 오늘(UTC) 로그인한 서로 다른 사용자 수 (HyperLogLog 근사값, 표준 오차 약 0.81%)
+     *
+     * @return 사용자 수
+     */
+    public long getUniqueUsersToday() {
+        try {
+            Long count = redisTemplate.opsForHyperLogLog().size(DAILY_USERS_PREFIX + LocalDate.now(ZoneOffset.UTC));
+            return count != null ? count : 0;
+        } catch (Exception e) {
+            log.warn("Failed to read daily user count: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * SCAN으로 실제 키 수를 세어 카운터 보정 (클러스터에서 주기당 한 노드만 수행)
+     * 재집계 도중 생성/삭제된 세션의 증감은 덮어써질 수 있으며, 다음 주기에 다시 보정된다.
+     */
+    @Scheduled(initialDelayString = "${session.stats.reconcile-interval-ms:600000}",
+               fixedDelayString = "${session.stats.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, "1",
+                    Duration.ofMillis(Math.max(1000, reconcileIntervalMillis / 2)));
+            if (!Boolean.TRUE.equals(acquired)) {
+                return;
+            }
+            long sessions = countKeys(RedisSessionStore.SESSION_PREFIX);
+            long users = countKeys(RedisSessionStore.USER_SESSIONS_PREFIX);
+            long previousSessions = getActiveSessions();
+            long previousUsers = getActiveUsers();
+            redisTemplate.opsForValue().set(ACTIVE_SESSIONS_KEY, Long.toString(sessions));
+            redisTemplate.opsForValue().set(ACTIVE_USERS_KEY, Long.toString(users));
+            if (sessions != previousSessions || users != previousUsers) {
+                log.info("Session stats reconciled: sessions {} -> {}, users {} -> {}",
+                        previousSessions, sessions, previousUsers, users);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to reconcile session stats: {}", e.getMessage());
+        }
+    }
+
+    private long readCounter(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            return value != null ? Math.max(0, Long.parseLong(value)) : 0;
+        } catch (Exception e) {
+            log.warn("Failed to read session counter {}: {}", key, e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 키 수 (SCAN은 한 번에 일부만 반환하므로 이벤트 루프를 오래 점유하지 않음)
+     */
+    private long countKeys(String prefix) {
+        Long count = redisTemplate.execute((RedisCallback<Long>) connection -> {
+            long total = 0;
+            ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_COUNT).build();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    cursor.next();
+                    total++;
+                }
+            }
+            return total;
+        });
+        return count != null ? count : 0;
+    }
+}
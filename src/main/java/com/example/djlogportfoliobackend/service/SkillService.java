@@ -4,10 +4,14 @@ import com.example.djlogportfoliobackend.dto.SkillRequest;
 import com.example.djlogportfoliobackend.dto.SkillResponse;
 import com.example.djlogportfoliobackend.entity.Profile;
 import com.example.djlogportfoliobackend.entity.Skill;
+import com.example.djlogportfoliobackend.event.ChangeType;
+import com.example.djlogportfoliobackend.event.PortfolioChangeEvent;
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
 import com.example.djlogportfoliobackend.exception.ResourceNotFoundException;
 import com.example.djlogportfoliobackend.repository.ProfileRepository;
 import com.example.djlogportfoliobackend.repository.SkillRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +30,7 @@ public class SkillService {
 
     private final SkillRepository skillRepository;
     private final ProfileRepository profileRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모든 기술 스택 목록 조회
@@ -59,6 +64,7 @@ public class SkillService {
         );
 
         Skill savedSkill = skillRepository.save(skill);
+        publishChange(savedSkill.getId(), ChangeType.CREATED);
         return toResponse(savedSkill);
     }
 
@@ -79,6 +85,7 @@ public class SkillService {
         skill.setCategory(request.getCategory());
         skill.setProficiency(request.getProficiency());
 
+        publishChange(id, ChangeType.UPDATED);
         return toResponse(skill);
     }
 
@@ -94,6 +101,18 @@ public class SkillService {
             throw new ResourceNotFoundException("기술 스택 정보를 찾을 수 없습니다.");
         }
         skillRepository.deleteById(id);
+        publishChange(id, ChangeType.DELETED);
+    }
+
+    /**
+     * 기술 스택 변경 이벤트 발행
+     * 리스너는 트랜잭션 커밋 이후에만 이벤트를 처리합니다.
+     *
+     * @param id 변경된 기술 스택 ID
+     * @param changeType 변경 유형
+     */
+    private void publishChange(UUID id, ChangeType changeType) {
+        eventPublisher.publishEvent(new PortfolioChangeEvent(PortfolioEntityType.SKILL, id, changeType));
     }
 
     /**
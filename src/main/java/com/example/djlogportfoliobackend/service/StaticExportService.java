@@ -0,0 +1,244 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.dto.ProjectResponse;
+import com.example.djlogportfoliobackend.event.PortfolioChangeEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 공개 API 정적 JSON 내보내기 서비스
+ *
+ * 공개 데이터는 관리자가 저장할 때만 바뀌므로, 쓰기가 커밋될 때마다 공개 GET 응답 전체를
+ * 파일로 미리 렌더링해 둔다. 프론트 웹 서버나 {@code /static-api/**} 리소스 핸들러가
+ * 이 파일을 그대로 서빙하면 Spring Security, 로깅 필터, JPA, Jackson을 모두 거치지 않는다.
+ *
+ * 디렉토리 구조:
+ * <pre>
+ * {static-export.dir}/
+ *   current -> releases/1735700400123   (심볼릭 링크, 원자적으로 교체)
+ *   releases/1735700400123/api/profile.json(.gz)
+ *                                 /projects.json(.gz)
+ *                                 /projects/{id}.json(.gz)
+ *                                 /projects/{id}/qna.json(.gz)
+ *                                 /skills.json(.gz)
+ *                                 /educations.json(.gz)
+ *                                 /certificates.json(.gz)
+ * </pre>
+ *
+ * 연속된 쓰기는 debounce 간격 동안 하나의 내보내기로 합쳐진다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "static-export.enabled", havingValue = "true")
+public class StaticExportService {
+
+    private static final String CURRENT_LINK = "current";
+    private static final String RELEASES_DIR = "releases";
+
+    private final ProfileService profileService;
+    private final ProjectService projectService;
+    private final SkillService skillService;
+    private final EducationService educationService;
+    private final CertificateService certificateService;
+    private final ObjectMapper objectMapper;
+
+    private final Path exportRoot;
+    private final long debounceMillis;
+    private final int retainedReleases;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "static-export");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean exportScheduled = new AtomicBoolean(false);
+    private long lastReleaseId;
+
+    public StaticExportService(ProfileService profileService,
+                               ProjectService projectService,
+                               SkillService skillService,
+                               EducationService educationService,
+                               CertificateService certificateService,
+                               ObjectMapper objectMapper,
+                               @Value("${static-export.dir:static-api}") String exportDir,
+                               @Value("${static-export.debounce-ms:500}") long debounceMillis,
+                               @Value("${static-export.retained-releases:3}") int retainedReleases) {
+        this.profileService = profileService;
+        this.projectService = projectService;
+        this.skillService = skillService;
+        this.educationService = educationService;
+        this.certificateService = certificateService;
+        this.objectMapper = objectMapper;
+        this.exportRoot = Paths.get(exportDir).toAbsolutePath().normalize();
+        this.debounceMillis = debounceMillis;
+        this.retainedReleases = Math.max(1, retainedReleases);
+    }
+
+    /**
+     * 애플리케이션 시작 시 최초 스냅샷 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void exportOnStartup() {
+        scheduleExport();
+    }
+
+    /**
+     * 포트폴리오 변경 커밋 후 내보내기 예약
+     *
+     * @param event 포트폴리오 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPortfolioChanged(PortfolioChangeEvent event) {
+        log.debug("[STATIC_EXPORT] Change detected: {}", event);
+        scheduleExport();
+    }
+
+    /**
+     * 내보내기 예약 (debounce)
+     * 이미 예약된 작업이 있으면 새로 예약하지 않는다. 예약된 작업은 실행 시점의 최신 데이터를 읽으므로
+     * 그 사이의 변경도 모두 반영된다.
+     */
+    private void scheduleExport() {
+        if (exportScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::runExport, debounceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void runExport() {
+        exportScheduled.set(false);
+        try {
+            exportNow();
+        } catch (Exception e) {
+            log.error("[STATIC_EXPORT] Export failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 공개 API 응답을 새 릴리스 디렉토리에 렌더링하고 current 링크를 원자적으로 교체
+     *
+     * @throws IOException 파일 쓰기 실패 시
+     */
+    public synchronized void exportNow() throws IOException {
+        long startTime = System.currentTimeMillis();
+        Path releasesDir = exportRoot.resolve(RELEASES_DIR);
+        Files.createDirectories(releasesDir);
+
+        // 같은 밀리초에 다시 내보내도 서빙 중인 릴리스를 덮어쓰지 않도록 항상 증가하는 이름 사용
+        lastReleaseId = Math.max(startTime, lastReleaseId + 1);
+        Path release = Files.createDirectories(releasesDir.resolve(String.valueOf(lastReleaseId)));
+        Path apiDir = release.resolve("api");
+        Files.createDirectories(apiDir.resolve("projects"));
+
+        try {
+            writeJson(apiDir.resolve("profile.json"), profileService.getProfile());
+        } catch (RuntimeException e) {
+            // 프로필이 아직 없으면 profile.json 없이 내보낸다 (API도 동일하게 에러 응답)
+            log.warn("[STATIC_EXPORT] Profile not exported: {}", e.getMessage());
+        }
+
+        List<ProjectResponse> projects = projectService.getPublishedProjects();
+        writeJson(apiDir.resolve("projects.json"), projects);
+        for (ProjectResponse project : projects) {
+            Path projectDir = apiDir.resolve("projects").resolve(project.getId().toString());
+            Files.createDirectories(projectDir);
+            writeJson(apiDir.resolve("projects").resolve(project.getId() + ".json"), project);
+            writeJson(projectDir.resolve("qna.json"), projectService.getProjectQnAs(project.getId()));
+        }
+
+        writeJson(apiDir.resolve("skills.json"), skillService.getAllSkills());
+        writeJson(apiDir.resolve("educations.json"), educationService.getAllEducations());
+        writeJson(apiDir.resolve("certificates.json"), certificateService.getAllCertificates());
+
+        swapCurrentLink(release);
+        pruneOldReleases(release);
+
+        log.info("[STATIC_EXPORT] Export completed - Release: {} - Projects: {} - Duration: {}ms",
+                release.getFileName(), projects.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * JSON 파일과 gzip 사전 압축본을 함께 기록
+     */
+    private void writeJson(Path target, Object body) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(body);
+        Files.write(target, json);
+
+        Path gzipTarget = target.resolveSibling(target.getFileName() + ".gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzipTarget))) {
+            out.write(json);
+        }
+    }
+
+    /**
+     * current 심볼릭 링크를 새 릴리스로 원자적으로 교체
+     * 임시 링크를 만든 뒤 rename으로 덮어쓰므로 서빙 중인 요청은 항상 완전한 디렉토리만 본다.
+     */
+    private void swapCurrentLink(Path release) throws IOException {
+        Path currentLink = exportRoot.resolve(CURRENT_LINK);
+        Path tempLink = exportRoot.resolve(CURRENT_LINK + ".tmp");
+        Files.deleteIfExists(tempLink);
+        Files.createSymbolicLink(tempLink, exportRoot.relativize(release));
+        Files.move(tempLink, currentLink, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 최근 릴리스만 남기고 오래된 릴리스 삭제
+     * 교체 직전 버전을 읽고 있는 요청이 있을 수 있으므로 최소 1개 이상의 이전 릴리스를 유지한다.
+     */
+    private void pruneOldReleases(Path currentRelease) throws IOException {
+        List<Path> releases;
+        try (Stream<Path> stream = Files.list(exportRoot.resolve(RELEASES_DIR))) {
+            releases = stream
+                    .filter(Files::isDirectory)
+                    .filter(path -> !path.equals(currentRelease))
+                    .sorted(Comparator.comparing((Path path) -> path.getFileName().toString()).reversed())
+                    .toList();
+        }
+
+        for (int i = retainedReleases - 1; i < releases.size(); i++) {
+            deleteRecursively(releases.get(i));
+        }
+    }
+
+    private void deleteRecursively(Path root) {
+        try (Stream<Path> stream = Files.walk(root)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("[STATIC_EXPORT] Failed to delete {}: {}", path, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            log.warn("[STATIC_EXPORT] Failed to prune release {}: {}", root, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,325 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.store.RevocationStore;
+import com.example.djlogportfoliobackend.util.BloomFilter;
+import com.example.djlogportfoliobackend.util.RedisCircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * JWT 폐기(로그아웃) 목록 노드 로컬 뷰
+ *
+ * 인증된 요청마다 Redis에 블랙리스트 키를 조회하면 요청당 한 번의 네트워크 왕복이 생긴다.
+ * 이 서비스는 폐기된 토큰 ID를 노드 메모리에 유지하여 대부분의 요청("폐기되지 않음")을
+ * 네트워크 I/O 없이 판단한다.
+ *
+ * - 조회: Bloom filter에 없으면 즉시 false, 있으면 정확한 로컬 Set(토큰 ID → 만료 시각)으로 확인
+ * - 폐기: {@link RevocationStore}에 기록 (Redis 저장소는 TTL 키 저장 후 pub/sub으로 다른 노드에 전파)
+ * - 시작 시 저장소의 폐기 목록을 읽어 초기화하고, 주기적으로 다시 읽어 놓친 메시지를 보정
+ * - Bloom filter는 삭제를 지원하지 않으므로 재동기화 때 만료된 항목을 제외하고 새로 만든다
+ * - 초기화 전이거나 near-cache가 비활성화된 경우 기존처럼 저장소를 직접 조회
+ *
+ * 사용자 단위 폐기(강제 로그아웃)는 토큰을 열거하지 않고 subject별 "이 시각 이전에 발급된 토큰은 무효" 시각
+ * (not-before epoch, 밀리초)을 기록한다. 토큰 검증 시 밀리초 발급 시각 클레임(iat_ms)과 비교하므로 로컬 Map 조회 한 번이면 된다.
+ * 이 시각은 토큰 유효 기간이 지나면 의미가 없으므로 저장소에도 같은 TTL로 저장한다.
+ * 표준 iat는 초 단위라 폐기 직후 같은 초에 다시 로그인한 토큰까지 무효화하므로, 폐기 시각과 같은 밀리초 정밀도로 비교하고
+ * 폐기 시각 이후(다음 밀리초부터)에 발급된 토큰은 유효하다. iat_ms가 없는 이전 토큰만 초 단위 iat로 비교한다.
+ *
+ * 저장소 호출은 {@link RedisCircuitBreaker}를 거친다. 폐기 기록은 near-cache 사용 여부와 관계없이 로컬에도
+ * 남기므로, Redis 장애 중에도 최근 폐기는 계속 거부된다(이전처럼 모두 허용하지 않음). 장애 중 저장하지 못한
+ * 폐기는 대기 목록에 두었다가 Redis가 돌아오면 다시 저장하고, 놓친 다른 노드의 폐기는 재동기화로 가져온다.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService implements RevocationStore.Listener {
+
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevocationStore revocationStore;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final boolean nearCacheEnabled;
+    private final long expectedRevocations;
+    private final long tokenLifetimeMillis;
+
+    /** 폐기된 토큰 ID → 토큰 만료 시각 (epoch 밀리초) */
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    /** subject → 이 시각(epoch 밀리초) 이전에 발급된 토큰은 무효 */
+    private final Map<String, Long> notBefore = new ConcurrentHashMap<>();
+
+    /** Redis 장애로 저장하지 못한 토큰 폐기 / 사용자 단위 폐기 (Redis 복구 후 재저장) */
+    private final Map<String, Long> pendingRevocations = new ConcurrentHashMap<>();
+    private final Map<String, Long> pendingNotBefore = new ConcurrentHashMap<>();
+
+    /** 추가와 Bloom filter 교체를 직렬화 (조회는 잠그지 않음) */
+    private final Object writeLock = new Object();
+    private volatile BloomFilter bloomFilter;
+    private volatile boolean synchronizedWithRedis;
+
+    public TokenRevocationService(RevocationStore revocationStore,
+                                  RedisCircuitBreaker circuitBreaker,
+                                  @Value("${jwt.revocation.near-cache-enabled:true}") boolean nearCacheEnabled,
+                                  @Value("${jwt.revocation.expected-revocations:100000}") long expectedRevocations,
+                                  @Value("${jwt.expiration:86400000}") long tokenLifetimeMillis) {
+        this.revocationStore = revocationStore;
+        this.circuitBreaker = circuitBreaker;
+        this.nearCacheEnabled = nearCacheEnabled;
+        this.expectedRevocations = Math.max(1, expectedRevocations);
+        this.tokenLifetimeMillis = tokenLifetimeMillis;
+        this.bloomFilter = new BloomFilter(this.expectedRevocations, BLOOM_FALSE_POSITIVE_RATE);
+        if (nearCacheEnabled) {
+            revocationStore.setListener(this);
+        }
+    }
+
+    /**
+     * 토큰 폐기 여부 확인
+     *
+     * @param tokenId 토큰 식별자
+     * @return 폐기되었으면 true (Redis 장애 시 로컬에 기록된 폐기만으로 판단)
+     */
+    public boolean isRevoked(String tokenId) {
+        if (bloomFilter.mightContain(tokenId) && isRevokedLocally(tokenId)) {
+            return true;
+        }
+        if (nearCacheEnabled && synchronizedWithRedis) {
+            return false;
+        }
+        return circuitBreaker.execute(() -> revocationStore.isRevoked(tokenId), () -> false);
+    }
+
+    /**
+     * 토큰 폐기 (저장소에 기록 후 다른 노드에 전파)
+     *
+     * @param tokenId 토큰 식별자
+     * @param expiresAtMillis 토큰 만료 시각 (epoch 밀리초, 이 시각 이후에는 기록이 필요 없음)
+     */
+    public void revoke(String tokenId, long expiresAtMillis) {
+        long ttl = expiresAtMillis - System.currentTimeMillis();
+        if (ttl <= 0) {
+            log.debug("Token already expired, not revoking: {}", tokenId);
+            return;
+        }
+        addLocally(tokenId, expiresAtMillis);
+        circuitBreaker.run(() -> storeRevocation(tokenId, expiresAtMillis), () -> {
+            log.warn("Redis unavailable, token revocation kept locally until recovery: {}", tokenId);
+            pendingRevocations.put(tokenId, expiresAtMillis);
+        });
+    }
+
+    /**
+     * subject의 토큰이 사용자 단위 폐기 시각 이전에 발급되었는지 확인
+     *
+     * @param subject 토큰 subject
+     * @param issuedAtMillis 토큰 발급 시각 (epoch 밀리초, 폐기 시각과 같은 정밀도여야 하므로 밀리초 발급 시각 클레임 사용,
+     *                       발급 시각이 없으면 {@link Long#MIN_VALUE})
+     * @return 폐기 시각 이전(같은 시각 포함)에 발급된 토큰이면 true
+     */
+    public boolean isRevokedBefore(String subject, long issuedAtMillis) {
+        Long local = notBefore.get(subject);
+        if (local != null && issuedAtMillis <= local) {
+            return true;
+        }
+        if (nearCacheEnabled && synchronizedWithRedis) {
+            return false;
+        }
+        Long epoch = circuitBreaker.execute(() -> revocationStore.getNotBefore(subject), () -> null);
+        return epoch != null && issuedAtMillis <= epoch;
+    }
+
+    /**
+     * subject에게 지금까지 발급된 모든 토큰 폐기 (토큰을 열거하지 않고 폐기 시각만 기록)
+     *
+     * @param subject 토큰 subject
+     */
+    public void revokeAllForSubject(String subject) {
+        long epoch = System.currentTimeMillis();
+        notBefore.merge(subject, epoch, Math::max);
+        circuitBreaker.run(() -> storeNotBefore(subject, epoch), () -> {
+            log.warn("Redis unavailable, subject revocation kept locally until recovery: {}", subject);
+            pendingNotBefore.merge(subject, epoch, Math::max);
+        });
+        log.info("All tokens revoked for subject: {} (issued at or before {})", subject, epoch);
+    }
+
+    /**
+     * Redis 장애 중 로컬에만 기록된 폐기를 Redis에 다시 저장
+     * 모두 저장하면 장애 동안 놓친 다른 노드의 폐기를 가져오기 위해 재동기화합니다.
+     */
+    @Scheduled(fixedDelayString = "${redis.circuit-breaker.reconcile-interval-ms:1000}")
+    public void reconcilePending() {
+        if (!nearCacheEnabled) {
+            // near-cache가 없으면 로컬 기록은 장애 대비용이므로 만료된 항목만 정리
+            long now = System.currentTimeMillis();
+            revoked.values().removeIf(expiresAt -> expiresAt <= now);
+            notBefore.values().removeIf(epoch -> epoch <= now - tokenLifetimeMillis);
+        }
+        if ((pendingRevocations.isEmpty() && pendingNotBefore.isEmpty()) || circuitBreaker.isOpen()) {
+            return;
+        }
+        int replayed = replay(pendingRevocations, this::storeRevocation)
+                + replay(pendingNotBefore, this::storeNotBefore);
+        if (pendingRevocations.isEmpty() && pendingNotBefore.isEmpty()) {
+            log.info("Replayed {} revocations recorded while Redis was unavailable", replayed);
+            synchronize();
+        }
+    }
+
+    /**
+     * 다른 노드가 기록한 토큰 폐기 수신
+     */
+    @Override
+    public void onRevoked(String tokenId, long expiresAtMillis) {
+        addLocally(tokenId, expiresAtMillis);
+    }
+
+    /**
+     * 다른 노드가 기록한 사용자 단위 폐기 수신
+     */
+    @Override
+    public void onSubjectRevoked(String subject, long notBeforeMillis) {
+        notBefore.merge(subject, notBeforeMillis, Math::max);
+    }
+
+    /**
+     * 시작 시 저장소의 폐기 목록으로 로컬 뷰 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        synchronize();
+    }
+
+    /**
+     * 주기적 재동기화 (pub/sub 연결이 끊긴 동안 놓친 폐기를 보정하고 만료된 항목 정리)
+     */
+    @Scheduled(initialDelayString = "${jwt.revocation.resync-interval-ms:300000}",
+               fixedDelayString = "${jwt.revocation.resync-interval-ms:300000}")
+    public void resynchronize() {
+        synchronize();
+    }
+
+    /**
+     * 저장소의 토큰 폐기와 사용자 단위 폐기 시각을 읽어 로컬 뷰와 Bloom filter를 다시 구성
+     *
+     * @return 동기화에 성공하면 true
+     */
+    public boolean synchronize() {
+        if (!nearCacheEnabled || circuitBreaker.isOpen()) {
+            return false;
+        }
+        try {
+            Map<String, Long> snapshot = revocationStore.loadRevocations();
+            Map<String, Long> epochs = revocationStore.loadNotBefore();
+            long now = System.currentTimeMillis();
+
+            // 토큰 유효 기간보다 오래된 폐기 시각은 대상 토큰이 모두 만료되었으므로 제거
+            notBefore.values().removeIf(epoch -> epoch <= now - tokenLifetimeMillis);
+            epochs.forEach((subject, epoch) -> notBefore.merge(subject, epoch, Math::max));
+
+            synchronized (writeLock) {
+                revoked.values().removeIf(expiresAt -> expiresAt <= now);
+                revoked.putAll(snapshot);
+                BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, revoked.size() * 2L),
+                        BLOOM_FALSE_POSITIVE_RATE);
+                revoked.keySet().forEach(rebuilt::put);
+                bloomFilter = rebuilt;
+            }
+            synchronizedWithRedis = true;
+            log.info("Token revocation view synchronized: {} revoked tokens, {} revoked subjects",
+                    revoked.size(), notBefore.size());
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to synchronize token revocations: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 로컬 뷰의 폐기 토큰 수 (만료 전 정리되지 않은 항목 포함)
+     *
+     * @return 폐기 토큰 수
+     */
+    public int getRevokedCount() {
+        return revoked.size();
+    }
+
+    /**
+     * 사용자 단위 폐기 시각이 기록된 subject 수
+     *
+     * @return subject 수
+     */
+    public int getRevokedSubjectCount() {
+        return notBefore.size();
+    }
+
+    public boolean isSynchronized() {
+        return synchronizedWithRedis;
+    }
+
+    /**
+     * Redis 장애로 아직 저장하지 못한 폐기 수
+     *
+     * @return 대기 중인 토큰 폐기 + 사용자 단위 폐기 수
+     */
+    public int getPendingCount() {
+        return pendingRevocations.size() + pendingNotBefore.size();
+    }
+
+    private void addLocally(String tokenId, long expiresAtMillis) {
+        synchronized (writeLock) {
+            revoked.put(tokenId, expiresAtMillis);
+            bloomFilter.put(tokenId);
+        }
+    }
+
+    private boolean isRevokedLocally(String tokenId) {
+        Long expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    private void storeRevocation(String tokenId, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        revocationStore.revoke(tokenId, expiresAtMillis);
+        log.debug("Token revoked: {} (expires at {})", tokenId, expiresAtMillis);
+    }
+
+    private void storeNotBefore(String subject, long epoch) {
+        if (epoch <= System.currentTimeMillis() - tokenLifetimeMillis) {
+            return;
+        }
+        revocationStore.revokeSubject(subject, epoch, Duration.ofMillis(tokenLifetimeMillis));
+    }
+
+    /**
+     * 대기 중인 폐기를 차례로 저장 (차단기가 다시 열리면 나머지는 다음 주기로 미룸)
+     *
+     * @return 저장한 항목 수
+     */
+    private int replay(Map<String, Long> pending, ObjLongConsumer<String> store) {
+        int replayed = 0;
+        for (Map.Entry<String, Long> entry : List.copyOf(pending.entrySet())) {
+            boolean stored = circuitBreaker.execute(() -> {
+                store.accept(entry.getKey(), entry.getValue());
+                return true;
+            }, () -> false);
+            if (!stored) {
+                break;
+            }
+            pending.remove(entry.getKey(), entry.getValue());
+            replayed++;
+        }
+        return replayed;
+    }
+}
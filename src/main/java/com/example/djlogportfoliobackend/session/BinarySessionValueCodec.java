@@ -0,0 +1,242 @@
+package com.example.djlogportfoliobackend.session;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 압축 바이너리 세션 값 코덱
+ *
+ * 형식 (버전 1):
+ * <pre>
+ * [0x01] [시각: varint epoch millis]
+ * [IP 태그] 0 = 없음, 1 = IPv4 4바이트, 2 = 문자열(varint 길이 + UTF-8)
+ * [UA 태그] 0 = 없음, 1 = 사전 ID(varint), 2 = 문자열(varint 길이 + UTF-8)
+ * </pre>
+ * 일반적인 세션 값(IPv4 + 사전에 등록된 User-Agent)은 약 15바이트로, 날짜 배열과 User-Agent 전문을 담는
+ * JSON보다 10배 이상 작다.
+ *
+ * 첫 바이트가 버전이 아닌 값(이전 JSON 등)은 legacy 코덱으로 해석하므로, 코덱을 바꿔도 기존 값을 읽을 수 있다.
+ */
+public class BinarySessionValueCodec implements SessionValueCodec {
+
+    static final byte VERSION = 1;
+
+    private static final int TAG_NONE = 0;
+    private static final int TAG_IPV4_OR_ID = 1;
+    private static final int TAG_STRING = 2;
+
+    private final UserAgentDictionary dictionary;
+    private final SessionValueCodec legacy;
+
+    /**
+     * @param dictionary User-Agent 사전
+     * @param legacy 버전 바이트로 시작하지 않는 값을 해석할 코덱 (없으면 null)
+     */
+    public BinarySessionValueCodec(UserAgentDictionary dictionary, SessionValueCodec legacy) {
+        this.dictionary = dictionary;
+        this.legacy = legacy;
+    }
+
+    @Override
+    public byte[] encode(SessionValue value) {
+        Writer writer = new Writer(32);
+        writer.writeByte(VERSION);
+        writer.writeVarLong(value.timestampMillis());
+
+        String clientIp = value.clientIp();
+        long ipv4 = clientIp != null ? parseIpv4(clientIp) : -1;
+        if (clientIp == null) {
+            writer.writeByte(TAG_NONE);
+        } else if (ipv4 >= 0) {
+            writer.writeByte(TAG_IPV4_OR_ID);
+            writer.writeInt((int) ipv4);
+        } else {
+            writer.writeByte(TAG_STRING);
+            writer.writeString(clientIp);
+        }
+
+        String userAgent = value.userAgent();
+        int id = userAgent != null ? dictionary.idOf(userAgent) : -1;
+        if (userAgent == null) {
+            writer.writeByte(TAG_NONE);
+        } else if (id >= 0) {
+            writer.writeByte(TAG_IPV4_OR_ID);
+            writer.writeVarLong(id);
+        } else {
+            writer.writeByte(TAG_STRING);
+            writer.writeString(userAgent);
+        }
+        return writer.toByteArray();
+    }
+
+    @Override
+    public SessionValue decode(byte[] bytes) {
+        if (bytes.length == 0 || bytes[0] != VERSION) {
+            if (legacy == null) {
+                throw new IllegalArgumentException("Unknown session value format");
+            }
+            return legacy.decode(bytes);
+        }
+        Reader reader = new Reader(bytes, 1);
+        long timestampMillis = reader.readVarLong();
+
+        String clientIp = switch (reader.readByte()) {
+            case TAG_NONE -> null;
+            case TAG_IPV4_OR_ID -> formatIpv4(reader.readInt());
+            case TAG_STRING -> reader.readString();
+            default -> throw new IllegalArgumentException("Invalid client IP tag");
+        };
+
+        String userAgent = switch (reader.readByte()) {
+            case TAG_NONE -> null;
+            case TAG_IPV4_OR_ID -> {
+                int id = (int) reader.readVarLong();
+                String resolved = dictionary.valueOf(id);
+                if (resolved == null) {
+                    throw new IllegalArgumentException("Unknown user agent id: " + id);
+                }
+                yield resolved;
+            }
+            case TAG_STRING -> reader.readString();
+            default -> throw new IllegalArgumentException("Invalid user agent tag");
+        };
+        return new SessionValue(timestampMillis, clientIp, userAgent);
+    }
+
+    /**
+     * 점 표기 IPv4 주소를 부호 없는 32비트 값으로 변환 (DNS 조회 없이 직접 해석, 정규 표기가 아니면 -1)
+     */
+    static long parseIpv4(String address) {
+        long result = 0;
+        int octets = 0;
+        int value = -1;
+        for (int i = 0; i <= address.length(); i++) {
+            char c = i < address.length() ? address.charAt(i) : '.';
+            if (c == '.') {
+                if (value < 0 || ++octets > 4) {
+                    return -1;
+                }
+                result = (result << 8) | value;
+                value = -1;
+            } else if (c >= '0' && c <= '9') {
+                // 선행 0(예: 010)은 원래 문자열로 복원되지 않으므로 거부
+                if (value == 0) {
+                    return -1;
+                }
+                value = (value < 0 ? 0 : value * 10) + (c - '0');
+                if (value > 255) {
+                    return -1;
+                }
+            } else {
+                return -1;
+            }
+        }
+        return octets == 4 ? result : -1;
+    }
+
+    static String formatIpv4(int address) {
+        return (address >>> 24) + "." + ((address >>> 16) & 0xFF) + "." + ((address >>> 8) & 0xFF) + "." + (address & 0xFF);
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer;
+        private int position;
+
+        Writer(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeInt(int value) {
+            ensureCapacity(4);
+            buffer[position++] = (byte) (value >>> 24);
+            buffer[position++] = (byte) (value >>> 16);
+            buffer[position++] = (byte) (value >>> 8);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int additional) {
+            if (position + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        int readByte() {
+            require(1);
+            return buffer[position++] & 0xFF;
+        }
+
+        int readInt() {
+            require(4);
+            int value = ((buffer[position] & 0xFF) << 24) | ((buffer[position + 1] & 0xFF) << 16)
+                    | ((buffer[position + 2] & 0xFF) << 8) | (buffer[position + 3] & 0xFF);
+            position += 4;
+            return value;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        String readString() {
+            long length = readVarLong();
+            if (length < 0 || length > buffer.length - position) {
+                throw new IllegalArgumentException("Invalid string length: " + length);
+            }
+            String value = new String(buffer, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            return value;
+        }
+
+        private void require(int bytes) {
+            if (position + bytes > buffer.length) {
+                throw new IllegalArgumentException("Truncated session value");
+            }
+        }
+    }
+}
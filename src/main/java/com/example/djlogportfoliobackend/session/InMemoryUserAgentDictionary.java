@@ -0,0 +1,49 @@
+package com.example.djlogportfoliobackend.session;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 로컬 User-Agent 사전
+ * 단일 노드 배치나 벤치마크/테스트에서 사용한다. 여러 노드가 같은 Redis를 공유하면
+ * 노드마다 ID가 달라지므로 {@link RedisUserAgentDictionary}를 사용해야 한다.
+ */
+public class InMemoryUserAgentDictionary implements UserAgentDictionary {
+
+    private final int maxEntries;
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final Map<Integer, String> values = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxEntries 최대 항목 수 (User-Agent는 클라이언트가 임의로 보낼 수 있으므로 상한 필요)
+     */
+    public InMemoryUserAgentDictionary(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public int idOf(String userAgent) {
+        Integer id = ids.get(userAgent);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(userAgent);
+            if (id != null) {
+                return id;
+            }
+            if (ids.size() >= maxEntries) {
+                return -1;
+            }
+            int newId = ids.size();
+            values.put(newId, userAgent);
+            ids.put(userAgent, newId);
+            return newId;
+        }
+    }
+
+    @Override
+    public String valueOf(int id) {
+        return values.get(id);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.djlogportfoliobackend.session;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Jackson JSON 세션 값 코덱
+ * 기존 로그인 이력 항목과 같은 형식({"timestamp", "clientIp", "userAgent"})으로 기록하므로
+ * 이미 저장된 이력도 그대로 읽을 수 있다.
+ */
+public class JsonSessionValueCodec implements SessionValueCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public JsonSessionValueCodec() {
+        this.objectMapper = new ObjectMapper();
+        // LocalDateTime 직렬화를 위한 설정
+        this.objectMapper.findAndRegisterModules();
+    }
+
+    @Override
+    public byte[] encode(SessionValue value) {
+        JsonValue json = new JsonValue(
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(value.timestampMillis()), ZoneId.systemDefault()),
+                value.clientIp(), value.userAgent());
+        try {
+            return objectMapper.writeValueAsBytes(json);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to encode session value", e);
+        }
+    }
+
+    @Override
+    public SessionValue decode(byte[] bytes) {
+        try {
+            JsonValue json = objectMapper.readValue(bytes, JsonValue.class);
+            long timestampMillis = json.timestamp() != null
+                    ? json.timestamp().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0;
+            return new SessionValue(timestampMillis, json.clientIp(), json.userAgent());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to decode session value", e);
+        }
+    }
+
+    record JsonValue(LocalDateTime timestamp, String clientIp, String userAgent) {
+    }
+}
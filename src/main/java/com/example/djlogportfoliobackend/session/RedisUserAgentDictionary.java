@@ -0,0 +1,100 @@
+package com.example.djlogportfoliobackend.session;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 공유 User-Agent 사전
+ *
+ * - session-dict:ua: User-Agent → ID 해시, session-dict:ua-ids: ID → User-Agent 해시
+ * - ID 부여는 스크립트 하나로 원자적으로 수행되어 노드가 동시에 같은 값을 등록해도 ID가 하나로 정해짐
+ * - 부여된 ID는 바뀌지 않으므로 노드 로컬 Map에 영구 캐시 (사전 크기 상한이 곧 캐시 상한)
+ * - 사전이 가득 차면 이후 새 User-Agent는 Redis에 묻지 않고 바로 -1을 반환 (문자열 그대로 저장)
+ */
+@Slf4j
+public class RedisUserAgentDictionary implements UserAgentDictionary {
+
+    static final String IDS_KEY = "session-dict:ua";
+    static final String VALUES_KEY = "session-dict:ua-ids";
+
+    private static final String INTERN_SCRIPT = """
+            local id = redis.call('HGET', KEYS[1], ARGV[1])
+            if id then
+              return tonumber(id)
+            end
+            local size = redis.call('HLEN', KEYS[1])
+            if size >= tonumber(ARGV[2]) then
+              return -1
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], size)
+            redis.call('HSET', KEYS[2], size, ARGV[1])
+            return size
+            """;
+
+    private static final DefaultRedisScript<Long> SCRIPT = new DefaultRedisScript<>(INTERN_SCRIPT, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final int maxEntries;
+    private final int maxLength;
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final Map<Integer, String> values = new ConcurrentHashMap<>();
+    private volatile boolean full;
+
+    /**
+     * @param redisTemplate Redis 템플릿
+     * @param maxEntries 사전 최대 항목 수
+     * @param maxLength 사전에 등록할 User-Agent 최대 길이 (더 긴 값은 문자열 그대로 저장)
+     */
+    public RedisUserAgentDictionary(StringRedisTemplate redisTemplate, int maxEntries, int maxLength) {
+        this.redisTemplate = redisTemplate;
+        this.maxEntries = maxEntries;
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public int idOf(String userAgent) {
+        Integer cached = ids.get(userAgent);
+        if (cached != null) {
+            return cached;
+        }
+        if (full || userAgent.length() > maxLength) {
+            return -1;
+        }
+        try {
+            Long id = redisTemplate.execute(SCRIPT, List.of(IDS_KEY, VALUES_KEY), userAgent,
+                    String.valueOf(maxEntries));
+            if (id == null || id < 0) {
+                full = true;
+                return -1;
+            }
+            int value = id.intValue();
+            ids.put(userAgent, value);
+            values.put(value, userAgent);
+            return value;
+        } catch (Exception e) {
+            log.warn("Failed to intern user agent, storing inline: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    @Override
+    public String valueOf(int id) {
+        String cached = values.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        Object value = redisTemplate.opsForHash().get(VALUES_KEY, String.valueOf(id));
+        if (value == null) {
+            return null;
+        }
+        String userAgent = value.toString();
+        values.put(id, userAgent);
+        ids.put(userAgent, id);
+        return userAgent;
+    }
+}
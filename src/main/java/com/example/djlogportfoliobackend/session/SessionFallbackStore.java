@@ -0,0 +1,151 @@
+package com.example.djlogportfoliobackend.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis 장애 대비 노드 로컬 세션 저장소
+ *
+ * - 이 노드에서 생성/조회한 최근 세션을 크기와 TTL이 제한된 캐시에 유지하여, Redis 장애 중에도 조회에 응답
+ * - 장애 중 생성/삭제한 세션은 순서대로 대기 작업 큐에 쌓아 두었다가 Redis가 복구되면 같은 순서로 반영
+ *   (예: 장애 중 전체 로그아웃 후 재로그인한 경우 삭제가 먼저 반영되어야 함)
+ * - 대기 작업 큐가 가득 차면 가장 오래된 작업부터 버림 (세션 기록은 보조 정보이고 인증은 JWT로 판단)
+ */
+@Slf4j
+public class SessionFallbackStore {
+
+    private final Cache<String, StoredSession> sessions;
+    private final Queue<PendingOperation> pendingOperations = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final int maxPendingOperations;
+
+    /**
+     * @param maxSessions 로컬에 유지할 최대 세션 수
+     * @param maxPendingOperations 최대 대기 작업 수
+     * @param sessionTtl 세션 유효 시간 (마지막 기록 후)
+     */
+    public SessionFallbackStore(int maxSessions, int maxPendingOperations, Duration sessionTtl) {
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(Math.max(1, maxSessions))
+                .expireAfterWrite(sessionTtl)
+                .build();
+        this.maxPendingOperations = Math.max(1, maxPendingOperations);
+    }
+
+    /**
+     * 세션 기록 (생성 또는 Redis에서 읽은 최신 상태)
+     *
+     * @param session 세션
+     */
+    public void put(StoredSession session) {
+        sessions.put(session.sessionId(), session);
+    }
+
+    /**
+     * 세션 조회
+     *
+     * @param sessionId 세션 ID
+     * @return 세션, 없으면 null
+     */
+    public StoredSession get(String sessionId) {
+        return sessions.getIfPresent(sessionId);
+    }
+
+    /**
+     * 세션 제거
+     *
+     * @param sessionId 세션 ID
+     */
+    public void remove(String sessionId) {
+        sessions.invalidate(sessionId);
+    }
+
+    /**
+     * 사용자의 모든 세션 제거
+     *
+     * @param username 사용자명
+     */
+    public void removeUser(String username) {
+        sessions.asMap().values().removeIf(session -> session.username().equals(username));
+    }
+
+    /**
+     * 사용자의 로컬 세션 목록
+     *
+     * @param username 사용자명
+     * @return 세션 목록
+     */
+    public List<StoredSession> sessionsOf(String username) {
+        List<StoredSession> result = new ArrayList<>();
+        sessions.asMap().values().forEach(session -> {
+            if (session.username().equals(username)) {
+                result.add(session);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Redis 복구 후 반영할 작업 추가
+     *
+     * @param operation 대기 작업
+     */
+    public void enqueue(PendingOperation operation) {
+        pendingOperations.add(operation);
+        if (pendingCount.incrementAndGet() > maxPendingOperations && pendingOperations.poll() != null) {
+            pendingCount.decrementAndGet();
+            log.warn("Session fallback queue is full, dropped the oldest pending operation");
+        }
+    }
+
+    /**
+     * 가장 오래된 대기 작업 (제거하지 않음)
+     *
+     * @return 대기 작업, 없으면 null
+     */
+    public PendingOperation peekPending() {
+        return pendingOperations.peek();
+    }
+
+    /**
+     * 반영에 성공한 대기 작업 제거
+     *
+     * @param operation {@link #peekPending()}으로 받은 작업
+     */
+    public void completePending(PendingOperation operation) {
+        if (pendingOperations.remove(operation)) {
+            pendingCount.decrementAndGet();
+        }
+    }
+
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    public long getLocalSessionCount() {
+        return sessions.estimatedSize();
+    }
+
+    /**
+     * Redis 복구 후 반영할 세션 변경
+     */
+    public sealed interface PendingOperation {
+    }
+
+    public record CreateSession(String sessionId, String username, SessionValue value) implements PendingOperation {
+    }
+
+    public record RemoveSession(String sessionId) implements PendingOperation {
+    }
+
+    public record RemoveUserSessions(String username) implements PendingOperation {
+    }
+}
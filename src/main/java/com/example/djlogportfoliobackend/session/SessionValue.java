@@ -0,0 +1,12 @@
+package com.example.djlogportfoliobackend.session;
+
+/**
+ * 세션과 로그인 이력에 저장되는 클라이언트 정보
+ * 세션 데이터(로그인 시각)와 로그인 이력 항목(로그인 시각)이 같은 형태를 가지므로 하나의 값으로 인코딩한다.
+ *
+ * @param timestampMillis 로그인 시각 (epoch millis)
+ * @param clientIp 클라이언트 IP (없으면 null)
+ * @param userAgent User-Agent (없으면 null)
+ */
+public record SessionValue(long timestampMillis, String clientIp, String userAgent) {
+}
@@ -0,0 +1,25 @@
+package com.example.djlogportfoliobackend.session;
+
+/**
+ * 세션/로그인 이력 값 코덱
+ * Redis에 저장되는 세션 해시의 data 필드와 로그인 이력 목록의 항목을 바이트로 변환한다.
+ */
+public interface SessionValueCodec {
+
+    /**
+     * 값 인코딩
+     *
+     * @param value 세션 값
+     * @return Redis에 저장할 바이트
+     */
+    byte[] encode(SessionValue value);
+
+    /**
+     * 값 디코딩
+     *
+     * @param bytes Redis에 저장된 바이트
+     * @return 세션 값
+     * @throws IllegalArgumentException 해석할 수 없는 형식인 경우
+     */
+    SessionValue decode(byte[] bytes);
+}
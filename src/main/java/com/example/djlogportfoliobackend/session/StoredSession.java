@@ -0,0 +1,12 @@
+package com.example.djlogportfoliobackend.session;
+
+/**
+ * 저장된 세션
+ *
+ * @param sessionId 세션 ID (JWT 토큰 ID)
+ * @param username 사용자명
+ * @param value 로그인 시각, IP, User-Agent
+ * @param lastAccessMillis 마지막 접근 시각 (epoch millis)
+ */
+public record StoredSession(String sessionId, String username, SessionValue value, long lastAccessMillis) {
+}
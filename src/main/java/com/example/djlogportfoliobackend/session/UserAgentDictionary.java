@@ -0,0 +1,25 @@
+package com.example.djlogportfoliobackend.session;
+
+/**
+ * User-Agent 문자열 사전
+ * 같은 User-Agent를 세션마다 반복 저장하지 않도록 작은 정수 ID로 치환한다.
+ * ID는 한 번 부여되면 바뀌지 않아야 하며, 클러스터의 모든 노드가 같은 사전을 봐야 한다.
+ */
+public interface UserAgentDictionary {
+
+    /**
+     * User-Agent의 ID 조회 (없으면 새로 부여)
+     *
+     * @param userAgent User-Agent
+     * @return ID (0 이상), 사전이 가득 찼거나 사용할 수 없으면 -1 (호출자는 문자열을 그대로 저장)
+     */
+    int idOf(String userAgent);
+
+    /**
+     * ID의 User-Agent 조회
+     *
+     * @param id ID
+     * @return User-Agent, 알 수 없는 ID이면 null
+     */
+    String valueOf(int id);
+}
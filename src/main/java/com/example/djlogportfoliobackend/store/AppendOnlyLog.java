@@ -0,0 +1,180 @@
+package com.example.djlogportfoliobackend.store;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * 노드 로컬 저장소의 추가 전용 로그 (재시작 시 복원용)
+ *
+ * 변경마다 레코드 하나를 파일 끝에 추가하고, 재시작 시 처음부터 다시 적용하여 상태를 복원한다.
+ * - 레코드 형식: [길이 int][CRC32 int][본문]. 기록 중 종료되어 잘린 마지막 레코드는 복원 시 버리고 파일을 자른다
+ * - 추가는 OS 페이지 캐시까지만 쓰고, 디스크 동기화는 {@link #sync()}로 주기적으로 수행 (Redis appendfsync everysec과 같은 절충)
+ * - 로그가 살아 있는 항목보다 많이 커지면 현재 상태만 담은 새 파일로 교체 ({@link #rewrite})
+ */
+@Slf4j
+public class AppendOnlyLog implements Closeable {
+
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+
+    /**
+     * 레코드 본문 작성
+     */
+    @FunctionalInterface
+    public interface RecordWriter {
+        void write(DataOutput out) throws IOException;
+    }
+
+    /**
+     * 복원 시 레코드 본문 해석
+     */
+    @FunctionalInterface
+    public interface RecordReader {
+        void read(DataInput in) throws IOException;
+    }
+
+    private final Path path;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+    private final DataOutputStream bufferOut = new DataOutputStream(buffer);
+    private final CRC32 crc = new CRC32();
+    private FileChannel channel;
+    private long recordCount;
+
+    /**
+     * @param path 로그 파일 경로 (없으면 생성)
+     */
+    public AppendOnlyLog(Path path) throws IOException {
+        this.path = path;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = open(path);
+    }
+
+    /**
+     * 기록된 레코드를 처음부터 차례로 적용
+     *
+     * @param reader 레코드 해석기
+     * @return 적용한 레코드 수
+     */
+    public synchronized int replay(RecordReader reader) throws IOException {
+        int records = 0;
+        long validLength = 0;
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+            while (true) {
+                int length;
+                int checksum;
+                try {
+                    length = in.readInt();
+                    checksum = in.readInt();
+                } catch (IOException endOfLog) {
+                    break;
+                }
+                if (length < 0 || length > MAX_RECORD_BYTES) {
+                    break;
+                }
+                byte[] body = in.readNBytes(length);
+                crc.reset();
+                crc.update(body);
+                if (body.length < length || (int) crc.getValue() != checksum) {
+                    break;
+                }
+                reader.read(new DataInputStream(new ByteArrayInputStream(body)));
+                validLength += HEADER_BYTES + length;
+                records++;
+            }
+        }
+        if (validLength < channel.size()) {
+            log.warn("Truncating incomplete tail of {} ({} -> {} bytes)", path, channel.size(), validLength);
+            channel.truncate(validLength);
+        }
+        recordCount = records;
+        return records;
+    }
+
+    /**
+     * 레코드 추가
+     *
+     * @param writer 레코드 본문 작성기
+     */
+    public synchronized void append(RecordWriter writer) throws IOException {
+        channel.write(encode(writer));
+        recordCount++;
+    }
+
+    /**
+     * 현재 상태만 담은 새 로그로 교체 (임시 파일에 쓴 뒤 원자적으로 이동)
+     *
+     * @param records 현재 상태를 재현하는 레코드들
+     */
+    public synchronized void rewrite(Iterable<RecordWriter> records) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".rewrite");
+        long count = 0;
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (RecordWriter record : records) {
+                out.write(encode(record));
+                count++;
+            }
+            out.force(true);
+        }
+        channel.close();
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = open(path);
+        recordCount = count;
+    }
+
+    /**
+     * 추가된 레코드를 디스크에 동기화
+     */
+    public synchronized void sync() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * 로그 파일의 레코드 수 (복원하거나 다시 쓴 레코드 + 이후 추가된 레코드)
+     *
+     * @return 레코드 수
+     */
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.force(true);
+        channel.close();
+    }
+
+    private ByteBuffer encode(RecordWriter writer) throws IOException {
+        buffer.reset();
+        writer.write(bufferOut);
+        bufferOut.flush();
+        byte[] body = buffer.toByteArray();
+        crc.reset();
+        crc.update(body);
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + body.length);
+        record.putInt(body.length).putInt((int) crc.getValue()).put(body).flip();
+        return record;
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.djlogportfoliobackend.store;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 토큰 폐기 저장소 (단일 노드 배포용)
+ *
+ * - 토큰 ID → 만료 시각, subject → (폐기 시각, 기록 만료 시각)을 ConcurrentHashMap에 두고 조회는 잠그지 않는다
+ * - 기록 만료는 {@link TimingWheel}로 처리하고, 추가 전용 로그를 지정하면 시작 시 복원한다
+ * - 전파할 다른 노드가 없으므로 수신자는 등록하지 않는다
+ */
+@Slf4j
+public class InMemoryRevocationStore implements RevocationStore, AutoCloseable {
+
+    private static final byte OP_REVOKE = 1;
+    private static final byte OP_SUBJECT = 2;
+    private static final int REWRITE_MIN_RECORDS = 10_000;
+
+    private final Map<String, Long> revocations = new ConcurrentHashMap<>();
+    private final Map<String, SubjectRevocation> subjects = new ConcurrentHashMap<>();
+    private final TimingWheel<String> revocationExpiry;
+    private final TimingWheel<String> subjectExpiry;
+    private final AppendOnlyLog appendOnlyLog;
+
+    /**
+     * @param tickMillis 만료 처리 간격
+     * @param appendOnlyLog 재시작 시 복원할 로그 (사용하지 않으면 null)
+     */
+    public InMemoryRevocationStore(long tickMillis, AppendOnlyLog appendOnlyLog) throws IOException {
+        long now = System.currentTimeMillis();
+        // 복원한 항목 중 이미 만료된 것이 시작 직후 정리되도록 한 틱 앞에서 시작
+        this.revocationExpiry = new TimingWheel<>(tickMillis, now - tickMillis);
+        this.subjectExpiry = new TimingWheel<>(tickMillis, now - tickMillis);
+        this.appendOnlyLog = appendOnlyLog;
+        if (appendOnlyLog != null) {
+            int records = appendOnlyLog.replay(this::applyRecord);
+            purgeExpired(now);
+            appendOnlyLog.rewrite(snapshot());
+            log.info("Revocation store restored from {} log records: {} revoked tokens, {} revoked subjects",
+                    records, revocations.size(), subjects.size());
+        }
+    }
+
+    @Override
+    public synchronized void revoke(String tokenId, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        applyRevoke(tokenId, expiresAtMillis);
+        append(out -> {
+            out.writeByte(OP_REVOKE);
+            out.writeUTF(tokenId);
+            out.writeLong(expiresAtMillis);
+        });
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        Long expiresAt = revocations.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    @Override
+    public synchronized void revokeSubject(String subject, long notBeforeMillis, Duration ttl) {
+        long expiresAtMillis = System.currentTimeMillis() + ttl.toMillis();
+        applySubject(subject, notBeforeMillis, expiresAtMillis);
+        append(out -> {
+            out.writeByte(OP_SUBJECT);
+            out.writeUTF(subject);
+            out.writeLong(notBeforeMillis);
+            out.writeLong(expiresAtMillis);
+        });
+    }
+
+    @Override
+    public Long getNotBefore(String subject) {
+        SubjectRevocation revocation = subjects.get(subject);
+        return revocation != null && revocation.expiresAtMillis() > System.currentTimeMillis()
+                ? revocation.notBeforeMillis() : null;
+    }
+
+    @Override
+    public Map<String, Long> loadRevocations() {
+        long now = System.currentTimeMillis();
+        Map<String, Long> snapshot = new HashMap<>(revocations.size() * 2);
+        revocations.forEach((tokenId, expiresAt) -> {
+            if (expiresAt > now) {
+                snapshot.put(tokenId, expiresAt);
+            }
+        });
+        return snapshot;
+    }
+
+    @Override
+    public Map<String, Long> loadNotBefore() {
+        long now = System.currentTimeMillis();
+        Map<String, Long> snapshot = new HashMap<>(subjects.size() * 2);
+        subjects.forEach((subject, revocation) -> {
+            if (revocation.expiresAtMillis() > now) {
+                snapshot.put(subject, revocation.notBeforeMillis());
+            }
+        });
+        return snapshot;
+    }
+
+    /**
+     * 만료된 기록 정리, 로그 디스크 동기화, 로그가 커졌으면 다시 쓰기
+     */
+    @Scheduled(fixedDelayString = "${store.timing-wheel.tick-ms:1000}")
+    public synchronized void expire() {
+        purgeExpired(System.currentTimeMillis());
+        if (appendOnlyLog == null) {
+            return;
+        }
+        try {
+            appendOnlyLog.sync();
+            if (appendOnlyLog.getRecordCount() > Math.max(REWRITE_MIN_RECORDS,
+                    2L * (revocations.size() + subjects.size()))) {
+                appendOnlyLog.rewrite(snapshot());
+            }
+        } catch (IOException e) {
+            log.error("Failed to sync revocation store log: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (appendOnlyLog != null) {
+            appendOnlyLog.close();
+        }
+    }
+
+    private void applyRevoke(String tokenId, long expiresAtMillis) {
+        revocations.merge(tokenId, expiresAtMillis, Math::max);
+        revocationExpiry.schedule(tokenId, expiresAtMillis);
+    }
+
+    private void applySubject(String subject, long notBeforeMillis, long expiresAtMillis) {
+        subjects.merge(subject, new SubjectRevocation(notBeforeMillis, expiresAtMillis),
+                (previous, next) -> new SubjectRevocation(Math.max(previous.notBeforeMillis(), next.notBeforeMillis()),
+                        Math.max(previous.expiresAtMillis(), next.expiresAtMillis())));
+        subjectExpiry.schedule(subject, expiresAtMillis);
+    }
+
+    private void purgeExpired(long nowMillis) {
+        revocationExpiry.advance(nowMillis, tokenId -> {
+            Long expiresAt = revocations.get(tokenId);
+            if (expiresAt != null && expiresAt <= nowMillis) {
+                revocations.remove(tokenId);
+            }
+        });
+        subjectExpiry.advance(nowMillis, subject -> {
+            SubjectRevocation revocation = subjects.get(subject);
+            if (revocation != null && revocation.expiresAtMillis() <= nowMillis) {
+                subjects.remove(subject);
+            }
+        });
+    }
+
+    private void append(AppendOnlyLog.RecordWriter record) {
+        if (appendOnlyLog == null) {
+            return;
+        }
+        try {
+            appendOnlyLog.append(record);
+        } catch (IOException e) {
+            log.error("Failed to append to revocation store log: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 상태를 재현하는 레코드
+     */
+    private List<AppendOnlyLog.RecordWriter> snapshot() {
+        List<AppendOnlyLog.RecordWriter> records = new ArrayList<>(revocations.size() + subjects.size());
+        revocations.forEach((tokenId, expiresAt) -> records.add(out -> {
+            out.writeByte(OP_REVOKE);
+            out.writeUTF(tokenId);
+            out.writeLong(expiresAt);
+        }));
+        subjects.forEach((subject, revocation) -> records.add(out -> {
+            out.writeByte(OP_SUBJECT);
+            out.writeUTF(subject);
+            out.writeLong(revocation.notBeforeMillis());
+            out.writeLong(revocation.expiresAtMillis());
+        }));
+        return records;
+    }
+
+    private void applyRecord(DataInput in) throws IOException {
+        switch (in.readByte()) {
+            case OP_REVOKE -> applyRevoke(in.readUTF(), in.readLong());
+            case OP_SUBJECT -> applySubject(in.readUTF(), in.readLong(), in.readLong());
+            default -> throw new IOException("Unknown revocation store log record");
+        }
+    }
+
+    private record SubjectRevocation(long notBeforeMillis, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,445 @@
+package com.example.djlogportfoliobackend.store;
+
+import com.example.djlogportfoliobackend.session.SessionValue;
+import com.example.djlogportfoliobackend.session.StoredSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 세션 저장소 (단일 노드 배포용)
+ *
+ * Redis 왕복 없이 세션을 노드 메모리에 유지한다.
+ * - 세션, 사용자별 세션 ID, 로그인 이력은 ConcurrentHashMap에 두고 조회는 잠그지 않는다.
+ *   사용자별 세션 ID 집합과 이력 목록은 불변 객체로 교체하므로 조회 중 변경과 충돌하지 않는다
+ * - 변경(로그인, 로그아웃, 접근 시각 반영, 만료)은 저장소 단위로 직렬화한다. 로그인/로그아웃은 드물고
+ *   접근 시각은 {@link com.example.djlogportfoliobackend.service.SessionAccessTracker}가 배치로 반영하므로
+ *   경합이 적으며, 추가 전용 로그의 기록 순서가 실제 적용 순서와 같아진다
+ * - TTL 만료는 {@link TimingWheel}로 처리한다. 접근 시각 반영으로 연장된 세션은 만료 시점에 다시 등록한다
+ * - 추가 전용 로그를 지정하면 시작 시 복원하고 현재 상태만 담은 파일로 다시 쓴다
+ */
+@Slf4j
+public class InMemorySessionStore implements SessionStore, AutoCloseable {
+
+    private static final byte OP_CREATE = 1;
+    private static final byte OP_REMOVE = 2;
+    private static final byte OP_REMOVE_USER = 3;
+    private static final byte OP_TOUCH = 4;
+    private static final byte OP_SESSION = 5;
+    private static final byte OP_HISTORY = 6;
+    private static final byte OP_CREATE_SESSION = 7;
+    private static final int REWRITE_MIN_RECORDS = 10_000;
+
+    private final Map<String, StoredSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> userSessions = new ConcurrentHashMap<>();
+    private final Map<String, List<SessionValue>> loginHistory = new ConcurrentHashMap<>();
+    private final TimingWheel<String> sessionExpiry;
+    private final TimingWheel<String> historyExpiry;
+    private final int maxLoginHistory;
+    private final AppendOnlyLog appendOnlyLog;
+    private volatile DailyUsers dailyUsers = new DailyUsers(LocalDate.MIN, Set.of());
+
+    /**
+     * @param maxLoginHistory 사용자별 최대 로그인 이력 수
+     * @param tickMillis 만료 처리 간격
+     * @param appendOnlyLog 재시작 시 복원할 로그 (사용하지 않으면 null)
+     */
+    public InMemorySessionStore(int maxLoginHistory, long tickMillis, AppendOnlyLog appendOnlyLog) throws IOException {
+        long now = System.currentTimeMillis();
+        this.maxLoginHistory = Math.max(1, maxLoginHistory);
+        // 복원한 항목 중 이미 만료된 것(다음 틱에 등록됨)이 시작 직후 정리되도록 한 틱 앞에서 시작
+        this.sessionExpiry = new TimingWheel<>(tickMillis, now - tickMillis);
+        this.historyExpiry = new TimingWheel<>(tickMillis, now - tickMillis);
+        this.appendOnlyLog = appendOnlyLog;
+        if (appendOnlyLog != null) {
+            int records = appendOnlyLog.replay(this::applyRecord);
+            purgeExpired(now);
+            appendOnlyLog.rewrite(snapshot());
+            log.info("Session store restored from {} log records: {} sessions, {} users",
+                    records, sessions.size(), userSessions.size());
+        }
+    }
+
+    @Override
+    public synchronized CreateResult create(String sessionId, String username, SessionValue value, long nowMillis) {
+        CreateResult result = applyCreate(sessionId, username, value, nowMillis);
+        append(out -> {
+            out.writeByte(OP_CREATE_SESSION);
+            out.writeUTF(sessionId);
+            out.writeUTF(username);
+            writeValue(out, value);
+            out.writeLong(nowMillis);
+        });
+        return result;
+    }
+
+    @Override
+    public StoredSession find(String sessionId) {
+        StoredSession session = sessions.get(sessionId);
+        return session != null && isAlive(session, System.currentTimeMillis()) ? session : null;
+    }
+
+    @Override
+    public synchronized boolean remove(String sessionId) {
+        boolean removed = applyRemove(sessionId);
+        if (removed) {
+            append(out -> {
+                out.writeByte(OP_REMOVE);
+                out.writeUTF(sessionId);
+            });
+        }
+        return removed;
+    }
+
+    @Override
+    public synchronized long removeUser(String username) {
+        long removed = applyRemoveUser(username);
+        if (removed > 0) {
+            append(out -> {
+                out.writeByte(OP_REMOVE_USER);
+                out.writeUTF(username);
+            });
+        }
+        return removed;
+    }
+
+    @Override
+    public List<StoredSession> list(String username) {
+        Set<String> ids = userSessions.getOrDefault(username, Set.of());
+        long now = System.currentTimeMillis();
+        List<StoredSession> result = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            StoredSession session = sessions.get(id);
+            if (session != null && isAlive(session, now)) {
+                result.add(session);
+            }
+        }
+        result.sort(Comparator.comparingLong(StoredSession::lastAccessMillis).reversed());
+        return result;
+    }
+
+    @Override
+    public synchronized long touch(List<SessionAccess> accesses) {
+        List<SessionAccess> updated = new ArrayList<>(accesses.size());
+        for (SessionAccess access : accesses) {
+            if (applyTouch(access.sessionId(), access.accessMillis())) {
+                updated.add(access);
+            }
+        }
+        if (!updated.isEmpty()) {
+            append(out -> {
+                out.writeByte(OP_TOUCH);
+                out.writeInt(updated.size());
+                for (SessionAccess access : updated) {
+                    out.writeUTF(access.sessionId());
+                    out.writeLong(access.accessMillis());
+                }
+            });
+        }
+        return updated.size();
+    }
+
+    @Override
+    public synchronized void appendLoginHistory(List<LoginRecord> records) {
+        Map<String, List<SessionValue>> appended = new LinkedHashMap<>();
+        for (LoginRecord record : records) {
+            applyHistory(record.username(), record.value());
+            appended.computeIfAbsent(record.username(), username -> new ArrayList<>()).add(record.value());
+        }
+        // OP_HISTORY는 최신 항목부터 기록 (복원 시 오래된 항목부터 다시 쌓음)
+        appended.forEach((username, values) -> append(out -> {
+            out.writeByte(OP_HISTORY);
+            out.writeUTF(username);
+            out.writeInt(values.size());
+            for (int i = values.size() - 1; i >= 0; i--) {
+                writeValue(out, values.get(i));
+            }
+        }));
+    }
+
+    @Override
+    public SessionCounts counts() {
+        DailyUsers today = dailyUsers;
+        long uniqueUsersToday = today.day().equals(LocalDate.now(ZoneOffset.UTC)) ? today.users().size() : 0;
+        return new SessionCounts(sessions.size(), userSessions.size(), uniqueUsersToday);
+    }
+
+    /**
+     * 만료된 세션과 로그인 이력 정리, 로그 디스크 동기화, 로그가 커졌으면 다시 쓰기
+     */
+    @Scheduled(fixedDelayString = "${store.timing-wheel.tick-ms:1000}")
+    public synchronized void expire() {
+        purgeExpired(System.currentTimeMillis());
+        if (appendOnlyLog == null) {
+            return;
+        }
+        try {
+            appendOnlyLog.sync();
+            if (appendOnlyLog.getRecordCount() > Math.max(REWRITE_MIN_RECORDS,
+                    2L * (sessions.size() + loginHistory.size()))) {
+                appendOnlyLog.rewrite(snapshot());
+            }
+        } catch (IOException e) {
+            log.error("Failed to sync session store log: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (appendOnlyLog != null) {
+            appendOnlyLog.close();
+        }
+    }
+
+    private CreateResult applyCreate(String sessionId, String username, SessionValue value, long nowMillis) {
+        sessions.put(sessionId, new StoredSession(sessionId, username, value, nowMillis));
+        sessionExpiry.schedule(sessionId, nowMillis + SESSION_TTL.toMillis());
+
+        Set<String> live = new HashSet<>();
+        for (String id : userSessions.getOrDefault(username, Set.of())) {
+            StoredSession session = sessions.get(id);
+            if (session != null && isAlive(session, nowMillis)) {
+                live.add(id);
+            }
+        }
+        boolean firstSessionOfUser = live.isEmpty();
+        live.add(sessionId);
+
+        // 동시 로그인 제한: 새 세션을 제외하고 마지막 접근이 가장 오래된 세션부터 정리
+        List<String> evicted = new ArrayList<>();
+        while (live.size() > MAX_SESSIONS_PER_USER) {
+            String oldest = live.stream()
+                    .filter(id -> !id.equals(sessionId))
+                    .min(Comparator.comparingLong(id -> sessions.get(id).lastAccessMillis()))
+                    .orElseThrow();
+            live.remove(oldest);
+            sessions.remove(oldest);
+            evicted.add(oldest);
+        }
+        userSessions.put(username, Set.copyOf(live));
+
+        recordDailyUser(username, value.timestampMillis());
+        return new CreateResult(firstSessionOfUser, evicted);
+    }
+
+    private void applyHistory(String username, SessionValue value) {
+        List<SessionValue> previous = loginHistory.getOrDefault(username, List.of());
+        List<SessionValue> history = new ArrayList<>(Math.min(previous.size() + 1, maxLoginHistory));
+        history.add(value);
+        for (int i = 0; i < previous.size() && history.size() < maxLoginHistory; i++) {
+            history.add(previous.get(i));
+        }
+        loginHistory.put(username, List.copyOf(history));
+        historyExpiry.schedule(username, value.timestampMillis() + LOGIN_HISTORY_TTL.toMillis());
+    }
+
+    private boolean applyRemove(String sessionId) {
+        StoredSession session = sessions.remove(sessionId);
+        if (session == null) {
+            return false;
+        }
+        detach(session.username(), sessionId);
+        return true;
+    }
+
+    private long applyRemoveUser(String username) {
+        Set<String> ids = userSessions.remove(username);
+        if (ids == null) {
+            return 0;
+        }
+        long removed = 0;
+        for (String id : ids) {
+            if (sessions.remove(id) != null) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private boolean applyTouch(String sessionId, long accessMillis) {
+        StoredSession session = sessions.get(sessionId);
+        if (session == null || session.lastAccessMillis() >= accessMillis) {
+            return false;
+        }
+        sessions.put(sessionId, new StoredSession(sessionId, session.username(), session.value(), accessMillis));
+        return true;
+    }
+
+    private void detach(String username, String sessionId) {
+        Set<String> ids = userSessions.get(username);
+        if (ids == null || !ids.contains(sessionId)) {
+            return;
+        }
+        Set<String> remaining = new HashSet<>(ids);
+        remaining.remove(sessionId);
+        if (remaining.isEmpty()) {
+            userSessions.remove(username);
+        } else {
+            userSessions.put(username, Set.copyOf(remaining));
+        }
+    }
+
+    private void recordDailyUser(String username, long loginMillis) {
+        LocalDate day = LocalDate.ofInstant(Instant.ofEpochMilli(loginMillis), ZoneOffset.UTC);
+        DailyUsers current = dailyUsers;
+        if (day.isAfter(current.day())) {
+            current = new DailyUsers(day, ConcurrentHashMap.newKeySet());
+            dailyUsers = current;
+        }
+        if (day.equals(current.day())) {
+            current.users().add(username);
+        }
+    }
+
+    private void purgeExpired(long nowMillis) {
+        sessionExpiry.advance(nowMillis, sessionId -> {
+            StoredSession session = sessions.get(sessionId);
+            if (session == null) {
+                return;
+            }
+            if (isAlive(session, nowMillis)) {
+                // 접근 시각 반영으로 연장된 세션은 새 만료 시각으로 다시 등록
+                sessionExpiry.schedule(sessionId, session.lastAccessMillis() + SESSION_TTL.toMillis());
+            } else {
+                sessions.remove(sessionId);
+                detach(session.username(), sessionId);
+            }
+        });
+        historyExpiry.advance(nowMillis, username -> {
+            List<SessionValue> history = loginHistory.get(username);
+            if (history != null && history.get(0).timestampMillis() + LOGIN_HISTORY_TTL.toMillis() <= nowMillis) {
+                loginHistory.remove(username);
+            }
+        });
+    }
+
+    private static boolean isAlive(StoredSession session, long nowMillis) {
+        return session.lastAccessMillis() + SESSION_TTL.toMillis() > nowMillis;
+    }
+
+    private void append(AppendOnlyLog.RecordWriter record) {
+        if (appendOnlyLog == null) {
+            return;
+        }
+        try {
+            appendOnlyLog.append(record);
+        } catch (IOException e) {
+            log.error("Failed to append to session store log: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 상태를 재현하는 레코드 (세션, 로그인 이력)
+     */
+    private List<AppendOnlyLog.RecordWriter> snapshot() {
+        List<AppendOnlyLog.RecordWriter> records = new ArrayList<>(sessions.size() + loginHistory.size());
+        loginHistory.forEach((username, history) -> records.add(out -> {
+            out.writeByte(OP_HISTORY);
+            out.writeUTF(username);
+            out.writeInt(history.size());
+            for (SessionValue value : history) {
+                writeValue(out, value);
+            }
+        }));
+        sessions.values().forEach(session -> records.add(out -> {
+            out.writeByte(OP_SESSION);
+            out.writeUTF(session.sessionId());
+            out.writeUTF(session.username());
+            writeValue(out, session.value());
+            out.writeLong(session.lastAccessMillis());
+        }));
+        return records;
+    }
+
+    private void applyRecord(DataInput in) throws IOException {
+        switch (in.readByte()) {
+            case OP_CREATE -> {
+                // 로그인 이력을 세션 생성과 함께 기록하던 이전 형식
+                String sessionId = in.readUTF();
+                String username = in.readUTF();
+                SessionValue value = readValue(in);
+                applyCreate(sessionId, username, value, in.readLong());
+                applyHistory(username, value);
+            }
+            case OP_CREATE_SESSION -> applyCreate(in.readUTF(), in.readUTF(), readValue(in), in.readLong());
+            case OP_REMOVE -> applyRemove(in.readUTF());
+            case OP_REMOVE_USER -> applyRemoveUser(in.readUTF());
+            case OP_TOUCH -> {
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    applyTouch(in.readUTF(), in.readLong());
+                }
+            }
+            case OP_SESSION -> {
+                StoredSession session = new StoredSession(in.readUTF(), in.readUTF(), readValue(in), in.readLong());
+                sessions.put(session.sessionId(), session);
+                sessionExpiry.schedule(session.sessionId(), session.lastAccessMillis() + SESSION_TTL.toMillis());
+                Set<String> ids = new HashSet<>(userSessions.getOrDefault(session.username(), Set.of()));
+                ids.add(session.sessionId());
+                userSessions.put(session.username(), Set.copyOf(ids));
+            }
+            case OP_HISTORY -> {
+                String username = in.readUTF();
+                int count = in.readInt();
+                List<SessionValue> history = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    history.add(readValue(in));
+                }
+                // 오래된 항목부터 다시 쌓아 최신 항목이 앞에 오도록 복원
+                for (int i = history.size() - 1; i >= 0; i--) {
+                    applyHistory(username, history.get(i));
+                }
+            }
+            default -> throw new IOException("Unknown session store log record");
+        }
+    }
+
+    private static void writeValue(DataOutput out, SessionValue value) throws IOException {
+        out.writeLong(value.timestampMillis());
+        writeNullable(out, value.clientIp());
+        writeNullable(out, value.userAgent());
+    }
+
+    private static SessionValue readValue(DataInput in) throws IOException {
+        return new SessionValue(in.readLong(), readNullable(in), readNullable(in));
+    }
+
+    // writeUTF는 64KB로 제한되므로 길이가 정해지지 않은 클라이언트 값은 길이 + UTF-8로 기록
+    private static void writeNullable(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readNullable(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private record DailyUsers(LocalDate day, Set<String> users) {
+    }
+}
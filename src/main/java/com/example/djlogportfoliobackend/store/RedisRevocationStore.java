@@ -0,0 +1,185 @@
+package com.example.djlogportfoliobackend.store;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis 토큰 폐기 저장소
+ *
+ * - 토큰 폐기: jwt:blacklist:{tokenId} 키에 토큰 만료까지 TTL로 저장 (기존 키 형식 유지)
+ * - 사용자 단위 폐기: jwt:not-before:{subject} 키에 폐기 시각을 토큰 유효 기간 TTL로 저장
+ * - 기록 후 pub/sub으로 다른 노드에 전파하고, 수신한 메시지는 등록된 {@link Listener}에 전달
+ *   (자기 노드가 발행한 메시지는 노드 ID로 걸러냄)
+ * - 전체 목록은 KEYS 대신 SCAN으로 읽음
+ */
+@Slf4j
+public class RedisRevocationStore implements RevocationStore, MessageListener {
+
+    public static final String REVOCATION_CHANNEL = "jwt:revocations";
+    public static final String NOT_BEFORE_CHANNEL = "jwt:not-before";
+    private static final String BLACKLIST_PREFIX = "jwt:blacklist:";
+    private static final String NOT_BEFORE_PREFIX = "jwt:not-before:";
+    private static final int SCAN_COUNT = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean publish;
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private volatile Listener listener;
+
+    /**
+     * @param redisTemplate Redis 템플릿
+     * @param publish 기록 후 다른 노드에 전파할지 여부 (노드 로컬 뷰를 사용하지 않으면 전파할 필요 없음)
+     */
+    public RedisRevocationStore(StringRedisTemplate redisTemplate, boolean publish) {
+        this.redisTemplate = redisTemplate;
+        this.publish = publish;
+    }
+
+    @Override
+    public void revoke(String tokenId, long expiresAtMillis) {
+        long ttl = expiresAtMillis - System.currentTimeMillis();
+        if (ttl <= 0) {
+            return;
+        }
+        redisTemplate.opsForValue().set(BLACKLIST_PREFIX + tokenId, "blacklisted", Duration.ofMillis(ttl));
+        if (publish) {
+            redisTemplate.convertAndSend(REVOCATION_CHANNEL, nodeId + ":" + tokenId + ":" + expiresAtMillis);
+        }
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_PREFIX + tokenId));
+    }
+
+    @Override
+    public void revokeSubject(String subject, long notBeforeMillis, Duration ttl) {
+        redisTemplate.opsForValue().set(NOT_BEFORE_PREFIX + subject, Long.toString(notBeforeMillis), ttl);
+        if (publish) {
+            redisTemplate.convertAndSend(NOT_BEFORE_CHANNEL, nodeId + ":" + subject + ":" + notBeforeMillis);
+        }
+    }
+
+    @Override
+    public Long getNotBefore(String subject) {
+        String value = redisTemplate.opsForValue().get(NOT_BEFORE_PREFIX + subject);
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    @Override
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 다른 노드가 발행한 폐기 메시지 수신
+     * 토큰 폐기는 {@code nodeId:tokenId:expiresAt}, 사용자 단위 폐기는 {@code nodeId:subject:notBefore}
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Listener current = listener;
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        int first = payload.indexOf(':');
+        int last = payload.lastIndexOf(':');
+        if (current == null || first < 0 || last <= first || payload.substring(0, first).equals(nodeId)) {
+            return;
+        }
+        try {
+            String target = payload.substring(first + 1, last);
+            long time = Long.parseLong(payload.substring(last + 1));
+            if (NOT_BEFORE_CHANNEL.equals(new String(message.getChannel(), StandardCharsets.UTF_8))) {
+                current.onSubjectRevoked(target, time);
+            } else {
+                current.onRevoked(target, time);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Unknown revocation message: {}", payload);
+        }
+    }
+
+    /**
+     * 블랙리스트 키 목록(SCAN)과 남은 TTL(파이프라인 PTTL) 조회
+     */
+    @Override
+    public Map<String, Long> loadRevocations() {
+        List<String> tokenIds = scanSuffixes(BLACKLIST_PREFIX);
+        if (tokenIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String tokenId : tokenIds) {
+                connection.keyCommands().pTtl((BLACKLIST_PREFIX + tokenId).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        long now = System.currentTimeMillis();
+        Map<String, Long> snapshot = new HashMap<>(tokenIds.size() * 2);
+        for (int i = 0; i < tokenIds.size(); i++) {
+            // PTTL: -2 = 키 없음(그 사이 만료), -1 = TTL 없음
+            if (ttls.get(i) instanceof Long ttl && ttl != -2L) {
+                snapshot.put(tokenIds.get(i), ttl < 0 ? Long.MAX_VALUE : now + ttl);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 사용자 단위 폐기 시각 목록(SCAN)과 값(MGET) 조회
+     */
+    @Override
+    public Map<String, Long> loadNotBefore() {
+        List<String> subjects = scanSuffixes(NOT_BEFORE_PREFIX);
+        if (subjects.isEmpty()) {
+            return Map.of();
+        }
+        List<String> values = redisTemplate.opsForValue()
+                .multiGet(subjects.stream().map(subject -> NOT_BEFORE_PREFIX + subject).toList());
+
+        Map<String, Long> snapshot = new HashMap<>(subjects.size() * 2);
+        for (int i = 0; values != null && i < subjects.size(); i++) {
+            String value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            try {
+                snapshot.put(subjects.get(i), Long.parseLong(value));
+            } catch (NumberFormatException e) {
+                log.warn("Invalid not-before value for {}: {}", subjects.get(i), value);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 접두사로 시작하는 키를 SCAN으로 읽어 접두사를 뗀 나머지 목록 반환
+     */
+    private List<String> scanSuffixes(String prefix) {
+        List<String> suffixes = new ArrayList<>();
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_COUNT).build();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                    suffixes.add(key.substring(prefix.length()));
+                }
+            }
+            return null;
+        });
+        return suffixes;
+    }
+}
@@ -0,0 +1,326 @@
+package com.example.djlogportfoliobackend.store;
+
+import com.example.djlogportfoliobackend.service.SessionStatsService;
+import com.example.djlogportfoliobackend.session.SessionValue;
+import com.example.djlogportfoliobackend.session.SessionValueCodec;
+import com.example.djlogportfoliobackend.session.StoredSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 세션 저장소
+ *
+ * 저장 구조:
+ * - session:v2:{sessionId}: username, lastAccessTime(epoch millis), data 필드의 해시.
+ *   data(로그인 시각, IP, User-Agent)와 로그인 이력 항목은 {@link SessionValueCodec}으로 인코딩
+ * - user_sessions:v2:{username}: 마지막 접근 시각을 점수로 하는 세션 ID 정렬 집합
+ * - login_history:{username}: 최근 로그인 이력 목록
+ * 생성(저장 + 초과 세션 정리), 삭제, 사용자 전체 삭제, 목록 조회, 접근 시각 반영은 각각
+ * Lua 스크립트 하나로 처리되어 Redis 왕복이 1회입니다.
+ * 로그인 이력은 요청 경로와 분리되어, 모아 둔 항목을 파이프라인 한 번으로 기록합니다.
+ * 스크립트가 세션 ID로 세션 키를 만들어 접근하므로 단일 Redis(비클러스터) 배치를 전제로 합니다.
+ * 이전 JSON 문자열/SET 구조와 키 타입이 달라 접두사에 버전을 붙였으며, 이전 키는 TTL로 사라집니다.
+ *
+ * 통계는 KEYS 대신 {@link SessionStatsService}의 카운터로 유지합니다.
+ */
+@Slf4j
+public class RedisSessionStore implements SessionStore {
+
+    public static final String SESSION_PREFIX = "session:v2:";
+    public static final String USER_SESSIONS_PREFIX = "user_sessions:v2:";
+    private static final String LOGIN_HISTORY_PREFIX = "login_history:";
+
+    /**
+     * 세션 저장 + 사용자 정렬 집합 등록 + 초과 세션 정리
+     * 반환: {사용자의 첫 세션 여부(1/0), 정리된 세션 ID...}
+     */
+    private static final String CREATE_SESSION_SCRIPT = """
+            local sessionId = ARGV[1]
+            local now = tonumber(ARGV[4])
+            local ttl = tonumber(ARGV[5])
+            local maxSessions = tonumber(ARGV[6])
+            redis.call('HSET', KEYS[1], 'username', ARGV[2], 'data', ARGV[3], 'lastAccessTime', ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], ttl)
+            local firstSession = 0
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+              firstSession = 1
+            end
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', '(' .. (now - ttl))
+            redis.call('ZADD', KEYS[2], now, sessionId)
+            redis.call('PEXPIRE', KEYS[2], ttl)
+            local result = {firstSession}
+            local excess = redis.call('ZCARD', KEYS[2]) - maxSessions
+            if excess > 0 then
+              local oldest = redis.call('ZRANGE', KEYS[2], 0, excess)
+              for _, id in ipairs(oldest) do
+                if excess > 0 and id ~= sessionId then
+                  excess = excess - 1
+                  redis.call('ZREM', KEYS[2], id)
+                  if redis.call('DEL', ARGV[7] .. id) == 1 then
+                    table.insert(result, id)
+                  end
+                end
+              end
+            end
+            return result
+            """;
+
+    /**
+     * 세션 삭제 + 사용자 정렬 집합에서 제거 (마지막 세션이면 집합 키도 삭제)
+     * 반환: {삭제된 세션 수, 삭제된 사용자 집합 수}
+     */
+    private static final String REMOVE_SESSION_SCRIPT = """
+            local username = redis.call('HGET', KEYS[1], 'username')
+            if not username then
+              return {0, 0}
+            end
+            redis.call('DEL', KEYS[1])
+            local userKey = ARGV[2] .. username
+            redis.call('ZREM', userKey, ARGV[1])
+            local userRemoved = 0
+            if redis.call('ZCARD', userKey) == 0 then
+              userRemoved = redis.call('DEL', userKey)
+            end
+            return {1, userRemoved}
+            """;
+
+    /**
+     * 사용자의 모든 세션 삭제
+     * 반환: {삭제된 세션 수, 삭제된 사용자 집합 수}
+     */
+    private static final String REMOVE_USER_SESSIONS_SCRIPT = """
+            local ids = redis.call('ZRANGE', KEYS[1], 0, -1)
+            local deleted = 0
+            for _, id in ipairs(ids) do
+              deleted = deleted + redis.call('DEL', ARGV[1] .. id)
+            end
+            return {deleted, redis.call('DEL', KEYS[1])}
+            """;
+
+    /**
+     * 사용자의 세션 해시 목록 (최근 접근 순, 이미 만료된 세션 제외)
+     * 반환: {세션 ID, HGETALL 결과, 세션 ID, HGETALL 결과, ...}
+     */
+    private static final String LIST_SESSIONS_SCRIPT = """
+            local ids = redis.call('ZREVRANGE', KEYS[1], 0, -1)
+            local result = {}
+            for _, id in ipairs(ids) do
+              local fields = redis.call('HGETALL', ARGV[1] .. id)
+              if #fields > 0 then
+                table.insert(result, id)
+                table.insert(result, fields)
+              end
+            end
+            return result
+            """;
+
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> CREATE_SESSION = new DefaultRedisScript<>(CREATE_SESSION_SCRIPT, List.class);
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> REMOVE_SESSION = new DefaultRedisScript<>(REMOVE_SESSION_SCRIPT, List.class);
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> REMOVE_USER_SESSIONS =
+            new DefaultRedisScript<>(REMOVE_USER_SESSIONS_SCRIPT, List.class);
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> LIST_SESSIONS = new DefaultRedisScript<>(LIST_SESSIONS_SCRIPT, List.class);
+
+    /**
+     * ARGV: 세션 키 접두사, 사용자 세션 목록 키 접두사, TTL(ms), (세션 ID, 사용자명, 접근 시각)...
+     * 반환: 갱신된 세션 수
+     */
+    private static final String TOUCH_SCRIPT = """
+            local ttl = ARGV[3]
+            local updated = 0
+            for i = 4, #ARGV, 3 do
+              local sessionKey = ARGV[1] .. ARGV[i]
+              local accessed = tonumber(ARGV[i + 2])
+              local current = tonumber(redis.call('HGET', sessionKey, 'lastAccessTime'))
+              if current and current < accessed then
+                redis.call('HSET', sessionKey, 'lastAccessTime', ARGV[i + 2])
+                redis.call('PEXPIRE', sessionKey, ttl)
+                local userKey = ARGV[2] .. ARGV[i + 1]
+                redis.call('ZADD', userKey, 'XX', accessed, ARGV[i])
+                redis.call('PEXPIRE', userKey, ttl)
+                updated = updated + 1
+              end
+            end
+            return updated
+            """;
+
+    private static final DefaultRedisScript<Long> TOUCH = new DefaultRedisScript<>(TOUCH_SCRIPT, Long.class);
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final SessionStatsService sessionStatsService;
+    private final SessionValueCodec sessionValueCodec;
+    private final int maxLoginHistory;
+
+    /**
+     * @param redisTemplate 바이트 값 Redis 템플릿
+     * @param sessionStatsService 세션 통계 카운터
+     * @param sessionValueCodec 세션 값 코덱
+     * @param maxLoginHistory 사용자별 최대 로그인 이력 수
+     */
+    public RedisSessionStore(RedisTemplate<String, byte[]> redisTemplate, SessionStatsService sessionStatsService,
+                             SessionValueCodec sessionValueCodec, int maxLoginHistory) {
+        this.redisTemplate = redisTemplate;
+        this.sessionStatsService = sessionStatsService;
+        this.sessionValueCodec = sessionValueCodec;
+        this.maxLoginHistory = Math.max(1, maxLoginHistory);
+    }
+
+    @Override
+    public CreateResult create(String sessionId, String username, SessionValue value, long nowMillis) {
+        List<?> result = redisTemplate.execute(CREATE_SESSION,
+                List.of(SESSION_PREFIX + sessionId, USER_SESSIONS_PREFIX + username),
+                bytes(sessionId), bytes(username), sessionValueCodec.encode(value), bytes(nowMillis),
+                bytes(SESSION_TTL.toMillis()), bytes(MAX_SESSIONS_PER_USER), bytes(SESSION_PREFIX));
+        if (result == null || result.isEmpty()) {
+            throw new IllegalStateException("Unexpected create session script result: " + result);
+        }
+
+        boolean firstSessionOfUser = ((Number) result.get(0)).longValue() == 1;
+        List<String> evicted = result.subList(1, result.size()).stream().map(RedisSessionStore::string).toList();
+        sessionStatsService.sessionCreated(username, firstSessionOfUser);
+        if (!evicted.isEmpty()) {
+            sessionStatsService.sessionsRemoved(evicted.size(), 0);
+        }
+        return new CreateResult(firstSessionOfUser, evicted);
+    }
+
+    @Override
+    public StoredSession find(String sessionId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(SESSION_PREFIX + sessionId);
+        if (fields == null || fields.isEmpty()) {
+            return null;
+        }
+        Map<String, Object> values = new HashMap<>();
+        fields.forEach((field, value) -> values.put(string(field), value));
+        return toStoredSession(sessionId, values);
+    }
+
+    @Override
+    public boolean remove(String sessionId) {
+        List<?> result = redisTemplate.execute(REMOVE_SESSION,
+                Collections.singletonList(SESSION_PREFIX + sessionId), bytes(sessionId), bytes(USER_SESSIONS_PREFIX));
+        long deletedSessions = countAt(result, 0);
+        if (deletedSessions > 0) {
+            sessionStatsService.sessionsRemoved(deletedSessions, countAt(result, 1));
+        }
+        return deletedSessions > 0;
+    }
+
+    @Override
+    public long removeUser(String username) {
+        List<?> result = redisTemplate.execute(REMOVE_USER_SESSIONS,
+                Collections.singletonList(USER_SESSIONS_PREFIX + username), bytes(SESSION_PREFIX));
+        long deletedSessions = countAt(result, 0);
+        sessionStatsService.sessionsRemoved(deletedSessions, countAt(result, 1));
+        return deletedSessions;
+    }
+
+    @Override
+    public List<StoredSession> list(String username) {
+        List<?> sessions = redisTemplate.execute(LIST_SESSIONS,
+                Collections.singletonList(USER_SESSIONS_PREFIX + username), bytes(SESSION_PREFIX));
+        if (sessions == null || sessions.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<StoredSession> activeSessions = new ArrayList<>(sessions.size() / 2);
+        for (int i = 0; i + 1 < sessions.size(); i += 2) {
+            List<?> fields = (List<?>) sessions.get(i + 1);
+            Map<String, Object> values = new HashMap<>();
+            for (int j = 0; j + 1 < fields.size(); j += 2) {
+                values.put(string(fields.get(j)), fields.get(j + 1));
+            }
+            activeSessions.add(toStoredSession(string(sessions.get(i)), values));
+        }
+        return activeSessions;
+    }
+
+    @Override
+    public long touch(List<SessionAccess> accesses) {
+        if (accesses.isEmpty()) {
+            return 0;
+        }
+        Object[] args = new Object[3 + accesses.size() * 3];
+        args[0] = bytes(SESSION_PREFIX);
+        args[1] = bytes(USER_SESSIONS_PREFIX);
+        args[2] = bytes(SESSION_TTL.toMillis());
+        int i = 3;
+        for (SessionAccess access : accesses) {
+            args[i++] = bytes(access.sessionId());
+            args[i++] = bytes(access.username());
+            args[i++] = bytes(access.accessMillis());
+        }
+        Long updated = redisTemplate.execute(TOUCH, Collections.emptyList(), args);
+        return updated != null ? updated : 0;
+    }
+
+    @Override
+    public void appendLoginHistory(List<LoginRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        // 코덱이 User-Agent 사전을 조회할 수 있으므로 인코딩은 파이프라인 밖에서 먼저 수행
+        Map<String, List<byte[]>> entries = new LinkedHashMap<>();
+        for (LoginRecord record : records) {
+            entries.computeIfAbsent(record.username(), username -> new ArrayList<>())
+                    .add(sessionValueCodec.encode(record.value()));
+        }
+
+        // 사용자마다 LPUSH(발생 순으로 넣어 최신 항목이 앞) + LTRIM + PEXPIRE, 전체가 왕복 1회
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            entries.forEach((username, values) -> {
+                byte[] key = bytes(LOGIN_HISTORY_PREFIX + username);
+                connection.listCommands().lPush(key, values.toArray(new byte[0][]));
+                connection.listCommands().lTrim(key, 0, maxLoginHistory - 1);
+                connection.keyCommands().pExpire(key, LOGIN_HISTORY_TTL.toMillis());
+            });
+            return null;
+        });
+    }
+
+    @Override
+    public SessionCounts counts() {
+        return new SessionCounts(sessionStatsService.getActiveSessions(), sessionStatsService.getActiveUsers(),
+                sessionStatsService.getUniqueUsersToday());
+    }
+
+    /**
+     * 세션 해시 필드를 세션으로 변환 (data 필드는 코덱으로 디코딩)
+     */
+    private StoredSession toStoredSession(String sessionId, Map<String, Object> fields) {
+        SessionValue value = fields.get("data") instanceof byte[] encoded ? sessionValueCodec.decode(encoded) : null;
+        Object lastAccessTime = fields.get("lastAccessTime");
+        return new StoredSession(sessionId, string(fields.get("username")), value,
+                lastAccessTime != null ? Long.parseLong(string(lastAccessTime)) : 0L);
+    }
+
+    private static long countAt(List<?> result, int index) {
+        return result != null && result.size() > index ? ((Number) result.get(index)).longValue() : 0;
+    }
+
+    // 바이트 템플릿 스크립트 인자/결과 변환 헬퍼 메서드
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(long value) {
+        return bytes(Long.toString(value));
+    }
+
+    private static String string(Object value) {
+        return value instanceof byte[] raw ? new String(raw, StandardCharsets.UTF_8) : String.valueOf(value);
+    }
+}
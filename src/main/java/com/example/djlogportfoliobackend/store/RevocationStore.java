@@ -0,0 +1,82 @@
+package com.example.djlogportfoliobackend.store;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 토큰 폐기 저장소
+ * 토큰 단위 폐기(로그아웃)와 사용자 단위 폐기 시각(강제 로그아웃)을 저장한다.
+ * 조회가 잦은 경로는 {@link com.example.djlogportfoliobackend.service.TokenRevocationService}의 노드 로컬 뷰가 담당하고,
+ * 저장소는 원본 기록과 노드 간 전파를 맡는다.
+ *
+ * - Redis: 여러 노드가 폐기 목록을 공유하고 pub/sub으로 전파 ({@link RedisRevocationStore})
+ * - 메모리: 단일 노드 배포에서 Redis 없이 처리, 선택적으로 추가 전용 로그로 재시작 시 복원 ({@link InMemoryRevocationStore})
+ */
+public interface RevocationStore {
+
+    /**
+     * 토큰 폐기 기록 (다른 노드에 전파)
+     *
+     * @param tokenId 토큰 식별자
+     * @param expiresAtMillis 토큰 만료 시각 (epoch 밀리초, 이후에는 기록이 필요 없음)
+     */
+    void revoke(String tokenId, long expiresAtMillis);
+
+    /**
+     * 토큰 폐기 여부
+     *
+     * @param tokenId 토큰 식별자
+     * @return 폐기되었으면 true
+     */
+    boolean isRevoked(String tokenId);
+
+    /**
+     * 사용자 단위 폐기 시각 기록 (다른 노드에 전파)
+     *
+     * @param subject 토큰 subject
+     * @param notBeforeMillis 이 시각(epoch 밀리초) 이전에 발급된 토큰은 무효
+     * @param ttl 기록 유지 시간 (토큰 유효 기간)
+     */
+    void revokeSubject(String subject, long notBeforeMillis, Duration ttl);
+
+    /**
+     * 사용자 단위 폐기 시각
+     *
+     * @param subject 토큰 subject
+     * @return 폐기 시각 (epoch 밀리초), 없으면 null
+     */
+    Long getNotBefore(String subject);
+
+    /**
+     * 만료되지 않은 토큰 폐기 전체
+     *
+     * @return 토큰 식별자 → 만료 시각
+     */
+    Map<String, Long> loadRevocations();
+
+    /**
+     * 사용자 단위 폐기 시각 전체
+     *
+     * @return subject → 폐기 시각
+     */
+    Map<String, Long> loadNotBefore();
+
+    /**
+     * 다른 노드가 기록한 폐기를 받을 수신자 등록
+     * 단일 노드 저장소는 전달할 것이 없으므로 무시한다.
+     *
+     * @param listener 수신자
+     */
+    default void setListener(Listener listener) {
+    }
+
+    /**
+     * 다른 노드의 폐기 수신자
+     */
+    interface Listener {
+
+        void onRevoked(String tokenId, long expiresAtMillis);
+
+        void onSubjectRevoked(String subject, long notBeforeMillis);
+    }
+}
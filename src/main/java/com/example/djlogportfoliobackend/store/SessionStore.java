@@ -0,0 +1,126 @@
+package com.example.djlogportfoliobackend.store;
+
+import com.example.djlogportfoliobackend.session.SessionValue;
+import com.example.djlogportfoliobackend.session.StoredSession;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 세션 저장소
+ * 세션 저장, 사용자별 동시 로그인 제한, 로그인 이력, 마지막 접근 시각 반영과 통계를 담당한다.
+ *
+ * - Redis: 여러 노드가 세션을 공유하는 배포 ({@link RedisSessionStore})
+ * - 메모리: 단일 노드 배포에서 Redis 왕복 없이 처리, 선택적으로 추가 전용 로그로 재시작 시 복원 ({@link InMemorySessionStore})
+ */
+public interface SessionStore {
+
+    /** 세션 유효 시간 (마지막 접근 후) */
+    Duration SESSION_TTL = Duration.ofHours(24);
+
+    /** 로그인 이력 유효 시간 (마지막 로그인 후) */
+    Duration LOGIN_HISTORY_TTL = Duration.ofDays(30);
+
+    /** 사용자당 최대 동시 세션 수 */
+    int MAX_SESSIONS_PER_USER = 3;
+
+    /**
+     * 세션 생성
+     * 세션 저장과 동시 로그인 제한(마지막 접근이 가장 오래된 세션부터 정리)을 한 번에 수행한다.
+     * 로그인 이력은 요청 경로에서 기록하지 않고 {@link #appendLoginHistory(List)}로 따로 반영한다.
+     *
+     * @param sessionId 세션 ID
+     * @param username 사용자명
+     * @param value 로그인 시각, IP, User-Agent
+     * @param nowMillis 현재 시각 (epoch millis, 마지막 접근 시각으로 기록)
+     * @return 사용자의 첫 세션 여부와 정리된 세션 ID
+     */
+    CreateResult create(String sessionId, String username, SessionValue value, long nowMillis);
+
+    /**
+     * 세션 조회 (접근 시각은 갱신하지 않음)
+     *
+     * @param sessionId 세션 ID
+     * @return 세션, 없거나 만료되었으면 null
+     */
+    StoredSession find(String sessionId);
+
+    /**
+     * 세션 삭제
+     *
+     * @param sessionId 세션 ID
+     * @return 삭제했으면 true (이미 만료되었으면 false)
+     */
+    boolean remove(String sessionId);
+
+    /**
+     * 사용자의 모든 세션 삭제
+     *
+     * @param username 사용자명
+     * @return 삭제한 세션 수
+     */
+    long removeUser(String username);
+
+    /**
+     * 사용자의 활성 세션 목록
+     *
+     * @param username 사용자명
+     * @return 최근 접근 순 세션 목록
+     */
+    List<StoredSession> list(String username);
+
+    /**
+     * 마지막 접근 시각 반영
+     * 세션이 없으면(삭제/만료) 건너뛰고, 이미 더 최근 시각이 기록되어 있으면 덮어쓰지 않는다.
+     * 반영한 세션의 유효 시간은 연장된다.
+     *
+     * @param accesses 세션별 접근 시각
+     * @return 갱신된 세션 수
+     */
+    long touch(List<SessionAccess> accesses);
+
+    /**
+     * 로그인 이력 기록 (배치)
+     * 사용자별로 최근 항목부터 최대 개수까지만 유지하고, 이력의 유효 시간은 마지막 로그인부터 다시 센다.
+     *
+     * @param records 로그인 기록 (발생 순)
+     */
+    void appendLoginHistory(List<LoginRecord> records);
+
+    /**
+     * 세션 통계
+     *
+     * @return 활성 세션 수, 활성 사용자 수, 오늘 로그인한 사용자 수
+     */
+    SessionCounts counts();
+
+    /**
+     * @param firstSessionOfUser 사용자의 다른 활성 세션이 없었으면 true
+     * @param evictedSessionIds 동시 로그인 제한으로 정리된 세션 ID
+     */
+    record CreateResult(boolean firstSessionOfUser, List<String> evictedSessionIds) {
+    }
+
+    /**
+     * @param sessionId 세션 ID
+     * @param username 사용자명
+     * @param accessMillis 접근 시각 (epoch millis)
+     */
+    record SessionAccess(String sessionId, String username, long accessMillis) {
+    }
+
+    /**
+     * @param username 사용자명
+     * @param value 로그인 시각, IP, User-Agent
+     */
+    record LoginRecord(String username, SessionValue value) {
+    }
+
+    /**
+     * @param activeSessions 활성 세션 수
+     * @param activeUsers 활성 사용자 수
+     * @param uniqueUsersToday 오늘(UTC) 로그인한 사용자 수
+     */
+    record SessionCounts(long activeSessions, long activeUsers, long uniqueUsersToday) {
+    }
+}
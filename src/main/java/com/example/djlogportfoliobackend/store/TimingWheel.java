@@ -0,0 +1,126 @@
+package com.example.djlogportfoliobackend.store;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (TTL 만료 스케줄러)
+ *
+ * 만료 시각을 틱 단위로 내려 64칸짜리 휠 4단에 나눠 담는다. 0단의 한 칸은 1틱, k단의 한 칸은 64^k틱이며,
+ * 상위 단의 칸은 그 구간이 시작될 때 하위 단으로 다시 나뉜다(cascade). 등록과 만료 처리가 모두 O(1)이라
+ * 만료 시각 순 정렬 구조(O(log n))나 전체 스캔 없이 많은 키의 TTL을 처리할 수 있다.
+ *
+ * - 취소를 지원하지 않는다. 만료 콜백에서 실제 만료 여부를 확인하고, 연장된 키는 새 만료 시각으로 다시 등록한다
+ * - 만료는 최대 1틱 늦게 통지될 수 있으므로, 조회 시에는 저장된 만료 시각으로 직접 판단해야 한다
+ * - 최대 범위(64^4틱)를 넘는 만료 시각은 최상위 단의 마지막 칸에 두었다가 다시 나눈다
+ */
+public class TimingWheel<K> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_TICKS = 1L << (SLOT_BITS * LEVELS);
+
+    private final long tickMillis;
+    private final ArrayDeque<Timer<K>>[][] wheels;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis 틱 길이 (만료 처리 정밀도)
+     * @param startMillis 시작 시각 (epoch 밀리초)
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = Math.max(1, tickMillis);
+        this.wheels = new ArrayDeque[LEVELS][SLOTS];
+        this.currentTick = startMillis / this.tickMillis;
+    }
+
+    /**
+     * 만료 등록
+     *
+     * @param key 키
+     * @param deadlineMillis 만료 시각 (epoch 밀리초)
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        // 틱 중간의 만료 시각은 다음 틱에 처리되도록 올림
+        long tick = Math.max((deadlineMillis + tickMillis - 1) / tickMillis, currentTick + 1);
+        place(new Timer<>(key, tick));
+        size++;
+    }
+
+    /**
+     * 지정 시각까지 시간을 진행하며 만료된 키 통지
+     *
+     * @param nowMillis 현재 시각 (epoch 밀리초)
+     * @param expired 만료된 키를 받을 콜백 (잠금을 쥔 채 호출되므로 같은 휠에 다시 등록 가능)
+     * @return 통지한 키 수
+     */
+    public synchronized int advance(long nowMillis, Consumer<K> expired) {
+        long targetTick = nowMillis / tickMillis;
+        int fired = 0;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            ArrayDeque<Timer<K>> slot = wheels[0][(int) (currentTick & SLOT_MASK)];
+            while (slot != null && !slot.isEmpty()) {
+                Timer<K> timer = slot.poll();
+                size--;
+                fired++;
+                expired.accept(timer.key());
+            }
+        }
+        return fired;
+    }
+
+    /**
+     * 등록된 만료 수 (이미 연장되었거나 삭제된 키의 항목 포함)
+     *
+     * @return 항목 수
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 현재 틱이 상위 단 칸의 시작이면 그 칸의 항목을 하위 단으로 다시 나눔 (상위 단부터)
+     */
+    private void cascade() {
+        int level = 0;
+        while (level + 1 < LEVELS && (currentTick & ((1L << (SLOT_BITS * (level + 1))) - 1)) == 0) {
+            level++;
+        }
+        for (; level > 0; level--) {
+            int index = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            ArrayDeque<Timer<K>> slot = wheels[level][index];
+            if (slot == null || slot.isEmpty()) {
+                continue;
+            }
+            wheels[level][index] = null;
+            for (Timer<K> timer : slot) {
+                place(timer);
+            }
+        }
+    }
+
+    private void place(Timer<K> timer) {
+        long delta = Math.min(timer.tick() - currentTick, MAX_TICKS - 1);
+        long tick = currentTick + delta;
+        int level = 0;
+        while (level + 1 < LEVELS && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int index = (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        ArrayDeque<Timer<K>> slot = wheels[level][index];
+        if (slot == null) {
+            slot = new ArrayDeque<>();
+            wheels[level][index] = slot;
+        }
+        slot.add(timer);
+    }
+
+    private record Timer<K>(K key, long tick) {
+    }
+}
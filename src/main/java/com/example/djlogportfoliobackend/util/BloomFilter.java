@@ -0,0 +1,110 @@
+package com.example.djlogportfoliobackend.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom filter (동시 추가/조회 가능)
+ *
+ * <p>"포함되지 않음"은 확실하게, "포함됨"은 설정한 오탐률 이내로 판단합니다.
+ * 비트는 {@link AtomicLongArray}에 저장되어 조회는 잠금 없이 수행되고, 추가는 CAS로 비트를 켭니다.
+ * 항목 삭제는 지원하지 않으므로 만료된 항목을 지우려면 새 필터로 다시 만들어야 합니다.</p>
+ *
+ * <p>해시는 문자열 하나당 64비트 해시 한 번(FNV-1a + 혼합)을 계산하고,
+ * 상위/하위 절반으로 k개의 위치를 만드는 double hashing을 사용합니다.</p>
+ */
+public final class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /** 비트 위치를 int 해시 조합으로 만들므로 최대 2^31비트 */
+    private static final int MAX_WORDS = 1 << 25;
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveRate 목표 오탐률 (0 초과 1 미만)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        long n = Math.max(1, expectedInsertions);
+        double ln2 = Math.log(2);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int words = (int) Math.min(MAX_WORDS, Math.max(1, (m + 63) >>> 6));
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words << 6;
+        this.hashCount = (int) Math.max(1, Math.min(16, Math.round((double) bitCount / n * ln2)));
+    }
+
+    /**
+     * 항목 추가
+     *
+     * @param value 항목
+     */
+    public void put(CharSequence value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = bitIndex(h1 + i * h2);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    /**
+     * 항목 포함 가능성 확인
+     *
+     * @param value 항목
+     * @return 추가된 적이 없으면 false, 추가되었거나 오탐이면 true
+     */
+    public boolean mightContain(CharSequence value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = bitIndex(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    private long bitIndex(int combined) {
+        // 음수 조합은 비트를 뒤집어 양수로 사용
+        return (combined < 0 ? ~combined : combined) % bitCount;
+    }
+
+    private static long hash(CharSequence value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        // murmur3 fmix64: FNV의 하위 비트 편향 제거
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93fe53e53a9L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
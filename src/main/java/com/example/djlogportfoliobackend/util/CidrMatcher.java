@@ -0,0 +1,154 @@
+package com.example.djlogportfoliobackend.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * CIDR 집합 매처 (이진 prefix trie)
+ *
+ * <p>CIDR 목록을 시작 시 한 번 비트 단위 trie로 컴파일하고, 128비트 주소 값을 상위 비트부터 따라가며
+ * 포함 여부를 판단합니다. 노드는 원시 int 배열에 저장되므로 조회 시 객체를 할당하지 않으며,
+ * 비교 횟수는 CIDR 개수와 무관하게 최대 prefix 길이(128)로 제한됩니다.</p>
+ *
+ * <p>IPv4 CIDR은 {@link IpAddressUtil}과 같은 IPv4-mapped 형식으로 변환되므로
+ * {@code 10.0.0.0/8}은 {@code ::ffff:10.0.0.1}과도 일치합니다.</p>
+ */
+public final class CidrMatcher {
+
+    private static final int NONE = -1;
+    private static final int IPV4_MAPPED_PREFIX_BITS = 96;
+
+    private final int[] zeroChildren;
+    private final int[] oneChildren;
+    private final boolean[] terminal;
+    private final List<String> cidrs;
+
+    private CidrMatcher(int[] zeroChildren, int[] oneChildren, boolean[] terminal, List<String> cidrs) {
+        this.zeroChildren = zeroChildren;
+        this.oneChildren = oneChildren;
+        this.terminal = terminal;
+        this.cidrs = cidrs;
+    }
+
+    /**
+     * CIDR 목록 컴파일
+     *
+     * @param cidrs CIDR 목록 (예: {@code 10.0.0.0/8}, {@code fd00::/8}, prefix가 없으면 단일 주소)
+     * @return 컴파일된 매처
+     * @throws IllegalArgumentException 올바르지 않은 CIDR이 있는 경우
+     */
+    public static CidrMatcher compile(Collection<String> cidrs) {
+        int[] zero = new int[16];
+        int[] one = new int[16];
+        boolean[] term = new boolean[16];
+        Arrays.fill(zero, NONE);
+        Arrays.fill(one, NONE);
+        int size = 1;
+
+        long[] address = new long[2];
+        List<String> compiled = new ArrayList<>();
+        for (String raw : cidrs) {
+            String cidr = raw == null ? "" : raw.trim();
+            if (cidr.isEmpty()) {
+                continue;
+            }
+            int prefix = parse(cidr, address);
+
+            int node = 0;
+            for (int bit = 0; bit < prefix && !term[node]; bit++) {
+                boolean set = bitAt(address[0], address[1], bit);
+                if ((set ? one : zero)[node] == NONE) {
+                    if (size == term.length) {
+                        int length = size * 2;
+                        zero = grow(zero, length);
+                        one = grow(one, length);
+                        term = Arrays.copyOf(term, length);
+                    }
+                    (set ? one : zero)[node] = size++;
+                }
+                node = (set ? one : zero)[node];
+            }
+            // 더 넓은 CIDR이 이미 있으면 하위 노드는 도달할 수 없으므로 그대로 둠
+            term[node] = true;
+            compiled.add(cidr);
+        }
+
+        return new CidrMatcher(Arrays.copyOf(zero, size), Arrays.copyOf(one, size),
+                Arrays.copyOf(term, size), List.copyOf(compiled));
+    }
+
+    /**
+     * 주소가 CIDR 집합에 포함되는지 확인
+     *
+     * @param high 주소 상위 64비트
+     * @param low 주소 하위 64비트
+     * @return 포함되면 true
+     */
+    public boolean contains(long high, long low) {
+        int node = 0;
+        for (int bit = 0; bit < 128; bit++) {
+            if (terminal[node]) {
+                return true;
+            }
+            node = bitAt(high, low, bit) ? oneChildren[node] : zeroChildren[node];
+            if (node == NONE) {
+                return false;
+            }
+        }
+        return terminal[node];
+    }
+
+    /**
+     * 컴파일된 CIDR 수
+     *
+     * @return CIDR 수
+     */
+    public int size() {
+        return cidrs.size();
+    }
+
+    public List<String> getCidrs() {
+        return cidrs;
+    }
+
+    /**
+     * CIDR 문자열을 주소와 prefix 길이(128비트 기준)로 변환
+     */
+    private static int parse(String cidr, long[] out) {
+        int slash = cidr.indexOf('/');
+        int end = slash < 0 ? cidr.length() : slash;
+        if (!IpAddressUtil.parse(cidr, 0, end, out)) {
+            throw new IllegalArgumentException("Invalid CIDR address: " + cidr);
+        }
+
+        boolean ipv4 = cidr.indexOf(':') < 0;
+        int maxPrefix = ipv4 ? 32 : 128;
+        int prefix = maxPrefix;
+        if (slash >= 0) {
+            try {
+                prefix = Integer.parseInt(cidr.substring(slash + 1).trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid CIDR prefix: " + cidr, e);
+            }
+            if (prefix < 0 || prefix > maxPrefix) {
+                throw new IllegalArgumentException("Invalid CIDR prefix: " + cidr);
+            }
+        }
+        return ipv4 ? IPV4_MAPPED_PREFIX_BITS + prefix : prefix;
+    }
+
+    private static boolean bitAt(long high, long low, int bit) {
+        return bit < 64
+                ? (high >>> (63 - bit) & 1L) != 0
+                : (low >>> (127 - bit) & 1L) != 0;
+    }
+
+    private static int[] grow(int[] array, int length) {
+        int previous = array.length;
+        int[] grown = Arrays.copyOf(array, length);
+        Arrays.fill(grown, previous, length, NONE);
+        return grown;
+    }
+}
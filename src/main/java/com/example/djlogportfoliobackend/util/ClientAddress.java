@@ -0,0 +1,16 @@
+package com.example.djlogportfoliobackend.util;
+
+/**
+ * 요청별로 한 번 결정된 클라이언트 주소
+ *
+ * <p>{@link ClientIpResolver}가 요청 시작 시 생성하여 요청 속성에 저장하며,
+ * 로그와 빈도 제한이 모두 같은 값을 사용합니다.</p>
+ *
+ * @param text 로그/표시용 주소 문자열
+ * @param high 주소 상위 64비트
+ * @param low 주소 하위 64비트
+ * @param keyHigh 제한 키용 상위 64비트 (IPv6는 설정된 prefix로 집계)
+ * @param keyLow 제한 키용 하위 64비트
+ */
+public record ClientAddress(String text, long high, long low, long keyHigh, long keyLow) {
+}
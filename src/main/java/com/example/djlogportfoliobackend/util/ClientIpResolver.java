@@ -0,0 +1,164 @@
+package com.example.djlogportfoliobackend.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * 신뢰 프록시 기반 클라이언트 IP 결정기
+ *
+ * <p>X-Forwarded-For의 첫 번째 값은 클라이언트가 임의로 넣을 수 있으므로 그대로 믿으면
+ * 요청마다 다른 IP를 보내 빈도 제한을 우회할 수 있습니다. 이 결정기는 직접 연결된 주소부터 시작하여
+ * X-Forwarded-For를 오른쪽(가장 최근에 추가된 값)부터 거슬러 올라가며, 설정된 신뢰 프록시가 아닌
+ * 첫 번째 주소를 클라이언트 IP로 사용합니다.</p>
+ *
+ * <ul>
+ *   <li>직접 연결된 주소가 신뢰 프록시가 아니면 헤더를 보지 않고 해당 주소 사용</li>
+ *   <li>신뢰 프록시 범위는 {@link CidrMatcher}로 컴파일하여 주소당 최대 128비트 비교로 판단</li>
+ *   <li>헤더에 IP 형식이 아닌 값이 나오면 그 직전(신뢰 프록시가 기록한) 주소 사용</li>
+ *   <li>X-Forwarded-For가 없을 때만 신뢰 프록시가 보낸 X-Real-IP 사용</li>
+ * </ul>
+ *
+ * <p>결과는 요청 속성({@link #ATTRIBUTE})에 저장되어 요청당 한 번만 계산됩니다.
+ * 빈도 제한 키는 IPv6 주소를 설정된 prefix(기본 /64)로 묶어, 한 사용자에게 할당된 대역 안에서
+ * 주소를 바꿔 가며 제한을 우회하지 못하게 합니다.</p>
+ */
+@Component
+public class ClientIpResolver {
+
+    /** 결정된 {@link ClientAddress}를 저장하는 요청 속성 이름 */
+    public static final String ATTRIBUTE = ClientIpResolver.class.getName() + ".ADDRESS";
+
+    /** 기본 신뢰 프록시: loopback과 사설 대역 (같은 네트워크의 로드밸런서/리버스 프록시) */
+    public static final String DEFAULT_TRUSTED_PROXIES =
+            "127.0.0.0/8,::1/128,10.0.0.0/8,172.16.0.0/12,192.168.0.0/16,fc00::/7";
+
+    private static final int DEFAULT_IPV6_KEY_PREFIX = 64;
+    private static final ClientIpResolver DEFAULT =
+            new ClientIpResolver(DEFAULT_TRUSTED_PROXIES, DEFAULT_IPV6_KEY_PREFIX);
+
+    private final CidrMatcher trustedProxies;
+    private final int ipv6KeyPrefix;
+
+    public ClientIpResolver(
+            @Value("${security.client-ip.trusted-proxies:" + DEFAULT_TRUSTED_PROXIES + "}") String trustedProxies,
+            @Value("${security.client-ip.ipv6-key-prefix:64}") int ipv6KeyPrefix) {
+        this.trustedProxies = CidrMatcher.compile(Arrays.asList(trustedProxies.split(",")));
+        this.ipv6KeyPrefix = Math.max(1, Math.min(128, ipv6KeyPrefix));
+    }
+
+    /**
+     * 기본 설정 결정기 (필터를 거치지 않은 요청에서 사용)
+     *
+     * @return 기본 신뢰 프록시와 /64 집계를 사용하는 결정기
+     */
+    public static ClientIpResolver getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 요청의 클라이언트 주소 결정 (이미 결정된 값이 있으면 재사용)
+     *
+     * @param request HTTP 요청
+     * @return 클라이언트 주소
+     */
+    public ClientAddress resolve(HttpServletRequest request) {
+        Object cached = request.getAttribute(ATTRIBUTE);
+        if (cached instanceof ClientAddress address) {
+            return address;
+        }
+        ClientAddress address = compute(request);
+        request.setAttribute(ATTRIBUTE, address);
+        return address;
+    }
+
+    private ClientAddress compute(HttpServletRequest request) {
+        long[] ip = new long[2];
+        String remoteAddr = request.getRemoteAddr();
+        if (remoteAddr == null || !IpAddressUtil.parse(remoteAddr, ip)) {
+            return hashFallback(remoteAddr == null ? "" : remoteAddr);
+        }
+        if (!trustedProxies.contains(ip[0], ip[1])) {
+            return toAddress(remoteAddr, ip[0], ip[1]);
+        }
+
+        String candidate = remoteAddr;
+        long candidateHigh = ip[0];
+        long candidateLow = ip[1];
+
+        // 여러 X-Forwarded-For 헤더는 순서대로 이어진 하나의 목록과 같음
+        List<String> forwarded = headerValues(request);
+        for (int h = forwarded.size() - 1; h >= 0; h--) {
+            String value = forwarded.get(h);
+            int end = value.length();
+            while (end >= 0) {
+                int comma = value.lastIndexOf(',', end - 1);
+                int start = comma + 1;
+                if (!IpAddressUtil.parse(value, start, end, ip)) {
+                    return toAddress(candidate, candidateHigh, candidateLow);
+                }
+                candidate = value.substring(start, end).trim();
+                candidateHigh = ip[0];
+                candidateLow = ip[1];
+                if (!trustedProxies.contains(candidateHigh, candidateLow)) {
+                    return toAddress(candidate, candidateHigh, candidateLow);
+                }
+                end = comma;
+            }
+        }
+
+        if (forwarded.isEmpty()) {
+            String xRealIp = request.getHeader("X-Real-IP");
+            if (xRealIp != null && IpAddressUtil.parse(xRealIp, ip)) {
+                return toAddress(xRealIp.trim(), ip[0], ip[1]);
+            }
+        }
+        // 모든 경유지가 신뢰 프록시이면 가장 왼쪽 주소가 클라이언트
+        return toAddress(candidate, candidateHigh, candidateLow);
+    }
+
+    private static List<String> headerValues(HttpServletRequest request) {
+        Enumeration<String> headers = request.getHeaders("X-Forwarded-For");
+        if (headers == null || !headers.hasMoreElements()) {
+            return List.of();
+        }
+        List<String> values = new ArrayList<>(1);
+        while (headers.hasMoreElements()) {
+            String value = headers.nextElement();
+            if (value != null && !value.isBlank()) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    private ClientAddress toAddress(String text, long high, long low) {
+        if (IpAddressUtil.isIpv4(high, low) || ipv6KeyPrefix >= 128) {
+            return new ClientAddress(text, high, low, high, low);
+        }
+        long keyHigh = ipv6KeyPrefix >= 64 ? high : high & (-1L << (64 - ipv6KeyPrefix));
+        long keyLow = ipv6KeyPrefix <= 64 ? 0L : low & (-1L << (128 - ipv6KeyPrefix));
+        return new ClientAddress(text, high, low, keyHigh, keyLow);
+    }
+
+    /**
+     * IP 형식이 아닌 주소를 FNV-1a 해시로 변환 (상위 비트를 모두 1로 두어 실제 IP 값과 구분)
+     */
+    private static ClientAddress hashFallback(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return new ClientAddress(value, -1L, hash, -1L, hash);
+    }
+
+    public CidrMatcher getTrustedProxies() {
+        return trustedProxies;
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.djlogportfoliobackend.util;
+
+/**
+ * IP 주소 이진 변환 유틸리티
+ *
+ * <p>IPv4/IPv6 문자열을 128비트 값(상위 64비트, 하위 64비트 long 두 개)으로 변환합니다.
+ * 문자열 분할이나 {@link java.net.InetAddress} 생성 없이 문자를 직접 순회하므로
+ * 호출자가 결과 배열을 재사용하면 요청 처리 경로에서 객체를 할당하지 않습니다.</p>
+ *
+ * <p>IPv4 주소는 IPv4-mapped IPv6 형식({@code ::ffff:a.b.c.d})으로 변환되어
+ * 같은 주소가 두 표기로 들어와도 동일한 값이 됩니다.</p>
+ */
+public final class IpAddressUtil {
+
+    private static final long IPV4_MAPPED_PREFIX = 0x0000FFFF00000000L;
+
+    private IpAddressUtil() {
+    }
+
+    /**
+     * IP 주소 문자열 전체를 128비트 값으로 변환
+     *
+     * @param address IP 주소 문자열
+     * @param out 결과 배열 (out[0] = 상위 64비트, out[1] = 하위 64비트)
+     * @return 올바른 IP 주소이면 true
+     */
+    public static boolean parse(CharSequence address, long[] out) {
+        return address != null && parse(address, 0, address.length(), out);
+    }
+
+    /**
+     * IP 주소 문자열의 일부 구간을 128비트 값으로 변환
+     * 앞뒤 공백, 대괄호, IPv6 zone id(%eth0)는 무시합니다.
+     *
+     * @param address 문자열
+     * @param start 시작 인덱스 (포함)
+     * @param end 끝 인덱스 (제외)
+     * @param out 결과 배열 (out[0] = 상위 64비트, out[1] = 하위 64비트)
+     * @return 올바른 IP 주소이면 true
+     */
+    public static boolean parse(CharSequence address, int start, int end, long[] out) {
+        while (start < end && address.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && address.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (end - start >= 2 && address.charAt(start) == '[' && address.charAt(end - 1) == ']') {
+            start++;
+            end--;
+        }
+        if (start >= end) {
+            return false;
+        }
+
+        for (int i = start; i < end; i++) {
+            if (address.charAt(i) == ':') {
+                return parseIpv6(address, start, end, out);
+            }
+        }
+
+        long ipv4 = parseIpv4(address, start, end);
+        if (ipv4 < 0) {
+            return false;
+        }
+        out[0] = 0L;
+        out[1] = IPV4_MAPPED_PREFIX | ipv4;
+        return true;
+    }
+
+    /**
+     * IPv4-mapped 주소 여부
+     *
+     * @param high 상위 64비트
+     * @param low 하위 64비트
+     * @return IPv4 주소에서 변환된 값이면 true
+     */
+    public static boolean isIpv4(long high, long low) {
+        return high == 0L && (low & 0xFFFFFFFF00000000L) == IPV4_MAPPED_PREFIX;
+    }
+
+    /**
+     * 점 표기 IPv4 주소 변환
+     *
+     * @return 32비트 주소 값, 올바르지 않으면 -1
+     */
+    private static long parseIpv4(CharSequence address, int start, int end) {
+        long value = 0;
+        int octets = 0;
+        int i = start;
+        while (i <= end) {
+            int octet = 0;
+            int digits = 0;
+            while (i < end && address.charAt(i) >= '0' && address.charAt(i) <= '9') {
+                octet = octet * 10 + (address.charAt(i) - '0');
+                digits++;
+                i++;
+                if (digits > 3) {
+                    return -1;
+                }
+            }
+            if (digits == 0 || octet > 255) {
+                return -1;
+            }
+            value = (value << 8) | octet;
+            octets++;
+            if (i == end) {
+                break;
+            }
+            if (address.charAt(i) != '.' || octets == 4) {
+                return -1;
+            }
+            i++;
+        }
+        return octets == 4 ? value : -1;
+    }
+
+    private static boolean parseIpv6(CharSequence address, int start, int end, long[] out) {
+        for (int i = start; i < end; i++) {
+            if (address.charAt(i) == '%') {
+                end = i;
+                break;
+            }
+        }
+
+        long headHigh = 0;
+        long headLow = 0;
+        int headCount = 0;
+        long tailHigh = 0;
+        long tailLow = 0;
+        int tailCount = 0;
+        boolean compressed = false;
+
+        int i = start;
+        if (end - i >= 2 && address.charAt(i) == ':' && address.charAt(i + 1) == ':') {
+            compressed = true;
+            i += 2;
+        }
+
+        while (i < end) {
+            int value = 0;
+            int digits = 0;
+            int j = i;
+            while (j < end && digits <= 4) {
+                int hex = Character.digit(address.charAt(j), 16);
+                if (hex < 0) {
+                    break;
+                }
+                value = (value << 4) | hex;
+                digits++;
+                j++;
+            }
+
+            int groups;
+            long groupValue;
+            if (j < end && address.charAt(j) == '.') {
+                // 마지막 32비트가 IPv4 점 표기로 들어온 경우 (예: ::ffff:10.0.0.1)
+                long ipv4 = parseIpv4(address, i, end);
+                if (ipv4 < 0) {
+                    return false;
+                }
+                groups = 2;
+                groupValue = ipv4;
+                j = end;
+            } else {
+                if (digits == 0 || digits > 4) {
+                    return false;
+                }
+                groups = 1;
+                groupValue = value;
+            }
+
+            if (compressed) {
+                tailHigh = (tailHigh << (16 * groups)) | (tailLow >>> (64 - 16 * groups));
+                tailLow = (tailLow << (16 * groups)) | groupValue;
+                tailCount += groups;
+            } else {
+                headHigh = (headHigh << (16 * groups)) | (headLow >>> (64 - 16 * groups));
+                headLow = (headLow << (16 * groups)) | groupValue;
+                headCount += groups;
+            }
+            if (headCount + tailCount > 8) {
+                return false;
+            }
+
+            if (j == end) {
+                break;
+            }
+            if (address.charAt(j) != ':') {
+                return false;
+            }
+            if (j + 1 < end && address.charAt(j + 1) == ':') {
+                if (compressed) {
+                    return false;
+                }
+                compressed = true;
+                j += 2;
+            } else {
+                j++;
+                if (j == end) {
+                    return false;
+                }
+            }
+            i = j;
+        }
+
+        if (compressed ? headCount + tailCount > 7 : headCount != 8) {
+            return false;
+        }
+
+        int shift = 16 * (8 - headCount);
+        out[0] = shiftLeftHigh(headHigh, headLow, shift) | tailHigh;
+        out[1] = shiftLeftLow(headLow, shift) | tailLow;
+        return true;
+    }
+
+    private static long shiftLeftHigh(long high, long low, int bits) {
+        if (bits == 0) {
+            return high;
+        }
+        if (bits >= 128) {
+            return 0L;
+        }
+        if (bits >= 64) {
+            return low << (bits - 64);
+        }
+        return (high << bits) | (low >>> (64 - bits));
+    }
+
+    private static long shiftLeftLow(long low, int bits) {
+        if (bits == 0) {
+            return low;
+        }
+        return bits >= 64 ? 0L : low << bits;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.djlogportfoliobackend.util;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT의 불변 요약
+ *
+ * <p>{@link JwtUtil#parseVerified(String)}가 토큰을 한 번 검증하고 파싱한 결과입니다.
+ * 요청 처리 중 필터와 서비스는 토큰 문자열을 다시 파싱하지 않고 이 값을 공유합니다.</p>
+ *
+ * @param subject 토큰 subject (관리자 이메일)
+ * @param tokenId JTI, 없으면 서명 기반 식별자
+ * @param issuedAt 발급 시각 (밀리초 발급 시각 클레임이 있으면 밀리초 정밀도, 없으면 초 단위 iat, 둘 다 없으면 null)
+ * @param expiresAt 만료 시각 (없으면 null)
+ */
+public record JwtPrincipal(String subject, String tokenId, Instant issuedAt, Instant expiresAt) {
+
+    /**
+     * 주어진 시각 기준 만료 여부
+     *
+     * @param nowMillis 현재 시각 (epoch 밀리초)
+     * @return 만료되었으면 true
+     */
+    public boolean isExpired(long nowMillis) {
+        return expiresAt != null && expiresAt.toEpochMilli() < nowMillis;
+    }
+
+    /**
+     * 만료까지 남은 시간 (밀리초)
+     *
+     * @param nowMillis 현재 시각 (epoch 밀리초)
+     * @return 남은 시간, 만료 시각이 없으면 {@link Long#MAX_VALUE}
+     */
+    public long millisUntilExpiration(long nowMillis) {
+        return expiresAt == null ? Long.MAX_VALUE : Math.max(0, expiresAt.toEpochMilli() - nowMillis);
+    }
+}
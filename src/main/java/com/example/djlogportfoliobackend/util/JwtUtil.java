@@ -1,14 +1,22 @@
 package com.example.djlogportfoliobackend.util;
 
+import com.example.djlogportfoliobackend.service.TokenRevocationService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import java.time.Duration;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.Date;
 
 /**
@@ -20,7 +28,7 @@ import java.util.Date;
  *
  * 주요 기능:
  * - JWT 토큰 생성 및 검증
- * - 토큰 블랙리스트 관리 (Redis 기반)
+ * - 토큰 블랙리스트 관리 (Redis 저장 + 노드 로컬 폐기 뷰, {@link TokenRevocationService})
  * - 토큰 만료 시간 및 클레임 추출
  * - 안전한 비밀 키 검증 및 초기화
  *
@@ -28,20 +36,50 @@ import java.util.Date;
  * - 비밀 키는 최소 32바이트 이상이어야 함
  * - 로그아웃 시 토큰을 블랙리스트에 추가하여 재사용 방지
  * - Redis TTL을 사용하여 블랙리스트 자동 정리
+ *
+ * 파싱 비용:
+ * - 서명 검증 파서는 생성 시 한 번만 만들어 재사용
+ * - 검증된 클레임은 토큰의 SHA-256 다이제스트를 키로 만료 시각까지 캐시 (크기 제한, 토큰 원문은 보관하지 않음)
+ * - 요청당 검증 결과({@link JwtPrincipal})를 요청 속성에 저장하여 여러 필터가 공유
+ * - 블랙리스트 확인은 캐시와 무관하게 매 요청 수행되므로 로그아웃이 즉시 반영됨 (노드 로컬 뷰에서 네트워크 I/O 없이 판단)
  */
 @Slf4j
 @Component
 public class JwtUtil {
 
+    /** 요청에서 검증된 {@link JwtPrincipal}을 저장하는 요청 속성 이름 */
+    public static final String PRINCIPAL_ATTRIBUTE = JwtUtil.class.getName() + ".PRINCIPAL";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    /**
+     * 밀리초 단위 발급 시각 클레임
+     * 표준 iat는 초 단위이므로, 사용자 단위 폐기 시각(밀리초)과 같은 초에 발급된 새 토큰이 폐기로 판정되지 않도록 함께 기록한다.
+     */
+    static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
+    /** 요청 스레드별 다이제스트 인스턴스 (getInstance 조회 비용을 요청마다 내지 않도록 재사용) */
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
     private final SecretKey key;
+    private final JwtParser parser;
     private final long jwtExpiration;
-    private final StringRedisTemplate redisTemplate;
-    private static final String BLACKLIST_PREFIX = "jwt:blacklist:";
+    private final TokenRevocationService tokenRevocationService;
+
+    /** 토큰 다이제스트 → 검증된 클레임 (크기가 0이면 null) */
+    private final Cache<ByteBuffer, JwtPrincipal> verifiedCache;
 
     public JwtUtil(@Value("${jwt.secret}") String secret,
                    @Value("${jwt.expiration:86400000}") long jwtExpiration,
-                   StringRedisTemplate redisTemplate) {
-        this.redisTemplate = redisTemplate;
+                   @Value("${jwt.verified-cache-size:10000}") long verifiedCacheSize,
+                   TokenRevocationService tokenRevocationService) {
+        this.tokenRevocationService = tokenRevocationService;
 
         // JWT Secret 검증
         if (secret == null || secret.trim().isEmpty()) {
@@ -51,7 +89,14 @@ public class JwtUtil {
             throw new IllegalArgumentException("JWT secret must be at least 32 bytes long");
         }
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.jwtExpiration = jwtExpiration;
+        this.verifiedCache = verifiedCacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedCacheSize)
+                        .expireAfter(new UntilExpiration())
+                        .build()
+                : null;
     }
 
     public String generateToken(String username) {
@@ -67,11 +112,12 @@ public class JwtUtil {
     }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parseVerified(token).subject();
     }
 
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        Instant expiresAt = parseVerified(token).expiresAt();
+        return expiresAt != null ? Date.from(expiresAt) : null;
     }
 
     public <T> T extractClaim(String token, ClaimsResolver<T> claimsResolver) {
@@ -80,15 +126,81 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return parseVerified(token).isExpired(System.currentTimeMillis());
+    }
+
+    /**
+     * 토큰 서명을 검증하고 클레임을 파싱 (검증된 결과는 만료 시각까지 캐시)
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보
+     * @throws JwtException 서명이 올바르지 않거나 만료된 경우
+     * @throws IllegalArgumentException 토큰이 비어 있는 경우
+     */
+    public JwtPrincipal parseVerified(String token) {
+        if (verifiedCache == null) {
+            return parse(token);
+        }
+        ByteBuffer digest = digest(token);
+        JwtPrincipal cached = verifiedCache.getIfPresent(digest);
+        if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+            return cached;
+        }
+        // 만료된 항목은 다시 파싱하여 ExpiredJwtException을 그대로 전달
+        JwtPrincipal principal = parse(token);
+        if (principal.expiresAt() != null) {
+            verifiedCache.put(digest, principal);
+        }
+        return principal;
+    }
+
+    /**
+     * 요청의 Bearer 토큰을 검증하여 반환 (요청당 한 번만 파싱하고 요청 속성에 저장)
+     *
+     * @param request HTTP 요청
+     * @return 검증된 토큰 정보, Authorization 헤더가 Bearer 토큰이 아니면 null
+     * @throws JwtException 서명이 올바르지 않거나 만료된 경우
+     * @throws IllegalArgumentException 토큰이 비어 있는 경우
+     */
+    public JwtPrincipal resolvePrincipal(HttpServletRequest request) {
+        Object cached = request.getAttribute(PRINCIPAL_ATTRIBUTE);
+        if (cached instanceof JwtPrincipal principal) {
+            return principal;
+        }
+        String authorization = request.getHeader("Authorization");
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        JwtPrincipal principal = parseVerified(authorization.substring(BEARER_PREFIX.length()));
+        request.setAttribute(PRINCIPAL_ATTRIBUTE, principal);
+        return principal;
+    }
+
+    /**
+     * 검증된 토큰의 유효성 확인 (만료, 블랙리스트, 사용자 단위 폐기 시각)
+     *
+     * @param principal 검증된 토큰 정보
+     * @return 유효하면 true
+     */
+    public boolean isValid(JwtPrincipal principal) {
+        if (principal.isExpired(System.currentTimeMillis())) {
+            log.debug("Token expired: subject={}", principal.subject());
+            return false;
+        }
+        if (tokenRevocationService.isRevoked(principal.tokenId())) {
+            log.debug("Token is blacklisted: {}", principal.tokenId());
+            return false;
+        }
+        long issuedAt = principal.issuedAt() != null ? principal.issuedAt().toEpochMilli() : Long.MIN_VALUE;
+        if (tokenRevocationService.isRevokedBefore(principal.subject(), issuedAt)) {
+            log.debug("Token issued before subject revocation: subject={}", principal.subject());
+            return false;
+        }
+        return true;
     }
 
     /**
@@ -100,22 +212,12 @@ public class JwtUtil {
      */
     public boolean validateToken(String token, String username) {
         try {
-            // 1. 블랙리스트 확인
-            if (isTokenBlacklisted(token)) {
-                log.debug("Token is blacklisted: {}", token.substring(0, Math.min(20, token.length())));
+            JwtPrincipal principal = parseVerified(token);
+            if (!principal.subject().equals(username)) {
+                log.debug("Token validation failed: username={}, extracted={}", username, principal.subject());
                 return false;
             }
-
-            // 2. 기본 토큰 검증
-            final String extractedUsername = extractUsername(token);
-            boolean isValid = extractedUsername.equals(username) && !isTokenExpired(token);
-
-            if (!isValid) {
-                log.debug("Token validation failed: username={}, extracted={}, expired={}",
-                         username, extractedUsername, isTokenExpired(token));
-            }
-
-            return isValid;
+            return isValid(principal);
         } catch (Exception e) {
             log.error("Token validation error: {}", e.getMessage());
             return false;
@@ -129,8 +231,11 @@ public class JwtUtil {
      */
     public void invalidateToken(String token) {
         try {
-            Date expiration = extractExpiration(token);
-            blacklistToken(token, expiration);
+            JwtPrincipal principal = parseVerified(token);
+            blacklistToken(principal);
+            if (verifiedCache != null) {
+                verifiedCache.invalidate(digest(token));
+            }
             log.info("Token invalidated successfully");
         } catch (Exception e) {
             log.error("Failed to invalidate token: {}", e.getMessage(), e);
@@ -139,40 +244,15 @@ public class JwtUtil {
 
     /**
      * JWT 토큰을 블랙리스트에 추가
+     * 만료 시각이 없는 토큰은 설정된 유효 기간이 지나면 기록을 정리한다.
      *
-     * @param token JWT 토큰
-     * @param expiration 토큰 만료 시간
-     */
-    private void blacklistToken(String token, Date expiration) {
-        try {
-            String tokenId = extractTokenId(token);
-            String key = BLACKLIST_PREFIX + tokenId;
-
-            long ttl = Math.max(0, expiration.getTime() - System.currentTimeMillis());
-            if (ttl > 0) {
-                redisTemplate.opsForValue().set(key, "blacklisted", Duration.ofMillis(ttl));
-                log.debug("Token blacklisted: {} (TTL: {}ms)", tokenId, ttl);
-            }
-        } catch (Exception e) {
-            log.error("Failed to blacklist token: {}", e.getMessage());
-        }
-    }
-
-    /**
-     * 토큰이 블랙리스트에 있는지 확인
-     *
-     * @param token JWT 토큰
-     * @return 블랙리스트에 있으면 true
+     * @param principal 검증된 토큰 정보
      */
-    private boolean isTokenBlacklisted(String token) {
-        try {
-            String tokenId = extractTokenId(token);
-            String key = BLACKLIST_PREFIX + tokenId;
-            return Boolean.TRUE.equals(redisTemplate.hasKey(key));
-        } catch (Exception e) {
-            log.error("Failed to check token blacklist: {}", e.getMessage());
-            return false;
-        }
+    private void blacklistToken(JwtPrincipal principal) {
+        long expiresAt = principal.expiresAt() != null
+                ? principal.expiresAt().toEpochMilli()
+                : System.currentTimeMillis() + jwtExpiration;
+        tokenRevocationService.revoke(principal.tokenId(), expiresAt);
     }
 
     /**
@@ -199,12 +279,7 @@ public class JwtUtil {
      */
     public String extractTokenId(String token) {
         try {
-            String jti = extractClaim(token, claims -> claims.getId());
-            if (jti != null && !jti.trim().isEmpty()) {
-                return jti;
-            }
-            // JTI가 없는 경우 fallback으로 서명 기반 식별자 사용
-            return extractTokenIdFromSignature(token);
+            return parseVerified(token).tokenId();
         } catch (Exception e) {
             log.debug("Failed to extract JTI, using signature-based ID: {}", e.getMessage());
             return extractTokenIdFromSignature(token);
@@ -226,6 +301,7 @@ public class JwtUtil {
                 .subject(username)
                 .id(tokenId)
                 .issuedAt(now)
+                .claim(ISSUED_AT_MILLIS_CLAIM, now.getTime())
                 .expiration(expiryDate)
                 .signWith(key)
                 .compact();
@@ -238,8 +314,59 @@ public class JwtUtil {
      * @return 남은 시간 (밀리초)
      */
     public long getTimeToExpiration(String token) {
-        Date expiration = extractExpiration(token);
-        return Math.max(0, expiration.getTime() - System.currentTimeMillis());
+        return parseVerified(token).millisUntilExpiration(System.currentTimeMillis());
+    }
+
+    /**
+     * 캐시 없이 서명 검증 및 클레임 파싱
+     * 발급 시각은 밀리초 클레임을 우선 사용하고, 없으면(이전에 발급된 토큰) 초 단위 iat를 사용한다.
+     */
+    private JwtPrincipal parse(String token) {
+        Claims claims = extractAllClaims(token);
+        String jti = claims.getId();
+        // JTI가 없는 경우 fallback으로 서명 기반 식별자 사용
+        String tokenId = jti != null && !jti.trim().isEmpty() ? jti : extractTokenIdFromSignature(token);
+        Date expiration = claims.getExpiration();
+        return new JwtPrincipal(claims.getSubject(), tokenId, issuedAt(claims),
+                expiration != null ? expiration.toInstant() : null);
+    }
+
+    private static Instant issuedAt(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        if (issuedAtMillis != null) {
+            return Instant.ofEpochMilli(issuedAtMillis);
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt != null ? issuedAt.toInstant() : null;
+    }
+
+    /**
+     * 토큰의 SHA-256 다이제스트 (캐시 키, ByteBuffer는 내용 기준으로 equals/hashCode 비교)
+     */
+    private static ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    /**
+     * 캐시 항목을 토큰의 만료 시각까지만 유지 (읽기/갱신으로 연장하지 않음)
+     */
+    private static final class UntilExpiration implements Expiry<ByteBuffer, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, JwtPrincipal value, long currentTime) {
+            long millis = value.millisUntilExpiration(System.currentTimeMillis());
+            return millis >= Long.MAX_VALUE / 1_000_000L ? Long.MAX_VALUE : millis * 1_000_000L;
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, JwtPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, JwtPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 
     @FunctionalInterface
@@ -0,0 +1,165 @@
+package com.example.djlogportfoliobackend.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 로그인 실패 누적에 따른 재시도 대기 (계정+IP별 / IP별, 노드 메모리)
+ *
+ * 실패가 기준 횟수에 도달하면 마지막 실패 시각부터 대기 시간이 지나기 전까지 로그인 요청을 거부한다.
+ * 거부 여부는 비밀번호 검증(BCrypt) 전에 판단하므로, 반복 실패는 DB 조회나 해시 계산 없이 처리된다.
+ *
+ * - 계정 실패는 계정과 IP 조합으로 집계한다. 거부는 자격 증명 확인 전에 일어나므로 계정만으로 집계하면,
+ *   공개된 관리자 이메일로 실패를 반복하는 것만으로 다른 곳에서 로그인하는 소유자까지 막을 수 있다.
+ * - 대기 시간: 기준 도달 시 baseBackoffMillis, 이후 실패마다 두 배 (최대 maxBackoffMillis)
+ * - 마지막 실패 후 resetMillis가 지나면 실패 횟수를 처음부터 센다
+ * - 로그인에 성공하면 해당 계정+IP의 실패 기록만 지운다 (같은 IP의 다른 계정 추측은 계속 집계)
+ *
+ * 기록은 노드별로 유지하며, 추적하는 키 수는 maxTrackedKeys로 제한한다.
+ */
+public class LoginFailureTracker {
+
+    private final int accountThreshold;
+    private final int addressThreshold;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final long resetMillis;
+    private final LongSupplier clock;
+
+    private final Cache<String, Failures> accountAddresses;
+    private final Cache<String, Failures> addresses;
+    private final LongAdder refusedAttempts = new LongAdder();
+
+    /**
+     * @param accountThreshold 대기를 시작할 계정+IP별 연속 실패 횟수
+     * @param addressThreshold 대기를 시작할 IP별 연속 실패 횟수
+     * @param baseBackoffMillis 기준 도달 시 대기 시간
+     * @param maxBackoffMillis 최대 대기 시간
+     * @param resetMillis 실패 횟수를 초기화할 무실패 기간
+     * @param maxTrackedKeys 계정+IP/IP별 최대 추적 키 수
+     */
+    public LoginFailureTracker(int accountThreshold, int addressThreshold, long baseBackoffMillis,
+                               long maxBackoffMillis, long resetMillis, int maxTrackedKeys) {
+        this(accountThreshold, addressThreshold, baseBackoffMillis, maxBackoffMillis, resetMillis, maxTrackedKeys,
+                System::currentTimeMillis);
+    }
+
+    public LoginFailureTracker(int accountThreshold, int addressThreshold, long baseBackoffMillis,
+                               long maxBackoffMillis, long resetMillis, int maxTrackedKeys, LongSupplier clock) {
+        this.accountThreshold = Math.max(1, accountThreshold);
+        this.addressThreshold = Math.max(1, addressThreshold);
+        this.baseBackoffMillis = Math.max(1, baseBackoffMillis);
+        this.maxBackoffMillis = Math.max(this.baseBackoffMillis, maxBackoffMillis);
+        this.resetMillis = Math.max(this.maxBackoffMillis, resetMillis);
+        this.clock = clock;
+        // 만료는 메모리 정리용, 실패 횟수 초기화 판단은 clock 기준으로 따로 한다
+        this.accountAddresses = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterWrite(Duration.ofMillis(this.resetMillis))
+                .build();
+        this.addresses = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterWrite(Duration.ofMillis(this.resetMillis))
+                .build();
+    }
+
+    /**
+     * 로그인을 시도하기 전까지 남은 대기 시간
+     *
+     * @param account 로그인 계정 (이메일, 대소문자 구분 없음)
+     * @param address 클라이언트 IP (알 수 없으면 null)
+     * @return 남은 대기 시간 (밀리초), 바로 시도할 수 있으면 0
+     */
+    public long retryAfterMillis(String account, String address) {
+        long now = clock.getAsLong();
+        long waitMillis = Math.max(
+                waitMillis(accountAddresses, accountKey(account, address), accountThreshold, now),
+                waitMillis(addresses, address, addressThreshold, now));
+        if (waitMillis > 0) {
+            refusedAttempts.increment();
+        }
+        return waitMillis;
+    }
+
+    /**
+     * 로그인 실패 기록
+     *
+     * @param account 로그인 계정
+     * @param address 클라이언트 IP (알 수 없으면 null)
+     */
+    public void recordFailure(String account, String address) {
+        long now = clock.getAsLong();
+        String accountKey = accountKey(account, address);
+        if (accountKey != null) {
+            accountAddresses.asMap().compute(accountKey, (key, previous) -> next(previous, now));
+        }
+        if (address != null) {
+            addresses.asMap().compute(address, (key, previous) -> next(previous, now));
+        }
+    }
+
+    /**
+     * 로그인 성공 기록 (해당 계정+IP의 실패 기록 제거)
+     *
+     * @param account 로그인 계정
+     * @param address 클라이언트 IP (알 수 없으면 null)
+     */
+    public void recordSuccess(String account, String address) {
+        String accountKey = accountKey(account, address);
+        if (accountKey != null) {
+            accountAddresses.invalidate(accountKey);
+        }
+    }
+
+    /**
+     * 대기 중이라 거부된 로그인 시도 수
+     */
+    public long getRefusedAttempts() {
+        return refusedAttempts.sum();
+    }
+
+    private Failures next(Failures previous, long now) {
+        if (previous == null || now - previous.lastFailureMillis() >= resetMillis) {
+            return new Failures(1, now);
+        }
+        return new Failures(previous.count() + 1, now);
+    }
+
+    private long waitMillis(Cache<String, Failures> failures, String key, int threshold, long now) {
+        if (key == null) {
+            return 0;
+        }
+        Failures entry = failures.getIfPresent(key);
+        if (entry == null || entry.count() < threshold || now - entry.lastFailureMillis() >= resetMillis) {
+            return 0;
+        }
+        return Math.max(0, entry.lastFailureMillis() + backoffMillis(entry.count() - threshold) - now);
+    }
+
+    private long backoffMillis(int excessFailures) {
+        int shift = Math.min(excessFailures, 62);
+        if (baseBackoffMillis > (maxBackoffMillis >> shift)) {
+            return maxBackoffMillis;
+        }
+        return baseBackoffMillis << shift;
+    }
+
+    /**
+     * 계정+IP 키 (계정은 대소문자 구분 없음, IP를 모르면 IP를 모르는 요청끼리 묶음)
+     */
+    private static String accountKey(String account, String address) {
+        if (account == null) {
+            return null;
+        }
+        String normalized = account.trim().toLowerCase(Locale.ROOT);
+        return address != null ? normalized + '|' + address : normalized;
+    }
+
+    private record Failures(int count, long lastFailureMillis) {
+    }
+}
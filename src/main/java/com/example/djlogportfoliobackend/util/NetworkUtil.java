@@ -15,11 +15,12 @@ import jakarta.servlet.http.HttpServletRequest;
  *   <li>보안 및 로깅을 위한 신뢰할 수 있는 IP 정보 제공</li>
  * </ul>
  *
- * <p>지원하는 헤더 우선순위:</p>
+ * <p>클라이언트 IP는 {@link ClientIpResolver}가 신뢰 프록시 목록을 기준으로 요청당 한 번 결정하며,
+ * 이 클래스는 결정된 값을 조회하는 진입점입니다.</p>
  * <ol>
- *   <li>X-Forwarded-For (가장 일반적, 쉼표로 구분된 첫 번째 IP 사용)</li>
- *   <li>X-Real-IP (nginx 등에서 사용)</li>
- *   <li>Remote Address (직접 연결 시 사용되는 기본값)</li>
+ *   <li>직접 연결된 주소가 신뢰 프록시가 아니면 해당 주소 사용 (헤더 무시)</li>
+ *   <li>X-Forwarded-For를 오른쪽부터 확인하여 신뢰 프록시가 아닌 첫 번째 주소 사용</li>
+ *   <li>X-Forwarded-For가 없으면 신뢰 프록시가 보낸 X-Real-IP 사용</li>
  * </ol>
  *
  * <p>사용 예시:</p>
@@ -33,9 +34,8 @@ import jakarta.servlet.http.HttpServletRequest;
  *
  * <p>주의사항:</p>
  * <ul>
- *   <li>X-Forwarded-For 헤더는 클라이언트가 조작 가능하므로 신뢰할 수 없는 환경에서는 추가 검증 필요</li>
- *   <li>프록시 설정에 따라 헤더 값이 달라질 수 있음</li>
- *   <li>IPv6 환경에서의 동작 확인 필요</li>
+ *   <li>프록시/로드밸런서 주소가 기본 사설 대역 밖에 있으면 {@code security.client-ip.trusted-proxies}에 추가 필요</li>
+ *   <li>빈도 제한 키는 IPv6 주소를 /64 단위로 묶음 ({@code security.client-ip.ipv6-key-prefix})</li>
  * </ul>
  *
  * @author DJ
@@ -47,15 +47,8 @@ public class NetworkUtil {
     /**
      * 클라이언트 실제 IP 주소 추출
      *
-     * <p>프록시, 로드밸런서, CDN 등을 통한 요청에서도 실제 클라이언트 IP를 추출합니다.
-     * 다양한 HTTP 헤더를 순차적으로 확인하여 신뢰할 수 있는 IP 주소를 반환합니다.</p>
-     *
-     * <p>검사 순서:</p>
-     * <ol>
-     *   <li>X-Forwarded-For: 프록시를 거친 경우, 쉼표로 구분된 첫 번째 IP</li>
-     *   <li>X-Real-IP: nginx 등에서 설정한 원본 IP</li>
-     *   <li>RemoteAddr: 직접 연결된 클라이언트 IP (프록시 없음)</li>
-     * </ol>
+     * <p>{@link ClientIpResolver}가 결정한 주소 문자열을 반환합니다.
+     * 요청 시작 시 필터가 결정한 값이 있으면 재사용하고, 없으면 기본 신뢰 프록시 설정으로 결정합니다.</p>
      *
      * <p>활용 분야:</p>
      * <ul>
@@ -70,16 +63,45 @@ public class NetworkUtil {
      * @throws NullPointerException request가 null인 경우
      */
     public static String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty() && !"unknown".equalsIgnoreCase(xForwardedFor)) {
-            return xForwardedFor.split(",")[0].trim();
-        }
+        return resolve(request).text();
+    }
 
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty() && !"unknown".equalsIgnoreCase(xRealIp)) {
-            return xRealIp;
-        }
+    /**
+     * 클라이언트 IP 주소를 빈도 제한 키용 128비트 값으로 추출
+     *
+     * <p>문자열을 만들지 않고 결정된 주소 값을 그대로 복사합니다.
+     * IPv6 주소는 설정된 prefix(기본 /64)로 묶인 값이며,
+     * IP 형식이 아닌 값은 해당 문자열의 해시를 대신 사용하므로 같은 값은 항상 같은 결과가 됩니다.</p>
+     *
+     * @param request HTTP 요청 객체 (null 불가)
+     * @param out 결과 배열 (out[0] = 상위 64비트, out[1] = 하위 64비트)
+     * @see ClientIpResolver
+     */
+    public static void parseClientIp(HttpServletRequest request, long[] out) {
+        ClientAddress address = resolve(request);
+        out[0] = address.keyHigh();
+        out[1] = address.keyLow();
+    }
 
-        return request.getRemoteAddr();
+    /**
+     * 클라이언트별 연결 수 제한에 사용할 키 추출
+     *
+     * <p>빈도 제한 키와 같은 값(IPv6는 설정된 prefix로 집계)을 문자열로 반환하므로,
+     * 같은 /64 안에서 주소를 바꿔도 같은 클라이언트로 집계됩니다.</p>
+     *
+     * @param request HTTP 요청 객체 (null 불가)
+     * @return 클라이언트 키 문자열
+     */
+    public static String getClientKey(HttpServletRequest request) {
+        ClientAddress address = resolve(request);
+        return Long.toHexString(address.keyHigh()) + ":" + Long.toHexString(address.keyLow());
+    }
+
+    private static ClientAddress resolve(HttpServletRequest request) {
+        Object cached = request.getAttribute(ClientIpResolver.ATTRIBUTE);
+        if (cached instanceof ClientAddress address) {
+            return address;
+        }
+        return ClientIpResolver.getDefault().resolve(request);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+package com.example.djlogportfoliobackend.util;
+
+import com.example.djlogportfoliobackend.exception.LoginThrottledException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 전용 실행기에서 수행하는 비밀번호 검증
+ *
+ * BCrypt 검증은 요청마다 약 100ms의 CPU를 사용하므로, 로그인 요청이 몰리면 요청 스레드 전체가
+ * 해시 계산에 묶여 다른 API까지 느려진다. 검증을 스레드 수와 대기열이 고정된 실행기에서 수행하여
+ * 동시에 계산하는 해시 수를 제한하고, 대기열이 가득 차면 계산 없이 바로 거부한다.
+ *
+ * - 대기열 초과: {@link LoginThrottledException} (대기하지 않음)
+ * - 제한 시간 초과: 대기 중인 작업을 취소하고 {@link LoginThrottledException}
+ */
+@Slf4j
+public class PasswordVerifier implements AutoCloseable {
+
+    private static final String BUSY_MESSAGE = "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+    private static final long BUSY_RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder timedOutCount = new LongAdder();
+
+    /**
+     * @param passwordEncoder 비밀번호 인코더
+     * @param threads 검증 스레드 수 (동시에 계산하는 해시 수)
+     * @param queueCapacity 대기열 크기 (초과 시 거부)
+     * @param timeoutMillis 대기를 포함한 검증 제한 시간
+     */
+    public PasswordVerifier(PasswordEncoder passwordEncoder, int threads, int queueCapacity, long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "password-verifier-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 비밀번호 일치 여부 확인
+     *
+     * @param rawPassword 평문 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 일치하면 true
+     * @throws LoginThrottledException 실행기가 포화되었거나 제한 시간 안에 끝나지 않은 경우
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            log.warn("Password verification rejected: queue full ({} queued)", executor.getQueue().size());
+            throw new LoginThrottledException(BUSY_MESSAGE, BUSY_RETRY_AFTER_SECONDS);
+        }
+
+        try {
+            return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            timedOutCount.increment();
+            log.warn("Password verification timed out after {}ms", timeoutMillis);
+            throw new LoginThrottledException(BUSY_MESSAGE, BUSY_RETRY_AFTER_SECONDS);
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new LoginThrottledException(BUSY_MESSAGE, BUSY_RETRY_AFTER_SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password verification failed", e.getCause());
+        }
+    }
+
+    /**
+     * 검증 중인 작업 수
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * 대기열에 있는 작업 수
+     */
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 대기열 초과로 거부된 검증 수
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * 제한 시간을 넘겨 취소된 검증 수
+     */
+    public long getTimedOutCount() {
+        return timedOutCount.sum();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.djlogportfoliobackend.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Redis 호출 회로 차단기
+ *
+ * Redis가 멈추면 호출마다 명령 타임아웃만큼 기다린 뒤 실패하므로, 인증/세션 경로의 모든 요청이 함께 느려진다.
+ * 연속 실패(또는 느린 응답)가 기준에 도달하면 일정 시간 동안 Redis를 호출하지 않고 바로 fallback을 사용한다.
+ *
+ * - CLOSED: 정상 호출. 연속 실패/지연이 failureThreshold에 도달하면 OPEN
+ * - OPEN: 호출 없이 fallback. openMillis가 지나면 다음 호출 하나만 시험 (HALF_OPEN)
+ * - HALF_OPEN: 시험 호출이 성공하면 CLOSED, 실패하면 다시 OPEN. 시험 중 다른 호출은 fallback
+ *
+ * 개별 명령의 타임아웃은 Lettuce 명령 타임아웃(spring.data.redis.timeout)으로 짧게 제한하고,
+ * 이 차단기는 타임아웃이 반복될 때 그 대기 자체를 없앤다.
+ */
+@Slf4j
+public class RedisCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final int failureThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    /**
+     * @param failureThreshold 차단으로 전환할 연속 실패/지연 횟수
+     * @param slowCallMillis 이 시간보다 오래 걸린 호출은 성공해도 실패로 집계
+     * @param openMillis 차단 유지 시간 (이후 시험 호출 허용)
+     */
+    public RedisCircuitBreaker(int failureThreshold, long slowCallMillis, long openMillis) {
+        this(failureThreshold, slowCallMillis, openMillis, System::nanoTime);
+    }
+
+    public RedisCircuitBreaker(int failureThreshold, long slowCallMillis, long openMillis, LongSupplier nanoClock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.slowCallNanos = slowCallMillis * NANOS_PER_MILLI;
+        this.openNanos = openMillis * NANOS_PER_MILLI;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 차단 상태가 아니면 action을 실행하고, 차단 중이거나 실패하면 fallback 결과 반환
+     *
+     * @param action Redis 호출
+     * @param fallback 차단/실패 시 사용할 값
+     * @return action 또는 fallback 결과
+     */
+    public <T> T execute(Supplier<T> action, Supplier<T> fallback) {
+        if (!allowRequest()) {
+            rejectedCalls.increment();
+            return fallback.get();
+        }
+        long start = nanoClock.getAsLong();
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            onFailure(e.getMessage());
+            return fallback.get();
+        }
+        if (nanoClock.getAsLong() - start > slowCallNanos) {
+            onFailure("slow call");
+        } else {
+            onSuccess();
+        }
+        return result;
+    }
+
+    /**
+     * 반환값이 없는 Redis 호출
+     *
+     * @param action Redis 호출
+     * @param fallback 차단/실패 시 실행할 작업
+     */
+    public void run(Runnable action, Runnable fallback) {
+        execute(() -> {
+            action.run();
+            return null;
+        }, () -> {
+            fallback.run();
+            return null;
+        });
+    }
+
+    /**
+     * 차단 중인지 확인 (시험 호출 허용 여부는 바꾸지 않음)
+     *
+     * @return OPEN이고 차단 유지 시간이 지나지 않았으면 true
+     */
+    public boolean isOpen() {
+        State current = state.get();
+        return current == State.HALF_OPEN
+                || (current == State.OPEN && nanoClock.getAsLong() - openedAt < openNanos);
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.sum();
+    }
+
+    private boolean allowRequest() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && nanoClock.getAsLong() - openedAt >= openNanos) {
+            // 시험 호출은 하나만 허용
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            log.info("Redis circuit closed: Redis is responding again");
+        }
+    }
+
+    private void onFailure(String reason) {
+        failures.increment();
+        int count = consecutiveFailures.incrementAndGet();
+        State current = state.get();
+        if (current == State.HALF_OPEN || (current == State.CLOSED && count >= failureThreshold)) {
+            openedAt = nanoClock.getAsLong();
+            if (state.compareAndSet(current, State.OPEN)) {
+                log.warn("Redis circuit opened after {} consecutive failures ({}), using local fallback for {}ms",
+                        count, reason, openNanos / NANOS_PER_MILLI);
+            }
+        }
+    }
+}
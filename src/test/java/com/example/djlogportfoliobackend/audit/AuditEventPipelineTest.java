@@ -0,0 +1,114 @@
+package com.example.djlogportfoliobackend.audit;
+
+import com.example.djlogportfoliobackend.entity.AuditLog;
+import com.example.djlogportfoliobackend.event.ChangeType;
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
+import com.example.djlogportfoliobackend.repository.AuditLogRepository;
+import com.example.djlogportfoliobackend.session.SessionValue;
+import com.example.djlogportfoliobackend.store.SessionStore;
+import com.example.djlogportfoliobackend.store.SessionStore.LoginRecord;
+import com.example.djlogportfoliobackend.util.RedisCircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AuditEventPipeline 테스트
+ * 로그인 이력과 관리자 쓰기가 배치 단위로 한 번씩 기록되고, 버퍼 초과는 버림으로, Redis 장애는 실패로 집계되는지 검증합니다.
+ * 작업자 스레드는 시작하지 않고 flush()를 직접 호출합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditEventPipelineTest {
+
+    private static final String USERNAME = "admin@example.com";
+
+    @Mock
+    private SessionStore sessionStore;
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    private AuditEventPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = new AuditEventPipeline(4, 3, 100, sessionStore, new RedisCircuitBreaker(1, 1000, 60_000),
+                auditLogRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_WritesEachKindOncePerBatch() {
+        // Given
+        SessionValue value = new SessionValue(1000, "127.0.0.1", "JUnit");
+        UUID projectId = UUID.randomUUID();
+        pipeline.publish(new AuditEvent.Login(USERNAME, value));
+        pipeline.publish(new AuditEvent.AdminChange(USERNAME, PortfolioEntityType.PROJECT, projectId,
+                ChangeType.UPDATED, "trace-1", 2000));
+        pipeline.publish(new AuditEvent.Login(USERNAME, value));
+        pipeline.publish(new AuditEvent.Login("other@example.com", value));
+
+        // When - 배치 크기(3)만큼 꺼낸 뒤 나머지
+        assertEquals(3, pipeline.flush());
+        assertEquals(1, pipeline.flush());
+        assertEquals(0, pipeline.flush());
+
+        // Then
+        verify(sessionStore).appendLoginHistory(List.of(new LoginRecord(USERNAME, value),
+                new LoginRecord(USERNAME, value)));
+        verify(sessionStore).appendLoginHistory(List.of(new LoginRecord("other@example.com", value)));
+        ArgumentCaptor<List<AuditLog>> saved = ArgumentCaptor.forClass(List.class);
+        verify(auditLogRepository, times(1)).saveAll(saved.capture());
+        AuditLog entry = saved.getValue().get(0);
+        assertEquals(USERNAME, entry.getActor());
+        assertEquals(projectId, entry.getEntityId());
+        assertEquals(ChangeType.UPDATED, entry.getChangeType());
+        assertEquals("trace-1", entry.getTraceId());
+        assertEquals(3, pipeline.getLoginsWritten());
+        assertEquals(1, pipeline.getAdminChangesWritten());
+        assertEquals(2, pipeline.getBatches());
+    }
+
+    @Test
+    void publish_DropsWhenBufferFullWithoutBlocking() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            assertTrue(pipeline.publish(new AuditEvent.Login(USERNAME, new SessionValue(i, null, null))));
+        }
+
+        // When & Then
+        assertFalse(pipeline.publish(new AuditEvent.Login(USERNAME, new SessionValue(5, null, null))));
+        assertEquals(4, pipeline.getQueueDepth());
+        assertEquals(4, pipeline.getPublished());
+        assertEquals(1, pipeline.getDropped());
+        verifyNoInteractions(sessionStore, auditLogRepository);
+    }
+
+    @Test
+    void flush_CountsLoginBatchAsFailedWhenRedisUnavailable() {
+        // Given - 첫 실패로 차단
+        doThrow(new QueryTimeoutException("timeout")).when(sessionStore).appendLoginHistory(anyList());
+        pipeline.publish(new AuditEvent.Login(USERNAME, new SessionValue(1000, null, null)));
+        pipeline.flush();
+
+        // When - 차단 중에는 저장소를 호출하지 않음
+        pipeline.publish(new AuditEvent.Login(USERNAME, new SessionValue(2000, null, null)));
+        pipeline.flush();
+
+        // Then
+        verify(sessionStore, times(1)).appendLoginHistory(anyList());
+        assertEquals(2, pipeline.getFailed());
+        assertEquals(0, pipeline.getLoginsWritten());
+    }
+}
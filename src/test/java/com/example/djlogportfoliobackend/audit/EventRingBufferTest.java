@@ -0,0 +1,84 @@
+package com.example.djlogportfoliobackend.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EventRingBuffer 테스트
+ * 가득 찼을 때 대기 없이 거부, 꺼낸 뒤 슬롯 재사용, 여러 생산자가 동시에 넣은 항목이 빠짐없이 한 번씩 꺼내지는지 검증합니다.
+ */
+class EventRingBufferTest {
+
+    @Test
+    void offer_FailsWhenFullAndReusesSlotsAfterDrain() {
+        // Given - 용량은 2의 거듭제곱으로 올림
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        // When & Then - 가득 차면 거부
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+
+        // 일부를 꺼내면 그만큼 다시 넣을 수 있고, 순서는 유지됨
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, buffer.drain(drained::add, 2));
+        assertTrue(buffer.offer(4));
+        assertTrue(buffer.offer(5));
+        assertFalse(buffer.offer(6));
+        assertEquals(4, buffer.drain(drained::add, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), drained);
+        assertEquals(0, buffer.size());
+        assertEquals(0, buffer.drain(drained::add, 10));
+    }
+
+    @Test
+    void drain_DeliversEveryItemFromConcurrentProducersOnce() throws InterruptedException {
+        // Given - 생산자 4개가 버퍼보다 많은 항목을 넣는 동안 소비자 하나가 계속 꺼냄
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(64);
+        int producers = 4;
+        int perProducer = 20_000;
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    if (buffer.offer(base + i)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            });
+            producer.start();
+        }
+
+        // When
+        Set<Integer> received = new HashSet<>();
+        AtomicInteger duplicates = new AtomicInteger();
+        while (done.getCount() > 0 || buffer.size() > 0) {
+            buffer.drain(item -> {
+                if (!received.add(item)) {
+                    duplicates.incrementAndGet();
+                }
+            }, 32);
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        buffer.drain(received::add, Integer.MAX_VALUE);
+
+        // Then - 받아들인 항목은 모두 한 번씩만 전달
+        assertEquals(0, duplicates.get());
+        assertEquals(accepted.get(), received.size());
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.djlogportfoliobackend.filter;
+
+import com.example.djlogportfoliobackend.ratelimit.AdaptiveConcurrencyLimiter;
+import com.example.djlogportfoliobackend.util.JwtPrincipal;
+import com.example.djlogportfoliobackend.util.JwtUtil;
+import io.jsonwebtoken.MalformedJwtException;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * AdaptiveConcurrencyLimitFilter 테스트
+ * 공개 조회 몫이 가득 찬 상태에서 검증된 토큰의 요청만 중요 요청으로 처리되는지,
+ * 대역폭 제한 대상 요청은 동시 처리 허가를 잡지 않는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class AdaptiveConcurrencyLimitFilterTest {
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private AdaptiveConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // 상한 4, 공개 조회 몫 2 - 공개 조회 2개로 공개 몫을 채워 둠
+        limiter = new AdaptiveConcurrencyLimiter(4, 1, 4, 2.0, 0.2, 0.5, 100, 600_000);
+        assertTrue(limiter.tryAcquire(false));
+        assertTrue(limiter.tryAcquire(false));
+        filter = new AdaptiveConcurrencyLimitFilter(limiter, jwtUtil);
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "bandwidthEnabled", true);
+    }
+
+    @Test
+    void getWithForgedAuthorizationHeader_IsShedAsPublicRead() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        request.addHeader("Authorization", "Bearer forged");
+        when(jwtUtil.resolvePrincipal(any())).thenThrow(new MalformedJwtException("bad signature"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        assertEquals(503, response.getStatus());
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    void getWithRevokedToken_IsShedAsPublicRead() throws Exception {
+        // Given
+        JwtPrincipal principal = principal();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        request.addHeader("Authorization", "Bearer revoked");
+        when(jwtUtil.resolvePrincipal(any())).thenReturn(principal);
+        when(jwtUtil.isValid(principal)).thenReturn(false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        assertEquals(503, response.getStatus());
+    }
+
+    @Test
+    void getWithValidToken_UsesFullLimit() throws Exception {
+        // Given
+        JwtPrincipal principal = principal();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        request.addHeader("Authorization", "Bearer valid");
+        when(jwtUtil.resolvePrincipal(any())).thenReturn(principal);
+        when(jwtUtil.isValid(principal)).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    void write_UsesFullLimitWithoutTokenCheck() throws Exception {
+        // Given - 로그인처럼 토큰 없는 쓰기 요청
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(jwtUtil);
+    }
+
+    @Test
+    void throttledDownload_BypassesConcurrencyLimit() throws Exception {
+        // Given - 대역폭 제한으로 늦춰지는 업로드 파일 제공
+        AdaptiveConcurrencyLimiter spyLimiter = spy(new AdaptiveConcurrencyLimiter(4, 1, 4, 2.0, 0.2, 0.5, 100, 600_000));
+        AdaptiveConcurrencyLimitFilter bypassFilter = new AdaptiveConcurrencyLimitFilter(spyLimiter, jwtUtil);
+        ReflectionTestUtils.setField(bypassFilter, "enabled", true);
+        ReflectionTestUtils.setField(bypassFilter, "bandwidthEnabled", true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads/image.png");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        bypassFilter.doFilter(request, response, filterChain);
+
+        // Then - 허가를 잡지 않으므로 느린 전송이 공개 조회 몫을 차지하지 않음
+        verify(filterChain).doFilter(request, response);
+        verify(spyLimiter, never()).tryAcquire(anyBoolean());
+        verify(spyLimiter, never()).release(anyLong(), anyLong(), anyBoolean());
+        assertEquals(0, spyLimiter.getInFlight());
+    }
+
+    private static JwtPrincipal principal() {
+        return new JwtPrincipal("admin@example.com", "jti", Instant.now(), Instant.now().plusSeconds(3600));
+    }
+}
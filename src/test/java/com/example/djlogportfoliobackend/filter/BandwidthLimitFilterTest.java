@@ -0,0 +1,136 @@
+package com.example.djlogportfoliobackend.filter;
+
+import com.example.djlogportfoliobackend.ratelimit.BandwidthThrottle;
+import com.example.djlogportfoliobackend.util.JwtPrincipal;
+import com.example.djlogportfoliobackend.util.JwtUtil;
+import io.jsonwebtoken.MalformedJwtException;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * BandwidthLimitFilter 테스트
+ * 경로와 무관하게 검증된 토큰의 multipart 업로드가 업로드 대역폭 제한을 받는지,
+ * Content-Length 없는 업로드가 거부되는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class BandwidthLimitFilterTest {
+
+    private static final long UPLOAD_SIZE = 1024 * 1024;
+
+    @Mock
+    private FilterChain filterChain;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    private BandwidthThrottle uploadThrottle;
+    private BandwidthLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // 클라이언트당 1KB/s - 1MB 업로드는 대기 상한(1초)을 넘음
+        uploadThrottle = new BandwidthThrottle(1024, 1024, 1.0, 16);
+        filter = new BandwidthLimitFilter(uploadThrottle, new BandwidthThrottle(1024, 1024, 1.0, 16), jwtUtil);
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "maxWait", Duration.ofSeconds(1));
+    }
+
+    @Test
+    void projectImageUpload_IsLimitedLikeFileUpload() throws Exception {
+        JwtPrincipal principal = principal();
+        when(jwtUtil.resolvePrincipal(any())).thenReturn(principal);
+        when(jwtUtil.isValid(principal)).thenReturn(true);
+        for (String uri : new String[]{"/api/upload", "/api/projects/image"}) {
+            // Given
+            MockHttpServletRequest request = multipartUpload(uri);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // When
+            filter.doFilter(request, response, filterChain);
+
+            // Then
+            assertEquals(429, response.getStatus(), uri);
+            assertNotNull(response.getHeader("Retry-After"), uri);
+        }
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    void uploadWithForgedToken_IsNotReserved() throws Exception {
+        // Given - 헤더만 붙인 업로드는 인증 단계에서 거부되므로 대역폭을 예약하지 않음
+        MockHttpServletRequest request = multipartUpload("/api/upload");
+        when(jwtUtil.resolvePrincipal(any())).thenThrow(new MalformedJwtException("bad signature"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(filterChain).doFilter(request, response);
+        assertEquals(0, uploadThrottle.getTrackedClients());
+    }
+
+    @Test
+    void chunkedUpload_IsRejectedWithLengthRequired() throws Exception {
+        // Given - Content-Length 없이 전송되는 multipart 업로드
+        JwtPrincipal principal = principal();
+        when(jwtUtil.resolvePrincipal(any())).thenReturn(principal);
+        when(jwtUtil.isValid(principal)).thenReturn(true);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/upload");
+        request.setContentType(MediaType.MULTIPART_FORM_DATA_VALUE + "; boundary=test");
+        request.addHeader("Authorization", "Bearer token");
+        request.addHeader("Transfer-Encoding", "chunked");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        assertEquals(411, response.getStatus());
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    void nonMultipartWrite_IsNotThrottled() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/projects");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(new byte[(int) UPLOAD_SIZE]);
+        request.addHeader("Authorization", "Bearer token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        assertFalse(BandwidthLimitFilter.isThrottledRoute(request));
+        verify(filterChain).doFilter(request, response);
+    }
+
+    private static MockHttpServletRequest multipartUpload(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContentType(MediaType.MULTIPART_FORM_DATA_VALUE + "; boundary=test");
+        request.setContent(new byte[(int) UPLOAD_SIZE]);
+        request.addHeader("Authorization", "Bearer token");
+        return request;
+    }
+
+    private static JwtPrincipal principal() {
+        return new JwtPrincipal("admin@example.com", "jti", Instant.now(), Instant.now().plusSeconds(3600));
+    }
+}
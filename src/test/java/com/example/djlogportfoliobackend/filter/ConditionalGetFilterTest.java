@@ -0,0 +1,124 @@
+package com.example.djlogportfoliobackend.filter;
+
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
+import com.example.djlogportfoliobackend.service.ContentVersionService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * ConditionalGetFilter 테스트
+ * 집계 버전 기반 ETag 부여와 304 단락 처리를 검증합니다.
+ */
+class ConditionalGetFilterTest {
+
+    private ContentVersionService contentVersionService;
+    private ConditionalGetFilter conditionalGetFilter;
+    private FilterChain filterChain;
+
+    @BeforeEach
+    void setUp() {
+        contentVersionService = new ContentVersionService();
+        conditionalGetFilter = new ConditionalGetFilter(contentVersionService);
+        filterChain = mock(FilterChain.class);
+    }
+
+    @Test
+    void firstRequest_PassesThroughWithEtag() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        doAnswer(invocation -> {
+            invocation.getArgument(1, ServletResponse.class).getWriter().write("[]");
+            return null;
+        }).when(filterChain).doFilter(any(), any());
+
+        // When
+        conditionalGetFilter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(filterChain).doFilter(any(), any());
+        assertEquals(200, response.getStatus());
+        assertNotNull(response.getHeader("ETag"));
+    }
+
+    @Test
+    void matchingEtag_ReturnsNotModifiedWithoutCallingChain() throws Exception {
+        // Given
+        String etag = fetchEtag("/api/projects");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        request.addHeader("If-None-Match", etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        conditionalGetFilter.doFilter(request, response, filterChain);
+
+        // Then
+        assertEquals(304, response.getStatus());
+        assertEquals(etag, response.getHeader("ETag"));
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    void dependentAggregateChange_InvalidatesProfileEtag() throws Exception {
+        // Given
+        String profileEtag = fetchEtag("/api/profile");
+        String projectsEtag = fetchEtag("/api/projects");
+
+        // When - 프로필에 포함되는 스킬만 변경
+        contentVersionService.recordChange(PortfolioEntityType.SKILL);
+
+        // Then - 프로필 ETag는 바뀌고 프로젝트 ETag는 유지되어야 함
+        assertNotEquals(profileEtag, fetchEtag("/api/profile"));
+        assertEquals(projectsEtag, fetchEtag("/api/projects"));
+    }
+
+    @Test
+    void profileUpdate_InvalidatesSkillEducationAndCertificateEtags() throws Exception {
+        // Given
+        String skillsEtag = fetchEtag("/api/skills");
+        String educationsEtag = fetchEtag("/api/educations");
+        String certificatesEtag = fetchEtag("/api/certificates");
+        String projectsEtag = fetchEtag("/api/projects");
+
+        // When - 프로필 수정은 하위 목록을 교체하면서 PROFILE 변경만 발행
+        contentVersionService.recordChange(PortfolioEntityType.PROFILE);
+
+        // Then
+        assertNotEquals(skillsEtag, fetchEtag("/api/skills"));
+        assertNotEquals(educationsEtag, fetchEtag("/api/educations"));
+        assertNotEquals(certificatesEtag, fetchEtag("/api/certificates"));
+        assertEquals(projectsEtag, fetchEtag("/api/projects"));
+    }
+
+    @Test
+    void authenticatedRequest_IsNotFiltered() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        request.addHeader("Authorization", "Bearer token");
+        request.addHeader("If-None-Match", "*");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        conditionalGetFilter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(filterChain).doFilter(request, response);
+        assertNull(response.getHeader("ETag"));
+    }
+
+    private String fetchEtag(String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> res.getWriter().write("{}");
+        conditionalGetFilter.doFilter(request, response, chain);
+        return response.getHeader("ETag");
+    }
+}
@@ -1,7 +1,13 @@
 package com.example.djlogportfoliobackend.filter;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
+import com.example.djlogportfoliobackend.config.RateLimitConfig;
+import com.example.djlogportfoliobackend.ratelimit.RateLimitKeyStrategy;
+import com.example.djlogportfoliobackend.ratelimit.RateLimitPolicy;
+import com.example.djlogportfoliobackend.ratelimit.RateLimitPolicyMatcher;
+import com.example.djlogportfoliobackend.ratelimit.RateLimiterEngine;
+import com.example.djlogportfoliobackend.ratelimit.RouteTemplateMatcher;
+import com.example.djlogportfoliobackend.util.JwtPrincipal;
+import com.example.djlogportfoliobackend.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -14,15 +20,15 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.time.Duration;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 /**
  * RateLimitFilter 테스트
- * 개선된 Rate Limiting 로직의 동작을 검증합니다.
+ * 제한 엔진 기반 Rate Limiting 로직의 동작을 검증합니다.
  */
 @ExtendWith(MockitoExtension.class)
 class RateLimitFilterTest {
@@ -36,40 +42,56 @@ class RateLimitFilterTest {
     @Mock
     private FilterChain filterChain;
 
+    @Mock
+    private JwtUtil jwtUtil;
+
     private RateLimitFilter rateLimitFilter;
-    private Cache<String, AtomicInteger> cache;
+    private RateLimiterEngine engine;
+    private RateLimiterEngine loginEngine;
 
     @BeforeEach
     void setUp() {
-        cache = Caffeine.newBuilder()
-                .maximumSize(1000)
-                .expireAfterWrite(Duration.ofMinutes(1))
-                .build();
-
-        rateLimitFilter = new RateLimitFilter(cache);
-        ReflectionTestUtils.setField(rateLimitFilter, "maxRequestsPerMinute", 5);
+        engine = RateLimitConfig.createEngine("token_bucket", 5, 0, 1024);
+        RateLimiterEngine globalEngine = RateLimitConfig.createEngine("token_bucket", 1000, 0, 16);
+
+        RouteTemplateMatcher matcher = new RouteTemplateMatcher();
+        matcher.compile(List.of("/api/profile", "/api/projects", "/api/projects/{id}"));
+
+        // 로그인은 IP당 분당 2회, 관리자 쓰기는 JWT subject 기준 분당 3회
+        loginEngine = RateLimitConfig.createEngine("token_bucket", 2, 0, 64);
+        RateLimitPolicyMatcher policyMatcher = new RateLimitPolicyMatcher(List.of(
+                new RateLimitPolicyMatcher.Entry(
+                        new RateLimitPolicy("login", "/api/auth/login", RateLimitKeyStrategy.IP, loginEngine),
+                        List.of("POST")),
+                new RateLimitPolicyMatcher.Entry(
+                        new RateLimitPolicy("admin-write", "/api/**", RateLimitKeyStrategy.SUBJECT,
+                                RateLimitConfig.createEngine("token_bucket", 3, 0, 64)),
+                        List.of("POST", "PUT", "PATCH", "DELETE"))));
+
+        rateLimitFilter = new RateLimitFilter(engine, globalEngine, matcher, policyMatcher, jwtUtil);
         ReflectionTestUtils.setField(rateLimitFilter, "rateLimitStrategy", "ip_uri");
         ReflectionTestUtils.setField(rateLimitFilter, "enableGlobalLimit", false);
+        ReflectionTestUtils.setField(rateLimitFilter, "headersEnabled", true);
+
+        // 요청 메서드는 디버그 로그와 거부 로그에서만 조회됨
+        lenient().when(request.getMethod()).thenReturn("GET");
     }
 
     @Test
-    void testAtomicCountIncrement() throws Exception {
+    void testRequestsWithinLimitPass() throws Exception {
         // Given
         when(request.getRemoteAddr()).thenReturn("127.0.0.1");
         when(request.getRequestURI()).thenReturn("/api/profile");
-        when(request.getMethod()).thenReturn("GET");
 
-        // When - 여러 요청을 빠르게 실행
+        // When - 제한 이하의 요청
         for (int i = 0; i < 3; i++) {
             rateLimitFilter.doFilterInternal(request, response, filterChain);
         }
 
-        // Then - 정확히 3번 카운트되어야 함
-        String key = "rate_limit:ip_uri:127.0.0.1:/api/profile";
-        AtomicInteger counter = cache.getIfPresent(key);
-        assertNotNull(counter);
-        assertEquals(3, counter.get());
+        // Then - 모두 통과하고 추적 키는 하나여야 함
         verify(filterChain, times(3)).doFilter(request, response);
+        verify(response, never()).setStatus(429);
+        assertEquals(1, engine.getTrackedKeys());
     }
 
     @Test
@@ -77,7 +99,6 @@ class RateLimitFilterTest {
         // Given
         when(request.getRemoteAddr()).thenReturn("127.0.0.1");
         when(request.getRequestURI()).thenReturn("/api/profile");
-        when(request.getMethod()).thenReturn("GET");
 
         StringWriter stringWriter = new StringWriter();
         PrintWriter printWriter = new PrintWriter(stringWriter);
@@ -90,29 +111,129 @@ class RateLimitFilterTest {
 
         // Then - 마지막 요청은 차단되어야 함
         verify(response).setStatus(429);
+        verify(response).setHeader(eq("Retry-After"), anyString());
         verify(filterChain, times(5)).doFilter(request, response);
+        assertTrue(stringWriter.toString().contains("Rate limit exceeded"));
+    }
+
+    @Test
+    void testRateLimitHeadersAndCounters() throws Exception {
+        // Given - 분당 5회 (12초마다 1개 보충)
+        when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+        when(request.getRequestURI()).thenReturn("/api/profile");
+        when(response.getWriter()).thenReturn(new PrintWriter(new StringWriter()));
+
+        // When - 첫 요청 후 제한까지 소진
+        rateLimitFilter.doFilterInternal(request, response, filterChain);
+        verify(response).setHeader("RateLimit-Limit", "5");
+        verify(response).setHeader("RateLimit-Remaining", "4");
+        verify(response).setHeader("RateLimit-Reset", "12");
+
+        for (int i = 0; i < 5; i++) {
+            rateLimitFilter.doFilterInternal(request, response, filterChain);
+        }
+
+        // Then - 마지막 허용 응답과 거부 응답 모두 남은 요청 0, 거부 시 Retry-After 포함, 기본 정책 카운터에 집계됨
+        verify(response, times(2)).setHeader("RateLimit-Remaining", "0");
+        verify(response).setHeader(eq("Retry-After"), anyString());
+        assertEquals(5, rateLimitFilter.getDefaultCounter().getAllowed());
+        assertEquals(1, rateLimitFilter.getDefaultCounter().getRejected());
     }
 
     @Test
     void testDifferentUrisSeparateCounters() throws Exception {
         // Given
         when(request.getRemoteAddr()).thenReturn("127.0.0.1");
-        when(request.getMethod()).thenReturn("GET");
 
-        // When - 다른 URI로 요청
+        // When - 한 URI의 제한을 모두 소진한 뒤 다른 URI로 요청
         when(request.getRequestURI()).thenReturn("/api/profile");
-        rateLimitFilter.doFilterInternal(request, response, filterChain);
+        for (int i = 0; i < 5; i++) {
+            rateLimitFilter.doFilterInternal(request, response, filterChain);
+        }
 
         when(request.getRequestURI()).thenReturn("/api/projects");
         rateLimitFilter.doFilterInternal(request, response, filterChain);
 
         // Then - 각각 별도 카운터를 가져야 함
-        AtomicInteger profileCounter = cache.getIfPresent("rate_limit:ip_uri:127.0.0.1:/api/profile");
-        AtomicInteger projectsCounter = cache.getIfPresent("rate_limit:ip_uri:127.0.0.1:/api/projects");
+        verify(filterChain, times(6)).doFilter(request, response);
+        verify(response, never()).setStatus(429);
+        assertEquals(2, engine.getTrackedKeys());
+    }
+
+    @Test
+    void testPathVariablesShareRouteCounter() throws Exception {
+        // Given
+        when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+
+        StringWriter stringWriter = new StringWriter();
+        when(response.getWriter()).thenReturn(new PrintWriter(stringWriter));
+
+        // When - 같은 템플릿(/api/projects/{id})의 서로 다른 ID로 요청
+        for (int i = 0; i < 6; i++) {
+            when(request.getRequestURI()).thenReturn("/api/projects/" + UUID.randomUUID());
+            rateLimitFilter.doFilterInternal(request, response, filterChain);
+        }
+
+        // Then - 하나의 카운터를 공유하므로 마지막 요청은 차단되어야 함
+        verify(filterChain, times(5)).doFilter(request, response);
+        verify(response).setStatus(429);
+        assertEquals(1, engine.getTrackedKeys());
+    }
+
+    @Test
+    void testIpv4AndMappedIpv6ShareCounter() throws Exception {
+        // Given
+        when(request.getRequestURI()).thenReturn("/api/profile");
+
+        // When - 같은 주소를 IPv4와 IPv4-mapped IPv6 표기로 요청
+        when(request.getRemoteAddr()).thenReturn("10.0.0.1");
+        rateLimitFilter.doFilterInternal(request, response, filterChain);
+        when(request.getRemoteAddr()).thenReturn("::ffff:10.0.0.1");
+        rateLimitFilter.doFilterInternal(request, response, filterChain);
+
+        // Then - 같은 키로 집계되어야 함
+        verify(filterChain, times(2)).doFilter(request, response);
+        assertEquals(1, engine.getTrackedKeys());
+    }
+
+    @Test
+    void testRoutePolicyOverridesDefaultLimit() throws Exception {
+        // Given
+        when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+        when(request.getRequestURI()).thenReturn("/api/auth/login");
+        lenient().when(request.getMethod()).thenReturn("POST");
+        when(response.getWriter()).thenReturn(new PrintWriter(new StringWriter()));
+
+        // When - 로그인 정책 제한(2회)을 초과
+        for (int i = 0; i < 3; i++) {
+            rateLimitFilter.doFilterInternal(request, response, filterChain);
+        }
+
+        // Then - 정책 엔진으로만 집계되고 기본 엔진은 사용되지 않음
+        verify(filterChain, times(2)).doFilter(request, response);
+        verify(response).setStatus(429);
+        assertEquals(1, loginEngine.getTrackedKeys());
+        assertEquals(0, engine.getTrackedKeys());
+    }
 
-        assertNotNull(profileCounter);
-        assertNotNull(projectsCounter);
-        assertEquals(1, profileCounter.get());
-        assertEquals(1, projectsCounter.get());
+    @Test
+    void testAuthenticatedWritesKeyedBySubject() throws Exception {
+        // Given - 같은 관리자가 서로 다른 IP에서 요청
+        when(request.getRequestURI()).thenReturn("/api/projects");
+        lenient().when(request.getMethod()).thenReturn("PUT");
+        lenient().when(request.getHeader("Authorization")).thenReturn("Bearer admin-token");
+        when(jwtUtil.resolvePrincipal(request))
+                .thenReturn(new JwtPrincipal("admin@example.com", "admin-token-id", null, null));
+        when(response.getWriter()).thenReturn(new PrintWriter(new StringWriter()));
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            when(request.getRemoteAddr()).thenReturn("10.0.0." + i);
+            rateLimitFilter.doFilterInternal(request, response, filterChain);
+        }
+
+        // Then - IP가 달라도 subject 기준 하나의 카운터로 제한됨
+        verify(filterChain, times(3)).doFilter(request, response);
+        verify(response).setStatus(429);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,97 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdaptiveConcurrencyLimiter 테스트
+ * 우선순위별 거부와 응답 시간에 따른 상한 조정을 검증합니다.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    @Test
+    void publicReadsAreShedBeforeCriticalRequests() {
+        // Given - 상한 10, 공개 조회는 절반까지
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 10, 2.0, 0.2, 0.5, 100, 600_000);
+
+        // When - 공개 조회로 공개 상한을 채움
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire(false));
+        }
+
+        // Then - 공개 조회는 거부되지만 중요 요청은 전체 상한까지 허용
+        assertFalse(limiter.tryAcquire(false));
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire(true));
+        }
+        assertFalse(limiter.tryAcquire(true));
+        assertEquals(10, limiter.getInFlight());
+        assertEquals(1, limiter.getRejectedPublic());
+        assertEquals(1, limiter.getRejectedCritical());
+    }
+
+    @Test
+    void limitShrinksWhenLatencyRises() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 200, 2.0, 0.5, 0.8, 100, 600_000);
+        long now = System.nanoTime() + 1_000 * MILLI;
+
+        // When - 기준 응답 시간(10ms)을 만든 뒤 응답 시간이 10배로 증가
+        now = runWindows(limiter, now, 5, 10 * MILLI, false);
+        int before = limiter.getLimit();
+        runWindows(limiter, now, 5, 100 * MILLI, false);
+
+        // Then
+        assertTrue(limiter.getLimit() < before, "limit should shrink: " + before + " -> " + limiter.getLimit());
+        assertTrue(limiter.getLimit() >= 10);
+    }
+
+    @Test
+    void baselineDoesNotFollowSustainedSlowdown() {
+        // Given - 기준 응답 시간 10ms
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 200, 2.0, 0.5, 0.8, 100, 600_000);
+        long now = System.nanoTime() + 1_000 * MILLI;
+        now = runWindows(limiter, now, 5, 10 * MILLI, false);
+
+        // When - 응답 시간이 10배로 늘어난 상태가 30초 이상 지속
+        runWindows(limiter, now, 300, 100 * MILLI, false);
+
+        // Then - 기준이 지연 증가를 따라가지 않아 상한이 다시 커지지 않음
+        assertTrue(limiter.getBaselineRttMillis() < 20.0, "baseline=" + limiter.getBaselineRttMillis());
+        assertTrue(limiter.getLimit() <= 20, "limit=" + limiter.getLimit());
+    }
+
+    @Test
+    void serverErrorsReduceLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 200, 2.0, 1.0, 0.8, 100, 600_000);
+        long now = System.nanoTime() + 1_000 * MILLI;
+
+        // When - 응답 시간은 그대로지만 5xx가 발생
+        runWindows(limiter, now, 3, 10 * MILLI, true);
+
+        // Then
+        assertTrue(limiter.getLimit() < 100);
+    }
+
+    /**
+     * 측정 구간마다 상한의 절반을 넘는 동시 요청을 처리한 것처럼 기록
+     */
+    private long runWindows(AdaptiveConcurrencyLimiter limiter, long now, int windows, long rtt, boolean error) {
+        for (int w = 0; w < windows; w++) {
+            now += 150 * MILLI;
+            int concurrent = limiter.getLimit();
+            int acquired = 0;
+            while (acquired < concurrent && limiter.tryAcquire(true)) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(now - rtt, now, error);
+            }
+        }
+        return now;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ByteRateLimiter / BandwidthThrottle 테스트
+ * 바이트 단위 예약과 대기 시간 계산, 클라이언트별/전체 대역폭 제한을 검증합니다.
+ */
+class ByteRateLimiterTest {
+
+    private static final long MILLI = 1_000_000L;
+    private static final long SECOND = 1_000 * MILLI;
+
+    @Test
+    void burstIsSentWithoutDelayThenDelayGrowsWithBytes() {
+        // Given - 초당 1000바이트, burst 1000바이트
+        ByteRateLimiter limiter = new ByteRateLimiter(1000, 1000, 64);
+        long now = System.nanoTime() + SECOND;
+
+        // When & Then - burst 범위는 대기 없음
+        assertEquals(0L, limiter.reserve(1L, 1000, now, Long.MAX_VALUE));
+
+        // 초과분은 바이트 수에 비례하여 대기
+        assertEquals(500 * MILLI, limiter.reserve(1L, 500, now, Long.MAX_VALUE));
+        assertEquals(1500 * MILLI, limiter.reserve(1L, 1000, now, Long.MAX_VALUE));
+    }
+
+    @Test
+    void reservationOverMaxDelayIsRejectedWithoutBooking() {
+        // Given
+        ByteRateLimiter limiter = new ByteRateLimiter(1000, 1000, 64);
+        long now = System.nanoTime() + SECOND;
+        limiter.reserve(1L, 1000, now, Long.MAX_VALUE);
+
+        // When - 2초 대기가 필요한 예약을 최대 1초로 요청
+        long rejected = limiter.reserve(1L, 2000, now, SECOND);
+
+        // Then - 필요한 대기 시간을 음수로 반환하고 버킷은 그대로
+        assertEquals(-2 * SECOND, rejected);
+        assertEquals(500 * MILLI, limiter.reserve(1L, 500, now, Long.MAX_VALUE));
+    }
+
+    @Test
+    void bucketRefillsOverTimeAndKeysAreIndependent() {
+        // Given
+        ByteRateLimiter limiter = new ByteRateLimiter(1000, 1000, 64);
+        long now = System.nanoTime() + SECOND;
+        limiter.reserve(1L, 1000, now, Long.MAX_VALUE);
+
+        // When & Then - 다른 키는 영향 없음
+        assertEquals(0L, limiter.reserve(2L, 1000, now, Long.MAX_VALUE));
+
+        // 1초 후 다시 burst 전체 사용 가능
+        assertEquals(0L, limiter.reserve(1L, 1000, now + SECOND, Long.MAX_VALUE));
+        assertFalse(RateLimitDecision.isAllowed(limiter.tryAcquire(1L, now + SECOND)));
+    }
+
+    @Test
+    void hugeReservationDoesNotOverflow() {
+        // Given
+        ByteRateLimiter limiter = new ByteRateLimiter(1000, 1000, 64);
+        long now = System.nanoTime() + SECOND;
+
+        // When & Then
+        assertTrue(limiter.reserve(1L, Long.MAX_VALUE, now, 10 * SECOND) < 0);
+        assertEquals(0L, limiter.reserve(1L, 1000, now, Long.MAX_VALUE));
+    }
+
+    @Test
+    void globalBucketLimitsAllClients() {
+        // Given - 클라이언트당 1000B/s, 전체 1000B/s, burst 1초
+        BandwidthThrottle throttle = new BandwidthThrottle(1000, 1000, 1.0, 64);
+        long now = System.nanoTime() + SECOND;
+
+        // When - 두 클라이언트가 각자 한도만큼 전송
+        long first = throttle.reserve(1L, 1000, now, Long.MAX_VALUE);
+        long second = throttle.reserve(2L, 1000, now, Long.MAX_VALUE);
+
+        // Then - 두 번째 클라이언트는 전체 한도 때문에 대기
+        assertEquals(0L, first);
+        assertEquals(SECOND, second);
+    }
+
+    @Test
+    void globalRejectionCancelsClientReservation() {
+        // Given - 클라이언트당 1000B/s, 전체 2000B/s, 다른 두 클라이언트가 전체 burst를 모두 사용
+        BandwidthThrottle throttle = new BandwidthThrottle(1000, 2000, 1.0, 64);
+        long now = System.nanoTime() + SECOND;
+        throttle.reserve(2L, 1000, now, Long.MAX_VALUE);
+        throttle.reserve(3L, 1000, now, Long.MAX_VALUE);
+
+        // When - 클라이언트 버킷은 통과하지만 전체 버킷에서 최대 대기 시간 초과
+        long rejected = throttle.reserve(1L, 1000, now, 100 * MILLI);
+
+        // Then - 클라이언트 예약이 취소되었으므로 0.5초 후 클라이언트 버킷에서 대기하지 않음
+        assertEquals(-500 * MILLI, rejected);
+        assertEquals(0L, throttle.reserve(1L, 1000, now + 500 * MILLI, Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 제한 엔진 테스트
+ * 토큰 버킷과 슬라이딩 윈도우 카운터의 판정과 윈도우 경계 동작을 검증합니다.
+ */
+class RateLimiterEngineTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final long KEY = RateLimitKeys.hash("127.0.0.1:/api/profile");
+
+    @Test
+    void tokenBucket_AllowsBurstThenRefillsGradually() {
+        // Given - 분당 60개, 버킷 용량 5
+        TokenBucketRateLimiter engine = new TokenBucketRateLimiter(60, 5, Duration.ofMinutes(1), 64);
+        long now = System.nanoTime();
+
+        // When & Then - 버킷 용량만큼 허용 후 거부
+        for (int i = 4; i >= 0; i--) {
+            long decision = engine.tryAcquire(KEY, now);
+            assertTrue(RateLimitDecision.isAllowed(decision));
+            assertEquals(i, RateLimitDecision.remaining(decision));
+        }
+        long denied = engine.tryAcquire(KEY, now);
+        assertFalse(RateLimitDecision.isAllowed(denied));
+        assertEquals(1, RateLimitDecision.retryAfterSeconds(denied));
+
+        // 1초 후 토큰 1개 보충
+        assertTrue(RateLimitDecision.isAllowed(engine.tryAcquire(KEY, now + SECOND)));
+        assertFalse(RateLimitDecision.isAllowed(engine.tryAcquire(KEY, now + SECOND)));
+    }
+
+    @Test
+    void slidingWindow_DoesNotDoubleLimitAtWindowEdge() {
+        // Given - 분당 10개
+        SlidingWindowRateLimiter engine = new SlidingWindowRateLimiter(10, Duration.ofMinutes(1), 64);
+        long windowStart = System.nanoTime();
+
+        // When - 윈도우 끝 직전에 제한을 모두 사용
+        long nearEnd = windowStart + 59 * SECOND;
+        int allowed = 0;
+        for (int i = 0; i < 20; i++) {
+            if (RateLimitDecision.isAllowed(engine.tryAcquire(KEY, nearEnd))) {
+                allowed++;
+            }
+        }
+
+        // 다음 윈도우 시작 직후 다시 요청
+        long afterEdge = windowStart + 61 * SECOND;
+        for (int i = 0; i < 20; i++) {
+            if (RateLimitDecision.isAllowed(engine.tryAcquire(KEY, afterEdge))) {
+                allowed++;
+            }
+        }
+
+        // Then - 고정 윈도우라면 20개가 통과하지만 가중 합계로 제한되어야 함
+        assertTrue(allowed < 20, "allowed=" + allowed);
+        assertTrue(allowed >= 10, "allowed=" + allowed);
+    }
+
+    @Test
+    void stateTable_ReusesIdleSlotsWhenFull() {
+        // Given - 최소 크기 테이블
+        TokenBucketRateLimiter engine = new TokenBucketRateLimiter(60, 1, Duration.ofMinutes(1), 16);
+        long now = System.nanoTime();
+        for (int i = 0; i < 16; i++) {
+            engine.tryAcquire(RateLimitKeys.hash("client-" + i), now);
+        }
+
+        // When - 모든 슬롯이 사용 중인 상태에서 버킷이 다시 찬 뒤 새 키 요청
+        long later = now + 2 * SECOND;
+        long decision = engine.tryAcquire(RateLimitKeys.hash("new-client"), later);
+
+        // Then - 유휴 슬롯을 재사용하여 추적되어야 함
+        assertTrue(RateLimitDecision.isAllowed(decision));
+        assertEquals(0, engine.getOverflowCount());
+        assertFalse(RateLimitDecision.isAllowed(engine.tryAcquire(RateLimitKeys.hash("new-client"), later)));
+    }
+
+    @Test
+    void stateTable_StatsReportActiveKeysAndUtilization() {
+        // Given - 윈도우당 10회 제한
+        SlidingWindowRateLimiter engine = new SlidingWindowRateLimiter(10, Duration.ofMinutes(1), 64);
+        long now = System.nanoTime();
+        long heavy = RateLimitKeys.hash("heavy");
+        long light = RateLimitKeys.hash("light");
+        long medium = RateLimitKeys.hash("medium");
+
+        // When - 키별로 10회, 1회, 3회 요청
+        for (int i = 0; i < 10; i++) {
+            engine.tryAcquire(heavy, now);
+        }
+        engine.tryAcquire(light, now);
+        for (int i = 0; i < 3; i++) {
+            engine.tryAcquire(medium, now);
+        }
+        StateTableRateLimiter.TableStats stats = engine.stats(now);
+
+        // Then - 활성 키 3개, 사용률 구간별로 하나씩
+        assertEquals(3, stats.activeKeys());
+        assertEquals(3, stats.inserts());
+        assertEquals(11, stats.hits());
+        long[] utilization = stats.utilization();
+        assertEquals(1, utilization[1]);
+        assertEquals(1, utilization[2]);
+        assertEquals(1, utilization[utilization.length - 1]);
+
+        // 윈도우 두 개가 지나면 모두 유휴 상태
+        assertEquals(0, engine.stats(now + 3 * 60 * SECOND).activeKeys());
+    }
+
+    @Test
+    void tokenBucket_ResetReflectsConsumedTokens() {
+        // Given - 분당 60개 (1초에 1개 보충), burst 5
+        TokenBucketRateLimiter engine = new TokenBucketRateLimiter(60, 5, Duration.ofMinutes(1), 64);
+        long now = System.nanoTime();
+
+        // When
+        engine.tryAcquire(1L, now);
+        long decision = engine.tryAcquire(1L, now);
+
+        // Then - 2개를 사용했으므로 가득 찰 때까지 2초
+        assertEquals(3, RateLimitDecision.remaining(decision));
+        assertEquals(2000L, engine.getResetMillis(RateLimitDecision.remaining(decision)));
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import com.example.djlogportfoliobackend.config.RateLimitConfig;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RedisLeasingRateLimiter 테스트
+ * 공유 버킷을 흉내 내는 인메모리 저장소로 여러 노드가 하나의 제한을 나눠 쓰는지,
+ * 저장소 장애 시 노드 몫으로 줄인 로컬 제한으로 전환되는지 검증합니다.
+ * 실제 Lua 임대 스크립트는 RedisTokenLeaseStoreTest에서 검증합니다.
+ */
+class RedisLeasingRateLimiterTest {
+
+    private static final long KEY = RateLimitKeys.hash("127.0.0.1:/api/auth/login");
+    private static final Executor DIRECT = Runnable::run;
+
+    @Test
+    void multipleNodes_ShareClusterWideLimit() {
+        // Given - 분당 20개 제한을 공유하는 노드 2개 (각 노드의 로컬 fallback도 분당 20개)
+        InMemoryLeaseStore store = new InMemoryLeaseStore(20);
+        RedisLeasingRateLimiter nodeA = createNode(store);
+        RedisLeasingRateLimiter nodeB = createNode(store);
+        long now = System.nanoTime();
+
+        // When - 두 노드에 각각 30개씩 요청
+        int allowed = 0;
+        for (int i = 0; i < 30; i++) {
+            if (RateLimitDecision.isAllowed(nodeA.tryAcquire(KEY, now))) {
+                allowed++;
+            }
+            if (RateLimitDecision.isAllowed(nodeB.tryAcquire(KEY, now))) {
+                allowed++;
+            }
+        }
+
+        // Then - 노드별 제한이었다면 40개가 통과하지만, 임대 대기 중 fallback 판정분만 초과 허용
+        assertTrue(allowed <= 22, "allowed=" + allowed);
+        assertTrue(allowed >= 20, "allowed=" + allowed);
+        assertTrue(nodeA.getLeaseRequests() < 30, "requests should be batched");
+    }
+
+    @Test
+    void storeFailure_FallsBackToLocalLimitAndBacksOff() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        TokenLeaseStore failing = (bucketKey, requested) -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("connection refused");
+        };
+        RedisLeasingRateLimiter node = new RedisLeasingRateLimiter(failing,
+                new TokenBucketRateLimiter(5, 5, Duration.ofMinutes(1), 64), 10, DIRECT,
+                "test:", 10, 2000, 50, 5000, 64);
+        long now = System.nanoTime();
+
+        // When
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (RateLimitDecision.isAllowed(node.tryAcquire(KEY, now))) {
+                allowed++;
+            }
+        }
+
+        // Then - 로컬 제한(5개)이 적용되고, 백오프 동안 저장소를 다시 호출하지 않아야 함
+        assertEquals(5, allowed);
+        assertEquals(1, calls.get());
+        assertEquals(1, node.getLeaseFailures());
+    }
+
+    @Test
+    void storeFailure_NodesTogetherStayWithinClusterLimit() {
+        // Given - 분당 10개 정책, 예상 노드 3개 (노드별 fallback은 3개)
+        TokenLeaseStore failing = (bucketKey, requested) -> {
+            throw new IllegalStateException("connection refused");
+        };
+        int perNode = RateLimitConfig.perNodeLimit(10, 3);
+        List<RedisLeasingRateLimiter> nodes = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            nodes.add(new RedisLeasingRateLimiter(failing,
+                    RateLimitConfig.createEngine("token_bucket", perNode, 0, 64), 10, DIRECT,
+                    "test:", RateLimitConfig.leaseSizeFor(10, 10), 2000, 50, 5000, 64));
+        }
+        long now = System.nanoTime();
+
+        // When - 모든 노드가 Redis 없이 판정
+        int allowed = 0;
+        for (int i = 0; i < 20; i++) {
+            for (RedisLeasingRateLimiter node : nodes) {
+                if (RateLimitDecision.isAllowed(node.tryAcquire(KEY, now))) {
+                    allowed++;
+                }
+            }
+        }
+
+        // Then - 노드마다 전체 제한을 허용했다면 30개가 통과
+        assertEquals(9, allowed);
+        assertEquals(10, nodes.get(0).getLimit());
+    }
+
+    @Test
+    void leaseSizeFor_ClampsToSmallFractionOfLimit() {
+        // When & Then - 분당 10회 로그인 정책은 한 번에 1개씩만 임대
+        assertEquals(1, RateLimitConfig.leaseSizeFor(10, 10));
+        assertEquals(6, RateLimitConfig.leaseSizeFor(10, 60));
+        assertEquals(10, RateLimitConfig.leaseSizeFor(10, 1000));
+        assertEquals(1, RateLimitConfig.perNodeLimit(1, 3));
+    }
+
+    private RedisLeasingRateLimiter createNode(TokenLeaseStore store) {
+        return new RedisLeasingRateLimiter(store,
+                new TokenBucketRateLimiter(20, 20, Duration.ofMinutes(1), 64), 20, DIRECT,
+                "test:", 5, 2000, 1000, 5000, 64);
+    }
+
+    /**
+     * 테스트용 공유 버킷 (보충 없음)
+     */
+    private static class InMemoryLeaseStore implements TokenLeaseStore {
+
+        private final int capacity;
+        private final Map<String, Integer> buckets = new HashMap<>();
+
+        InMemoryLeaseStore(int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public synchronized long lease(String bucketKey, int requested) {
+            int available = buckets.getOrDefault(bucketKey, capacity);
+            int granted = Math.min(requested, available);
+            buckets.put(bucketKey, available - granted);
+            return granted > 0 ? RateLimitDecision.allow(granted) : RateLimitDecision.deny(3000);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import com.example.djlogportfoliobackend.config.RateLimitConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RedisTokenLeaseStore 테스트
+ * 실제 Redis에서 임대 Lua 스크립트를 실행하여 버킷 용량까지의 임대, 빈 버킷의 재시도 시간, 시간 경과에 따른 보충,
+ * 여러 임대 노드가 로그인 정책 하나를 나눠 쓰는지 검증합니다. Docker를 사용할 수 없으면 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisTokenLeaseStoreTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void lease_GrantsUpToCapacityThenDeniesWithRetryAfter() {
+        // Given
+        RedisTokenLeaseStore store = new RedisTokenLeaseStore(redisTemplate, 10, 10, Duration.ofMinutes(1));
+
+        // When
+        long first = store.lease("test:a", 4);
+        long second = store.lease("test:a", 10);
+        long empty = store.lease("test:a", 1);
+        long otherKey = store.lease("test:b", 1);
+
+        // Then - 분당 10개이므로 다음 토큰까지 최대 6초
+        assertEquals(4, RateLimitDecision.remaining(first));
+        assertEquals(6, RateLimitDecision.remaining(second));
+        assertFalse(RateLimitDecision.isAllowed(empty));
+        assertTrue(RateLimitDecision.retryAfterMillis(empty) > 0);
+        assertTrue(RateLimitDecision.retryAfterMillis(empty) <= 6000);
+        assertEquals(1, RateLimitDecision.remaining(otherKey));
+    }
+
+    @Test
+    void lease_RefillsByElapsedServerTime() throws InterruptedException {
+        // Given - 초당 20개 (50ms마다 1개)
+        RedisTokenLeaseStore store = new RedisTokenLeaseStore(redisTemplate, 20, 20, Duration.ofSeconds(1));
+        store.lease("test:a", 20);
+        assertFalse(RateLimitDecision.isAllowed(store.lease("test:a", 1)));
+
+        // When
+        Thread.sleep(300);
+
+        // Then
+        long refilled = store.lease("test:a", 20);
+        assertTrue(RateLimitDecision.isAllowed(refilled));
+        assertTrue(RateLimitDecision.remaining(refilled) >= 4, "refilled=" + RateLimitDecision.remaining(refilled));
+        assertTrue(RateLimitDecision.remaining(refilled) <= 20);
+    }
+
+    @Test
+    void leasingNodes_ShareLoginPolicyThroughScript() {
+        // Given - 분당 10회 로그인 정책을 노드 3개가 공유 (설정과 같은 방식으로 임대 크기/노드별 fallback 계산)
+        RedisTokenLeaseStore store = new RedisTokenLeaseStore(redisTemplate, 10, 10, Duration.ofMinutes(1));
+        List<RedisLeasingRateLimiter> nodes = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            nodes.add(new RedisLeasingRateLimiter(store,
+                    RateLimitConfig.createEngine("token_bucket", RateLimitConfig.perNodeLimit(10, 3), 0, 64), 10,
+                    DIRECT, "rate_limit:bucket:policy:login:", RateLimitConfig.leaseSizeFor(10, 10),
+                    2000, 5000, 5000, 64));
+        }
+        long key = RateLimitKeys.hash("203.0.113.7");
+        long now = System.nanoTime();
+
+        // When
+        int allowed = 0;
+        for (int i = 0; i < 20; i++) {
+            for (RedisLeasingRateLimiter node : nodes) {
+                if (RateLimitDecision.isAllowed(node.tryAcquire(key, now))) {
+                    allowed++;
+                }
+            }
+        }
+
+        // Then - 공유 버킷 10개 + 첫 임대를 기다리는 동안 노드별 fallback 판정 1개씩
+        assertTrue(allowed >= 10, "allowed=" + allowed);
+        assertTrue(allowed <= 13, "allowed=" + allowed);
+        for (RedisLeasingRateLimiter node : nodes) {
+            assertEquals(0, node.getLeaseFailures());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RouteTemplateMatcher 테스트
+ * 라우트 템플릿 trie 매칭과 route key 계산을 검증합니다.
+ */
+class RouteTemplateMatcherTest {
+
+    private RouteTemplateMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        matcher = new RouteTemplateMatcher();
+        matcher.compile(List.of(
+                "/api/profile",
+                "/api/projects",
+                "/api/projects/{id}",
+                "/api/projects/featured",
+                "/uploads/**"));
+    }
+
+    @Test
+    void testLiteralAndVariableSegments() {
+        // When & Then - 리터럴 세그먼트가 변수 세그먼트보다 우선
+        assertEquals("/api/projects/featured", matcher.template(matcher.match("/api/projects/featured")));
+        assertEquals("/api/projects/{id}", matcher.template(matcher.match("/api/projects/3f2b9c")));
+        assertEquals("/api/profile", matcher.template(matcher.match("/api/profile/")));
+    }
+
+    @Test
+    void testCatchAllAndUnmatchedPaths() {
+        // When & Then
+        assertEquals("/uploads/**", matcher.template(matcher.match("/uploads/2024/01/image.png")));
+        assertEquals(RouteTemplateMatcher.NO_MATCH, matcher.match("/api/projects/featured/extra"));
+        assertEquals(RouteTemplateMatcher.NO_MATCH, matcher.match("/unknown"));
+    }
+
+    @Test
+    void testRouteKeyIgnoresPathVariables() {
+        // When
+        long first = matcher.routeKey("/api/projects/a1");
+        long second = matcher.routeKey("/api/projects/b2");
+
+        // Then - 같은 템플릿은 같은 키, 매칭되지 않는 경로는 첫 세그먼트 단위로 묶임
+        assertEquals(first, second);
+        assertNotEquals(first, matcher.routeKey("/api/projects"));
+        assertEquals(matcher.routeKey("/static/a.css"), matcher.routeKey("/static/b.js"));
+        assertNotEquals(matcher.routeKey("/static/a.css"), matcher.routeKey("/assets/a.css"));
+    }
+}
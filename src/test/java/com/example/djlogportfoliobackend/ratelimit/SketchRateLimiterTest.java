@@ -0,0 +1,102 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SketchRateLimiter 테스트
+ * 고정 메모리 근사 카운터, heavy hitter 승격, 상위 키 집계를 검증합니다.
+ */
+class SketchRateLimiterTest {
+
+    private static final long HEAVY_KEY = RateLimitKeys.hash("203.0.113.7:/api/projects/{id}");
+
+    @Test
+    void heavyHitterIsLimitedExactly() {
+        // Given - 분당 10개
+        SketchRateLimiter engine = new SketchRateLimiter(10, Duration.ofMinutes(1), 4096, 4, 16);
+        long now = System.nanoTime();
+
+        // When
+        int allowed = 0;
+        for (int i = 0; i < 30; i++) {
+            if (RateLimitDecision.isAllowed(engine.tryAcquire(HEAVY_KEY, now))) {
+                allowed++;
+            }
+        }
+
+        // Then - 승격 후에도 제한 값만큼만 허용되고 정확한 카운터는 하나만 할당됨
+        assertEquals(10, allowed);
+        assertEquals(1, engine.getTrackedKeys());
+    }
+
+    @Test
+    void distributedKeysDoNotResetHeavyHitterLimit() {
+        // Given - 상태 테이블이라면 넘쳤을 만큼 많은 키가 한 번씩 요청
+        SketchRateLimiter engine = new SketchRateLimiter(10, Duration.ofMinutes(1), 65536, 4, 16);
+        long now = System.nanoTime();
+        for (int i = 0; i < 50_000; i++) {
+            assertTrue(RateLimitDecision.isAllowed(engine.tryAcquire(RateLimitKeys.hash("10.1.0.0/" + i), now)));
+        }
+
+        // When - 이후 한 키가 집중적으로 요청
+        int allowed = 0;
+        for (int i = 0; i < 30; i++) {
+            if (RateLimitDecision.isAllowed(engine.tryAcquire(HEAVY_KEY, now))) {
+                allowed++;
+            }
+        }
+
+        // Then - 근사 카운터는 과대 추정만 하므로 제한 이상 허용되지 않음, 가벼운 키는 정확한 카운터를 쓰지 않음
+        assertTrue(allowed <= 10 && allowed >= 8, "allowed=" + allowed);
+        assertEquals(1, engine.getTrackedKeys());
+    }
+
+    @Test
+    void collisionInflatedEstimateDoesNotRejectLightKey() {
+        // Given - 카운터 2개짜리 sketch에 여러 키가 몰려 모든 추정값이 제한을 넘음
+        SketchRateLimiter engine = new SketchRateLimiter(10, Duration.ofMinutes(1), 2, 1, 16);
+        long now = System.nanoTime();
+        for (int i = 0; i < 40; i++) {
+            engine.tryAcquire(RateLimitKeys.hash("10.2.0.0/" + i), now);
+        }
+        long lightKey = RateLimitKeys.hash("198.51.100.1:/api/profile");
+
+        // When - 실제로는 제한의 절반 미만만 요청
+        int allowed = 0;
+        for (int i = 0; i < 4; i++) {
+            if (RateLimitDecision.isAllowed(engine.tryAcquire(lightKey, now))) {
+                allowed++;
+            }
+        }
+
+        // Then - 정확한 카운터는 임계값까지만 이어받으므로 모두 허용됨
+        assertEquals(4, allowed);
+    }
+
+    @Test
+    void topOffendersReportsHeavyHitters() {
+        // Given
+        SketchRateLimiter engine = new SketchRateLimiter(10, Duration.ofMinutes(1), 4096, 4, 16);
+        long lightKey = RateLimitKeys.hash("198.51.100.1:/api/profile");
+        long now = System.nanoTime();
+
+        // When
+        for (int i = 0; i < 25; i++) {
+            engine.tryAcquire(HEAVY_KEY, now);
+        }
+        engine.describe(HEAVY_KEY, "203.0.113.7 /api/projects/{id}");
+        engine.tryAcquire(lightKey, now);
+
+        // Then - 제한에 가까워진 키만 집계됨
+        List<SpaceSavingTopK.HeavyHitter> offenders = engine.getTopOffenders(10);
+        assertEquals(1, offenders.size());
+        assertEquals(HEAVY_KEY, offenders.get(0).key());
+        assertEquals("203.0.113.7 /api/projects/{id}", offenders.get(0).label());
+        assertEquals(15, offenders.get(0).denied());
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.djlogportfoliobackend.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SpaceSavingTopK 테스트
+ * 칸 교체와 감소 이후에도 해시 인덱스가 키 위치를 올바르게 찾는지 검증합니다.
+ */
+class SpaceSavingTopKTest {
+
+    @Test
+    void replacedKeyInheritsMinimumCountAsError() {
+        // Given - 칸 2개
+        SpaceSavingTopK topK = new SpaceSavingTopK(2);
+        for (int i = 0; i < 3; i++) {
+            topK.offer(1L, false);
+        }
+        topK.offer(2L, true);
+
+        // When - 새 키가 가장 작은 칸(2)을 넘겨받음
+        topK.offer(3L, true);
+        topK.offer(1L, false);
+
+        // Then
+        List<SpaceSavingTopK.HeavyHitter> snapshot = topK.snapshot(10);
+        assertEquals(2, snapshot.size());
+        assertEquals(1L, snapshot.get(0).key());
+        assertEquals(4, snapshot.get(0).count());
+        assertEquals(3L, snapshot.get(1).key());
+        assertEquals(2, snapshot.get(1).count());
+        assertEquals(1, snapshot.get(1).error());
+        assertEquals(1, snapshot.get(1).denied());
+    }
+
+    @Test
+    void decayKeepsIndexConsistent() {
+        // Given
+        SpaceSavingTopK topK = new SpaceSavingTopK(4);
+        topK.offer(1L, false);
+        for (int i = 0; i < 4; i++) {
+            topK.offer(2L, false);
+        }
+
+        // When - 카운트 1인 키는 비워지고 남은 키는 앞 칸으로 이동
+        topK.decay();
+        topK.offer(2L, false);
+        topK.label(2L, "203.0.113.7 /api/projects/{id}");
+
+        // Then
+        List<SpaceSavingTopK.HeavyHitter> snapshot = topK.snapshot(10);
+        assertEquals(1, snapshot.size());
+        assertEquals(3, snapshot.get(0).count());
+        assertEquals("203.0.113.7 /api/projects/{id}", snapshot.get(0).label());
+    }
+}
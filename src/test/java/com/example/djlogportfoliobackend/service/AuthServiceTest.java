@@ -4,16 +4,22 @@ import com.example.djlogportfoliobackend.dto.LoginRequest;
 import com.example.djlogportfoliobackend.dto.LoginResponse;
 import com.example.djlogportfoliobackend.entity.Admin;
 import com.example.djlogportfoliobackend.exception.AuthenticationException;
+import com.example.djlogportfoliobackend.exception.LoginThrottledException;
 import com.example.djlogportfoliobackend.repository.AdminRepository;
 import com.example.djlogportfoliobackend.util.JwtUtil;
+import com.example.djlogportfoliobackend.util.LoginFailureTracker;
+import com.example.djlogportfoliobackend.util.PasswordVerifier;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.Optional;
 
@@ -38,7 +44,7 @@ class AuthServiceTest {
     @Mock
     private SessionManagementService sessionManagementService;
 
-    @InjectMocks
+    private PasswordVerifier passwordVerifier;
     private AuthService authService;
 
     private Admin testAdmin;
@@ -46,12 +52,24 @@ class AuthServiceTest {
 
     @BeforeEach
     void setUp() {
+        passwordVerifier = new PasswordVerifier(passwordEncoder, 1, 4, 5000);
+        // 계정별 3회 실패부터 대기
+        LoginFailureTracker loginFailureTracker = new LoginFailureTracker(3, 20, 60_000, 600_000, 3_600_000, 1000);
+        authService = new AuthService(adminRepository, passwordEncoder, jwtUtil, sessionManagementService,
+                passwordVerifier, loginFailureTracker);
+
         testAdmin = new Admin("test@example.com", "encodedPassword");
         loginRequest = new LoginRequest();
         loginRequest.setEmail("test@example.com");
         loginRequest.setPassword("plainPassword");
     }
 
+    @AfterEach
+    void tearDown() {
+        passwordVerifier.close();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     @DisplayName("로그인 성공 - 올바른 이메일과 비밀번호")
     void login_Success_ValidCredentials() {
@@ -118,6 +136,64 @@ class AuthServiceTest {
         verifyNoInteractions(jwtUtil);
     }
 
+    @Test
+    @DisplayName("로그인 거부 - 실패 누적 후에는 비밀번호 검증 없이 거부")
+    void login_Throttled_AfterRepeatedFailures() {
+        // Given - 기준 횟수만큼 비밀번호 불일치
+        when(adminRepository.findByEmail(loginRequest.getEmail()))
+                .thenReturn(Optional.of(testAdmin));
+        when(passwordEncoder.matches(loginRequest.getPassword(), testAdmin.getPassword()))
+                .thenReturn(false);
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> authService.login(loginRequest))
+                    .isInstanceOf(AuthenticationException.class);
+        }
+
+        // When & Then - 대기 중에는 DB 조회와 BCrypt 검증 없이 거부
+        assertThatThrownBy(() -> authService.login(loginRequest))
+                .isInstanceOf(LoginThrottledException.class)
+                .satisfies(e -> assertThat(((LoginThrottledException) e).getRetryAfterSeconds()).isEqualTo(60));
+
+        verify(adminRepository, times(3)).findByEmail(loginRequest.getEmail());
+        verify(passwordEncoder, times(3)).matches(loginRequest.getPassword(), testAdmin.getPassword());
+        verifyNoInteractions(jwtUtil);
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - 다른 IP의 실패 누적으로는 소유자 로그인이 막히지 않음")
+    void login_Success_FromDifferentIpWhileAnotherIpIsThrottled() {
+        // Given - 공격자 IP에서 공개된 관리자 이메일로 실패를 누적하여 대기 상태로 만듦
+        LoginRequest attackerRequest = new LoginRequest();
+        attackerRequest.setEmail(testAdmin.getEmail());
+        attackerRequest.setPassword("guess");
+        when(adminRepository.findByEmail(testAdmin.getEmail()))
+                .thenReturn(Optional.of(testAdmin));
+        when(passwordEncoder.matches("guess", testAdmin.getPassword()))
+                .thenReturn(false);
+        when(passwordEncoder.matches(loginRequest.getPassword(), testAdmin.getPassword()))
+                .thenReturn(true);
+        when(jwtUtil.generateTokenWithId(testAdmin.getEmail()))
+                .thenReturn("owner-token");
+        when(jwtUtil.extractTokenId("owner-token"))
+                .thenReturn("owner-token-id");
+
+        requestFrom("203.0.113.7");
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> authService.login(attackerRequest))
+                    .isInstanceOf(AuthenticationException.class);
+        }
+        assertThatThrownBy(() -> authService.login(attackerRequest))
+                .isInstanceOf(LoginThrottledException.class);
+
+        // When - 소유자가 다른 IP에서 올바른 비밀번호로 로그인
+        requestFrom("198.51.100.1");
+        LoginResponse response = authService.login(loginRequest);
+
+        // Then
+        assertThat(response.getToken()).isEqualTo("owner-token");
+        verify(sessionManagementService).createSession(eq(testAdmin.getEmail()), eq("owner-token-id"), any());
+    }
+
     @Test
     @DisplayName("로그아웃 성공")
     void logout_Success() {
@@ -159,4 +235,10 @@ class AuthServiceTest {
         verify(passwordEncoder).encode(rawPassword);
         verify(adminRepository).save(any(Admin.class));
     }
-}
\ No newline at end of file
+
+    private static void requestFrom(String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(remoteAddress);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.dto.ContentChangeResponse;
+import com.example.djlogportfoliobackend.event.ChangeType;
+import com.example.djlogportfoliobackend.event.PortfolioChangeEvent;
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
+import com.example.djlogportfoliobackend.event.ReplicatedChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ChangeJournalService 테스트
+ * 변경 이벤트 기록, 엔티티별 병합, compaction 후 floor 버전에 따른 스냅샷 대체, 다른 노드 변경 수신과 로컬 재발행을 검증합니다.
+ * 노드 간 전파(발행)는 비활성화하고 수신 메시지는 직접 전달합니다.
+ */
+class ChangeJournalServiceTest {
+
+    private ContentVersionService contentVersionService;
+    private final List<Object> published = new ArrayList<>();
+    private ChangeJournalService journal;
+
+    @BeforeEach
+    void setUp() {
+        contentVersionService = new ContentVersionService();
+        journal = new ChangeJournalService(contentVersionService, null, published::add, 16, false);
+    }
+
+    @Test
+    void changesSince_ReturnsLatestChangePerEntityInVersionOrder() {
+        // Given
+        long since = contentVersionService.currentVersion();
+        UUID projectId = UUID.randomUUID();
+        UUID skillId = UUID.randomUUID();
+        journal.onPortfolioChanged(new PortfolioChangeEvent(PortfolioEntityType.PROJECT, projectId, ChangeType.CREATED));
+        journal.onPortfolioChanged(new PortfolioChangeEvent(PortfolioEntityType.SKILL, skillId, ChangeType.CREATED));
+        long last = journal.append(PortfolioEntityType.PROJECT, projectId, ChangeType.UPDATED);
+
+        // When
+        Optional<List<ContentChangeResponse>> changes = journal.changesSince(since);
+
+        // Then
+        assertTrue(changes.isPresent());
+        assertEquals(2, changes.get().size());
+        assertEquals(skillId, changes.get().get(0).getEntityId());
+        assertEquals(projectId, changes.get().get(1).getEntityId());
+        assertEquals(ChangeType.UPDATED, changes.get().get(1).getChangeType());
+        assertEquals(last, changes.get().get(1).getVersion());
+        assertTrue(journal.changesSince(last).get().isEmpty());
+    }
+
+    @Test
+    void changesSince_RequiresSnapshotForUnknownVersions() {
+        // Given
+        long start = contentVersionService.currentVersion();
+        journal.append(PortfolioEntityType.PROFILE, null, ChangeType.UPDATED);
+
+        // When & Then - 저널 생성 이전 버전과 아직 발급되지 않은 버전
+        assertFalse(journal.changesSince(start - 1).isPresent());
+        assertFalse(journal.changesSince(contentVersionService.currentVersion() + 1).isPresent());
+        assertTrue(journal.changesSince(start).isPresent());
+    }
+
+    @Test
+    void append_CompactsDuplicatesBeforeRaisingFloor() {
+        // Given - 같은 엔티티 변경만 용량 이상 기록
+        long start = contentVersionService.currentVersion();
+        UUID projectId = UUID.randomUUID();
+        for (int i = 0; i < 40; i++) {
+            journal.append(PortfolioEntityType.PROJECT, projectId, ChangeType.UPDATED);
+        }
+
+        // When
+        Optional<List<ContentChangeResponse>> changes = journal.changesSince(start);
+
+        // Then - 병합만으로 공간이 확보되어 floor가 유지됨
+        assertTrue(changes.isPresent());
+        assertEquals(1, changes.get().size());
+        assertTrue(journal.getSize() < 16);
+    }
+
+    @Test
+    void append_RaisesFloorWhenDistinctEntitiesOverflow() {
+        // Given
+        long start = contentVersionService.currentVersion();
+        for (int i = 0; i < 17; i++) {
+            journal.append(PortfolioEntityType.SKILL, UUID.randomUUID(), ChangeType.CREATED);
+        }
+
+        // When & Then - 잘려 나간 구간의 클라이언트는 스냅샷, 남은 구간 이후는 델타
+        assertFalse(journal.changesSince(start).isPresent());
+        assertEquals(9, journal.getSize());
+        long recent = contentVersionService.currentVersion() - 1;
+        assertEquals(1, journal.changesSince(recent).get().size());
+    }
+
+    @Test
+    void onMessage_RecordsRemoteChangeInLocalVersionSpace() {
+        // Given
+        long since = contentVersionService.currentVersion();
+        UUID educationId = UUID.randomUUID();
+
+        // When
+        journal.onMessage(message("othernode:EDUCATION:DELETED:" + educationId), null);
+        journal.onMessage(message(journal.getJournalId() + ":SKILL:CREATED:" + UUID.randomUUID()), null);
+        journal.onMessage(message("othernode:UNKNOWN:CREATED:"), null);
+
+        // Then - 자기 메시지와 알 수 없는 메시지는 무시
+        List<ContentChangeResponse> changes = journal.changesSince(since).get();
+        assertEquals(1, changes.size());
+        assertEquals(PortfolioEntityType.EDUCATION, changes.get(0).getEntityType());
+        assertEquals(educationId, changes.get(0).getEntityId());
+        assertEquals(ChangeType.DELETED, changes.get(0).getChangeType());
+        assertTrue(changes.get(0).getVersion() > since);
+
+        // 수신한 변경만 노드 안에 다시 발행
+        assertEquals(1, published.size());
+        ReplicatedChangeEvent event = (ReplicatedChangeEvent) published.get(0);
+        assertEquals(PortfolioEntityType.EDUCATION, event.getEntityType());
+        assertEquals(educationId, event.getEntityId());
+        assertEquals(ChangeType.DELETED, event.getChangeType());
+    }
+
+    private static DefaultMessage message(String payload) {
+        return new DefaultMessage(ChangeJournalService.CHANGE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.event.ChangeType;
+import com.example.djlogportfoliobackend.event.PortfolioChangeEvent;
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
+import com.example.djlogportfoliobackend.event.ReplicatedChangeEvent;
+import com.example.djlogportfoliobackend.service.ContentChangeBroadcaster.Rejection;
+import com.example.djlogportfoliobackend.service.ContentChangeBroadcaster.Subscription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ContentChangeBroadcaster 테스트
+ * 전송을 기록하는 emitter로 구독 제한, 변경 브로드캐스트(다른 노드 변경 포함), heartbeat, 끊긴/느린 구독자 정리를 검증합니다.
+ */
+class ContentChangeBroadcasterTest {
+
+    private final List<RecordingEmitter> created = new CopyOnWriteArrayList<>();
+    private final ContentVersionService contentVersionService = new ContentVersionService();
+    private volatile RecordingEmitter nextEmitter;
+    private ContentChangeBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        if (broadcaster != null) {
+            broadcaster.shutdown();
+        }
+    }
+
+    @Test
+    void subscribe_LimitsSubscribersPerClientAndInTotal() {
+        // Given
+        broadcaster = createBroadcaster(3, 2, 32);
+
+        // When
+        Subscription first = broadcaster.subscribe("a");
+        Subscription second = broadcaster.subscribe("a");
+        Subscription third = broadcaster.subscribe("a");
+        Subscription other = broadcaster.subscribe("b");
+        Subscription overTotal = broadcaster.subscribe("c");
+
+        // Then
+        assertNotNull(first.emitter());
+        assertNotNull(second.emitter());
+        assertEquals(Rejection.CLIENT_LIMIT, third.rejection());
+        assertNotNull(other.emitter());
+        assertEquals(Rejection.SUBSCRIBER_LIMIT, overTotal.rejection());
+        assertEquals(3, broadcaster.getSubscriberCount());
+    }
+
+    @Test
+    void subscribe_FreesClientSlotWhenConnectionCompletes() {
+        // Given
+        broadcaster = createBroadcaster(10, 1, 32);
+        broadcaster.subscribe("a");
+        assertEquals(Rejection.CLIENT_LIMIT, broadcaster.subscribe("a").rejection());
+
+        // When - 컨테이너가 연결 종료를 알림
+        created.get(0).completionCallback.run();
+
+        // Then
+        assertEquals(0, broadcaster.getSubscriberCount());
+        assertNotNull(broadcaster.subscribe("a").emitter());
+    }
+
+    @Test
+    void onPortfolioChanged_DeliversChangeFrameToEverySubscriber() {
+        // Given
+        broadcaster = createBroadcaster(10, 10, 32);
+        broadcaster.subscribe("a");
+        broadcaster.subscribe("b");
+        UUID projectId = UUID.randomUUID();
+
+        // When
+        broadcaster.onPortfolioChanged(new PortfolioChangeEvent(PortfolioEntityType.PROJECT, projectId,
+                ChangeType.UPDATED));
+
+        // Then
+        for (RecordingEmitter emitter : created) {
+            awaitUntil(() -> emitter.frames.size() == 1);
+            assertTrue(emitter.frames.get(0).contains("event:content-change"));
+            assertTrue(emitter.frames.get(0).contains(projectId.toString()));
+        }
+    }
+
+    @Test
+    void onReplicatedChange_DeliversChangeCommittedOnAnotherNode() {
+        // Given
+        broadcaster = createBroadcaster(10, 10, 32);
+        broadcaster.subscribe("a");
+        UUID skillId = UUID.randomUUID();
+
+        // When - 다른 노드의 커밋이 변경 저널을 통해 도착
+        broadcaster.onReplicatedChange(new ReplicatedChangeEvent(PortfolioEntityType.SKILL, skillId,
+                ChangeType.DELETED));
+
+        // Then
+        RecordingEmitter emitter = created.get(0);
+        awaitUntil(() -> emitter.frames.size() == 1);
+        assertTrue(emitter.frames.get(0).contains("event:content-change"));
+        assertTrue(emitter.frames.get(0).contains(skillId.toString()));
+        assertTrue(emitter.frames.get(0).contains("DELETED"));
+    }
+
+    @Test
+    void onReplicatedChange_AdvancesAggregateVersionWithoutResponseCache() {
+        // Given - 조건부 GET ETag가 의존하는 노드 로컬 집계 버전
+        broadcaster = createBroadcaster(10, 10, 32);
+        long before = contentVersionService.currentVersion(PortfolioEntityType.PROJECT);
+
+        // When - 다른 노드의 프로젝트 수정이 변경 저널을 통해 도착
+        broadcaster.onReplicatedChange(new ReplicatedChangeEvent(PortfolioEntityType.PROJECT, UUID.randomUUID(),
+                ChangeType.UPDATED));
+
+        // Then - 이 노드의 ETag도 바뀜
+        assertTrue(contentVersionService.currentVersion(PortfolioEntityType.PROJECT) > before);
+        assertEquals(before, contentVersionService.currentVersion(PortfolioEntityType.SKILL));
+    }
+
+    @Test
+    void sendHeartbeat_SendsCommentAndRemovesBrokenSubscribers() {
+        // Given
+        broadcaster = createBroadcaster(10, 10, 32);
+        broadcaster.subscribe("a");
+        nextEmitter = new RecordingEmitter();
+        nextEmitter.failing = true;
+        broadcaster.subscribe("b");
+        RecordingEmitter healthy = created.get(0);
+        RecordingEmitter broken = created.get(1);
+
+        // When
+        broadcaster.sendHeartbeat();
+
+        // Then
+        awaitUntil(() -> healthy.frames.size() == 1);
+        assertTrue(healthy.frames.get(0).contains(":heartbeat"));
+        awaitUntil(() -> broadcaster.getSubscriberCount() == 1);
+        awaitUntil(() -> broken.completedWithError);
+        assertNotNull(broadcaster.subscribe("b").emitter());
+    }
+
+    @Test
+    void broadcast_DropsSlowSubscriberWithoutDelayingOthers() {
+        // Given
+        broadcaster = createBroadcaster(10, 10, 2);
+        nextEmitter = new RecordingEmitter();
+        nextEmitter.blockSends = new CountDownLatch(1);
+        broadcaster.subscribe("slow");
+        broadcaster.subscribe("fast");
+        RecordingEmitter slow = created.get(0);
+        RecordingEmitter fast = created.get(1);
+
+        // When - 느린 구독자의 전송이 멈춘 동안 계속 변경 발생 (빠른 구독자는 매번 바로 받음)
+        for (int i = 1; i <= 5; i++) {
+            broadcaster.onPortfolioChanged(new PortfolioChangeEvent(PortfolioEntityType.SKILL, null,
+                    ChangeType.CREATED));
+            int expected = i;
+            awaitUntil(() -> fast.frames.size() == expected);
+        }
+
+        // Then
+        awaitUntil(() -> broadcaster.getSubscriberCount() == 1);
+        assertEquals(1, broadcaster.getSlowSubscribersDropped());
+
+        // 멈춘 전송이 끝나면 전송 스레드가 연결을 닫음
+        slow.blockSends.countDown();
+        awaitUntil(() -> slow.completed);
+        assertTrue(slow.frames.size() < 5);
+    }
+
+    private ContentChangeBroadcaster createBroadcaster(int maxConnections, int maxPerClient, int sendQueueSize) {
+        return new ContentChangeBroadcaster(contentVersionService, new ObjectMapper(), 60_000,
+                maxConnections, maxPerClient, 3600, 2, sendQueueSize, 10_000) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = nextEmitter != null ? nextEmitter : new RecordingEmitter();
+                nextEmitter = null;
+                created.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("condition not met within 5 seconds");
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("interrupted");
+            }
+        }
+    }
+
+    /**
+     * 전송된 프레임을 문자열로 기록하는 emitter
+     * 구독 시점의 hello 이벤트는 기록하지 않고, 실패/지연 설정도 적용하지 않는다.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+        private volatile CountDownLatch blockSends;
+        private volatile boolean completed;
+        private volatile boolean completedWithError;
+        private Runnable completionCallback;
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            String frame = items.stream().map(item -> String.valueOf(item.getData())).collect(Collectors.joining());
+            if (frame.contains("event:hello")) {
+                return;
+            }
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            if (blockSends != null) {
+                try {
+                    blockSends.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            frames.add(frame);
+        }
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            this.completionCallback = callback;
+            super.onCompletion(callback);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+            super.complete();
+        }
+
+        @Override
+        public synchronized void completeWithError(Throwable ex) {
+            completedWithError = true;
+            super.completeWithError(ex);
+        }
+    }
+}
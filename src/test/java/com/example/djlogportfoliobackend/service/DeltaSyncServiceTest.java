@@ -0,0 +1,89 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.dto.ChangeSetResponse;
+import com.example.djlogportfoliobackend.dto.SkillResponse;
+import com.example.djlogportfoliobackend.event.ChangeType;
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DeltaSyncService 테스트
+ * 저널로 복원 가능한 변경은 델타로, 하위 목록을 교체하는 프로필 변경은 전체 스냅샷으로 반환되는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class DeltaSyncServiceTest {
+
+    @Mock
+    private ProfileService profileService;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private SkillService skillService;
+
+    @Mock
+    private EducationService educationService;
+
+    @Mock
+    private CertificateService certificateService;
+
+    private ChangeJournalService journal;
+    private DeltaSyncService deltaSyncService;
+
+    @BeforeEach
+    void setUp() {
+        ContentVersionService contentVersionService = new ContentVersionService();
+        journal = new ChangeJournalService(contentVersionService, null, event -> { }, 64, false);
+        deltaSyncService = new DeltaSyncService(journal, contentVersionService, profileService, projectService,
+                skillService, educationService, certificateService);
+    }
+
+    @Test
+    void getChangesSince_ReturnsDeltaForChildChanges() {
+        // Given
+        long since = deltaSyncService.getChangesSince(null, null).getVersion();
+        UUID skillId = UUID.randomUUID();
+        SkillResponse skill = new SkillResponse();
+        skill.setId(skillId);
+        when(skillService.getAllSkills()).thenReturn(List.of(skill));
+        journal.append(PortfolioEntityType.SKILL, skillId, ChangeType.CREATED);
+
+        // When
+        ChangeSetResponse response = deltaSyncService.getChangesSince(since, journal.getJournalId());
+
+        // Then
+        assertFalse(response.isFullSnapshot());
+        assertEquals(1, response.getChanges().size());
+        assertEquals(skillId, response.getChanges().get(0).getEntityId());
+    }
+
+    @Test
+    void getChangesSince_ReturnsSnapshotWhenProfileReplacedChildren() {
+        // Given - 프로필 수정으로 기존 기술 스택이 삭제되고 새 항목으로 교체됨 (저널에는 PROFILE 변경만 기록)
+        long since = deltaSyncService.getChangesSince(null, null).getVersion();
+        SkillResponse replaced = new SkillResponse();
+        replaced.setId(UUID.randomUUID());
+        when(skillService.getAllSkills()).thenReturn(List.of(replaced));
+        journal.append(PortfolioEntityType.PROFILE, UUID.randomUUID(), ChangeType.UPDATED);
+
+        // When
+        ChangeSetResponse response = deltaSyncService.getChangesSince(since, journal.getJournalId());
+
+        // Then - 새 하위 목록 전체를 전달
+        assertTrue(response.isFullSnapshot());
+        assertNull(response.getChanges());
+        assertEquals(List.of(replaced), response.getSkills());
+        verify(skillService, times(2)).getAllSkills();
+    }
+}
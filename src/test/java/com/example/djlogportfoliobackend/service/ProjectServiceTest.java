@@ -8,6 +8,7 @@ import com.example.djlogportfoliobackend.dto.ProjectResponse;
 import com.example.djlogportfoliobackend.entity.Project;
 import com.example.djlogportfoliobackend.entity.ProjectQnA;
 import com.example.djlogportfoliobackend.entity.ProjectStatus;
+import com.example.djlogportfoliobackend.event.PortfolioChangeEvent;
 import com.example.djlogportfoliobackend.exception.ResourceNotFoundException;
 import com.example.djlogportfoliobackend.repository.ProjectQnARepository;
 import com.example.djlogportfoliobackend.repository.ProjectRepository;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.List;
@@ -38,6 +40,9 @@ class ProjectServiceTest {
     @Mock
     private ProjectQnARepository projectQnARepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -222,6 +227,7 @@ class ProjectServiceTest {
         // Then
         verify(projectRepository).existsById(projectId);
         verify(projectRepository).deleteById(projectId);
+        verify(eventPublisher).publishEvent(any(PortfolioChangeEvent.class));
     }
 
     @Test
@@ -0,0 +1,163 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.service.SessionManagementService.SessionData;
+import com.example.djlogportfoliobackend.service.SessionManagementService.SessionInfo;
+import com.example.djlogportfoliobackend.session.JsonSessionValueCodec;
+import com.example.djlogportfoliobackend.session.SessionFallbackStore;
+import com.example.djlogportfoliobackend.store.RedisRevocationStore;
+import com.example.djlogportfoliobackend.store.RedisSessionStore;
+import com.example.djlogportfoliobackend.util.RedisCircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Redis 장애 주입 테스트
+ * 명령마다 지연을 더하고 장애 중에는 타임아웃으로 실패하는 Redis 대역으로, 회로 차단 후 Redis를 기다리지 않는지,
+ * 장애 중 폐기/세션이 로컬에서 유지되는지, 복구 후 대기 중인 변경이 Redis에 반영되는지 검증합니다.
+ */
+class RedisFaultInjectionTest {
+
+    private static final String USERNAME = "admin@example.com";
+    private static final long OUTAGE_LATENCY_MILLIS = 100;
+    private static final long OPEN_MILLIS = 200;
+
+    private FaultInjectingRedis redis;
+    private RedisCircuitBreaker breaker;
+    private StringRedisTemplate redisTemplate;
+    private RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private TokenRevocationService tokenRevocationService;
+    private SessionFallbackStore fallbackStore;
+    private SessionManagementService sessionManagementService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redis = new FaultInjectingRedis();
+        breaker = new RedisCircuitBreaker(3, 50, OPEN_MILLIS);
+        redisTemplate = mock(StringRedisTemplate.class, redis);
+        binaryRedisTemplate = mock(RedisTemplate.class, redis);
+        // near-cache 없이 매 요청 Redis를 조회하는 구성 (장애 영향이 가장 큰 경우)
+        tokenRevocationService = new TokenRevocationService(new RedisRevocationStore(redisTemplate, false), breaker,
+                false, 1000, 60_000L);
+        fallbackStore = new SessionFallbackStore(100, 100, Duration.ofHours(24));
+        sessionManagementService = new SessionManagementService(
+                new RedisSessionStore(binaryRedisTemplate, mock(SessionStatsService.class), new JsonSessionValueCodec(),
+                        100),
+                tokenRevocationService, mock(SessionAccessTracker.class), breaker, fallbackStore,
+                mock(AuditService.class));
+    }
+
+    @Test
+    void openCircuitStopsWaitingForRedisAndKeepsRecentRevocations() {
+        // Given - 모든 명령이 100ms 뒤 타임아웃
+        redis.fail();
+        tokenRevocationService.revoke("token-1", System.currentTimeMillis() + 60_000L);
+        tokenRevocationService.isRevoked("token-2");
+        tokenRevocationService.isRevoked("token-3");
+
+        // When - 차단 후 조회
+        long start = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            tokenRevocationService.isRevoked("token-" + (i + 10));
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+
+        // Then - 타임아웃 한 번보다 짧게 20건 처리, 장애 중 폐기한 토큰은 계속 거부
+        assertEquals(RedisCircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(elapsedMillis < OUTAGE_LATENCY_MILLIS, "took " + elapsedMillis + "ms");
+        assertTrue(tokenRevocationService.isRevoked("token-1"));
+        assertEquals(1, tokenRevocationService.getPendingCount());
+    }
+
+    @Test
+    void sessionsFallBackLocallyAndReconcileAfterRecovery() throws InterruptedException {
+        // Given - 장애 중 로그인, 조회, 다른 세션 로그아웃
+        redis.fail();
+        sessionManagementService.createSession(USERNAME, "token-1", new SessionInfo("127.0.0.1", "JUnit"));
+        Optional<SessionData> duringOutage = sessionManagementService.getSession("token-1");
+        tokenRevocationService.revoke("token-0", System.currentTimeMillis() + 60_000L);
+        sessionManagementService.removeSession("token-0");
+
+        // Then - 로컬 세션으로 응답하고 변경은 대기
+        assertTrue(duringOutage.isPresent());
+        assertEquals(USERNAME, duringOutage.get().getUsername());
+        assertEquals("127.0.0.1", duringOutage.get().getClientIp());
+        assertEquals(2, fallbackStore.getPendingCount());
+        assertEquals(1, tokenRevocationService.getPendingCount());
+
+        // When - Redis 복구 후 차단 유지 시간이 지나고 반영 주기 실행
+        redis.heal();
+        Thread.sleep(OPEN_MILLIS + 50);
+        sessionManagementService.reconcilePending();
+        tokenRevocationService.reconcilePending();
+
+        // Then - 생성과 삭제가 순서대로(장애 중 시도 1회 + 반영 2회), 폐기는 다시 저장됨
+        assertEquals(RedisCircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, fallbackStore.getPendingCount());
+        assertEquals(0, tokenRevocationService.getPendingCount());
+        verify(binaryRedisTemplate, times(3)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(redis.valueOperations).set(eq("jwt:blacklist:token-0"), eq("blacklisted"), any(Duration.class));
+    }
+
+    /**
+     * 지연과 장애를 주입하는 Redis 대역
+     * 모든 명령이 지연된 뒤 응답하며, 장애 중에는 명령 타임아웃처럼 예외를 던집니다.
+     */
+    private static final class FaultInjectingRedis implements Answer<Object> {
+
+        private final ValueOperations<String, String> valueOperations;
+        private final HashOperations<String, Object, Object> hashOperations;
+        private volatile long latencyMillis = 1;
+        private volatile boolean failing;
+
+        @SuppressWarnings("unchecked")
+        FaultInjectingRedis() {
+            this.valueOperations = mock(ValueOperations.class, this);
+            this.hashOperations = mock(HashOperations.class, this);
+        }
+
+        void fail() {
+            latencyMillis = OUTAGE_LATENCY_MILLIS;
+            failing = true;
+        }
+
+        void heal() {
+            latencyMillis = 1;
+            failing = false;
+        }
+
+        @Override
+        public Object answer(InvocationOnMock invocation) throws Throwable {
+            if (invocation.getMethod().getDeclaringClass() == Object.class) {
+                return RETURNS_DEFAULTS.answer(invocation);
+            }
+            Thread.sleep(latencyMillis);
+            if (failing) {
+                throw new QueryTimeoutException("Redis command timed out after " + latencyMillis + "ms");
+            }
+            return switch (invocation.getMethod().getName()) {
+                case "opsForValue" -> valueOperations;
+                case "opsForHash" -> hashOperations;
+                // 세션 스크립트: 첫 세션 생성 / 세션 하나 삭제
+                case "execute" -> List.of(1L);
+                default -> RETURNS_DEFAULTS.answer(invocation);
+            };
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.config.ResponseCacheConfig;
+import com.example.djlogportfoliobackend.event.ChangeType;
+import com.example.djlogportfoliobackend.event.PortfolioChangeEvent;
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
+import com.example.djlogportfoliobackend.service.ResponseCacheService.Lookup;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ResponseCacheService L2 스크립트 테스트
+ * 실제 Redis에서 조회/저장/무효화 스크립트를 실행하여 노드 간 공유, 렌더링 도중 무효화된 응답의 저장 거부,
+ * 인덱스 원자적 삭제를 검증합니다. Docker를 사용할 수 없으면 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ResponseCacheRedisScriptTest {
+
+    private static final byte[] BODY = "[{\"name\":\"Java\"}]".getBytes(StandardCharsets.UTF_8);
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        binaryRedisTemplate = new ResponseCacheConfig().binaryRedisTemplate(connectionFactory);
+        binaryRedisTemplate.afterPropertiesSet();
+        binaryRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void put_SharesResponseWithOtherNodes() throws Exception {
+        // Given
+        ResponseCacheService node = createNode();
+        node.put("/api/skills", node.get("/api/skills", PortfolioEntityType.SKILL), "application/json", BODY,
+                PortfolioEntityType.SKILL);
+
+        // When - L1이 비어 있는 다른 노드
+        Lookup lookup = createNode().get("/api/skills", PortfolioEntityType.SKILL);
+
+        // Then
+        assertTrue(lookup.hit());
+        assertArrayEquals(BODY, lookup.response().decompressedBody());
+    }
+
+    @Test
+    void put_RejectsResponseRenderedBeforeRemoteInvalidation() {
+        // Given - 이 노드가 렌더링을 시작한 뒤 다른 노드에서 변경이 커밋되어 무효화됨
+        ResponseCacheService node = createNode();
+        Lookup miss = node.get("/api/skills", PortfolioEntityType.SKILL);
+        createNode().onPortfolioChanged(new PortfolioChangeEvent(PortfolioEntityType.SKILL, null, ChangeType.UPDATED));
+
+        // When - 로컬 버전은 아직 그대로이므로 L1 검사는 통과
+        node.put("/api/skills", miss, "application/json", BODY, PortfolioEntityType.SKILL);
+
+        // Then - 오래된 응답이 L2에 남지 않아야 함
+        assertFalse(createNode().get("/api/skills", PortfolioEntityType.SKILL).hit());
+        assertFalse(binaryRedisTemplate.hasKey("resp-cache:entry:/api/skills"));
+    }
+
+    @Test
+    void onPortfolioChanged_RemovesEntriesOfEveryDependentRoute() {
+        // Given - 스킬 목록은 프로필에도 의존
+        ResponseCacheService node = createNode();
+        PortfolioEntityType[] dependencies = {PortfolioEntityType.SKILL, PortfolioEntityType.PROFILE};
+        node.put("/api/skills", node.get("/api/skills", dependencies), "application/json", BODY, dependencies);
+        node.put("/api/projects", node.get("/api/projects", PortfolioEntityType.PROJECT), "application/json", BODY,
+                PortfolioEntityType.PROJECT);
+
+        // When
+        node.onPortfolioChanged(new PortfolioChangeEvent(PortfolioEntityType.PROFILE, null, ChangeType.UPDATED));
+
+        // Then
+        assertFalse(binaryRedisTemplate.hasKey("resp-cache:entry:/api/skills"));
+        assertFalse(binaryRedisTemplate.hasKey("resp-cache:index:PROFILE"));
+        assertFalse(createNode().get("/api/skills", dependencies).hit());
+        assertTrue(createNode().get("/api/projects", PortfolioEntityType.PROJECT).hit());
+    }
+
+    @Test
+    void get_IgnoresEntryFromOlderGeneration() {
+        // Given - 인덱스가 만료되어 무효화 때 삭제되지 않은 항목
+        ResponseCacheService node = createNode();
+        node.put("/api/skills", node.get("/api/skills", PortfolioEntityType.SKILL), "application/json", BODY,
+                PortfolioEntityType.SKILL);
+        binaryRedisTemplate.delete("resp-cache:index:SKILL");
+
+        // When
+        node.onPortfolioChanged(new PortfolioChangeEvent(PortfolioEntityType.SKILL, null, ChangeType.UPDATED));
+
+        // Then
+        assertTrue(binaryRedisTemplate.hasKey("resp-cache:entry:/api/skills"));
+        assertFalse(createNode().get("/api/skills", PortfolioEntityType.SKILL).hit());
+    }
+
+    private ResponseCacheService createNode() {
+        return new ResponseCacheService(Caffeine.newBuilder().maximumSize(100).build(), binaryRedisTemplate,
+                new ContentVersionService(), Duration.ofMinutes(10), true);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
+import com.example.djlogportfoliobackend.service.ResponseCacheService.CachedResponse;
+import com.example.djlogportfoliobackend.service.ResponseCacheService.Lookup;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ResponseCacheService 테스트
+ * L1/L2 조회 순서와 버전 기반 무효화를 검증합니다.
+ * L2 스크립트 자체는 ResponseCacheRedisScriptTest에서 실제 Redis로 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ResponseCacheServiceTest {
+
+    private static final byte[] BODY = "[{\"name\":\"Java\"}]".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    private ContentVersionService contentVersionService;
+    private Cache<String, CachedResponse> l1Cache;
+
+    @BeforeEach
+    void setUp() {
+        contentVersionService = new ContentVersionService();
+        l1Cache = Caffeine.newBuilder().maximumSize(100).build();
+    }
+
+    @Test
+    void put_ThenGet_ReturnsCompressedResponseFromL1() throws Exception {
+        // Given
+        ResponseCacheService service = createService(false);
+        Lookup miss = service.get("/api/skills", PortfolioEntityType.SKILL);
+
+        // When
+        service.put("/api/skills", miss, "application/json", BODY, PortfolioEntityType.SKILL);
+        Lookup cached = service.get("/api/skills", PortfolioEntityType.SKILL);
+
+        // Then
+        assertFalse(miss.hit());
+        assertTrue(cached.hit());
+        assertArrayEquals(BODY, cached.response().decompressedBody());
+        verifyNoInteractions(binaryRedisTemplate);
+    }
+
+    @Test
+    void versionChange_InvalidatesL1Entry() {
+        // Given
+        ResponseCacheService service = createService(false);
+        service.put("/api/skills", service.get("/api/skills", PortfolioEntityType.SKILL), "application/json", BODY,
+                PortfolioEntityType.SKILL);
+
+        // When
+        contentVersionService.recordChange(PortfolioEntityType.SKILL);
+
+        // Then
+        assertFalse(service.get("/api/skills", PortfolioEntityType.SKILL).hit());
+    }
+
+    @Test
+    void put_SkipsResponseRenderedBeforeVersionChange() {
+        // Given
+        ResponseCacheService service = createService(false);
+        Lookup miss = service.get("/api/skills", PortfolioEntityType.SKILL);
+
+        // When - 응답 렌더링 도중 변경이 커밋됨
+        contentVersionService.recordChange(PortfolioEntityType.SKILL);
+        service.put("/api/skills", miss, "application/json", BODY, PortfolioEntityType.SKILL);
+
+        // Then
+        assertEquals(0, l1Cache.estimatedSize());
+    }
+
+    @Test
+    void get_FillsL1FromL2OnColdNode() throws Exception {
+        // Given
+        ResponseCacheService service = createService(true);
+        CachedResponse stored = new CachedResponse("application/json", gzipOf(BODY));
+        when(binaryRedisTemplate.execute(any(RedisScript.class), eq(List.of("resp-cache:entry:/api/skills",
+                "resp-cache:gen:SKILL")))).thenReturn(List.of("3".getBytes(StandardCharsets.UTF_8), stored.encode()));
+
+        // When
+        Lookup first = service.get("/api/skills", PortfolioEntityType.SKILL);
+        Lookup second = service.get("/api/skills", PortfolioEntityType.SKILL);
+
+        // Then - 두 번째 조회는 L1에서 처리되어야 함
+        assertTrue(first.hit());
+        assertEquals("3", first.generation());
+        assertTrue(second.hit());
+        assertArrayEquals(BODY, second.response().decompressedBody());
+        verify(binaryRedisTemplate, times(1)).execute(any(RedisScript.class), anyList());
+    }
+
+    @Test
+    void put_SkipsL2WhenGenerationUnknown() {
+        // Given - L2 조회 실패로 세대를 모름
+        ResponseCacheService service = createService(true);
+        when(binaryRedisTemplate.execute(any(RedisScript.class), anyList()))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        Lookup miss = service.get("/api/skills", PortfolioEntityType.SKILL);
+
+        // When
+        service.put("/api/skills", miss, "application/json", BODY, PortfolioEntityType.SKILL);
+
+        // Then - L1에만 저장
+        assertNull(miss.generation());
+        assertTrue(service.get("/api/skills", PortfolioEntityType.SKILL).hit());
+        verify(binaryRedisTemplate, times(1)).execute(any(RedisScript.class), anyList());
+    }
+
+    private ResponseCacheService createService(boolean l2Enabled) {
+        return new ResponseCacheService(l1Cache, binaryRedisTemplate, contentVersionService,
+                Duration.ofMinutes(10), l2Enabled);
+    }
+
+    private static byte[] gzipOf(byte[] body) throws Exception {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(body);
+        }
+        return buffer.toByteArray();
+    }
+}
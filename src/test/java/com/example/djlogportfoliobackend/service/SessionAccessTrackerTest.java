@@ -0,0 +1,91 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.store.SessionStore;
+import com.example.djlogportfoliobackend.store.SessionStore.SessionAccess;
+import com.example.djlogportfoliobackend.util.RedisCircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SessionAccessTracker 테스트
+ * 접근 시각이 세션별로 합쳐져 주기당 한 번만 반영되는지, 삭제된 세션은 반영하지 않는지,
+ * 반영 실패 시 다음 주기에 재시도하는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class SessionAccessTrackerTest {
+
+    @Mock
+    private SessionStore sessionStore;
+
+    private SessionAccessTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new SessionAccessTracker(sessionStore, new RedisCircuitBreaker(5, 1000, 5000), 500);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_CoalescesAccessesIntoOneWritePerSession() {
+        // Given - 같은 세션에 세 번 접근
+        when(sessionStore.touch(anyList())).thenReturn(1L);
+        tracker.recordAccess("token-1", "admin@example.com", 1000);
+        tracker.recordAccess("token-1", "admin@example.com", 3000);
+        tracker.recordAccess("token-1", "admin@example.com", 2000);
+
+        // When
+        tracker.flush();
+        tracker.flush();
+
+        // Then - 반영 한 번, 가장 최근 접근 시각만 전달
+        ArgumentCaptor<List<SessionAccess>> accesses = ArgumentCaptor.forClass(List.class);
+        verify(sessionStore, times(1)).touch(accesses.capture());
+        assertEquals(List.of(new SessionAccess("token-1", "admin@example.com", 3000)), accesses.getValue());
+        assertEquals(3, tracker.getRecordedAccesses());
+        assertEquals(1, tracker.getFlushedSessions());
+        assertEquals(0, tracker.getPendingCount());
+    }
+
+    @Test
+    void discard_DropsPendingAccessOfRemovedSession() {
+        // Given
+        tracker.recordAccess("token-1", "admin@example.com", 1000);
+
+        // When
+        tracker.discard("token-1");
+        tracker.flush();
+
+        // Then
+        verifyNoInteractions(sessionStore);
+    }
+
+    @Test
+    void flushFailure_KeepsAccessesForNextInterval() {
+        // Given
+        when(sessionStore.touch(anyList()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"))
+                .thenReturn(1L);
+        tracker.recordAccess("token-1", "admin@example.com", 1000);
+
+        // When - 첫 반영 실패 후 다음 주기에 재시도
+        tracker.flush();
+        int pendingAfterFailure = tracker.getPendingCount();
+        tracker.flush();
+
+        // Then
+        assertEquals(1, pendingAfterFailure);
+        assertEquals(0, tracker.getPendingCount());
+        assertEquals(1, tracker.getFlushedSessions());
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.service.SessionManagementService.SessionData;
+import com.example.djlogportfoliobackend.service.SessionManagementService.SessionInfo;
+import com.example.djlogportfoliobackend.service.SessionManagementService.SessionStats;
+import com.example.djlogportfoliobackend.session.SessionFallbackStore;
+import com.example.djlogportfoliobackend.session.SessionValue;
+import com.example.djlogportfoliobackend.session.StoredSession;
+import com.example.djlogportfoliobackend.store.SessionStore;
+import com.example.djlogportfoliobackend.store.SessionStore.CreateResult;
+import com.example.djlogportfoliobackend.store.SessionStore.SessionCounts;
+import com.example.djlogportfoliobackend.util.RedisCircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SessionManagementService 테스트
+ * 세션 생성/조회/삭제가 각각 저장소 호출 한 번으로 처리되고, 조회가 접근 시각을 버퍼에만 기록하며,
+ * 저장소 장애 시 로컬 세션으로 응답하고 복구 후 변경을 반영하는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class SessionManagementServiceTest {
+
+    private static final String USERNAME = "admin@example.com";
+
+    @Mock
+    private SessionStore sessionStore;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private SessionAccessTracker sessionAccessTracker;
+
+    @Mock
+    private AuditService auditService;
+
+    private SessionFallbackStore fallbackStore;
+    private SessionManagementService service;
+
+    @BeforeEach
+    void setUp() {
+        fallbackStore = new SessionFallbackStore(100, 100, Duration.ofHours(24));
+        service = new SessionManagementService(sessionStore, tokenRevocationService, sessionAccessTracker,
+                new RedisCircuitBreaker(5, 1000, 5000), fallbackStore, auditService);
+    }
+
+    @Test
+    void createSession_StoresOnceAndDropsEvictedSessionsLocally() {
+        // Given - 동시 로그인 제한으로 이전 세션 하나가 정리됨
+        fallbackStore.put(new StoredSession("old-token", USERNAME, new SessionValue(1000, "127.0.0.1", "JUnit"), 1000));
+        when(sessionStore.create(eq("token-1"), eq(USERNAME), any(SessionValue.class), anyLong()))
+                .thenReturn(new CreateResult(false, List.of("old-token")));
+
+        // When
+        service.createSession(USERNAME, "token-1", new SessionInfo("127.0.0.1", "JUnit"));
+
+        // Then
+        verify(sessionStore, times(1)).create(eq("token-1"), eq(USERNAME), any(SessionValue.class), anyLong());
+        verify(auditService).recordLogin(eq(USERNAME), any(SessionValue.class));
+        assertNull(fallbackStore.get("old-token"));
+        assertNotNull(fallbackStore.get("token-1"));
+    }
+
+    @Test
+    void getSession_ReadsStoreAndBuffersAccessWithoutWriting() {
+        // Given
+        when(sessionStore.find("token-1"))
+                .thenReturn(new StoredSession("token-1", USERNAME, new SessionValue(1000, "127.0.0.1", "JUnit"), 1000));
+
+        // When
+        Optional<SessionData> session = service.getSession("token-1");
+
+        // Then - 접근 시각은 버퍼에만 기록되고 저장소 쓰기는 없어야 함
+        assertTrue(session.isPresent());
+        assertEquals(USERNAME, session.get().getUsername());
+        assertEquals("127.0.0.1", session.get().getClientIp());
+        assertTrue(session.get().getLastAccessTime().isAfter(session.get().getLoginTime()));
+        verify(sessionAccessTracker).recordAccess(eq("token-1"), eq(USERNAME), anyLong());
+        verify(sessionStore, never()).touch(anyList());
+    }
+
+    @Test
+    void getSession_ReturnsEmptyWhenSessionMissing() {
+        // Given
+        when(sessionStore.find("expired-token")).thenReturn(null);
+
+        // When & Then
+        assertTrue(service.getSession("expired-token").isEmpty());
+        verifyNoInteractions(sessionAccessTracker);
+    }
+
+    @Test
+    void removeSession_RemovesFromStoreAndDiscardsPendingAccess() {
+        // Given
+        when(sessionStore.remove("token-1")).thenReturn(true);
+
+        // When
+        service.removeSession("token-1");
+
+        // Then
+        verify(sessionStore).remove("token-1");
+        verify(sessionAccessTracker).discard("token-1");
+    }
+
+    @Test
+    void removeAllUserSessions_RevokesTokensAndRemovesSessions() {
+        // Given
+        when(sessionStore.removeUser(USERNAME)).thenReturn(2L);
+
+        // When
+        service.removeAllUserSessions(USERNAME);
+
+        // Then
+        verify(tokenRevocationService).revokeAllForSubject(USERNAME);
+        verify(sessionStore).removeUser(USERNAME);
+    }
+
+    @Test
+    void getUserActiveSessions_KeepsStoreOrder() {
+        // Given
+        when(sessionStore.list(USERNAME)).thenReturn(List.of(
+                new StoredSession("token-2", USERNAME, new SessionValue(2000, "127.0.0.1", "JUnit"), 3000),
+                new StoredSession("token-1", USERNAME, new SessionValue(1000, "127.0.0.1", "JUnit"), 1000)));
+
+        // When
+        List<SessionData> sessions = service.getUserActiveSessions(USERNAME);
+
+        // Then
+        assertEquals(List.of("token-2", "token-1"), sessions.stream().map(SessionData::getSessionId).toList());
+    }
+
+    @Test
+    void getSessionStats_ReadsStoreCounters() {
+        // Given
+        when(sessionStore.counts()).thenReturn(new SessionCounts(5, 3, 2));
+
+        // When
+        SessionStats stats = service.getSessionStats();
+
+        // Then
+        assertEquals(5, stats.getTotalActiveSessions());
+        assertEquals(3, stats.getTotalActiveUsers());
+        assertEquals(2, stats.getUniqueUsersToday());
+    }
+
+    @Test
+    void createSession_StoreFailureKeepsSessionLocallyAndReplaysLater() {
+        // Given - 저장과 목록 조회는 타임아웃, 이후 재시도는 성공
+        QueryTimeoutException timeout = new QueryTimeoutException("Redis command timed out");
+        when(sessionStore.create(eq("token-1"), eq(USERNAME), any(SessionValue.class), anyLong()))
+                .thenThrow(timeout)
+                .thenReturn(new CreateResult(true, List.of()));
+        when(sessionStore.list(USERNAME)).thenThrow(timeout);
+
+        // When
+        service.createSession(USERNAME, "token-1", new SessionInfo("127.0.0.1", "JUnit"));
+        List<SessionData> duringOutage = service.getUserActiveSessions(USERNAME);
+        service.reconcilePending();
+
+        // Then - 실패한 목록 조회는 로컬 세션으로 응답하고, 생성은 다음 반영 주기에 저장됨
+        assertEquals(List.of("token-1"), duringOutage.stream().map(SessionData::getSessionId).toList());
+        verify(sessionStore, times(2)).create(eq("token-1"), eq(USERNAME), any(SessionValue.class), anyLong());
+        assertEquals(0, fallbackStore.getPendingCount());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.djlogportfoliobackend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SessionStatsService 테스트
+ * 세션 카운터 증감, 만료 이벤트의 노드 간 중복 감소 방지, 카운터 조회를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class SessionStatsServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private HyperLogLogOperations<String, String> hyperLogLogOperations;
+
+    private SessionStatsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SessionStatsService(redisTemplate, 600_000L);
+    }
+
+    @Test
+    void sessionCreated_IncrementsCountersAndDailyUsers() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForHyperLogLog()).thenReturn(hyperLogLogOperations);
+
+        // When - 사용자의 첫 세션
+        service.sessionCreated("admin@example.com", true);
+
+        // Then
+        verify(valueOperations).increment("session-stats:active-sessions");
+        verify(valueOperations).increment("session-stats:active-users");
+        verify(hyperLogLogOperations).add(startsWith("session-stats:daily-users:"), eq("admin@example.com"));
+    }
+
+    @Test
+    void sessionsRemoved_DecrementsOnlyDeletedKeys() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // When - 세션 2개 삭제, 사용자 목록 키는 남아 있음
+        service.sessionsRemoved(2, 0);
+
+        // Then
+        verify(valueOperations).decrement("session-stats:active-sessions", 2);
+        verify(valueOperations, never()).decrement(eq("session-stats:active-users"), anyLong());
+    }
+
+    @Test
+    void expiredEvent_DecrementsOnceAcrossNodes() {
+        // Given - 첫 노드만 확인 키 생성에 성공
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("session-stats:expired:session:v2:abc"), eq("1"), any(Duration.class)))
+                .thenReturn(true)
+                .thenReturn(false);
+        DefaultMessage expired = new DefaultMessage("__keyevent@0__:expired".getBytes(StandardCharsets.UTF_8),
+                "session:v2:abc".getBytes(StandardCharsets.UTF_8));
+
+        // When - 두 노드가 같은 만료 이벤트 수신
+        service.onMessage(expired, null);
+        service.onMessage(expired, null);
+
+        // Then
+        verify(valueOperations, times(1)).decrement("session-stats:active-sessions");
+    }
+
+    @Test
+    void expiredEvent_IgnoresUnrelatedKeys() {
+        // When
+        service.onMessage(new DefaultMessage(new byte[0],
+                "jwt:blacklist:abc".getBytes(StandardCharsets.UTF_8)), null);
+
+        // Then
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void counterDriftBelowZeroIsReportedAsZero() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("session-stats:active-sessions")).thenReturn("-3");
+        when(valueOperations.get("session-stats:active-users")).thenReturn("2");
+
+        // When & Then
+        assertEquals(0, service.getActiveSessions());
+        assertEquals(2, service.getActiveUsers());
+    }
+}
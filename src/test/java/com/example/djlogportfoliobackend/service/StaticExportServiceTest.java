@@ -0,0 +1,171 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.dto.ProfileResponse;
+import com.example.djlogportfoliobackend.dto.ProjectQnAResponse;
+import com.example.djlogportfoliobackend.dto.ProjectResponse;
+import com.example.djlogportfoliobackend.dto.SkillResponse;
+import com.example.djlogportfoliobackend.event.ChangeType;
+import com.example.djlogportfoliobackend.event.PortfolioChangeEvent;
+import com.example.djlogportfoliobackend.event.PortfolioEntityType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * StaticExportService 테스트
+ * 임시 디렉토리에 릴리스를 기록하여 파일 구성과 gzip 사본, current 링크 교체, 릴리스 보존 수, 연속 변경 병합을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class StaticExportServiceTest {
+
+    @Mock
+    private ProfileService profileService;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private SkillService skillService;
+
+    @Mock
+    private EducationService educationService;
+
+    @Mock
+    private CertificateService certificateService;
+
+    @TempDir
+    Path exportRoot;
+
+    private StaticExportService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void exportNow_WritesReleaseWithGzipSiblingsAndLinksCurrent() throws IOException {
+        // Given
+        UUID projectId = UUID.randomUUID();
+        ProjectResponse project = new ProjectResponse();
+        project.setId(projectId);
+        project.setTitle("Portfolio");
+        ProjectQnAResponse qna = new ProjectQnAResponse();
+        qna.setQuestion("Why?");
+        SkillResponse skill = new SkillResponse();
+        skill.setName("Java");
+        ProfileResponse profile = new ProfileResponse();
+        profile.setName("DJ");
+        when(profileService.getProfile()).thenReturn(profile);
+        when(projectService.getPublishedProjects()).thenReturn(List.of(project));
+        when(projectService.getProjectQnAs(projectId)).thenReturn(List.of(qna));
+        when(skillService.getAllSkills()).thenReturn(List.of(skill));
+        when(educationService.getAllEducations()).thenReturn(List.of());
+        when(certificateService.getAllCertificates()).thenReturn(List.of());
+        service = createService(500, 3);
+
+        // When
+        service.exportNow();
+
+        // Then
+        Path current = exportRoot.resolve("current");
+        assertTrue(Files.isSymbolicLink(current));
+        assertEquals(exportRoot.resolve("releases"), exportRoot.resolve(Files.readSymbolicLink(current)).getParent());
+        Path api = current.resolve("api");
+        for (String file : List.of("profile.json", "projects.json", "projects/" + projectId + ".json",
+                "projects/" + projectId + "/qna.json", "skills.json", "educations.json", "certificates.json")) {
+            Path json = api.resolve(file);
+            assertTrue(Files.isRegularFile(json), file);
+            assertArrayEquals(Files.readAllBytes(json), gunzip(json.resolveSibling(json.getFileName() + ".gz")), file);
+        }
+        assertTrue(Files.readString(api.resolve("projects.json")).contains("Portfolio"));
+        assertTrue(Files.readString(api.resolve("skills.json")).contains("Java"));
+    }
+
+    @Test
+    void exportNow_SwapsCurrentToNewestAndPrunesBeyondRetained() throws IOException {
+        // Given
+        stubEmptyContent();
+        service = createService(500, 2);
+
+        // When - 같은 밀리초에 연속으로 내보내도 릴리스가 겹치지 않아야 함
+        service.exportNow();
+        Path first = Files.readSymbolicLink(exportRoot.resolve("current"));
+        service.exportNow();
+        service.exportNow();
+        service.exportNow();
+
+        // Then
+        List<String> releases = listReleases();
+        assertEquals(2, releases.size());
+        Path current = Files.readSymbolicLink(exportRoot.resolve("current"));
+        assertEquals(releases.get(releases.size() - 1), current.getFileName().toString());
+        assertNotEquals(first, current);
+        assertFalse(Files.exists(exportRoot.resolve(first)));
+        assertFalse(Files.exists(exportRoot.resolve("current.tmp")));
+        assertTrue(Files.isRegularFile(exportRoot.resolve("current").resolve("api/projects.json")));
+    }
+
+    @Test
+    void onPortfolioChanged_CoalescesBurstIntoOneExport() throws Exception {
+        // Given
+        stubEmptyContent();
+        service = createService(100, 3);
+        PortfolioChangeEvent event = new PortfolioChangeEvent(PortfolioEntityType.PROJECT, UUID.randomUUID(),
+                ChangeType.UPDATED);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            service.onPortfolioChanged(event);
+        }
+
+        // Then
+        verify(projectService, timeout(2000)).getPublishedProjects();
+        Thread.sleep(300);
+        verify(projectService, times(1)).getPublishedProjects();
+        assertEquals(1, listReleases().size());
+    }
+
+    private StaticExportService createService(long debounceMillis, int retainedReleases) {
+        return new StaticExportService(profileService, projectService, skillService, educationService,
+                certificateService, new ObjectMapper(), exportRoot.toString(), debounceMillis, retainedReleases);
+    }
+
+    private void stubEmptyContent() {
+        when(profileService.getProfile()).thenReturn(new ProfileResponse());
+        when(projectService.getPublishedProjects()).thenReturn(List.of());
+        when(skillService.getAllSkills()).thenReturn(List.of());
+        when(educationService.getAllEducations()).thenReturn(List.of());
+        when(certificateService.getAllCertificates()).thenReturn(List.of());
+    }
+
+    private List<String> listReleases() throws IOException {
+        try (Stream<Path> stream = Files.list(exportRoot.resolve("releases"))) {
+            return stream.map(path -> path.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private static byte[] gunzip(Path path) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(path))) {
+            return in.readAllBytes();
+        }
+    }
+}
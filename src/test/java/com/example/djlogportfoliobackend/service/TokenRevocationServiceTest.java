@@ -0,0 +1,167 @@
+package com.example.djlogportfoliobackend.service;
+
+import com.example.djlogportfoliobackend.store.RedisRevocationStore;
+import com.example.djlogportfoliobackend.util.RedisCircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TokenRevocationService 테스트
+ * Redis 저장소와 함께 노드 로컬 폐기 뷰의 조회, 폐기 전파, pub/sub 수신, 동기화 전 Redis 조회를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RedisRevocationStore store;
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        store = new RedisRevocationStore(redisTemplate, true);
+        service = new TokenRevocationService(store, new RedisCircuitBreaker(5, 1000, 5000), true, 1000,
+                60_000L);
+    }
+
+    @Test
+    void beforeSynchronization_ChecksRedisDirectly() {
+        // Given
+        when(redisTemplate.hasKey("jwt:blacklist:token-1")).thenReturn(true);
+
+        // When & Then
+        assertFalse(service.isSynchronized());
+        assertTrue(service.isRevoked("token-1"));
+    }
+
+    @Test
+    void afterSynchronization_NotRevokedIsAnsweredLocally() {
+        // Given - 빈 폐기 목록으로 동기화
+        assertTrue(service.synchronize());
+
+        // When
+        boolean revoked = service.isRevoked("token-1");
+
+        // Then - Redis 조회 없음
+        assertFalse(revoked);
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    void revoke_StoresInRedisAndPublishes() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        service.synchronize();
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+
+        // When
+        service.revoke("token-1", expiresAt);
+
+        // Then
+        assertTrue(service.isRevoked("token-1"));
+        assertFalse(service.isRevoked("token-2"));
+        verify(valueOperations).set(eq("jwt:blacklist:token-1"), eq("blacklisted"), any(Duration.class));
+        verify(redisTemplate).convertAndSend(eq(RedisRevocationStore.REVOCATION_CHANNEL),
+                endsWith(":token-1:" + expiresAt));
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    void revoke_IgnoresExpiredToken() {
+        // When
+        service.revoke("token-1", System.currentTimeMillis() - 1);
+
+        // Then
+        verifyNoInteractions(redisTemplate);
+        assertEquals(0, service.getRevokedCount());
+    }
+
+    @Test
+    void onMessage_AddsRevocationFromOtherNode() {
+        // Given
+        service.synchronize();
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+        String payload = "othernode:token-1:" + expiresAt;
+
+        // When
+        store.onMessage(new DefaultMessage(
+                RedisRevocationStore.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payload.getBytes(StandardCharsets.UTF_8)), null);
+
+        // Then
+        assertTrue(service.isRevoked("token-1"));
+        assertEquals(1, service.getRevokedCount());
+    }
+
+    @Test
+    void expiredRevocationIsDroppedOnResynchronization() {
+        // Given
+        service.synchronize();
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+        store.onMessage(new DefaultMessage(new byte[0],
+                ("othernode:token-1:" + (System.currentTimeMillis() - 1)).getBytes(StandardCharsets.UTF_8)), null);
+        store.onMessage(new DefaultMessage(new byte[0],
+                ("othernode:token-2:" + expiresAt).getBytes(StandardCharsets.UTF_8)), null);
+
+        // When
+        service.resynchronize();
+
+        // Then - 만료된 항목만 정리
+        assertFalse(service.isRevoked("token-1"));
+        assertTrue(service.isRevoked("token-2"));
+        assertEquals(1, service.getRevokedCount());
+    }
+
+    @Test
+    void revokeAllForSubject_InvalidatesTokensIssuedBefore() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        service.synchronize();
+        long issuedBefore = System.currentTimeMillis() - 1_000L;
+
+        // When
+        service.revokeAllForSubject("admin@example.com");
+
+        // Then - 이전 발급 토큰만 무효, 이후 발급 토큰과 다른 사용자는 영향 없음
+        assertTrue(service.isRevokedBefore("admin@example.com", issuedBefore));
+        assertFalse(service.isRevokedBefore("admin@example.com", System.currentTimeMillis() + 1_000L));
+        assertFalse(service.isRevokedBefore("other@example.com", issuedBefore));
+        verify(valueOperations).set(eq("jwt:not-before:admin@example.com"), anyString(), eq(Duration.ofMillis(60_000L)));
+        verify(redisTemplate).convertAndSend(eq(RedisRevocationStore.NOT_BEFORE_CHANNEL),
+                contains(":admin@example.com:"));
+    }
+
+    @Test
+    void onMessage_AppliesSubjectRevocationFromOtherNode() {
+        // Given
+        service.synchronize();
+        long epoch = System.currentTimeMillis();
+
+        // When
+        store.onMessage(new DefaultMessage(
+                RedisRevocationStore.NOT_BEFORE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                ("othernode:admin@example.com:" + epoch).getBytes(StandardCharsets.UTF_8)), null);
+
+        // Then - 토큰 폐기 목록이 아닌 subject 폐기 시각으로 기록
+        assertTrue(service.isRevokedBefore("admin@example.com", epoch - 1));
+        assertEquals(0, service.getRevokedCount());
+        assertEquals(1, service.getRevokedSubjectCount());
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.djlogportfoliobackend.session;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 세션 값 코덱 테스트
+ * 바이너리 코덱의 왕복 변환, 사전이 가득 찼을 때의 문자열 저장, 기존 JSON 값 해석, 크기 절감을 검증합니다.
+ */
+class SessionValueCodecTest {
+
+    private static final String USER_AGENT =
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) "
+                    + "Chrome/120.0.0.0 Safari/537.36";
+
+    private final JsonSessionValueCodec json = new JsonSessionValueCodec();
+
+    @Test
+    void binary_RoundTripsAndIsSmallerThanJson() {
+        // Given
+        BinarySessionValueCodec binary = new BinarySessionValueCodec(new InMemoryUserAgentDictionary(16), json);
+        SessionValue value = new SessionValue(1_760_000_000_123L, "203.0.113.7", USER_AGENT);
+
+        // When
+        byte[] encoded = binary.encode(value);
+
+        // Then
+        assertEquals(value, binary.decode(encoded));
+        assertTrue(encoded.length <= 16, "binary size=" + encoded.length);
+        assertTrue(encoded.length * 10 < json.encode(value).length);
+    }
+
+    @Test
+    void binary_StoresInlineWhenNotDictionaryOrIpv4() {
+        // Given - 사전이 가득 찬 상태, IPv6 주소, IP 없음
+        InMemoryUserAgentDictionary dictionary = new InMemoryUserAgentDictionary(1);
+        dictionary.idOf("first-agent");
+        BinarySessionValueCodec binary = new BinarySessionValueCodec(dictionary, json);
+        SessionValue ipv6 = new SessionValue(1000, "2001:db8::1", USER_AGENT);
+        SessionValue missing = new SessionValue(0, null, null);
+
+        // When & Then
+        assertEquals(ipv6, binary.decode(binary.encode(ipv6)));
+        assertEquals(missing, binary.decode(binary.encode(missing)));
+    }
+
+    @Test
+    void binary_DecodesValuesWrittenByJsonCodec() {
+        // Given - 코덱을 json에서 binary로 바꾸기 전에 저장된 값
+        BinarySessionValueCodec binary = new BinarySessionValueCodec(new InMemoryUserAgentDictionary(16), json);
+        SessionValue value = new SessionValue(1_760_000_000_123L, "203.0.113.7", USER_AGENT);
+
+        // When & Then
+        assertEquals(value, binary.decode(json.encode(value)));
+    }
+
+    @Test
+    void binary_RejectsTruncatedValue() {
+        // Given
+        BinarySessionValueCodec binary = new BinarySessionValueCodec(new InMemoryUserAgentDictionary(16), null);
+        byte[] encoded = binary.encode(new SessionValue(1000, "203.0.113.7", "inline-agent"));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> binary.decode(Arrays.copyOf(encoded, encoded.length - 1)));
+    }
+
+    @Test
+    void parseIpv4_AcceptsOnlyCanonicalDottedQuads() {
+        assertEquals(0xFFFFFFFFL, BinarySessionValueCodec.parseIpv4("255.255.255.255"));
+        assertEquals("10.0.0.1", BinarySessionValueCodec.formatIpv4((int) BinarySessionValueCodec.parseIpv4("10.0.0.1")));
+        assertEquals(-1, BinarySessionValueCodec.parseIpv4("010.0.0.1"));
+        assertEquals(-1, BinarySessionValueCodec.parseIpv4("10.0.0"));
+        assertEquals(-1, BinarySessionValueCodec.parseIpv4("10.0.0.256"));
+        assertEquals(-1, BinarySessionValueCodec.parseIpv4("10..0.1"));
+    }
+}
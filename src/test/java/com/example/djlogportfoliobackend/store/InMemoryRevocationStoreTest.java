@@ -0,0 +1,73 @@
+package com.example.djlogportfoliobackend.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * InMemoryRevocationStore 테스트
+ * 토큰/사용자 단위 폐기 기록과 만료, 추가 전용 로그로 재시작 후 복원을 검증합니다.
+ */
+class InMemoryRevocationStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void revoke_KeepsRevocationUntilTokenExpires() throws IOException {
+        // Given
+        InMemoryRevocationStore store = new InMemoryRevocationStore(10, null);
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+
+        // When
+        store.revoke("token-1", expiresAt);
+        store.revoke("token-2", System.currentTimeMillis() - 1);
+
+        // Then - 이미 만료된 토큰은 기록하지 않음
+        assertTrue(store.isRevoked("token-1"));
+        assertFalse(store.isRevoked("token-2"));
+        assertEquals(Map.of("token-1", expiresAt), store.loadRevocations());
+    }
+
+    @Test
+    void revokeSubject_KeepsLatestEpochUntilTtl() throws IOException {
+        // Given
+        InMemoryRevocationStore store = new InMemoryRevocationStore(10, null);
+        long now = System.currentTimeMillis();
+
+        // When
+        store.revokeSubject("admin@example.com", now, Duration.ofMinutes(1));
+        store.revokeSubject("admin@example.com", now - 1000, Duration.ofMinutes(1));
+        store.revokeSubject("other@example.com", now, Duration.ZERO);
+        store.expire();
+
+        // Then - 늦은 폐기 시각 유지, TTL이 지난 기록은 정리
+        assertEquals(now, store.getNotBefore("admin@example.com"));
+        assertNull(store.getNotBefore("other@example.com"));
+        assertEquals(Map.of("admin@example.com", now), store.loadNotBefore());
+    }
+
+    @Test
+    void appendOnlyLog_RestoresRevocationsAfterRestart() throws IOException {
+        // Given
+        Path path = directory.resolve("revocations.aof");
+        long now = System.currentTimeMillis();
+        try (InMemoryRevocationStore logged = new InMemoryRevocationStore(10, new AppendOnlyLog(path))) {
+            logged.revoke("token-1", now + 60_000L);
+            logged.revokeSubject("admin@example.com", now, Duration.ofMinutes(1));
+        }
+
+        // When
+        try (InMemoryRevocationStore restored = new InMemoryRevocationStore(10, new AppendOnlyLog(path))) {
+            // Then
+            assertTrue(restored.isRevoked("token-1"));
+            assertEquals(now, restored.getNotBefore("admin@example.com"));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.djlogportfoliobackend.store;
+
+import com.example.djlogportfoliobackend.session.SessionValue;
+import com.example.djlogportfoliobackend.session.StoredSession;
+import com.example.djlogportfoliobackend.store.SessionStore.CreateResult;
+import com.example.djlogportfoliobackend.store.SessionStore.LoginRecord;
+import com.example.djlogportfoliobackend.store.SessionStore.SessionAccess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * InMemorySessionStore 테스트
+ * 동시 로그인 제한, 접근 시각 반영에 따른 목록 순서, 타이밍 휠 만료, 추가 전용 로그로 재시작 후 복원을 검증합니다.
+ */
+class InMemorySessionStoreTest {
+
+    private static final String USERNAME = "admin@example.com";
+
+    @TempDir
+    Path directory;
+
+    private long now;
+    private InMemorySessionStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        now = System.currentTimeMillis();
+        store = new InMemorySessionStore(100, 10, null);
+    }
+
+    @Test
+    void create_EvictsLeastRecentlyAccessedBeyondLimit() {
+        // Given
+        CreateResult first = store.create("token-1", USERNAME, value(now - 4000), now - 4000);
+        store.create("token-2", USERNAME, value(now - 3000), now - 3000);
+        store.create("token-3", USERNAME, value(now - 2000), now - 2000);
+        // token-1은 최근에 접근하여 정리 대상에서 밀려남
+        store.touch(List.of(new SessionAccess("token-1", USERNAME, now - 1000)));
+
+        // When
+        CreateResult fourth = store.create("token-4", USERNAME, value(now), now);
+
+        // Then
+        assertTrue(first.firstSessionOfUser());
+        assertFalse(fourth.firstSessionOfUser());
+        assertEquals(List.of("token-2"), fourth.evictedSessionIds());
+        assertNull(store.find("token-2"));
+        assertEquals(List.of("token-4", "token-1", "token-3"),
+                store.list(USERNAME).stream().map(StoredSession::sessionId).toList());
+        assertEquals(new SessionStore.SessionCounts(3, 1, 1), store.counts());
+    }
+
+    @Test
+    void removeAndRemoveUser_UpdateCounts() {
+        // Given
+        store.create("token-1", USERNAME, value(now), now);
+        store.create("token-2", USERNAME, value(now), now);
+        store.create("token-3", "other@example.com", value(now), now);
+
+        // When & Then
+        assertTrue(store.remove("token-1"));
+        assertFalse(store.remove("token-1"));
+        assertEquals(1, store.removeUser(USERNAME));
+        assertEquals(0, store.removeUser(USERNAME));
+        assertEquals(1, store.counts().activeSessions());
+        assertEquals(1, store.counts().activeUsers());
+    }
+
+    @Test
+    void expire_RemovesIdleSessionsButKeepsTouchedOnes() {
+        // Given - 둘 다 TTL이 지난 시각에 생성, token-2만 최근에 접근
+        long created = now - SessionStore.SESSION_TTL.toMillis() - 1000;
+        store.create("token-1", USERNAME, value(created), created);
+        store.create("token-2", USERNAME, value(created), created);
+        store.touch(List.of(new SessionAccess("token-2", USERNAME, now)));
+
+        // When
+        store.expire();
+
+        // Then
+        assertNull(store.find("token-1"));
+        assertNotNull(store.find("token-2"));
+        assertEquals(1, store.counts().activeSessions());
+    }
+
+    @Test
+    void appendOnlyLog_RestoresStateAfterRestart() throws IOException {
+        // Given
+        Path path = directory.resolve("sessions.aof");
+        try (InMemorySessionStore logged = new InMemorySessionStore(100, 10, new AppendOnlyLog(path))) {
+            logged.create("token-1", USERNAME, new SessionValue(now - 2000, "127.0.0.1", null), now - 2000);
+            logged.create("token-2", USERNAME, value(now - 1000), now - 1000);
+            logged.create("token-3", "other@example.com", value(now), now);
+            logged.remove("token-3");
+            logged.touch(List.of(new SessionAccess("token-1", USERNAME, now)));
+            logged.appendLoginHistory(List.of(new LoginRecord(USERNAME, value(now - 1000)),
+                    new LoginRecord("other@example.com", value(now))));
+        }
+        // 기록 중 종료되어 잘린 레코드
+        Files.write(path, new byte[] {0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+        // When
+        try (InMemorySessionStore restored = new InMemorySessionStore(100, 10, new AppendOnlyLog(path))) {
+            // Then
+            assertEquals(List.of("token-1", "token-2"),
+                    restored.list(USERNAME).stream().map(StoredSession::sessionId).toList());
+            assertEquals(new StoredSession("token-1", USERNAME, new SessionValue(now - 2000, "127.0.0.1", null), now),
+                    restored.find("token-1"));
+            assertNull(restored.find("token-3"));
+            assertEquals(1, restored.counts().activeUsers());
+        }
+    }
+
+    private static SessionValue value(long timestampMillis) {
+        return new SessionValue(timestampMillis, "127.0.0.1", "JUnit");
+    }
+}
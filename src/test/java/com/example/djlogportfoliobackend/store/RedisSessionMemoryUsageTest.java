@@ -0,0 +1,161 @@
+package com.example.djlogportfoliobackend.store;
+
+import com.example.djlogportfoliobackend.config.ResponseCacheConfig;
+import com.example.djlogportfoliobackend.service.SessionStatsService;
+import com.example.djlogportfoliobackend.session.BinarySessionValueCodec;
+import com.example.djlogportfoliobackend.session.JsonSessionValueCodec;
+import com.example.djlogportfoliobackend.session.RedisUserAgentDictionary;
+import com.example.djlogportfoliobackend.session.SessionValue;
+import com.example.djlogportfoliobackend.session.SessionValueCodec;
+import com.example.djlogportfoliobackend.store.SessionStore.LoginRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 세션 코덱별 Redis 메모리 사용량 측정
+ * 실제 Redis에 같은 세션/로그인 이력을 json, binary 코덱으로 각각 저장하고 키별 MEMORY USAGE 합계를 비교합니다.
+ * 측정값(세션/로그인 이력 항목당 바이트)은 테스트 리포트 항목으로 남으므로 Gradle 테스트 결과 XML에서 확인할 수 있습니다.
+ * 키 이름, 해시의 나머지 필드, Redis 항목 오버헤드가 모두 포함된 값이며 코덱 벤치마크의 값 크기와 달리 실제 메모리입니다.
+ * binary 코덱의 User-Agent 사전 키는 세션 수와 무관한 고정 비용이므로 별도로 보고합니다. Docker를 사용할 수 없으면 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisSessionMemoryUsageTest {
+
+    private static final int USERS = 300;
+
+    private static final String[] USER_AGENTS = {
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) "
+                    + "Chrome/120.0.0.0 Safari/537.36",
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) "
+                    + "Chrome/120.0.0.0 Safari/537.36 Edg/120.0.0.0",
+            "Mozilla/5.0 (iPhone; CPU iPhone OS 17_1 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) "
+                    + "Version/17.1 Mobile/15E148 Safari/604.1",
+            "Mozilla/5.0 (X11; Linux x86_64; rv:121.0) Gecko/20100101 Firefox/121.0"
+    };
+
+    /** KEYS의 MEMORY USAGE 합계 (SAMPLES 0: 중첩 값을 모두 계산) */
+    private static final DefaultRedisScript<Long> MEMORY_USAGE = new DefaultRedisScript<>("""
+            local total = 0
+            for _, key in ipairs(KEYS) do
+              total = total + (redis.call('MEMORY', 'USAGE', key, 'SAMPLES', 0) or 0)
+            end
+            return total
+            """, Long.class);
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private StringRedisTemplate stringRedisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        binaryRedisTemplate = new ResponseCacheConfig().binaryRedisTemplate(connectionFactory);
+        binaryRedisTemplate.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void binaryCodec_UsesLessRedisMemoryPerSessionThanJson(TestReporter reporter) {
+        // Given - 사용자당 최대 세션 수만큼 로그인
+        MemoryUsage json = store(new JsonSessionValueCodec());
+        MemoryUsage binary = store(new BinarySessionValueCodec(
+                new RedisUserAgentDictionary(stringRedisTemplate, 10_000, 512), new JsonSessionValueCodec()));
+
+        // When
+        int sessions = USERS * SessionStore.MAX_SESSIONS_PER_USER;
+        reporter.publishEntry("json.sessionBytesPerSession", String.valueOf(json.sessionBytes() / sessions));
+        reporter.publishEntry("binary.sessionBytesPerSession", String.valueOf(binary.sessionBytes() / sessions));
+        reporter.publishEntry("json.historyBytesPerEntry", String.valueOf(json.historyBytes() / sessions));
+        reporter.publishEntry("binary.historyBytesPerEntry", String.valueOf(binary.historyBytes() / sessions));
+        reporter.publishEntry("binary.dictionaryBytes", String.valueOf(binary.otherBytes()));
+
+        // Then - 세션 해시와 로그인 이력 모두 binary 코덱이 더 적은 메모리를 사용
+        assertTrue(binary.sessionBytes() < json.sessionBytes(),
+                "session hashes: binary=" + binary.sessionBytes() + " json=" + json.sessionBytes());
+        assertTrue(binary.historyBytes() < json.historyBytes(),
+                "login history: binary=" + binary.historyBytes() + " json=" + json.historyBytes());
+    }
+
+    /**
+     * 빈 Redis에 세션과 로그인 이력을 저장하고 키 종류별 MEMORY USAGE 합계 측정
+     */
+    private MemoryUsage store(SessionValueCodec codec) {
+        binaryRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        RedisSessionStore store = new RedisSessionStore(binaryRedisTemplate, mock(SessionStatsService.class), codec, 100);
+
+        long now = System.currentTimeMillis();
+        List<LoginRecord> history = new ArrayList<>();
+        for (int user = 0; user < USERS; user++) {
+            String username = "user" + user + "@example.com";
+            for (int i = 0; i < SessionStore.MAX_SESSIONS_PER_USER; i++) {
+                SessionValue value = new SessionValue(now + i, "203.0." + (user % 256) + "." + i,
+                        USER_AGENTS[(user + i) % USER_AGENTS.length]);
+                store.create("session-" + user + "-" + i, username, value, now);
+                history.add(new LoginRecord(username, value));
+            }
+        }
+        store.appendLoginHistory(history);
+
+        List<String> sessionKeys = new ArrayList<>();
+        List<String> historyKeys = new ArrayList<>();
+        List<String> otherKeys = new ArrayList<>();
+        for (String key : stringRedisTemplate.keys("*")) {
+            if (key.startsWith(RedisSessionStore.SESSION_PREFIX)) {
+                sessionKeys.add(key);
+            } else if (key.startsWith("login_history:")) {
+                historyKeys.add(key);
+            } else if (!key.startsWith(RedisSessionStore.USER_SESSIONS_PREFIX)) {
+                otherKeys.add(key);
+            }
+        }
+        return new MemoryUsage(memoryUsage(sessionKeys), memoryUsage(historyKeys), memoryUsage(otherKeys));
+    }
+
+    private long memoryUsage(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0L;
+        }
+        Long total = stringRedisTemplate.execute(MEMORY_USAGE, keys);
+        return total != null ? total : 0L;
+    }
+
+    /**
+     * @param sessionBytes 세션 해시 키 합계
+     * @param historyBytes 로그인 이력 목록 키 합계
+     * @param otherBytes 그 외 키(User-Agent 사전 등) 합계, 사용자별 세션 정렬 집합은 코덱과 무관하므로 제외
+     */
+    private record MemoryUsage(long sessionBytes, long historyBytes, long otherBytes) {
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.djlogportfoliobackend.store;
+
+import com.example.djlogportfoliobackend.service.SessionStatsService;
+import com.example.djlogportfoliobackend.session.JsonSessionValueCodec;
+import com.example.djlogportfoliobackend.session.SessionValue;
+import com.example.djlogportfoliobackend.session.SessionValueCodec;
+import com.example.djlogportfoliobackend.session.StoredSession;
+import com.example.djlogportfoliobackend.store.SessionStore.CreateResult;
+import com.example.djlogportfoliobackend.store.SessionStore.LoginRecord;
+import com.example.djlogportfoliobackend.store.SessionStore.SessionAccess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisListCommands;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RedisSessionStore 테스트
+ * 세션 생성/조회/삭제/목록이 각각 스크립트 또는 명령 한 번으로 처리되고, 결과가 세션과
+ * 통계 카운터에 올바르게 반영되는지, 로그인 이력이 파이프라인 한 번으로 기록되는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisSessionStoreTest {
+
+    private static final String USERNAME = "admin@example.com";
+
+    private final SessionValueCodec codec = new JsonSessionValueCodec();
+
+    @Mock
+    private RedisTemplate<String, byte[]> redisTemplate;
+
+    @Mock
+    private SessionStatsService sessionStatsService;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private RedisSessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new RedisSessionStore(redisTemplate, sessionStatsService, codec, 100);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void create_SingleScriptCallRecordsStatsAndEvictions() {
+        // Given - 첫 세션이 아니며, 동시 로그인 제한으로 세션 하나가 정리됨
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(0L, bytes("old-token")));
+
+        // When
+        CreateResult result = store.create("token-1", USERNAME, new SessionValue(1000, "127.0.0.1", "JUnit"), 1000);
+
+        // Then
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), keys.capture(), any(Object[].class));
+        assertEquals(List.of("session:v2:token-1", "user_sessions:v2:" + USERNAME), keys.getValue());
+        assertFalse(result.firstSessionOfUser());
+        assertEquals(List.of("old-token"), result.evictedSessionIds());
+        verify(sessionStatsService).sessionCreated(USERNAME, false);
+        verify(sessionStatsService).sessionsRemoved(1, 0);
+    }
+
+    @Test
+    void find_DecodesSessionHash() {
+        // Given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("session:v2:token-1"))
+                .thenReturn(Map.<Object, Object>of("username", bytes(USERNAME),
+                        "data", codec.encode(new SessionValue(1000, "127.0.0.1", "JUnit")),
+                        "lastAccessTime", bytes("2000")));
+
+        // When
+        StoredSession session = store.find("token-1");
+
+        // Then
+        assertEquals(new StoredSession("token-1", USERNAME, new SessionValue(1000, "127.0.0.1", "JUnit"), 2000),
+                session);
+    }
+
+    @Test
+    void find_ReturnsNullWhenSessionMissing() {
+        // Given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("session:v2:expired-token")).thenReturn(Map.of());
+
+        // When & Then
+        assertNull(store.find("expired-token"));
+    }
+
+    @Test
+    void remove_LastSessionRemovesUserFromStats() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(1L, 1L));
+
+        // When & Then
+        assertTrue(store.remove("token-1"));
+        verify(sessionStatsService).sessionsRemoved(1, 1);
+    }
+
+    @Test
+    void remove_AlreadyExpiredLeavesStatsToExpiryEvents() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(0L, 0L));
+
+        // When & Then
+        assertFalse(store.remove("expired-token"));
+        verify(sessionStatsService, never()).sessionsRemoved(anyLong(), anyLong());
+    }
+
+    @Test
+    void list_ParsesEveryHashFromOneScriptCall() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(
+                        bytes("token-2"), sessionHash(2000, 3000),
+                        bytes("token-1"), sessionHash(1000, 1000)));
+
+        // When
+        List<StoredSession> sessions = store.list(USERNAME);
+
+        // Then
+        assertEquals(List.of("token-2", "token-1"), sessions.stream().map(StoredSession::sessionId).toList());
+        assertEquals(3000, sessions.get(0).lastAccessMillis());
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void touch_SendsBatchInOneScriptCall() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(2L);
+
+        // When
+        long updated = store.touch(List.of(new SessionAccess("token-1", USERNAME, 3000),
+                new SessionAccess("token-2", USERNAME, 4000)));
+
+        // Then - 접두사/TTL 뒤에 (세션 ID, 사용자명, 접근 시각) 순서로 전달
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), args.capture());
+        List<String> values = List.of(args.getValue()).stream()
+                .map(arg -> new String((byte[]) arg, StandardCharsets.UTF_8))
+                .toList();
+        assertEquals(List.of("token-1", USERNAME, "3000", "token-2", USERNAME, "4000"),
+                values.subList(3, values.size()));
+        assertEquals(2, updated);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void appendLoginHistory_WritesEveryUserInOnePipeline() {
+        // Given
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisListCommands listCommands = mock(RedisListCommands.class);
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        when(connection.listCommands()).thenReturn(listCommands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        SessionValue first = new SessionValue(1000, "127.0.0.1", "JUnit");
+        SessionValue second = new SessionValue(2000, "127.0.0.1", "JUnit");
+
+        // When
+        store.appendLoginHistory(List.of(new LoginRecord(USERNAME, first),
+                new LoginRecord("other@example.com", first), new LoginRecord(USERNAME, second)));
+
+        // Then - 파이프라인 한 번, 사용자마다 LPUSH(발생 순) + LTRIM + PEXPIRE
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate, times(1)).executePipelined(callback.capture());
+        callback.getValue().doInRedis(connection);
+
+        byte[] key = bytes("login_history:" + USERNAME);
+        verify(listCommands).lPush(key, codec.encode(first), codec.encode(second));
+        verify(listCommands).lTrim(key, 0, 99);
+        verify(keyCommands).pExpire(key, SessionStore.LOGIN_HISTORY_TTL.toMillis());
+        verify(listCommands).lPush(bytes("login_history:other@example.com"), codec.encode(first));
+    }
+
+    private List<byte[]> sessionHash(long loginTime, long lastAccessTime) {
+        return List.of(bytes("username"), bytes(USERNAME),
+                bytes("data"), codec.encode(new SessionValue(loginTime, "127.0.0.1", "JUnit")),
+                bytes("lastAccessTime"), bytes(String.valueOf(lastAccessTime)));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.djlogportfoliobackend.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TimingWheel 테스트
+ * 만료 시각이 틱 단위로 통지되는지, 상위 단에 등록된 먼 만료 시각과 최대 범위를 넘는 만료 시각이
+ * 하위 단으로 다시 나뉘어 제때 통지되는지 검증합니다.
+ */
+class TimingWheelTest {
+
+    @Test
+    void advance_FiresKeyAtDeadlineTick() {
+        // Given - 10ms 틱, 25ms 만료는 30ms 틱에 처리
+        TimingWheel<String> wheel = new TimingWheel<>(10, 0);
+        List<String> expired = new ArrayList<>();
+        wheel.schedule("session-1", 25);
+
+        // When & Then
+        assertEquals(0, wheel.advance(29, expired::add));
+        assertEquals(1, wheel.advance(30, expired::add));
+        assertEquals(List.of("session-1"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void schedule_PastDeadlineFiresOnNextTick() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(10, 1000);
+        List<String> expired = new ArrayList<>();
+
+        // When
+        wheel.schedule("session-1", 500);
+
+        // Then
+        assertEquals(0, wheel.advance(1000, expired::add));
+        assertEquals(1, wheel.advance(1010, expired::add));
+    }
+
+    @Test
+    void advance_CascadesDistantDeadlinesThroughEveryLevel() {
+        // Given - 0단(<64), 1단(<4096), 2단(<262144), 3단, 최대 범위(64^4틱)를 넘는 만료 시각
+        TimingWheel<Long> wheel = new TimingWheel<>(1, 0);
+        long[] deadlines = {50, 4_000, 200_000, 10_000_000, 20_000_000};
+        for (long deadline : deadlines) {
+            wheel.schedule(deadline, deadline);
+        }
+
+        // When & Then - 각 만료 시각 직전까지는 통지되지 않고, 그 틱에 정확히 통지
+        List<Long> expired = new ArrayList<>();
+        for (long deadline : deadlines) {
+            wheel.advance(deadline - 1, expired::add);
+            assertFalse(expired.contains(deadline), "fired before " + deadline);
+            wheel.advance(deadline, expired::add);
+            assertTrue(expired.contains(deadline), "not fired at " + deadline);
+        }
+        assertEquals(deadlines.length, expired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void expiredCallbackCanReschedule() {
+        // Given - 만료 시점에 연장된 키는 새 만료 시각으로 다시 등록 (취소 대신)
+        TimingWheel<String> wheel = new TimingWheel<>(1, 0);
+        List<String> expired = new ArrayList<>();
+        wheel.schedule("session-1", 10);
+
+        // When
+        wheel.advance(10, key -> {
+            if (expired.isEmpty()) {
+                wheel.schedule(key, 100);
+            }
+            expired.add(key);
+        });
+        int firedAgain = wheel.advance(100, expired::add);
+
+        // Then
+        assertEquals(1, firedAgain);
+        assertEquals(List.of("session-1", "session-1"), expired);
+    }
+}
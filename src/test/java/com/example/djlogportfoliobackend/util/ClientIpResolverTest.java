@@ -0,0 +1,132 @@
+package com.example.djlogportfoliobackend.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ClientIpResolver / CidrMatcher 테스트
+ * 신뢰 프록시 기준 X-Forwarded-For 해석과 CIDR trie 매칭, IPv6 prefix 집계를 검증합니다.
+ */
+class ClientIpResolverTest {
+
+    private ClientIpResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new ClientIpResolver("10.0.0.0/8,2001:db8:ffff::/48", 64);
+    }
+
+    @Test
+    void cidrMatcherMatchesIpv4AndIpv6Prefixes() {
+        // Given
+        CidrMatcher matcher = CidrMatcher.compile(List.of("10.0.0.0/8", "192.168.1.0/24", "2001:db8::/32", "203.0.113.7"));
+        long[] ip = new long[2];
+
+        // When & Then
+        assertTrue(contains(matcher, "10.255.0.1", ip));
+        assertTrue(contains(matcher, "::ffff:10.1.2.3", ip));
+        assertTrue(contains(matcher, "192.168.1.200", ip));
+        assertFalse(contains(matcher, "192.168.2.1", ip));
+        assertTrue(contains(matcher, "2001:db8:1::1", ip));
+        assertFalse(contains(matcher, "2001:db9::1", ip));
+        assertTrue(contains(matcher, "203.0.113.7", ip));
+        assertFalse(contains(matcher, "203.0.113.8", ip));
+        assertEquals(4, matcher.size());
+    }
+
+    @Test
+    void invalidCidrIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CidrMatcher.compile(List.of("10.0.0.0/33")));
+        assertThrows(IllegalArgumentException.class, () -> CidrMatcher.compile(List.of("not-an-ip/8")));
+    }
+
+    @Test
+    void forwardedHeaderIgnoredFromUntrustedPeer() {
+        // Given - 프록시가 아닌 클라이언트가 직접 X-Forwarded-For를 보냄
+        MockHttpServletRequest request = request("198.51.100.1");
+        request.addHeader("X-Forwarded-For", "1.2.3.4");
+
+        // When
+        ClientAddress address = resolver.resolve(request);
+
+        // Then
+        assertEquals("198.51.100.1", address.text());
+    }
+
+    @Test
+    void rightmostUntrustedHopIsClient() {
+        // Given - 클라이언트가 위조한 값 뒤에 신뢰 프록시들이 실제 주소를 추가
+        MockHttpServletRequest request = request("10.0.0.2");
+        request.addHeader("X-Forwarded-For", "1.2.3.4, 198.51.100.7, 10.0.0.1");
+
+        // When
+        ClientAddress address = resolver.resolve(request);
+
+        // Then - 위조된 1.2.3.4가 아닌 마지막 프록시가 기록한 주소
+        assertEquals("198.51.100.7", address.text());
+        assertSame(address, request.getAttribute(ClientIpResolver.ATTRIBUTE));
+        assertEquals("198.51.100.7", NetworkUtil.getClientIpAddress(request));
+    }
+
+    @Test
+    void multipleHeadersAreReadAsOneList() {
+        // Given
+        MockHttpServletRequest request = request("10.0.0.2");
+        request.addHeader("X-Forwarded-For", "198.51.100.7");
+        request.addHeader("X-Forwarded-For", "10.0.0.5");
+
+        // When & Then
+        assertEquals("198.51.100.7", resolver.resolve(request).text());
+    }
+
+    @Test
+    void malformedHopFallsBackToLastTrustedAddress() {
+        // Given
+        MockHttpServletRequest request = request("10.0.0.2");
+        request.addHeader("X-Forwarded-For", "unknown, 10.0.0.9");
+
+        // When & Then
+        assertEquals("10.0.0.9", resolver.resolve(request).text());
+    }
+
+    @Test
+    void realIpHeaderUsedOnlyWithoutForwardedFor() {
+        // Given
+        MockHttpServletRequest request = request("10.0.0.2");
+        request.addHeader("X-Real-IP", "198.51.100.9");
+
+        // When & Then
+        assertEquals("198.51.100.9", resolver.resolve(request).text());
+    }
+
+    @Test
+    void ipv6AddressesShareSlash64Key() {
+        // Given - 같은 /64 대역의 서로 다른 주소
+        long[] first = new long[2];
+        long[] second = new long[2];
+
+        // When
+        NetworkUtil.parseClientIp(request("2001:db8:1:2::1"), first);
+        NetworkUtil.parseClientIp(request("2001:db8:1:2:abcd::9"), second);
+
+        // Then
+        assertArrayEquals(first, second);
+        assertEquals(0L, first[1]);
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/profile");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    private static boolean contains(CidrMatcher matcher, String address, long[] ip) {
+        assertTrue(IpAddressUtil.parse(address, ip));
+        return matcher.contains(ip[0], ip[1]);
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.djlogportfoliobackend.util;
+
+import com.example.djlogportfoliobackend.service.TokenRevocationService;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * JwtUtil 테스트
+ * 토큰 검증 결과 캐시, 요청당 한 번 파싱, 블랙리스트 확인, 밀리초 발급 시각과 사용자 단위 폐기 비교를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-that-is-at-least-32-bytes-long";
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 60_000L, 100, tokenRevocationService);
+    }
+
+    @Test
+    void parseVerified_ReturnsClaimsAndCachesResult() {
+        // Given
+        String token = jwtUtil.generateTokenWithId("admin@example.com");
+
+        // When
+        JwtPrincipal first = jwtUtil.parseVerified(token);
+        JwtPrincipal second = jwtUtil.parseVerified(token);
+
+        // Then - 두 번째 호출은 캐시된 같은 인스턴스를 반환
+        assertEquals("admin@example.com", first.subject());
+        assertNotNull(first.tokenId());
+        assertNotNull(first.issuedAt());
+        assertTrue(first.expiresAt().isAfter(first.issuedAt()));
+        assertSame(first, second);
+    }
+
+    @Test
+    void parseVerified_RejectsForgedAndExpiredTokens() {
+        // Given
+        String forged = new JwtUtil("another-secret-key-that-is-at-least-32-bytes", 60_000L, 100, tokenRevocationService)
+                .generateTokenWithId("admin@example.com");
+        String expired = Jwts.builder()
+                .subject("admin@example.com")
+                .issuedAt(new Date(System.currentTimeMillis() - 120_000L))
+                .expiration(new Date(System.currentTimeMillis() - 60_000L))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+
+        // When & Then
+        assertThrows(SignatureException.class, () -> jwtUtil.parseVerified(forged));
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.parseVerified(expired));
+    }
+
+    @Test
+    void resolvePrincipal_ParsesOncePerRequest() {
+        // Given
+        String token = jwtUtil.generateTokenWithId("admin@example.com");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+
+        // When
+        JwtPrincipal principal = jwtUtil.resolvePrincipal(request);
+
+        // Then - 결과가 요청 속성에 저장되어 이후 필터가 재사용
+        assertSame(principal, request.getAttribute(JwtUtil.PRINCIPAL_ATTRIBUTE));
+        assertSame(principal, jwtUtil.resolvePrincipal(request));
+        assertNull(jwtUtil.resolvePrincipal(new MockHttpServletRequest()));
+    }
+
+    @Test
+    void isValid_ChecksRevocationOnEveryCall() {
+        // Given
+        String token = jwtUtil.generateTokenWithId("admin@example.com");
+        JwtPrincipal principal = jwtUtil.parseVerified(token);
+        when(tokenRevocationService.isRevoked(principal.tokenId()))
+                .thenReturn(false)
+                .thenReturn(true);
+
+        // When & Then - 캐시된 검증 결과가 있어도 로그아웃은 즉시 반영
+        assertTrue(jwtUtil.isValid(principal));
+        assertFalse(jwtUtil.validateToken(token, "admin@example.com"));
+    }
+
+    @Test
+    void validateToken_RejectsDifferentSubject() {
+        // Given
+        String token = jwtUtil.generateTokenWithId("admin@example.com");
+
+        // When & Then
+        assertFalse(jwtUtil.validateToken(token, "other@example.com"));
+        verifyNoInteractions(tokenRevocationService);
+    }
+
+    @Test
+    void invalidateToken_RevokesUntilExpiration() {
+        // Given
+        String token = jwtUtil.generateTokenWithId("admin@example.com");
+        JwtPrincipal principal = jwtUtil.parseVerified(token);
+
+        // When
+        jwtUtil.invalidateToken(token);
+
+        // Then
+        verify(tokenRevocationService).revoke(principal.tokenId(), principal.expiresAt().toEpochMilli());
+    }
+
+    @Test
+    void isValid_RejectsTokenIssuedBeforeSubjectRevocation() {
+        // Given
+        String token = jwtUtil.generateTokenWithId("admin@example.com");
+        JwtPrincipal principal = jwtUtil.parseVerified(token);
+        when(tokenRevocationService.isRevokedBefore("admin@example.com", principal.issuedAt().toEpochMilli()))
+                .thenReturn(true);
+
+        // When & Then
+        assertFalse(jwtUtil.isValid(principal));
+    }
+
+    @Test
+    void isValid_AcceptsTokenIssuedLaterInSameSecondAsSubjectRevocation() {
+        // Given - 폐기는 .500초, 새 토큰은 같은 초의 .900초에 발급 (표준 iat는 .000초로 잘림)
+        long revokedAt = 1_700_000_000_500L;
+        long issuedAt = 1_700_000_000_900L;
+        String token = Jwts.builder()
+                .subject("admin@example.com")
+                .id("jti")
+                .issuedAt(new Date(issuedAt))
+                .claim(JwtUtil.ISSUED_AT_MILLIS_CLAIM, issuedAt)
+                .expiration(new Date(System.currentTimeMillis() + 60_000L))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+        when(tokenRevocationService.isRevokedBefore(eq("admin@example.com"), anyLong()))
+                .thenAnswer(invocation -> invocation.getArgument(1, Long.class) <= revokedAt);
+
+        // When
+        JwtPrincipal principal = jwtUtil.parseVerified(token);
+
+        // Then
+        assertEquals(issuedAt, principal.issuedAt().toEpochMilli());
+        assertTrue(jwtUtil.isValid(principal));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.djlogportfoliobackend.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LoginFailureTracker 테스트
+ * 가짜 시계로 계정+IP별/IP별 실패 누적 시 대기 시작, 실패마다 대기 시간 증가, 성공/무실패 기간 후 초기화,
+ * 다른 IP의 실패로 계정이 잠기지 않음을 검증합니다.
+ */
+class LoginFailureTrackerTest {
+
+    private static final String ACCOUNT = "admin@example.com";
+    private static final String ADDRESS = "203.0.113.7";
+    private static final String OTHER_ADDRESS = "198.51.100.1";
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private LoginFailureTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new LoginFailureTracker(3, 5, 1000, 8000, 60_000, 1000, clock::get);
+    }
+
+    @Test
+    void accountBacksOffAfterThresholdAndDoublesPerFailure() {
+        // Given - 기준 직전까지는 대기 없음
+        tracker.recordFailure(ACCOUNT, ADDRESS);
+        tracker.recordFailure(ACCOUNT, ADDRESS);
+        assertEquals(0, tracker.retryAfterMillis(ACCOUNT, ADDRESS));
+
+        // When - 기준 도달
+        tracker.recordFailure(ACCOUNT, ADDRESS);
+
+        // Then - 대소문자와 관계없이 같은 계정
+        assertEquals(1000, tracker.retryAfterMillis("Admin@Example.com", ADDRESS));
+        clock.addAndGet(400);
+        assertEquals(600, tracker.retryAfterMillis(ACCOUNT, ADDRESS));
+
+        // 이후 실패마다 두 배, 최대값에서 멈춤
+        clock.addAndGet(600);
+        tracker.recordFailure(ACCOUNT, ADDRESS);
+        assertEquals(2000, tracker.retryAfterMillis(ACCOUNT, ADDRESS));
+        for (int i = 0; i < 5; i++) {
+            tracker.recordFailure(ACCOUNT, ADDRESS);
+        }
+        assertEquals(8000, tracker.retryAfterMillis(ACCOUNT, ADDRESS));
+        assertEquals(4, tracker.getRefusedAttempts());
+    }
+
+    @Test
+    void addressBacksOffAcrossAccounts() {
+        // Given - 같은 IP에서 서로 다른 계정으로 실패 (계정별 기준에는 미달)
+        for (int i = 0; i < 5; i++) {
+            tracker.recordFailure("user" + i + "@example.com", ADDRESS);
+        }
+
+        // When & Then - 해당 IP는 처음 시도하는 계정도 대기, 다른 IP는 영향 없음
+        assertEquals(1000, tracker.retryAfterMillis(ACCOUNT, ADDRESS));
+        assertEquals(0, tracker.retryAfterMillis(ACCOUNT, OTHER_ADDRESS));
+    }
+
+    @Test
+    void accountFailuresFromOneAddressDoNotBlockOtherAddress() {
+        // Given - 공개된 계정 이메일로 한 IP에서 실패 반복
+        for (int i = 0; i < 10; i++) {
+            tracker.recordFailure(ACCOUNT, ADDRESS);
+        }
+        assertEquals(8000, tracker.retryAfterMillis(ACCOUNT, ADDRESS));
+
+        // When & Then - 다른 IP에서의 같은 계정 로그인은 대기 없음
+        assertEquals(0, tracker.retryAfterMillis(ACCOUNT, OTHER_ADDRESS));
+    }
+
+    @Test
+    void successClearsAccountButNotAddress() {
+        // Given - 계정+IP 대기(4000ms)가 IP 대기(1000ms)보다 김
+        for (int i = 0; i < 5; i++) {
+            tracker.recordFailure(ACCOUNT, ADDRESS);
+        }
+        assertEquals(4000, tracker.retryAfterMillis(ACCOUNT, ADDRESS));
+
+        // When
+        tracker.recordSuccess(ACCOUNT, ADDRESS);
+
+        // Then - 계정+IP 기록은 지워지고 IP 기록은 유지
+        assertEquals(1000, tracker.retryAfterMillis(ACCOUNT, ADDRESS));
+    }
+
+    @Test
+    void failuresResetAfterQuietPeriod() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            tracker.recordFailure(ACCOUNT, null);
+        }
+
+        // When - 무실패 기간 경과 후 다시 실패
+        clock.addAndGet(60_000);
+        assertEquals(0, tracker.retryAfterMillis(ACCOUNT, null));
+        tracker.recordFailure(ACCOUNT, null);
+
+        // Then - 실패 횟수를 처음부터 셈
+        assertEquals(0, tracker.retryAfterMillis(ACCOUNT, null));
+    }
+}
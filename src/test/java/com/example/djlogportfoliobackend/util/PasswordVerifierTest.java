@@ -0,0 +1,101 @@
+package com.example.djlogportfoliobackend.util;
+
+import com.example.djlogportfoliobackend.exception.LoginThrottledException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PasswordVerifier 테스트
+ * 전용 스레드에서 검증한 결과 반환, 대기열 초과 시 즉시 거부, 제한 시간 초과 시 거부를 검증합니다.
+ */
+class PasswordVerifierTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordVerifier verifier;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        verifier.close();
+    }
+
+    @Test
+    void matchesRunsOnVerifierThread() {
+        // Given
+        verifier = new PasswordVerifier(new BlockingEncoder(false), 1, 1, 1000);
+
+        // When & Then
+        assertTrue(verifier.matches("password", "hash:password"));
+        assertFalse(verifier.matches("wrong", "hash:password"));
+    }
+
+    @Test
+    void fullQueueRejectsWithoutWaiting() throws Exception {
+        // Given - 스레드 1개가 검증 중이고 대기열 1칸이 찬 상태
+        verifier = new PasswordVerifier(new BlockingEncoder(true), 1, 1, 5000);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> verifier.matches("a", "hash:a"));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> verifier.matches("b", "hash:b"));
+        while (verifier.getQueuedCount() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // When & Then - 추가 요청은 해시 계산 없이 바로 거부
+        LoginThrottledException e = assertThrows(LoginThrottledException.class,
+                () -> verifier.matches("c", "hash:c"));
+        assertEquals(1, e.getRetryAfterSeconds());
+        assertEquals(1, verifier.getRejectedCount());
+
+        release.countDown();
+        assertTrue(running.get(1, TimeUnit.SECONDS));
+        assertTrue(queued.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void slowVerificationTimesOut() {
+        // Given
+        verifier = new PasswordVerifier(new BlockingEncoder(true), 1, 1, 50);
+
+        // When & Then
+        assertThrows(LoginThrottledException.class, () -> verifier.matches("a", "hash:a"));
+        assertEquals(1, verifier.getTimedOutCount());
+    }
+
+    /**
+     * "hash:" 접두사 비교로 검증하고, 지정하면 해제될 때까지 검증 스레드를 붙잡는 인코더
+     */
+    private class BlockingEncoder implements PasswordEncoder {
+
+        private final boolean block;
+
+        BlockingEncoder(boolean block) {
+            this.block = block;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if (block) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.djlogportfoliobackend.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RedisCircuitBreaker 테스트
+ * 가짜 시계로 연속 실패/지연 시 차단, 차단 중 호출 생략, 시험 호출 결과에 따른 복구/재차단을 검증합니다.
+ */
+class RedisCircuitBreakerTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private RedisCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new RedisCircuitBreaker(3, 100, 5000, clock::get);
+    }
+
+    @Test
+    void consecutiveFailuresOpenCircuitAndSkipCalls() {
+        // Given - 기준 횟수만큼 연속 실패
+        for (int i = 0; i < 3; i++) {
+            assertEquals("fallback", breaker.execute(this::failingCall, () -> "fallback"));
+        }
+
+        // When
+        String result = breaker.execute(this::successfulCall, () -> "fallback");
+
+        // Then - 차단 중에는 Redis를 호출하지 않음
+        assertEquals(RedisCircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.isOpen());
+        assertEquals("fallback", result);
+        assertEquals(3, calls.get());
+        assertEquals(1, breaker.getRejectedCalls());
+    }
+
+    @Test
+    void successResetsConsecutiveFailures() {
+        // Given
+        breaker.execute(this::failingCall, () -> "fallback");
+        breaker.execute(this::failingCall, () -> "fallback");
+
+        // When - 성공 후 다시 두 번 실패
+        breaker.execute(this::successfulCall, () -> "fallback");
+        breaker.execute(this::failingCall, () -> "fallback");
+        breaker.execute(this::failingCall, () -> "fallback");
+
+        // Then
+        assertEquals(RedisCircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(4, breaker.getFailures());
+    }
+
+    @Test
+    void slowCallsCountAsFailures() {
+        // When - 응답은 왔지만 기준보다 느린 호출
+        for (int i = 0; i < 3; i++) {
+            assertEquals("ok", breaker.execute(() -> {
+                clock.addAndGet(150 * MILLIS);
+                return "ok";
+            }, () -> "fallback"));
+        }
+
+        // Then
+        assertEquals(RedisCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void trialCallAfterOpenPeriodClosesCircuitOnSuccess() {
+        // Given
+        openCircuit();
+        clock.addAndGet(5000 * MILLIS);
+        assertFalse(breaker.isOpen());
+
+        // When
+        String result = breaker.execute(this::successfulCall, () -> "fallback");
+
+        // Then
+        assertEquals("ok", result);
+        assertEquals(RedisCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void failedTrialCallReopensCircuit() {
+        // Given
+        openCircuit();
+        clock.addAndGet(5000 * MILLIS);
+
+        // When - 시험 호출 실패
+        breaker.execute(this::failingCall, () -> "fallback");
+
+        // Then - 다시 차단 유지 시간만큼 호출 생략
+        assertEquals(RedisCircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.isOpen());
+        int callsBefore = calls.get();
+        breaker.execute(this::successfulCall, () -> "fallback");
+        assertEquals(callsBefore, calls.get());
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 3; i++) {
+            breaker.execute(this::failingCall, () -> "fallback");
+        }
+        assertEquals(RedisCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    private String successfulCall() {
+        calls.incrementAndGet();
+        return "ok";
+    }
+
+    private String failingCall() {
+        calls.incrementAndGet();
+        throw new IllegalStateException("Redis command timed out");
+    }
+}